@@ -17,8 +17,11 @@
 package com.alipay.sofa.registry.client.model;
 
 import com.alipay.sofa.registry.core.model.DataBox;
+import com.alipay.sofa.registry.core.model.PublisherData;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +40,11 @@ public class SegmentData implements Serializable {
 
     private Long                       version;
 
+    /**
+     * data keyed by publisher registId, only exists when pushed by keyed or delta push
+     */
+    private Map<String, PublisherData> publisherData;
+
     /**
      * Getter method for property <tt>segment</tt>.
      *
@@ -90,4 +98,52 @@ public class SegmentData implements Serializable {
     public void setVersion(Long version) {
         this.version = version;
     }
+
+    /**
+     * Getter method for property <tt>publisherData</tt>.
+     *
+     * @return property value of publisherData
+     */
+    public Map<String, PublisherData> getPublisherData() {
+        return publisherData;
+    }
+
+    /**
+     * Setter method for property <tt>publisherData</tt>.
+     *
+     * @param publisherData value to be assigned to property publisherData
+     */
+    public void setPublisherData(Map<String, PublisherData> publisherData) {
+        this.publisherData = publisherData;
+    }
+
+    /**
+     * Build segment data from data keyed by publisher.
+     *
+     * @param segment the segment 
+     * @param version the version 
+     * @param publisherData the publisher data 
+     * @return the segment data
+     */
+    public static SegmentData fromPublisherData(String segment, Long version,
+                                                Map<String, PublisherData> publisherData) {
+        Map<String, List<DataBox>> zoneData = new HashMap<String, List<DataBox>>();
+        for (PublisherData pubData : publisherData.values()) {
+            List<DataBox> dataList = zoneData.get(pubData.getZone());
+            if (null == dataList) {
+                dataList = new ArrayList<DataBox>();
+                zoneData.put(pubData.getZone(), dataList);
+            }
+            if (null != pubData.getDataList()) {
+                dataList.addAll(pubData.getDataList());
+            }
+        }
+
+        SegmentData segmentData = new SegmentData();
+        segmentData.setSegment(segment);
+        segmentData.setVersion(version);
+        segmentData.setData(zoneData);
+        segmentData.setPublisherData(publisherData);
+        return segmentData;
+    }
 }
@@ -28,7 +28,9 @@ import com.alipay.sofa.registry.client.task.Worker;
 import com.alipay.sofa.registry.client.util.CommonUtils;
 import com.alipay.sofa.registry.client.util.StringUtils;
 import com.alipay.sofa.registry.core.constants.EventTypeConstants;
+import com.alipay.sofa.registry.core.constants.PushConstants;
 import com.alipay.sofa.registry.core.model.DataBox;
+import com.alipay.sofa.registry.core.model.PublisherData;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
 import com.alipay.sofa.registry.core.model.SubscriberRegister;
 
@@ -202,6 +204,8 @@ public class DefaultSubscriber extends AbstractInternalRegister implements Subsc
             register.setVersion(this.getPubVersion().get());
             register.setTimestamp(this.getTimestamp());
             register.setScope(registration.getScopeEnum().name());
+            // this client is able to apply delta pushes
+            register.getAttributes().put(PushConstants.DELTA_PUSH_SUPPORTED, "true");
 
             // auth signature
             setAuthSignature(register);
@@ -227,6 +231,50 @@ public class DefaultSubscriber extends AbstractInternalRegister implements Subsc
         }
     }
 
+    /**
+     * Apply delta push on the data of segment.
+     *
+     * @param segment the segment 
+     * @param baseVersion the version which the delta is based on 
+     * @param version the version after the delta applied 
+     * @param publisherData the added or updated publishers 
+     * @param removedPublisherIds the removed publishers 
+     * @param localZone the local zone 
+     * @return false if the delta can not be applied, then a full push is needed
+     */
+    public boolean putReceivedDelta(String segment, Long baseVersion, Long version,
+                                    Map<String, PublisherData> publisherData,
+                                    List<String> removedPublisherIds, String localZone) {
+        writeLock.lock();
+        try {
+            SegmentData existsData = data.get(segment);
+            if (null != existsData && existsData.getVersion() >= version) {
+                // already received
+                return true;
+            }
+            if (null == existsData || null == existsData.getPublisherData()
+                || !existsData.getVersion().equals(baseVersion)) {
+                return false;
+            }
+
+            Map<String, PublisherData> merged = new HashMap<String, PublisherData>(
+                existsData.getPublisherData());
+            if (null != removedPublisherIds) {
+                for (String registId : removedPublisherIds) {
+                    merged.remove(registId);
+                }
+            }
+            if (null != publisherData) {
+                merged.putAll(publisherData);
+            }
+            putSegmentData(SegmentData.fromPublisherData(segment, version, merged));
+            this.localZone = localZone;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     private void putSegmentData(SegmentData segmentData) {
         if (null != segmentData) {
 
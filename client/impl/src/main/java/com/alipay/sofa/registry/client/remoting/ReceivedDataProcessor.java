@@ -24,6 +24,7 @@ import com.alipay.sofa.registry.client.model.SegmentData;
 import com.alipay.sofa.registry.client.provider.DefaultSubscriber;
 import com.alipay.sofa.registry.client.provider.RegisterCache;
 import com.alipay.sofa.registry.client.task.ObserverHandler;
+import com.alipay.sofa.registry.core.constants.PushConstants;
 import com.alipay.sofa.registry.core.model.ReceivedData;
 import com.alipay.sofa.registry.core.model.Result;
 import org.slf4j.Logger;
@@ -63,16 +64,27 @@ public class ReceivedDataProcessor extends SyncUserProcessor<ReceivedData> {
     public Object handleRequest(BizContext bizCtx, ReceivedData request) {
         Result result = new Result();
         result.setSuccess(true);
-        if (null == request || null == request.getData()) {
+        if (null == request
+            || (null == request.getData() && null == request.getPublisherData())) {
             return result;
         }
         try {
             List<String> registIds = request.getSubscriberRegistIds();
 
-            SegmentData segmentData = new SegmentData();
-            segmentData.setData(request.getData());
-            segmentData.setVersion(request.getVersion());
-            segmentData.setSegment(request.getSegment());
+            boolean delta = null != request.getBaseVersion();
+            SegmentData segmentData = null;
+            if (!delta) {
+                if (null != request.getPublisherData()) {
+                    // keyed push, keep publisher data for applying delta pushes later
+                    segmentData = SegmentData.fromPublisherData(request.getSegment(),
+                        request.getVersion(), request.getPublisherData());
+                } else {
+                    segmentData = new SegmentData();
+                    segmentData.setData(request.getData());
+                    segmentData.setVersion(request.getVersion());
+                    segmentData.setSegment(request.getSegment());
+                }
+            }
 
             for (String registId : registIds) {
                 Subscriber subscriber = registerCache.getSubscriberByRegistId(registId);
@@ -82,7 +94,23 @@ public class ReceivedDataProcessor extends SyncUserProcessor<ReceivedData> {
 
                 if (subscriber instanceof DefaultSubscriber) {
                     DefaultSubscriber defaultSubscriber = (DefaultSubscriber) subscriber;
-                    defaultSubscriber.putReceivedData(segmentData, request.getLocalZone());
+                    if (delta) {
+                        boolean applied = defaultSubscriber.putReceivedDelta(
+                            request.getSegment(), request.getBaseVersion(),
+                            request.getVersion(), request.getPublisherData(),
+                            request.getRemovedPublisherIds(), request.getLocalZone());
+                        if (!applied) {
+                            // ask server to push full data
+                            result.setSuccess(false);
+                            result.setMessage(PushConstants.DELTA_MISMATCH);
+                            LOGGER.warn(
+                                "[received] delta base version mismatch, dataId: {}, registId: {}, baseVersion: {}",
+                                subscriber.getDataId(), registId, request.getBaseVersion());
+                            continue;
+                        }
+                    } else {
+                        defaultSubscriber.putReceivedData(segmentData, request.getLocalZone());
+                    }
                     try {
                         observerHandler.notify(subscriber);
                     } catch (Exception e) {
@@ -19,6 +19,7 @@ package com.alipay.sofa.registry.client.provider;
 import com.alipay.sofa.registry.client.api.model.UserData;
 import com.alipay.sofa.registry.client.model.SegmentData;
 import com.alipay.sofa.registry.core.model.DataBox;
+import com.alipay.sofa.registry.core.model.PublisherData;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -234,6 +236,61 @@ public class DefaultSubscriberTest {
         assertZoneDataEquals(expectedMap8, userData10.getZoneData());
     }
 
+    @Test
+    public void testPutReceivedDelta() {
+
+        String localZone = ZHEJIANG;
+
+        DefaultRegistryClientConfig config = DefaultRegistryClientConfigBuilder.start().build();
+        DefaultSubscriber defaultSubscriber = new DefaultSubscriber(null, null, config);
+
+        // 1. delta without base is refused
+        Map<String, PublisherData> delta1 = new HashMap<String, PublisherData>();
+        delta1.put("pub1", newPublisherData(ZHEJIANG, HANGZHOU));
+        assertFalse(defaultSubscriber.putReceivedDelta(segmentA, 1L, 2L, delta1, null, localZone));
+
+        // 2. keyed full push
+        Map<String, PublisherData> full2 = new HashMap<String, PublisherData>();
+        full2.put("pub1", newPublisherData(ZHEJIANG, HANGZHOU));
+        full2.put("pub2", newPublisherData(ZHEJIANG, NINGBO));
+        full2.put("pub3", newPublisherData(JIANGSU, NANJING));
+        defaultSubscriber.putReceivedData(SegmentData.fromPublisherData(segmentA, 2L, full2),
+            localZone);
+
+        Map<String, List<String>> expectedMap2 = new HashMap<String, List<String>>();
+        addToStringMap(expectedMap2, ZHEJIANG, HANGZHOU, NINGBO);
+        addToStringMap(expectedMap2, JIANGSU, NANJING);
+        assertZoneDataEquals(expectedMap2, defaultSubscriber.peekData().getZoneData());
+
+        // 3. delta on version 2: update pub2, remove pub3, add pub4
+        Map<String, PublisherData> delta3 = new HashMap<String, PublisherData>();
+        delta3.put("pub2", newPublisherData(ZHEJIANG, WENZHOU));
+        delta3.put("pub4", newPublisherData(FUJIAN, XIAMEN));
+        assertTrue(defaultSubscriber.putReceivedDelta(segmentA, 2L, 3L, delta3,
+            Collections.singletonList("pub3"), localZone));
+
+        Map<String, List<String>> expectedMap3 = new HashMap<String, List<String>>();
+        addToStringMap(expectedMap3, ZHEJIANG, HANGZHOU, WENZHOU);
+        addToStringMap(expectedMap3, FUJIAN, XIAMEN);
+        assertZoneDataEquals(expectedMap3, defaultSubscriber.peekData().getZoneData());
+
+        // 4. delta already received is ignored
+        assertTrue(defaultSubscriber.putReceivedDelta(segmentA, 2L, 3L, delta1, null, localZone));
+        assertZoneDataEquals(expectedMap3, defaultSubscriber.peekData().getZoneData());
+
+        // 5. version gap is refused
+        assertFalse(defaultSubscriber.putReceivedDelta(segmentA, 4L, 5L, delta1, null, localZone));
+        assertZoneDataEquals(expectedMap3, defaultSubscriber.peekData().getZoneData());
+    }
+
+    private PublisherData newPublisherData(String zone, String... values) {
+        List<DataBox> list = new ArrayList<DataBox>();
+        for (String value : values) {
+            list.add(new DataBox(value));
+        }
+        return new PublisherData(zone, list);
+    }
+
     private void addToDataBoxMap(Map<String, List<DataBox>> map, String key, String... values) {
         List<DataBox> list = map.get(key);
         if (list == null) {
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.core.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The data of one publisher in a keyed or delta push.
+ * @author agent
+ * @version $Id : PublisherData.java, v 0.1 2026-10-18 11:20 agent Exp $$
+ */
+public class PublisherData implements Serializable {
+
+    /** UID */
+    private static final long serialVersionUID = -2591623807418262306L;
+
+    private String            zone;
+
+    private List<DataBox>     dataList;
+
+    /**
+     * Instantiates a new Publisher data.
+     */
+    public PublisherData() {
+    }
+
+    /**
+     * Instantiates a new Publisher data.
+     *
+     * @param zone the zone 
+     * @param dataList the data list
+     */
+    public PublisherData(String zone, List<DataBox> dataList) {
+        this.zone = zone;
+        this.dataList = dataList;
+    }
+
+    /**
+     * Getter method for property <tt>zone</tt>.
+     *
+     * @return property value of zone
+     */
+    public String getZone() {
+        return zone;
+    }
+
+    /**
+     * Setter method for property <tt>zone</tt>.
+     *
+     * @param zone value to be assigned to property zone
+     */
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Getter method for property <tt>dataList</tt>.
+     *
+     * @return property value of dataList
+     */
+    public List<DataBox> getDataList() {
+        return dataList;
+    }
+
+    /**
+     * Setter method for property <tt>dataList</tt>.
+     *
+     * @param dataList value to be assigned to property dataList
+     */
+    public void setDataList(List<DataBox> dataList) {
+        this.dataList = dataList;
+    }
+
+    /**
+     * To string string.
+     *
+     * @return the string
+     */
+    @Override
+    public String toString() {
+        return "PublisherData{" + "zone='" + zone + '\'' + ", dataList=" + dataList + '}';
+    }
+}
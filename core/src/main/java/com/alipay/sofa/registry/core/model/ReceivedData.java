@@ -27,25 +27,42 @@ import java.util.Map;
  */
 public class ReceivedData implements Serializable {
 
-    private static final long                   serialVersionUID = -7322781873212812819L;
+    private static final long                       serialVersionUID = -7322781873212812819L;
 
-    private String                              dataId;
+    private String                                  dataId;
 
-    private String                              group;
+    private String                                  group;
 
-    private String                              instanceId;
+    private String                                  instanceId;
 
-    private String                              segment;
+    private String                                  segment;
 
-    private String                              scope;
+    private String                                  scope;
 
-    private List<String/*registId*/>           subscriberRegistIds;
+    private List<String/*registId*/>               subscriberRegistIds;
 
-    private Map<String/*zone*/, List<DataBox>> data;
+    private Map<String/*zone*/, List<DataBox>>     data;
 
-    private Long                                version;
+    private Long                                    version;
 
-    private String                              localZone;
+    private String                                  localZone;
+
+    /**
+     * data keyed by publisher, only pushed to clients which support delta push.
+     * In a full push it contains all publishers and data is rebuilt from it by client,
+     * in a delta push it contains added or updated publishers.
+     */
+    private Map<String/*registId*/, PublisherData> publisherData;
+
+    /**
+     * not null means this is a delta push which can only be applied on data of this version
+     */
+    private Long                                    baseVersion;
+
+    /**
+     * publishers removed since baseVersion, only used in a delta push
+     */
+    private List<String/*registId*/>               removedPublisherIds;
 
     /**
      * Instantiates a new Received data multi.
@@ -238,6 +255,60 @@ public class ReceivedData implements Serializable {
         this.localZone = localZone;
     }
 
+    /**
+     * Getter method for property <tt>publisherData</tt>.
+     *
+     * @return property value of publisherData
+     */
+    public Map<String, PublisherData> getPublisherData() {
+        return publisherData;
+    }
+
+    /**
+     * Setter method for property <tt>publisherData</tt>.
+     *
+     * @param publisherData value to be assigned to property publisherData
+     */
+    public void setPublisherData(Map<String, PublisherData> publisherData) {
+        this.publisherData = publisherData;
+    }
+
+    /**
+     * Getter method for property <tt>baseVersion</tt>.
+     *
+     * @return property value of baseVersion
+     */
+    public Long getBaseVersion() {
+        return baseVersion;
+    }
+
+    /**
+     * Setter method for property <tt>baseVersion</tt>.
+     *
+     * @param baseVersion value to be assigned to property baseVersion
+     */
+    public void setBaseVersion(Long baseVersion) {
+        this.baseVersion = baseVersion;
+    }
+
+    /**
+     * Getter method for property <tt>removedPublisherIds</tt>.
+     *
+     * @return property value of removedPublisherIds
+     */
+    public List<String> getRemovedPublisherIds() {
+        return removedPublisherIds;
+    }
+
+    /**
+     * Setter method for property <tt>removedPublisherIds</tt>.
+     *
+     * @param removedPublisherIds value to be assigned to property removedPublisherIds
+     */
+    public void setRemovedPublisherIds(List<String> removedPublisherIds) {
+        this.removedPublisherIds = removedPublisherIds;
+    }
+
     /**
      * To string string.
      *
@@ -248,6 +319,7 @@ public class ReceivedData implements Serializable {
         return "ReceivedData{" + "dataId='" + dataId + '\'' + ", group='" + group + '\''
                + ", instanceId='" + instanceId + '\'' + ", segment='" + segment + '\''
                + ", scope='" + scope + '\'' + ", subscriberRegistIds=" + subscriberRegistIds
-               + ", version=" + version + ", localZone='" + localZone + '\'' + '}';
+               + ", version=" + version + ", localZone='" + localZone + '\''
+               + ", baseVersion=" + baseVersion + '}';
     }
 }
@@ -17,6 +17,7 @@
 package com.alipay.sofa.registry.common.model;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.List;
 
 import com.alipay.sofa.registry.common.model.store.Publisher;
@@ -36,10 +37,22 @@ public class DatumSnapshotRequest implements Serializable {
 
     private final List<Publisher> publishers;
 
+    /** digest buckets the publishers belong to, null means all publishers of the connectId */
+    private final int[]           buckets;
+
+    private final int             bucketCount;
+
     public DatumSnapshotRequest(String connectId, String dataServerIp, List<Publisher> publishers) {
+        this(connectId, dataServerIp, publishers, null, 0);
+    }
+
+    public DatumSnapshotRequest(String connectId, String dataServerIp, List<Publisher> publishers,
+                                int[] buckets, int bucketCount) {
         this.connectId = connectId;
         this.dataServerIp = dataServerIp;
         this.publishers = publishers;
+        this.buckets = buckets;
+        this.bucketCount = bucketCount;
     }
 
     /**
@@ -69,6 +82,24 @@ public class DatumSnapshotRequest implements Serializable {
         return publishers;
     }
 
+    /**
+     * Getter method for property <tt>buckets</tt>.
+     *
+     * @return property value of buckets
+     */
+    public int[] getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Getter method for property <tt>bucketCount</tt>.
+     *
+     * @return property value of bucketCount
+     */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
     /**
      * @see Object#toString()
      */
@@ -78,6 +109,10 @@ public class DatumSnapshotRequest implements Serializable {
         sb.append("connectId='").append(connectId).append('\'');
         sb.append(", dataServerIp='").append(dataServerIp).append('\'');
         sb.append(", publishers.size=").append(publishers.size());
+        if (buckets != null) {
+            sb.append(", buckets=").append(Arrays.toString(buckets));
+            sb.append(", bucketCount=").append(bucketCount);
+        }
         sb.append('}');
         return sb.toString();
     }
@@ -28,6 +28,9 @@ import com.alipay.sofa.registry.common.model.store.Publisher;
  */
 public class PublisherDigestUtil {
 
+    /** default count of digest buckets of one connectId, bucket is decided by registerId */
+    public static final int DIGEST_BUCKET_COUNT = 64;
+
     public static long getDigestValueSum(Collection<Publisher> publishers) {
         long digest = 0L;
         if (publishers != null && !publishers.isEmpty()) {
@@ -47,4 +50,48 @@ public class PublisherDigestUtil {
         result = 31 * result + (int) (registerTimestamp ^ (registerTimestamp >>> 32));
         return result;
     }
+
+    /**
+     * bucket of publisher, the sum of all buckets equals to getDigestValueSum
+     * @param registerId
+     * @param bucketCount
+     * @return
+     */
+    public static int getDigestBucket(String registerId, int bucketCount) {
+        int hash = registerId != null ? registerId.hashCode() : 0;
+        return (hash & Integer.MAX_VALUE) % bucketCount;
+    }
+
+    public static long[] getDigestValueBuckets(Collection<Publisher> publishers, int bucketCount) {
+        long[] buckets = new long[bucketCount];
+        if (publishers != null && !publishers.isEmpty()) {
+            for (Publisher publisher : publishers) {
+                int bucket = getDigestBucket(publisher.getRegisterId(), bucketCount);
+                buckets[bucket] += getDigestValue(publisher);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * @return index of buckets different, null if bucket count is different
+     */
+    public static int[] diffDigestBuckets(long[] buckets1, long[] buckets2) {
+        if (buckets1 == null || buckets2 == null || buckets1.length != buckets2.length) {
+            return null;
+        }
+        int count = 0;
+        for (int i = 0; i < buckets1.length; i++) {
+            if (buckets1[i] != buckets2[i]) {
+                count++;
+            }
+        }
+        int[] diff = new int[count];
+        for (int i = 0, j = 0; i < buckets1.length; i++) {
+            if (buckets1[i] != buckets2[i]) {
+                diff[j++] = i;
+            }
+        }
+        return diff;
+    }
 }
\ No newline at end of file
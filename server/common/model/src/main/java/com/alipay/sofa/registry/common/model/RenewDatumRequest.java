@@ -34,10 +34,19 @@ public class RenewDatumRequest implements Serializable {
 
     private final String      digestSum;
 
+    /** digest of each bucket, null means the data server can only tell whether digestSum is the same */
+    private final long[]      bucketDigests;
+
     public RenewDatumRequest(String connectId, String dataServerIP, String digestSum) {
+        this(connectId, dataServerIP, digestSum, null);
+    }
+
+    public RenewDatumRequest(String connectId, String dataServerIP, String digestSum,
+                             long[] bucketDigests) {
         this.connectId = connectId;
         this.dataServerIP = dataServerIP;
         this.digestSum = digestSum;
+        this.bucketDigests = bucketDigests;
     }
 
     /**
@@ -67,6 +76,15 @@ public class RenewDatumRequest implements Serializable {
         return digestSum;
     }
 
+    /**
+     * Getter method for property <tt>bucketDigests</tt>.
+     *
+     * @return property value of bucketDigests
+     */
+    public long[] getBucketDigests() {
+        return bucketDigests;
+    }
+
     /**
      * @see Object#toString()
      */
@@ -76,6 +94,7 @@ public class RenewDatumRequest implements Serializable {
         sb.append("connectId='").append(connectId).append('\'');
         sb.append(", dataServerIP='").append(dataServerIP).append('\'');
         sb.append(", digestSum='").append(digestSum).append('\'');
+        sb.append(", buckets=").append(bucketDigests != null ? bucketDigests.length : 0);
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * result of RenewDatumRequest with bucket digests
+ *
+ * @author agent
+ * @version $Id: RenewDatumResult.java, v 0.1 2026-10-18 16:20 agent Exp $
+ */
+public class RenewDatumResult implements Serializable {
+
+    private static final long serialVersionUID = -3349561271360457396L;
+
+    private final boolean     theSame;
+
+    private final int         bucketCount;
+
+    /** buckets whose digest is different, null means unknown and all publishers should be sent */
+    private final int[]       diffBuckets;
+
+    public RenewDatumResult(boolean theSame, int bucketCount, int[] diffBuckets) {
+        this.theSame = theSame;
+        this.bucketCount = bucketCount;
+        this.diffBuckets = diffBuckets;
+    }
+
+    /**
+     * Getter method for property <tt>theSame</tt>.
+     *
+     * @return property value of theSame
+     */
+    public boolean isTheSame() {
+        return theSame;
+    }
+
+    /**
+     * Getter method for property <tt>bucketCount</tt>.
+     *
+     * @return property value of bucketCount
+     */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Getter method for property <tt>diffBuckets</tt>.
+     *
+     * @return property value of diffBuckets
+     */
+    public int[] getDiffBuckets() {
+        return diffBuckets;
+    }
+
+    /**
+     * @see Object#toString()
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("RenewDatumResult{");
+        sb.append("theSame=").append(theSame);
+        sb.append(", bucketCount=").append(bucketCount);
+        sb.append(", diffBuckets=").append(Arrays.toString(diffBuckets));
+        sb.append('}');
+        return sb.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.dataserver;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * request to get the data of many dataInfoIds in one round trip,
+ * the response data is a map of dataInfoId to the datum map grouped by dataCenter
+ *
+ * @author agent
+ * @version $Id: GetDataBatchRequest.java, v 0.1 2026-10-18 11:20 agent Exp $
+ */
+public class GetDataBatchRequest implements Serializable {
+
+    private static final long serialVersionUID = -5284153267940123526L;
+
+    private List<String>      dataInfoIds;
+
+    /**
+     * if datacenter is null, means all datacenters
+     */
+    private String            dataCenter;
+
+    /**
+     * constructor
+     */
+    public GetDataBatchRequest() {
+    }
+
+    /**
+     * constructor
+     * @param dataInfoIds
+     * @param dataCenter
+     */
+    public GetDataBatchRequest(List<String> dataInfoIds, String dataCenter) {
+        this.dataInfoIds = dataInfoIds;
+        this.dataCenter = dataCenter;
+    }
+
+    /**
+     * Getter method for property <tt>dataInfoIds</tt>.
+     *
+     * @return property value of dataInfoIds
+     */
+    public List<String> getDataInfoIds() {
+        return dataInfoIds;
+    }
+
+    /**
+     * Setter method for property <tt>dataInfoIds</tt>.
+     *
+     * @param dataInfoIds  value to be assigned to property dataInfoIds
+     */
+    public void setDataInfoIds(List<String> dataInfoIds) {
+        this.dataInfoIds = dataInfoIds;
+    }
+
+    /**
+     * Getter method for property <tt>dataCenter</tt>.
+     *
+     * @return property value of dataCenter
+     */
+    public String getDataCenter() {
+        return dataCenter;
+    }
+
+    /**
+     * Setter method for property <tt>dataCenter</tt>.
+     *
+     * @param dataCenter  value to be assigned to property dataCenter
+     */
+    public void setDataCenter(String dataCenter) {
+        this.dataCenter = dataCenter;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("[GetDataBatchRequest] dataCenter=").append(this.dataCenter)
+            .append(", dataInfoIds size=").append(dataInfoIds == null ? 0 : dataInfoIds.size())
+            .toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.dataserver;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * request to notify a backup data server of many data changes at once, each entry is handled the same way as a single NotifyDataSyncRequest
+ *
+ * @author agent
+ * @version $Id: NotifyDataSyncBatchRequest.java, v 0.1 2026-10-18 14:30 agent Exp $
+ */
+public class NotifyDataSyncBatchRequest implements Serializable {
+
+    private static final long           serialVersionUID = 2630885146207934761L;
+
+    private List<NotifyDataSyncRequest> requests;
+
+    /**
+     * constructor
+     */
+    public NotifyDataSyncBatchRequest() {
+    }
+
+    /**
+     * constructor
+     * @param requests
+     */
+    public NotifyDataSyncBatchRequest(List<NotifyDataSyncRequest> requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * Getter method for property <tt>requests</tt>.
+     *
+     * @return property value of requests
+     */
+    public List<NotifyDataSyncRequest> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Setter method for property <tt>requests</tt>.
+     *
+     * @param requests  value to be assigned to property requests
+     */
+    public void setRequests(List<NotifyDataSyncRequest> requests) {
+        this.requests = requests;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("NotifyDataSyncBatchRequest{");
+        sb.append("size=").append(requests == null ? 0 : requests.size());
+        sb.append(", requests=").append(requests);
+        sb.append('}');
+        return sb.toString();
+    }
+}
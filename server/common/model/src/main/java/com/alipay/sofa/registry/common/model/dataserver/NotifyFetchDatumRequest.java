@@ -35,6 +35,16 @@ public class NotifyFetchDatumRequest implements Serializable {
 
     private long                           changeVersion;
 
+    /**
+     * index of this page in all pages of the version map, the receiver marks synced after all pages are fetched
+     */
+    private int                            chunkIndex;
+
+    /**
+     * count of pages, 0 means the version map is not paged
+     */
+    private int                            chunkCount;
+
     /**
      * construtor
      * @param dataVersionMap
@@ -102,9 +112,46 @@ public class NotifyFetchDatumRequest implements Serializable {
         this.changeVersion = changeVersion;
     }
 
+    /**
+     * Getter method for property <tt>chunkIndex</tt>.
+     *
+     * @return property value of chunkIndex
+     */
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    /**
+     * Setter method for property <tt>chunkIndex</tt>.
+     *
+     * @param chunkIndex  value to be assigned to property chunkIndex
+     */
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+
+    /**
+     * Getter method for property <tt>chunkCount</tt>.
+     *
+     * @return property value of chunkCount
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Setter method for property <tt>chunkCount</tt>.
+     *
+     * @param chunkCount  value to be assigned to property chunkCount
+     */
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+
     @Override
     public String toString() {
         return new StringBuilder("[NotifyFetchDatumRequest] ip=").append(ip)
-            .append(", changeVersion=").append(changeVersion).toString();
+            .append(", changeVersion=").append(changeVersion).append(", chunk=")
+            .append(chunkIndex).append("/").append(chunkCount).toString();
     }
 }
\ No newline at end of file
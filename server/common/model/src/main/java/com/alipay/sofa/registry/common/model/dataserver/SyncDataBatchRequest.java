@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.dataserver;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * request to get sync data of many dataInfoIds at once, the response holds one SyncData for each request in the same order, null if that entry failed
+ *
+ * @author agent
+ * @version $Id: SyncDataBatchRequest.java, v 0.1 2026-10-18 14:40 agent Exp $
+ */
+public class SyncDataBatchRequest implements Serializable {
+
+    private static final long     serialVersionUID = -5125530987203457712L;
+
+    private List<SyncDataRequest> requests;
+
+    /**
+     * constructor
+     */
+    public SyncDataBatchRequest() {
+    }
+
+    /**
+     * constructor
+     * @param requests
+     */
+    public SyncDataBatchRequest(List<SyncDataRequest> requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * Getter method for property <tt>requests</tt>.
+     *
+     * @return property value of requests
+     */
+    public List<SyncDataRequest> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Setter method for property <tt>requests</tt>.
+     *
+     * @param requests  value to be assigned to property requests
+     */
+    public void setRequests(List<SyncDataRequest> requests) {
+        this.requests = requests;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("SyncDataBatchRequest{");
+        sb.append("size=").append(requests == null ? 0 : requests.size());
+        sb.append(", requests=").append(requests);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.metaserver;
+
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * node list change of the local dataCenter since baseVersion,
+ * the receiver must have applied exactly baseVersion and the versions of the other dataCenters,
+ * otherwise it answers a failed response and meta server pushes the full NodeChangeResult
+ *
+ * @author agent
+ * @version $Id: NodeChangeDelta.java, v 0.1 2026-10-18 19:40 agent Exp $
+ */
+public class NodeChangeDelta<T extends Node> implements Serializable {
+
+    private final NodeType                                nodeType;
+
+    /** local dataCenter id */
+    private String                                        localDataCenter;
+
+    private Long                                          baseVersion;
+
+    private Long                                          version;
+
+    private Map<String /*ipAddress*/, T>                 addNodes;
+
+    private Set<String /*ipAddress*/>                    removeNodes;
+
+    private Map<String/*dataCenter*/, Long /*version*/> dataCenterListVersions;
+
+    /**
+     * constructor
+     * @param nodeType
+     */
+    public NodeChangeDelta(NodeType nodeType) {
+        this.nodeType = nodeType;
+    }
+
+    /**
+     * Getter method for property <tt>nodeType</tt>.
+     *
+     * @return property value of nodeType
+     */
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * Getter method for property <tt>localDataCenter</tt>.
+     *
+     * @return property value of localDataCenter
+     */
+    public String getLocalDataCenter() {
+        return localDataCenter;
+    }
+
+    /**
+     * Setter method for property <tt>localDataCenter</tt>.
+     *
+     * @param localDataCenter  value to be assigned to property localDataCenter
+     */
+    public void setLocalDataCenter(String localDataCenter) {
+        this.localDataCenter = localDataCenter;
+    }
+
+    /**
+     * Getter method for property <tt>baseVersion</tt>.
+     *
+     * @return property value of baseVersion
+     */
+    public Long getBaseVersion() {
+        return baseVersion;
+    }
+
+    /**
+     * Setter method for property <tt>baseVersion</tt>.
+     *
+     * @param baseVersion  value to be assigned to property baseVersion
+     */
+    public void setBaseVersion(Long baseVersion) {
+        this.baseVersion = baseVersion;
+    }
+
+    /**
+     * Getter method for property <tt>version</tt>.
+     *
+     * @return property value of version
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Setter method for property <tt>version</tt>.
+     *
+     * @param version  value to be assigned to property version
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Getter method for property <tt>addNodes</tt>.
+     *
+     * @return property value of addNodes
+     */
+    public Map<String, T> getAddNodes() {
+        return addNodes;
+    }
+
+    /**
+     * Setter method for property <tt>addNodes</tt>.
+     *
+     * @param addNodes  value to be assigned to property addNodes
+     */
+    public void setAddNodes(Map<String, T> addNodes) {
+        this.addNodes = addNodes;
+    }
+
+    /**
+     * Getter method for property <tt>removeNodes</tt>.
+     *
+     * @return property value of removeNodes
+     */
+    public Set<String> getRemoveNodes() {
+        return removeNodes;
+    }
+
+    /**
+     * Setter method for property <tt>removeNodes</tt>.
+     *
+     * @param removeNodes  value to be assigned to property removeNodes
+     */
+    public void setRemoveNodes(Set<String> removeNodes) {
+        this.removeNodes = removeNodes;
+    }
+
+    /**
+     * Getter method for property <tt>dataCenterListVersions</tt>.
+     *
+     * @return property value of dataCenterListVersions
+     */
+    public Map<String, Long> getDataCenterListVersions() {
+        return dataCenterListVersions;
+    }
+
+    /**
+     * Setter method for property <tt>dataCenterListVersions</tt>.
+     *
+     * @param dataCenterListVersions  value to be assigned to property dataCenterListVersions
+     */
+    public void setDataCenterListVersions(Map<String, Long> dataCenterListVersions) {
+        this.dataCenterListVersions = dataCenterListVersions;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("NodeChangeDelta{");
+        sb.append("nodeType=").append(nodeType);
+        sb.append(", localDataCenter='").append(localDataCenter).append('\'');
+        sb.append(", baseVersion=").append(baseVersion);
+        sb.append(", version=").append(version);
+        sb.append(", addNodes=").append(addNodes);
+        sb.append(", removeNodes=").append(removeNodes);
+        sb.append(", dataCenterListVersions=").append(dataCenterListVersions);
+        sb.append('}');
+        return sb.toString();
+    }
+}
\ No newline at end of file
@@ -63,6 +63,9 @@ public abstract class BaseInfo implements Serializable, StoreData<String> {
 
     private Map<String, String> attributes       = new HashMap<>();
 
+    /** computed from sourceAddress and targetAddress, racy but idempotent */
+    private transient ConnectId connectId;
+
     /**
      * ClientVersion Enum
      */
@@ -175,6 +178,7 @@ public abstract class BaseInfo implements Serializable, StoreData<String> {
      */
     public void setSourceAddress(URL sourceAddress) {
         this.sourceAddress = sourceAddress;
+        this.connectId = null;
     }
 
     /**
@@ -193,6 +197,22 @@ public abstract class BaseInfo implements Serializable, StoreData<String> {
      */
     public void setTargetAddress(URL targetAddress) {
         this.targetAddress = targetAddress;
+        this.connectId = null;
+    }
+
+    /**
+     * connectId of sourceAddress and targetAddress, computed once.
+     * Not a bean property, so it is neither serialized nor rendered.
+     *
+     * @return
+     */
+    public ConnectId connectId() {
+        ConnectId id = connectId;
+        if (id == null) {
+            id = ConnectId.of(sourceAddress, targetAddress);
+            connectId = id;
+        }
+        return id;
     }
 
     /**
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.store;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+
+/**
+ * id of a client connection on session server: client ip:port and session ip:port.
+ * Used as key of connectId indexes instead of the concatenated string. Instances are not
+ * canonical, the key put first into an index is the one shared by the connection.
+ * toString() keeps the string form (clientIp:clientPort_sessionIp:sessionPort) which is still
+ * the one on the wire.
+ *
+ * @author agent
+ * @version $Id: ConnectId.java, v 0.1 2026-10-18 10:12 agent Exp $
+ */
+public final class ConnectId implements Serializable {
+
+    private static final long         serialVersionUID = 3404722924316283947L;
+
+    private final String              clientIp;
+
+    private final int                 clientPort;
+
+    private final String              sessionIp;
+
+    private final int                 sessionPort;
+
+    private final int                 hash;
+
+    private transient volatile String connectIdString;
+
+    private ConnectId(String clientIp, int clientPort, String sessionIp, int sessionPort) {
+        this.clientIp = clientIp;
+        this.clientPort = clientPort;
+        this.sessionIp = sessionIp;
+        this.sessionPort = sessionPort;
+        int result = clientIp != null ? clientIp.hashCode() : 0;
+        result = 31 * result + clientPort;
+        result = 31 * result + (sessionIp != null ? sessionIp.hashCode() : 0);
+        result = 31 * result + sessionPort;
+        this.hash = result;
+    }
+
+    /**
+     * @param clientAddress sourceAddress of publisher/subscriber/watcher
+     * @param sessionAddress targetAddress of publisher/subscriber/watcher
+     * @return
+     */
+    public static ConnectId of(URL clientAddress, URL sessionAddress) {
+        return new ConnectId(clientAddress.getIpAddress(), clientAddress.getPort(),
+            sessionAddress.getIpAddress(), sessionAddress.getPort());
+    }
+
+    /**
+     * parse from the string form, clientIp:clientPort_sessionIp:sessionPort
+     * @param connectId
+     * @return
+     * @throws IllegalArgumentException if connectId is not in the form
+     */
+    public static ConnectId parse(String connectId) {
+        int split = connectId == null ? -1 : connectId.indexOf(ValueConstants.CONNECT_ID_SPLIT);
+        if (split < 0) {
+            throw new IllegalArgumentException("Illegal connectId: " + connectId);
+        }
+        int clientColon = connectId.lastIndexOf(URL.COLON, split);
+        int sessionColon = connectId.lastIndexOf(URL.COLON);
+        if (clientColon < 0 || sessionColon < split) {
+            throw new IllegalArgumentException("Illegal connectId: " + connectId);
+        }
+        try {
+            ConnectId ret = new ConnectId(connectId.substring(0, clientColon),
+                Integer.parseInt(connectId.substring(clientColon + 1, split)),
+                connectId.substring(split + 1, sessionColon), Integer.parseInt(connectId
+                    .substring(sessionColon + 1)));
+            ret.connectIdString = connectId;
+            return ret;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Illegal connectId: " + connectId, e);
+        }
+    }
+
+    /**
+     * same as parse, but returns null if connectId is not in the form
+     * @param connectId
+     * @return
+     */
+    public static ConnectId tryParse(String connectId) {
+        try {
+            return parse(connectId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Getter method for property <tt>clientIp</tt>.
+     *
+     * @return property value of clientIp
+     */
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    /**
+     * Getter method for property <tt>clientPort</tt>.
+     *
+     * @return property value of clientPort
+     */
+    public int getClientPort() {
+        return clientPort;
+    }
+
+    /**
+     * Getter method for property <tt>sessionIp</tt>.
+     *
+     * @return property value of sessionIp
+     */
+    public String getSessionIp() {
+        return sessionIp;
+    }
+
+    /**
+     * Getter method for property <tt>sessionPort</tt>.
+     *
+     * @return property value of sessionPort
+     */
+    public int getSessionPort() {
+        return sessionPort;
+    }
+
+    /**
+     * @return clientIp:clientPort
+     */
+    public String clientAddressString() {
+        return clientIp + URL.COLON + clientPort;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConnectId)) {
+            return false;
+        }
+        ConnectId that = (ConnectId) o;
+        return hash == that.hash && clientPort == that.clientPort
+               && sessionPort == that.sessionPort && Objects.equals(clientIp, that.clientIp)
+               && Objects.equals(sessionIp, that.sessionIp);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * @return clientIp:clientPort_sessionIp:sessionPort, computed once
+     */
+    @Override
+    public String toString() {
+        String str = connectIdString;
+        if (str == null) {
+            str = clientAddressString() + ValueConstants.CONNECT_ID_SPLIT + sessionIp + URL.COLON
+                  + sessionPort;
+            connectIdString = str;
+        }
+        return str;
+    }
+}
\ No newline at end of file
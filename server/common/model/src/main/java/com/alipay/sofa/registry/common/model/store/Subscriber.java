@@ -21,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import com.alipay.sofa.registry.common.model.ElementType;
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+import com.alipay.sofa.registry.core.constants.PushConstants;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -102,9 +103,20 @@ public class Subscriber extends BaseInfo {
      * @return
      */
     public void checkAndUpdateVersion(String dataCenter, Long version, int pubCount) {
+        checkAndUpdateVersion(dataCenter, version, pubCount, false);
+    }
+
+    /**
+     * check version input greater or equal to current version
+     * @param version
+     * @param deltaBase whether the confirmed push was keyed by publisher, delta pushes can be based on it
+     * @return
+     */
+    public void checkAndUpdateVersion(String dataCenter, Long version, int pubCount,
+                                      boolean deltaBase) {
 
         while (true) {
-            PushContext pushContext = new PushContext(version, pubCount);
+            PushContext pushContext = new PushContext(version, pubCount, deltaBase);
             PushContext oldPushContext = lastPushContexts.putIfAbsent(dataCenter, pushContext);
             // Add firstly
             if (oldPushContext == null) {
@@ -122,6 +134,57 @@ public class Subscriber extends BaseInfo {
         }
     }
 
+    /**
+     * get the version which a delta push can be based on
+     * @param dataCenter
+     * @return last pushed version, or null if the next push must be a full push
+     */
+    public Long getDeltaBaseVersion(String dataCenter) {
+        PushContext pushContext = lastPushContexts.get(dataCenter);
+        if (pushContext == null || !pushContext.deltaBase) {
+            return null;
+        }
+        return pushContext.pushVersion;
+    }
+
+    /**
+     * the client can not apply delta on the last pushed version, next push must be a full push
+     * @param dataCenter
+     */
+    public void invalidateDeltaBase(String dataCenter) {
+        while (true) {
+            PushContext oldPushContext = lastPushContexts.get(dataCenter);
+            if (oldPushContext == null || !oldPushContext.deltaBase) {
+                break;
+            }
+            PushContext pushContext = new PushContext(oldPushContext.pushVersion,
+                oldPushContext.pushPubCount, false);
+            if (lastPushContexts.replace(dataCenter, oldPushContext, pushContext)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * the client got a push not keyed by publisher, next push of every data center must be full
+     */
+    public void invalidateDeltaBase() {
+        for (String dataCenter : lastPushContexts.keySet()) {
+            invalidateDeltaBase(dataCenter);
+        }
+    }
+
+    /**
+     * whether the client of subscriber is able to apply delta pushes
+     * @return
+     */
+    @JsonIgnore
+    public boolean isDeltaPushSupported() {
+        Map<String, String> attributes = getAttributes();
+        return attributes != null
+               && Boolean.parseBoolean(attributes.get(PushConstants.DELTA_PUSH_SUPPORTED));
+    }
+
     /**
      * If the pushed data is empty, check the last push, for avoid continuous empty datum push
      */
@@ -200,16 +263,26 @@ public class Subscriber extends BaseInfo {
         /**
          * last pushed dataInfo version
          */
-        private Long pushVersion;
+        private Long    pushVersion;
 
         /**
          * push pushed dataInfo pubCount
          */
-        private int  pushPubCount;
+        private int     pushPubCount;
+
+        /**
+         * whether delta push can be based on pushVersion
+         */
+        private boolean deltaBase;
 
         public PushContext(Long pushVersion, int pushPubCount) {
+            this(pushVersion, pushPubCount, false);
+        }
+
+        public PushContext(Long pushVersion, int pushPubCount, boolean deltaBase) {
             this.pushVersion = pushVersion;
             this.pushPubCount = pushPubCount;
+            this.deltaBase = deltaBase;
         }
 
         /**
@@ -220,6 +293,7 @@ public class Subscriber extends BaseInfo {
             final StringBuilder sb = new StringBuilder("PushContext{");
             sb.append("pushVersion=").append(pushVersion);
             sb.append(", pushPubCount=").append(pushPubCount);
+            sb.append(", deltaBase=").append(deltaBase);
             sb.append('}');
             return sb.toString();
         }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.dataserver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ * @version $Id: GetDataBatchRequestTest.java, v 0.1 2026-10-18 22:20 agent Exp $
+ */
+public class GetDataBatchRequestTest {
+
+    @Test
+    public void testSerialize() throws Exception {
+        GetDataBatchRequest request = new GetDataBatchRequest(Arrays.asList("a", "b", "c"), "dc");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(request);
+        }
+        GetDataBatchRequest copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(
+            bytes.toByteArray()))) {
+            copy = (GetDataBatchRequest) in.readObject();
+        }
+
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), copy.getDataInfoIds());
+        Assert.assertEquals("dc", copy.getDataCenter());
+    }
+
+    @Test
+    public void testToString() {
+        GetDataBatchRequest request = new GetDataBatchRequest();
+        Assert.assertNull(request.getDataCenter());
+        Assert.assertEquals("[GetDataBatchRequest] dataCenter=null, dataInfoIds size=0",
+            request.toString());
+
+        request.setDataCenter("dc");
+        request.setDataInfoIds(Arrays.asList("a", "b"));
+        // only the size is printed, a batch holds hundreds of dataInfoIds
+        Assert.assertEquals("[GetDataBatchRequest] dataCenter=dc, dataInfoIds size=2",
+            request.toString());
+    }
+}
\ No newline at end of file
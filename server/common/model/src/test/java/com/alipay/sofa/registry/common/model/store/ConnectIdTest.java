@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.store;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ * @version $Id: ConnectIdTest.java, v 0.1 2026-10-18 15:40 agent Exp $
+ */
+public class ConnectIdTest {
+
+    @Test
+    public void testToStringRoundTrip() {
+        ConnectId connectId = ConnectId.of(new URL("192.168.1.1", 12345), new URL("192.168.1.2",
+            9600));
+        Assert.assertEquals("192.168.1.1:12345_192.168.1.2:9600", connectId.toString());
+        Assert.assertEquals("192.168.1.1:12345", connectId.clientAddressString());
+
+        ConnectId parsed = ConnectId.parse(connectId.toString());
+        Assert.assertEquals(connectId, parsed);
+        Assert.assertEquals(connectId.hashCode(), parsed.hashCode());
+        Assert.assertEquals("192.168.1.1", parsed.getClientIp());
+        Assert.assertEquals(12345, parsed.getClientPort());
+        Assert.assertEquals("192.168.1.2", parsed.getSessionIp());
+        Assert.assertEquals(9600, parsed.getSessionPort());
+        Assert.assertEquals(connectId.toString(), parsed.toString());
+    }
+
+    @Test
+    public void testNotEquals() {
+        ConnectId connectId = ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600");
+        Assert.assertNotEquals(connectId, ConnectId.parse("192.168.1.1:12346_192.168.1.2:9600"));
+        Assert.assertNotEquals(connectId, ConnectId.parse("192.168.1.1:12345_192.168.1.3:9600"));
+        Assert.assertNotEquals(connectId, ConnectId.parse("192.168.1.3:12345_192.168.1.2:9600"));
+        Assert.assertNotEquals(connectId, "192.168.1.1:12345_192.168.1.2:9600");
+    }
+
+    @Test
+    public void testIpv6() {
+        ConnectId connectId = ConnectId.parse("fe80::1:2:12345_192.168.1.2:9600");
+        Assert.assertEquals("fe80::1:2", connectId.getClientIp());
+        Assert.assertEquals(12345, connectId.getClientPort());
+        Assert.assertEquals("192.168.1.2", connectId.getSessionIp());
+        Assert.assertEquals(9600, connectId.getSessionPort());
+
+        ConnectId both = ConnectId.of(new URL("::1", 12345), new URL("fe80::2", 9600));
+        // URL expands the ipv6 addresses, the port is still after the last colon
+        Assert.assertEquals("0:0:0:0:0:0:0:1:12345_fe80:0:0:0:0:0:0:2:9600", both.toString());
+        ConnectId parsed = ConnectId.parse(both.toString());
+        Assert.assertEquals(both, parsed);
+        Assert.assertEquals("0:0:0:0:0:0:0:1", parsed.getClientIp());
+        Assert.assertEquals(12345, parsed.getClientPort());
+        Assert.assertEquals("fe80:0:0:0:0:0:0:2", parsed.getSessionIp());
+        Assert.assertEquals(9600, parsed.getSessionPort());
+    }
+
+    @Test
+    public void testMalformed() {
+        String[] illegals = new String[] { null, "", "192.168.1.1",
+                "192.168.1.1:12345192.168.1.2:9600", "192.168.1.1_192.168.1.2:9600",
+                "192.168.1.1:12345_192.168.1.2", "192.168.1.1:abc_192.168.1.2:9600",
+                "192.168.1.1:12345_192.168.1.2:", "192.168.1.1:12345_192.168.1.2:9600x" };
+        for (String illegal : illegals) {
+            try {
+                ConnectId.parse(illegal);
+                Assert.fail("parsed " + illegal);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+            Assert.assertNull(ConnectId.tryParse(illegal));
+        }
+    }
+}
\ No newline at end of file
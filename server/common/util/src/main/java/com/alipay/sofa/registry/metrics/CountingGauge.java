@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import java.util.function.LongSupplier;
+
+import com.codahale.metrics.Counting;
+import com.codahale.metrics.Gauge;
+
+/**
+ * gauge over a count kept by a component which only grows, e.g. the accepted tasks of an executor,
+ * it is exported as a counter instead of a gauge
+ *
+ * @author agent
+ * @version $Id: CountingGauge.java, v 0.1 2026-10-18 21:10 agent Exp $
+ */
+public final class CountingGauge implements Gauge<Long>, Counting {
+
+    private final LongSupplier count;
+
+    /**
+     * constructor
+     * @param count
+     */
+    public CountingGauge(LongSupplier count) {
+        this.count = count;
+    }
+
+    @Override
+    public Long getValue() {
+        return count.getAsLong();
+    }
+
+    @Override
+    public long getCount() {
+        return count.getAsLong();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+/**
+ * reservoir counting values into log-linear buckets like HdrHistogram: values below 16 have a bucket each,
+ * every power of two above is split into 16 buckets, so the relative error is below 1/16.
+ * Recording a value is an increment of a preallocated counter, nothing is allocated, and the memory is
+ * fixed whatever the number of values. Counts are kept since start, like Prometheus summaries.
+ *
+ * @author agent
+ * @version $Id: LogBucketReservoir.java, v 0.1 2026-10-18 10:30 agent Exp $
+ */
+public class LogBucketReservoir implements Reservoir {
+
+    private static final int      SUB_BUCKET_BITS = 4;
+
+    private static final int      SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+
+    static final int              BUCKET_COUNT    = SUB_BUCKETS + (63 - SUB_BUCKET_BITS)
+                                                    * SUB_BUCKETS;
+
+    private final AtomicLongArray counts          = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder       sum             = new LongAdder();
+
+    private final LongAccumulator min             = new LongAccumulator(Math::min,
+                                                      Long.MAX_VALUE);
+
+    private final LongAccumulator max             = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public int size() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * negative values are recorded as 0
+     * @param value
+     */
+    @Override
+    public void update(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(bucketIndex(value));
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new BucketSnapshot(copy, sum.sum(), min.get(), max.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << shift;
+    }
+
+    /**
+     * middle of the bucket, the value reported for all values in it
+     */
+    static long bucketValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        return bucketLowerBound(index) + ((1L << shift) >>> 1);
+    }
+
+    /**
+     * snapshot on copied counts, quantiles are the middle of the bucket bounded by min and max
+     */
+    static class BucketSnapshot extends Snapshot {
+
+        private final long[] counts;
+
+        private final long   count;
+
+        private final long   sum;
+
+        private final long   min;
+
+        private final long   max;
+
+        BucketSnapshot(long[] counts, long sum, long min, long max) {
+            long count = 0;
+            for (long c : counts) {
+                count += c;
+            }
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = count == 0 ? 0 : min;
+            this.max = count == 0 ? 0 : max;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException(quantile + " is not in [0..1]");
+            }
+            if (count == 0) {
+                return 0.0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.max(min, Math.min(max, bucketValue(i)));
+                }
+            }
+            return max;
+        }
+
+        /**
+         * values are not kept, the value of every non-empty bucket is returned once
+         * @return
+         */
+        @Override
+        public long[] getValues() {
+            int size = 0;
+            for (long c : counts) {
+                if (c > 0) {
+                    size++;
+                }
+            }
+            long[] values = new long[size];
+            int j = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    values[j++] = Math.max(min, Math.min(max, bucketValue(i)));
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(count, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return max;
+        }
+
+        @Override
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        @Override
+        public long getMin() {
+            return min;
+        }
+
+        @Override
+        public double getStdDev() {
+            if (count <= 1) {
+                return 0.0;
+            }
+            double mean = getMean();
+            double variance = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    double diff = bucketValue(i) - mean;
+                    variance += diff * diff * counts[i];
+                }
+            }
+            return Math.sqrt(variance / (count - 1));
+        }
+
+        /**
+         * Getter method for property <tt>sum</tt>.
+         *
+         * @return property value of sum
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output,
+                StandardCharsets.UTF_8))) {
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] > 0) {
+                        out.printf("%d %d%n", bucketValue(i), counts[i]);
+                    }
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.util.function.LongSupplier;
+
+/**
+ * metrics shared by the whole server and exported by the /metrics resource of meta, data and session.
+ * Histograms and timers use {@link LogBucketReservoir}, record them with update(duration) instead of
+ * Timer.time() on hot paths to keep them allocation free
+ *
+ * @author agent
+ * @version $Id: Metrics.java, v 0.1 2026-10-18 11:05 agent Exp $
+ */
+public final class Metrics {
+
+    private static final Logger         LOGGER   = LoggerFactory.getLogger(Metrics.class);
+
+    private static final MetricRegistry REGISTRY = new MetricRegistry();
+
+    private Metrics() {
+    }
+
+    /**
+     * Getter method for property <tt>REGISTRY</tt>.
+     *
+     * @return property value of REGISTRY
+     */
+    public static MetricRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    /**
+     * get or create timer, durations in nanoseconds
+     * @param name
+     * @return
+     */
+    public static Timer timer(String name) {
+        return REGISTRY.timer(name, () -> new Timer(new LogBucketReservoir()));
+    }
+
+    /**
+     * get or create histogram
+     * @param name
+     * @return
+     */
+    public static Histogram histogram(String name) {
+        return REGISTRY.histogram(name, () -> new Histogram(new LogBucketReservoir()));
+    }
+
+    /**
+     * get or create counter
+     * @param name
+     * @return
+     */
+    public static Counter counter(String name) {
+        return REGISTRY.counter(name);
+    }
+
+    /**
+     * register gauge if there is no metric with the name yet, a gauge keeps what it reads reachable,
+     * so the component registering it should remove it when stopped
+     * @param name
+     * @param gauge
+     * @return the metric registered with the name, the existing one if there was
+     */
+    public static Metric gauge(String name, Gauge<?> gauge) {
+        try {
+            return REGISTRY.register(name, gauge);
+        } catch (IllegalArgumentException e) {
+            Metric existing = REGISTRY.getMetrics().get(name);
+            if (existing == null) {
+                // removed in between, try again
+                return gauge(name, gauge);
+            }
+            LOGGER.warn("Metric {} already registered, the new gauge is ignored", name);
+            return existing;
+        }
+    }
+
+    /**
+     * register gauge over a count which only grows, it is exported as a counter,
+     * the existing metric with the same name is kept
+     * @param name
+     * @param count
+     * @return the metric registered with the name
+     */
+    public static Metric countingGauge(String name, LongSupplier count) {
+        return gauge(name, new CountingGauge(count));
+    }
+
+    /**
+     * remove the metric with the name
+     * @param name
+     * @return true if removed
+     */
+    public static boolean remove(String name) {
+        return REGISTRY.remove(name);
+    }
+
+    /**
+     * remove the metrics named prefix.xxx, e.g. all the metrics of a component when it is stopped
+     * @param prefix
+     */
+    public static void removeByPrefix(String prefix) {
+        String namePrefix = prefix + ".";
+        REGISTRY.removeMatching((name, metric) -> name.startsWith(namePrefix));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Counting;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+
+/**
+ * format metrics in the Prometheus text exposition format:
+ * gauges as gauge, counters, counting gauges and meters as counter with the _total suffix,
+ * histograms and timers as summary (timers in seconds)
+ *
+ * @author agent
+ * @version $Id: PrometheusExporter.java, v 0.1 2026-10-18 14:10 agent Exp $
+ */
+public final class PrometheusExporter {
+
+    public static final String    CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES    = { 0.5, 0.75, 0.9, 0.99, 0.999 };
+
+    private static final double   NANOS_PER_S  = TimeUnit.SECONDS.toNanos(1);
+
+    private PrometheusExporter() {
+    }
+
+    /**
+     * @param prefix prepended to all names, e.g. the server type
+     * @param registry
+     * @return
+     */
+    public static String export(String prefix, MetricRegistry registry) {
+        StringBuilder sb = new StringBuilder(4096);
+        for (Map.Entry<String, Gauge> entry : registry.getGauges().entrySet()) {
+            if (entry.getValue() instanceof Counting) {
+                counter(sb, sanitize(prefix, entry.getKey()), (Counting) entry.getValue());
+                continue;
+            }
+            Object value;
+            try {
+                value = entry.getValue().getValue();
+            } catch (RuntimeException e) {
+                // gauge of a component not fully initialized or already closed, skip it
+                continue;
+            }
+            if (value instanceof Boolean) {
+                value = (Boolean) value ? 1 : 0;
+            }
+            if (value instanceof Number) {
+                String name = sanitize(prefix, entry.getKey());
+                type(sb, name, "gauge");
+                sample(sb, name, null, ((Number) value).doubleValue());
+            }
+        }
+        for (Map.Entry<String, Counter> entry : registry.getCounters().entrySet()) {
+            counter(sb, sanitize(prefix, entry.getKey()), entry.getValue());
+        }
+        for (Map.Entry<String, Meter> entry : registry.getMeters().entrySet()) {
+            counter(sb, sanitize(prefix, entry.getKey()), entry.getValue());
+        }
+        for (Map.Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            summary(sb, sanitize(prefix, entry.getKey()), histogram.getSnapshot(),
+                histogram.getCount(), 1);
+        }
+        for (Map.Entry<String, Timer> entry : registry.getTimers().entrySet()) {
+            Timer timer = entry.getValue();
+            summary(sb, sanitize(prefix, entry.getKey()) + "_seconds", timer.getSnapshot(),
+                timer.getCount(), NANOS_PER_S);
+        }
+        return sb.toString();
+    }
+
+    private static void counter(StringBuilder sb, String name, Counting counting) {
+        long count;
+        try {
+            count = counting.getCount();
+        } catch (RuntimeException e) {
+            return;
+        }
+        name = name + "_total";
+        type(sb, name, "counter");
+        sample(sb, name, null, count);
+    }
+
+    private static void summary(StringBuilder sb, String name, Snapshot snapshot, long count,
+                                double divisor) {
+        type(sb, name, "summary");
+        for (double quantile : QUANTILES) {
+            sample(sb, name, "quantile=\"" + quantile + "\"", snapshot.getValue(quantile) / divisor);
+        }
+        double sum;
+        if (snapshot instanceof LogBucketReservoir.BucketSnapshot) {
+            sum = ((LogBucketReservoir.BucketSnapshot) snapshot).getSum();
+        } else {
+            sum = snapshot.getMean() * count;
+        }
+        sample(sb, name + "_sum", null, sum / divisor);
+        sample(sb, name + "_count", null, count);
+    }
+
+    private static void type(StringBuilder sb, String name, String type) {
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String name, String labels, double value) {
+        sb.append(name);
+        if (labels != null) {
+            sb.append('{').append(labels).append('}');
+        }
+        sb.append(' ');
+        if (Double.isInfinite(value)) {
+            sb.append(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == (long) value) {
+            sb.append((long) value);
+        } else {
+            sb.append(value);
+        }
+        sb.append('\n');
+    }
+
+    static String sanitize(String prefix, String name) {
+        StringBuilder sb = new StringBuilder(prefix.length() + name.length() + 1);
+        sb.append(prefix).append('_').append(name);
+        for (int i = 0; i < sb.length(); i++) {
+            char c = sb.charAt(i);
+            boolean valid = c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+                            || c == '_' || c == ':';
+            if (!valid) {
+                sb.setCharAt(i, '_');
+            }
+        }
+        return sb.toString();
+    }
+}
\ No newline at end of file
@@ -38,7 +38,7 @@ public class TaskMetrics {
     private final Set<String>    executorNames = Sets.newConcurrentHashSet();
 
     private TaskMetrics() {
-        this.metrics = new MetricRegistry();
+        this.metrics = Metrics.getRegistry();
     }
 
     private volatile static TaskMetrics instance;
@@ -62,22 +62,31 @@ public class TaskMetrics {
     public void registerThreadExecutor(String executorName, ThreadPoolExecutor executor) {
         executorNames.add(executorName);
 
-        metrics.register(MetricRegistry.name(executorName, "queue"),
+        Metrics.gauge(MetricRegistry.name(executorName, "queue"),
             (Gauge<Integer>) () -> executor.getQueue().size());
 
-        metrics.register(MetricRegistry.name(executorName, "current"),
+        Metrics.gauge(MetricRegistry.name(executorName, "current"),
             (Gauge<Integer>) executor::getPoolSize);
 
-        metrics.register(MetricRegistry.name(executorName, "active"),
+        Metrics.gauge(MetricRegistry.name(executorName, "active"),
             (Gauge<Integer>) executor::getActiveCount);
 
-        metrics.register(MetricRegistry.name(executorName, "completed"),
+        Metrics.gauge(MetricRegistry.name(executorName, "completed"),
             (Gauge<Long>) executor::getCompletedTaskCount);
 
-        metrics.register(MetricRegistry.name(executorName, "task"),
+        Metrics.gauge(MetricRegistry.name(executorName, "task"),
             (Gauge<Long>) executor::getTaskCount);
     }
 
+    /**
+     * remove the gauges of a terminated executor, so that they no longer keep it reachable
+     * @param executorName
+     */
+    public void unregisterThreadExecutor(String executorName) {
+        executorNames.remove(executorName);
+        Metrics.removeByPrefix(executorName);
+    }
+
     public Set<String> getExecutorNames() {
         return executorNames;
     }
@@ -89,12 +98,13 @@ public class TaskMetrics {
         sb.append("\n");
         for (String executorName : getExecutorNames()) {
             MetricRegistry metricRegistry = getMetricRegistry();
+            String executorPrefix = executorName + ".";
             Map<String, Gauge> map = metricRegistry
-                .getGauges((name, value) -> name.startsWith(executorName));
+                .getGauges((name, value) -> name.startsWith(executorPrefix));
 
             sb.append(SYMBOLIC).append(executorName);
             map.forEach((key, gauge) -> {
-                String name = key.substring(executorName.length() + 1);
+                String name = key.substring(executorPrefix.length());
                 sb.append(", ").append(name).append(":").append(gauge.getValue());
             });
             sb.append("\n");
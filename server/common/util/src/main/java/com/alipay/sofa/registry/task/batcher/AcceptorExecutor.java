@@ -18,8 +18,14 @@ package com.alipay.sofa.registry.task.batcher;
 
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.Metrics;
 import com.alipay.sofa.registry.task.batcher.TaskProcessor.ProcessingResult;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -33,6 +39,7 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * An active object with an internal thread accepting tasks from clients, and dispatching them to
@@ -64,6 +71,16 @@ public class AcceptorExecutor<ID, T> {
      */
     private final int                                    maxBufferSize;
 
+    /**
+     * max task count of a batch, 1 for single task dispatcher
+     */
+    private final int                                    maxBatchingSize;
+
+    /**
+     * max time in ms a task waits for more tasks to make up a batch
+     */
+    private final long                                   maxBatchingDelay;
+
     private final String                                 name;
 
     private final AtomicBoolean                          isShutdown        = new AtomicBoolean(
@@ -94,17 +111,72 @@ public class AcceptorExecutor<ID, T> {
 
     private AtomicLong                                   queueOverflows    = new AtomicLong();
 
+    /**
+     * time in ms from dispatch to a worker taking the task
+     */
+    private final Histogram                              queueTime;
+
+    /**
+     * time in ns of TaskProcessor.process, a batch counts as one
+     */
+    private final Timer                                  processTime;
+
+    /**
+     * prefix of the metrics of this executor, they are removed on shutdown
+     */
+    private final String                                 metricPrefix;
+
+    /**
+     * called with every task dropped without being processed: overflow, expiry or override
+     */
+    private volatile Consumer<T>                         discardListener;
+
     AcceptorExecutor(String id, int maxBufferSize, long congestionRetryDelayMs,
                      long networkFailureRetryMs) {
+        this(id, maxBufferSize, 1, 0, congestionRetryDelayMs, networkFailureRetryMs, true);
+    }
+
+    /**
+     * constructor
+     * @param id
+     * @param maxBufferSize
+     * @param maxBatchingSize
+     * @param maxBatchingDelay
+     * @param congestionRetryDelayMs
+     * @param networkFailureRetryMs
+     * @param startAcceptor false if the subclass hands off tasks to workers without the acceptor thread
+     */
+    AcceptorExecutor(String id, int maxBufferSize, int maxBatchingSize, long maxBatchingDelay,
+                     long congestionRetryDelayMs, long networkFailureRetryMs,
+                     boolean startAcceptor) {
         this.name = "TaskAcceptor-" + id;
         this.maxBufferSize = maxBufferSize;
+        this.maxBatchingSize = maxBatchingSize;
+        this.maxBatchingDelay = maxBatchingDelay;
         this.trafficShaper = new TrafficShaper(congestionRetryDelayMs, networkFailureRetryMs);
 
-        ThreadGroup threadGroup = new ThreadGroup("serverTaskExecutors");
-        this.acceptorThread = new Thread(threadGroup, new AcceptorRunner(), "TaskAcceptor-" + id);
-        this.acceptorThread.setDaemon(true);
-        this.acceptorThread.start();
-
+        this.metricPrefix = MetricRegistry.name("taskDispatcher", id);
+        this.queueTime = Metrics.histogram(MetricRegistry.name(metricPrefix, "queueTime"));
+        this.processTime = Metrics.timer(MetricRegistry.name(metricPrefix, "processTime"));
+        Metrics.countingGauge(MetricRegistry.name(metricPrefix, "accepted"), acceptedTasks::get);
+        Metrics.countingGauge(MetricRegistry.name(metricPrefix, "replayed"), replayedTasks::get);
+        Metrics.countingGauge(MetricRegistry.name(metricPrefix, "expired"), expiredTasks::get);
+        Metrics.countingGauge(MetricRegistry.name(metricPrefix, "overridden"),
+            overriddenTasks::get);
+        Metrics.countingGauge(MetricRegistry.name(metricPrefix, "queueOverflows"),
+            queueOverflows::get);
+        Metrics.gauge(MetricRegistry.name(metricPrefix, "pending"),
+            (Gauge<Integer>) this::getPendingTaskSize);
+
+        if (startAcceptor) {
+            ThreadGroup threadGroup = new ThreadGroup("serverTaskExecutors");
+            this.acceptorThread = new Thread(threadGroup, new AcceptorRunner(), "TaskAcceptor-"
+                                                                                + id);
+            this.acceptorThread.setDaemon(true);
+            this.acceptorThread.start();
+        } else {
+            this.acceptorThread = null;
+        }
     }
 
     void process(ID id, T task, long expiryTime) {
@@ -128,12 +200,113 @@ public class AcceptorExecutor<ID, T> {
         return batchWorkQueue;
     }
 
+    /**
+     * request one task for a worker, block until it is available
+     * @param workerShutdown shutdown flag of the worker
+     * @return the task, or null if the worker is shutdown
+     * @throws InterruptedException
+     */
+    TaskHolder<ID, T> takeWorkItem(AtomicBoolean workerShutdown) throws InterruptedException {
+        BlockingQueue<TaskHolder<ID, T>> workQueue = requestWorkItem();
+        TaskHolder<ID, T> taskHolder;
+        while ((taskHolder = workQueue.poll(1, TimeUnit.SECONDS)) == null) {
+            if (workerShutdown.get()) {
+                return null;
+            }
+        }
+        return taskHolder;
+    }
+
+    /**
+     * request a batch of tasks for a worker, block until it is available
+     * @param workerShutdown shutdown flag of the worker
+     * @return the tasks, or null if the worker is shutdown
+     * @throws InterruptedException
+     */
+    List<TaskHolder<ID, T>> takeBatchWorkItems(AtomicBoolean workerShutdown)
+                                                                            throws InterruptedException {
+        BlockingQueue<List<TaskHolder<ID, T>>> workQueue = requestWorkItems();
+        List<TaskHolder<ID, T>> holders;
+        while ((holders = workQueue.poll(1, TimeUnit.SECONDS)) == null) {
+            if (workerShutdown.get()) {
+                return null;
+            }
+        }
+        return holders;
+    }
+
     void shutdown() {
         if (isShutdown.compareAndSet(false, true)) {
-            acceptorThread.interrupt();
+            if (acceptorThread != null) {
+                acceptorThread.interrupt();
+            }
+            // the gauges read this executor, the static registry must not keep it reachable
+            Metrics.removeByPrefix(metricPrefix);
         }
     }
 
+    /**
+     * hand a task that is dropped without being processed to the discard listener
+     *
+     * @param taskHolder
+     */
+    void discard(TaskHolder<ID, T> taskHolder) {
+        Consumer<T> listener = discardListener;
+        if (listener == null || taskHolder == null) {
+            return;
+        }
+        try {
+            listener.accept(taskHolder.getTask());
+        } catch (Throwable e) {
+            LOGGER.error("Discard task {} error,name={}", taskHolder.getId(), name, e);
+        }
+    }
+
+    /**
+     * Getter method for property <tt>name</tt>.
+     *
+     * @return property value of name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Getter method for property <tt>maxBatchingSize</tt>.
+     *
+     * @return property value of maxBatchingSize
+     */
+    int getMaxBatchingSize() {
+        return maxBatchingSize;
+    }
+
+    /**
+     * Getter method for property <tt>maxBatchingDelay</tt>.
+     *
+     * @return property value of maxBatchingDelay
+     */
+    long getMaxBatchingDelay() {
+        return maxBatchingDelay;
+    }
+
+    /**
+     * Getter method for property <tt>trafficShaper</tt>.
+     *
+     * @return property value of trafficShaper
+     */
+    TrafficShaper getTrafficShaper() {
+        return trafficShaper;
+    }
+
+    /**
+     * Getter method for property <tt>isShutdown</tt>.
+     *
+     * @return property value of isShutdown
+     */
+    AtomicBoolean getIsShutdown() {
+        return isShutdown;
+    }
+
     class AcceptorRunner implements Runnable {
         @Override
         public void run() {
@@ -149,6 +322,7 @@ public class AcceptorExecutor<ID, T> {
                         scheduleTime = now + trafficShaper.transmissionDelay();
                     }
                     if (scheduleTime <= now) {
+                        assignBatchWork();
                         assignItemWork();
                     }
 
@@ -201,8 +375,10 @@ public class AcceptorExecutor<ID, T> {
                 //expiryTime < 0 means task no expired
                 if (taskHolder.getExpiryTime() > 0 && taskHolder.getExpiryTime() <= now) {
                     expiredTasks.incrementAndGet();
+                    discard(taskHolder);
                 } else if (pendingTasks.containsKey(id)) {
                     overriddenTasks.incrementAndGet();
+                    discard(taskHolder);
                 } else {
                     pendingTasks.put(id, taskHolder);
                     processingOrder.addFirst(id);
@@ -214,7 +390,10 @@ public class AcceptorExecutor<ID, T> {
                         "Now pending task full,it will clear reprocessQueue in to add new task,reprocessQueue size={},queueOverflows={},name={}",
                         reprocessQueue.size(), queueOverflows, name);
                 queueOverflows.addAndGet(reprocessQueue.size());
-                reprocessQueue.clear();
+                TaskHolder<ID, T> taskHolder;
+                while ((taskHolder = reprocessQueue.poll()) != null) {
+                    discard(taskHolder);
+                }
             }
         }
 
@@ -224,7 +403,7 @@ public class AcceptorExecutor<ID, T> {
                     .error(
                         "Now pending task full,it will remove first one to add task={},queueOverflows={},name={}",
                         taskHolder.getId(), queueOverflows, name);
-                pendingTasks.remove(processingOrder.poll());
+                discard(pendingTasks.remove(processingOrder.poll()));
                 queueOverflows.incrementAndGet();
             }
             TaskHolder<ID, T> previousTask = pendingTasks.put(taskHolder.getId(), taskHolder);
@@ -232,9 +411,49 @@ public class AcceptorExecutor<ID, T> {
                 processingOrder.add(taskHolder.getId());
             } else {
                 overriddenTasks.incrementAndGet();
+                discard(previousTask);
+            }
+        }
+
+        void assignBatchWork() {
+            if (hasEnoughTasksForNextBatch()) {
+                if (batchWorkRequests.tryAcquire(1)) {
+                    long now = System.currentTimeMillis();
+                    int len = Math.min(maxBatchingSize, processingOrder.size());
+                    List<TaskHolder<ID, T>> holders = new ArrayList<>(len);
+                    while (holders.size() < len && !processingOrder.isEmpty()) {
+                        ID id = processingOrder.poll();
+                        TaskHolder<ID, T> holder = pendingTasks.remove(id);
+                        //expiryTime < 0 means task no expired
+                        if (holder.getExpiryTime() < 0 || holder.getExpiryTime() > now) {
+                            holders.add(holder);
+                        } else {
+                            expiredTasks.incrementAndGet();
+                            discard(holder);
+                        }
+                    }
+                    if (holders.isEmpty()) {
+                        batchWorkRequests.release();
+                    } else {
+                        batchWorkQueue.add(holders);
+                    }
+                }
             }
         }
 
+        private boolean hasEnoughTasksForNextBatch() {
+            if (processingOrder.isEmpty()) {
+                return false;
+            }
+            if (pendingTasks.size() >= maxBufferSize || processingOrder.size() >= maxBatchingSize) {
+                return true;
+            }
+
+            TaskHolder<ID, T> nextHolder = pendingTasks.get(processingOrder.peek());
+            long delay = System.currentTimeMillis() - nextHolder.getSubmitTimestamp();
+            return delay >= maxBatchingDelay;
+        }
+
         void assignItemWork() {
             if (!processingOrder.isEmpty()) {
                 if (workSemaphore.tryAcquire(1)) {
@@ -248,6 +467,7 @@ public class AcceptorExecutor<ID, T> {
                             return;
                         }
                         expiredTasks.incrementAndGet();
+                        discard(holder);
                     }
                     workSemaphore.release();
                 }
@@ -265,6 +485,22 @@ public class AcceptorExecutor<ID, T> {
         return maxBufferSize;
     }
 
+    /**
+     * record the time a task waited before taken by a worker
+     * @param taskHolder
+     */
+    void recordQueueTime(TaskHolder<ID, T> taskHolder) {
+        queueTime.update(System.currentTimeMillis() - taskHolder.getSubmitTimestamp());
+    }
+
+    /**
+     * record the time TaskProcessor.process took
+     * @param startNanos System.nanoTime() before process
+     */
+    void recordProcessTime(long startNanos) {
+        processTime.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Getter method for property <tt>acceptedTasks</tt>.
      *
@@ -310,6 +546,15 @@ public class AcceptorExecutor<ID, T> {
         return queueOverflows;
     }
 
+    /**
+     * Setter method for property <tt>discardListener</tt>.
+     *
+     * @param discardListener value to be assigned to property discardListener
+     */
+    public void setDiscardListener(Consumer<T> discardListener) {
+        this.discardListener = discardListener;
+    }
+
     /**
      * Get pending task size
      * @return
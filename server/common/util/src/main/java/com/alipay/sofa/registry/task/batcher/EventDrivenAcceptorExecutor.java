@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.task.batcher;
+
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.task.batcher.TaskProcessor.ProcessingResult;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link AcceptorExecutor} without the acceptor thread. Tasks are merged into the pending task pool on the
+ * caller thread, and workers are signaled on enqueue instead of the acceptor polling every 10 ms.
+ *
+ * Workers waiting for traffic shaping sleep until the shaping deadline, and expired tasks are dropped when a
+ * worker takes them, so an idle dispatcher costs no CPU and a new task is handed off without any polling delay.
+ *
+ * @author agent
+ * @version $Id: EventDrivenAcceptorExecutor.java, v 0.1 2026-10-18 10:24 agent Exp $
+ */
+public class EventDrivenAcceptorExecutor<ID, T> extends AcceptorExecutor<ID, T> {
+
+    private static final Logger              LOGGER          = LoggerFactory
+                                                                 .getLogger(EventDrivenAcceptorExecutor.class);
+
+    private final ReentrantLock              lock            = new ReentrantLock();
+
+    private final Condition                  workAvailable   = lock.newCondition();
+
+    private final Map<ID, TaskHolder<ID, T>> pendingTasks    = new HashMap<>();
+
+    private final Deque<ID>                  processingOrder = new ArrayDeque<>();
+
+    EventDrivenAcceptorExecutor(String id, int maxBufferSize, long congestionRetryDelayMs,
+                                long networkFailureRetryMs) {
+        this(id, maxBufferSize, 1, 0, congestionRetryDelayMs, networkFailureRetryMs);
+    }
+
+    EventDrivenAcceptorExecutor(String id, int maxBufferSize, int maxBatchingSize,
+                                long maxBatchingDelay, long congestionRetryDelayMs,
+                                long networkFailureRetryMs) {
+        super(id, maxBufferSize, maxBatchingSize, maxBatchingDelay, congestionRetryDelayMs,
+            networkFailureRetryMs, false);
+    }
+
+    @Override
+    void process(ID id, T task, long expiryTime) {
+        TaskHolder<ID, T> taskHolder = new TaskHolder<>(id, task, expiryTime);
+        getAcceptedTasks().incrementAndGet();
+        lock.lock();
+        try {
+            if (!pendingTasks.containsKey(id) && isFull()) {
+                LOGGER
+                    .error(
+                        "Now pending task full,it will remove first one to add task={},queueOverflows={},name={}",
+                        id, getQueueOverflows(), getName());
+                discard(pendingTasks.remove(processingOrder.poll()));
+                getQueueOverflows().incrementAndGet();
+            }
+            TaskHolder<ID, T> previousTask = pendingTasks.put(id, taskHolder);
+            if (previousTask == null) {
+                processingOrder.add(id);
+                workAvailable.signal();
+            } else {
+                getOverriddenTasks().incrementAndGet();
+                discard(previousTask);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    void reprocess(TaskHolder<ID, T> taskHolder, ProcessingResult processingResult) {
+        getReplayedTasks().incrementAndGet();
+        getTrafficShaper().registerFailure(processingResult);
+        lock.lock();
+        try {
+            ID id = taskHolder.getId();
+            if (isExpired(taskHolder, System.currentTimeMillis())) {
+                getExpiredTasks().incrementAndGet();
+                discard(taskHolder);
+            } else if (pendingTasks.containsKey(id)) {
+                getOverriddenTasks().incrementAndGet();
+                discard(taskHolder);
+            } else if (isFull()) {
+                LOGGER.error(
+                    "Now pending task full,it will drop reprocess task={},queueOverflows={},name={}",
+                    id, getQueueOverflows(), getName());
+                getQueueOverflows().incrementAndGet();
+                discard(taskHolder);
+            } else {
+                pendingTasks.put(id, taskHolder);
+                processingOrder.addFirst(id);
+                workAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    TaskHolder<ID, T> takeWorkItem(AtomicBoolean workerShutdown) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (!workerShutdown.get() && !getIsShutdown().get()) {
+                // wait until the traffic shaping deadline after congestion or transient errors
+                long delay = getTrafficShaper().transmissionDelay();
+                if (delay > 0) {
+                    workAvailable.await(delay, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+
+                long now = System.currentTimeMillis();
+                ID id;
+                while ((id = processingOrder.poll()) != null) {
+                    TaskHolder<ID, T> holder = pendingTasks.remove(id);
+                    if (!isExpired(holder, now)) {
+                        if (!processingOrder.isEmpty()) {
+                            // more work left, pass the signal on to another idle worker
+                            workAvailable.signal();
+                        }
+                        return holder;
+                    }
+                    getExpiredTasks().incrementAndGet();
+                    discard(holder);
+                }
+                // bounded wait, so worker shutdown is noticed without an interrupt
+                workAvailable.await(1, TimeUnit.SECONDS);
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    List<TaskHolder<ID, T>> takeBatchWorkItems(AtomicBoolean workerShutdown)
+                                                                            throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (!workerShutdown.get() && !getIsShutdown().get()) {
+                long delay = getTrafficShaper().transmissionDelay();
+                if (delay > 0) {
+                    workAvailable.await(delay, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                if (processingOrder.isEmpty()) {
+                    workAvailable.await(1, TimeUnit.SECONDS);
+                    continue;
+                }
+
+                // wait until the batch is full or the oldest task reaches the batching deadline
+                long now = System.currentTimeMillis();
+                long batchingWait = batchingWait(now);
+                if (batchingWait > 0) {
+                    workAvailable.await(batchingWait, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+
+                List<TaskHolder<ID, T>> holders = new ArrayList<>(Math.min(getMaxBatchingSize(),
+                    processingOrder.size()));
+                ID id;
+                while (holders.size() < getMaxBatchingSize()
+                       && (id = processingOrder.poll()) != null) {
+                    TaskHolder<ID, T> holder = pendingTasks.remove(id);
+                    if (isExpired(holder, now)) {
+                        getExpiredTasks().incrementAndGet();
+                        discard(holder);
+                    } else {
+                        holders.add(holder);
+                    }
+                }
+                if (!holders.isEmpty()) {
+                    if (!processingOrder.isEmpty()) {
+                        workAvailable.signal();
+                    }
+                    return holders;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    void shutdown() {
+        super.shutdown();
+        lock.lock();
+        try {
+            workAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getPendingTaskSize() {
+        lock.lock();
+        try {
+            return pendingTasks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull() {
+        return pendingTasks.size() >= getMaxBufferSize();
+    }
+
+    private long batchingWait(long now) {
+        if (pendingTasks.size() >= getMaxBufferSize()
+            || processingOrder.size() >= getMaxBatchingSize()) {
+            return 0;
+        }
+        TaskHolder<ID, T> nextHolder = pendingTasks.get(processingOrder.peek());
+        return nextHolder.getSubmitTimestamp() + getMaxBatchingDelay() - now;
+    }
+
+    private static boolean isExpired(TaskHolder taskHolder, long now) {
+        //expiryTime < 0 means task no expired
+        return taskHolder.getExpiryTime() >= 0 && taskHolder.getExpiryTime() <= now;
+    }
+}
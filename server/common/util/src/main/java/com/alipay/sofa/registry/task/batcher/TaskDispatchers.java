@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.task.batcher;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -132,6 +133,114 @@ public class TaskDispatchers {
 
     }
 
+    /**
+     * same as {@link #createSingleTaskDispatcher}, but workers are signaled on enqueue
+     * by {@link EventDrivenAcceptorExecutor} instead of the polling acceptor thread
+     *
+     * @param id
+     * @param maxBufferSize
+     * @param workerCount
+     * @param congestionRetryDelayMs
+     * @param networkFailureRetryMs
+     * @param taskProcessor
+     * @param <ID>
+     * @param <T>
+     * @return
+     */
+    public static <ID, T> TaskDispatcher<ID, T> createEventDrivenTaskDispatcher(String id,
+                                                                                int maxBufferSize,
+                                                                                int workerCount,
+                                                                                long congestionRetryDelayMs,
+                                                                                long networkFailureRetryMs,
+                                                                                TaskProcessor<T> taskProcessor) {
+
+        return taskDispatcherMap.computeIfAbsent(id,k->{
+
+            final AcceptorExecutor<ID, T> acceptorExecutor = new EventDrivenAcceptorExecutor<ID, T>(
+                    id, maxBufferSize, congestionRetryDelayMs, networkFailureRetryMs
+            );
+            final TaskExecutors<ID, T> taskExecutor = TaskExecutors.createTaskExecutors(id, workerCount, taskProcessor,
+                    acceptorExecutor);
+
+            return new TaskDispatcher<ID, T>() {
+                @Override
+                public void dispatch(ID id, T task, long expiryTime) {
+                    acceptorExecutor.process(id, task, expiryTime);
+                }
+
+                @Override
+                public void shutdown() {
+                    acceptorExecutor.shutdown();
+                    taskExecutor.shutdown();
+                }
+
+                @Override
+                public AcceptorExecutor<ID, T> getAcceptorExecutor() {
+                    return acceptorExecutor;
+                }
+            };
+        });
+
+    }
+
+    /**
+     * tasks are handed to {@link TaskProcessor#process(List)} in batches of at most maxBatchingSize,
+     * a task waits at most maxBatchingDelay ms for more tasks to make up a batch
+     *
+     * @param id
+     * @param maxBufferSize
+     * @param maxBatchingSize
+     * @param maxBatchingDelay
+     * @param workerCount
+     * @param congestionRetryDelayMs
+     * @param networkFailureRetryMs
+     * @param eventDriven use {@link EventDrivenAcceptorExecutor} instead of the polling acceptor thread
+     * @param taskProcessor
+     * @param <ID>
+     * @param <T>
+     * @return
+     */
+    public static <ID, T> TaskDispatcher<ID, T> createBatchingTaskDispatcher(String id,
+                                                                             int maxBufferSize,
+                                                                             int maxBatchingSize,
+                                                                             long maxBatchingDelay,
+                                                                             int workerCount,
+                                                                             long congestionRetryDelayMs,
+                                                                             long networkFailureRetryMs,
+                                                                             boolean eventDriven,
+                                                                             TaskProcessor<T> taskProcessor) {
+
+        return taskDispatcherMap.computeIfAbsent(id,k->{
+
+            final AcceptorExecutor<ID, T> acceptorExecutor = eventDriven ? new EventDrivenAcceptorExecutor<ID, T>(
+                    id, maxBufferSize, maxBatchingSize, maxBatchingDelay, congestionRetryDelayMs, networkFailureRetryMs
+            ) : new AcceptorExecutor<ID, T>(
+                    id, maxBufferSize, maxBatchingSize, maxBatchingDelay, congestionRetryDelayMs, networkFailureRetryMs, true
+            );
+            final TaskExecutors<ID, T> taskExecutor = TaskExecutors.createBatchTaskExecutors(id, workerCount,
+                    taskProcessor, acceptorExecutor);
+
+            return new TaskDispatcher<ID, T>() {
+                @Override
+                public void dispatch(ID id, T task, long expiryTime) {
+                    acceptorExecutor.process(id, task, expiryTime);
+                }
+
+                @Override
+                public void shutdown() {
+                    acceptorExecutor.shutdown();
+                    taskExecutor.shutdown();
+                }
+
+                @Override
+                public AcceptorExecutor<ID, T> getAcceptorExecutor() {
+                    return acceptorExecutor;
+                }
+            };
+        });
+
+    }
+
     public static String getDispatcherName(String name) {
         return name + TASK_DISPATCHER_END;
     }
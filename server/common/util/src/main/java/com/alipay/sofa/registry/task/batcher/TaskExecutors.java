@@ -22,8 +22,6 @@ import com.alipay.sofa.registry.task.batcher.TaskProcessor.ProcessingResult;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
@@ -85,6 +83,25 @@ public class TaskExecutors<ID, T> {
                 acceptorExecutor), workerCount, isShutdown);
     }
 
+    /**
+     *
+     * @param name
+     * @param workerCount
+     * @param processor
+     * @param acceptorExecutor
+     * @param <ID>
+     * @param <T>
+     * @return
+     */
+    static <ID, T> TaskExecutors<ID, T> createBatchTaskExecutors(final String name,
+                                                                 int workerCount,
+                                                                 final TaskProcessor<T> processor,
+                                                                 final AcceptorExecutor<ID, T> acceptorExecutor) {
+        final AtomicBoolean isShutdown = new AtomicBoolean();
+        return new TaskExecutors<>(idx -> new BatchWorkerRunnable<>(name + '-' + idx, isShutdown,
+                processor, acceptorExecutor), workerCount, isShutdown);
+    }
+
     /**
      * shutdown workerThread
      */
@@ -125,15 +142,14 @@ public class TaskExecutors<ID, T> {
             try {
                 while (!isShutdown.get()) {
                     try {
-                        BlockingQueue<TaskHolder<ID, T>> workQueue = acceptorExecutor
-                            .requestWorkItem();
-                        TaskHolder<ID, T> taskHolder;
-                        while ((taskHolder = workQueue.poll(1, TimeUnit.SECONDS)) == null) {
-                            if (isShutdown.get()) {
-                                return;
-                            }
+                        TaskHolder<ID, T> taskHolder = acceptorExecutor.takeWorkItem(isShutdown);
+                        if (taskHolder == null) {
+                            return;
                         }
+                        acceptorExecutor.recordQueueTime(taskHolder);
+                        long start = System.nanoTime();
                         ProcessingResult result = processor.process(taskHolder.getTask());
+                        acceptorExecutor.recordProcessTime(start);
                         switch (result) {
                             case Success:
                                 break;
@@ -161,4 +177,62 @@ public class TaskExecutors<ID, T> {
             }
         }
     }
+
+    /**
+     *
+     * @param <ID>
+     * @param <T>
+     */
+    static class BatchWorkerRunnable<ID, T> extends WorkerRunnable<ID, T> {
+
+        BatchWorkerRunnable(String workerName, AtomicBoolean isShutdown,
+                            TaskProcessor<T> processor, AcceptorExecutor<ID, T> acceptorExecutor) {
+            super(workerName, isShutdown, processor, acceptorExecutor);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!isShutdown.get()) {
+                    try {
+                        List<TaskHolder<ID, T>> holders = acceptorExecutor
+                            .takeBatchWorkItems(isShutdown);
+                        if (holders == null) {
+                            return;
+                        }
+                        List<T> tasks = new ArrayList<>(holders.size());
+                        for (TaskHolder<ID, T> holder : holders) {
+                            acceptorExecutor.recordQueueTime(holder);
+                            tasks.add(holder.getTask());
+                        }
+                        long start = System.nanoTime();
+                        ProcessingResult result = processor.process(tasks);
+                        acceptorExecutor.recordProcessTime(start);
+                        switch (result) {
+                            case Success:
+                                break;
+                            case Congestion:
+                            case TransientError:
+                                for (TaskHolder<ID, T> holder : holders) {
+                                    acceptorExecutor.reprocess(holder, result);
+                                }
+                                break;
+                            case PermanentError:
+                                LOGGER.warn("Discarding {} tasks of {} due to permanent error",
+                                    holders.size(), workerName);
+                                break;
+                            default:
+                                break;
+                        }
+                    } catch (InterruptedException e) {
+                        // Ignore
+                    } catch (Throwable e) {
+                        LOGGER.error("Batch WorkerThread process error", e);
+                    }
+                }
+            } catch (Throwable e) {
+                LOGGER.error("Batch WorkerThread error", e);
+            }
+        }
+    }
 }
\ No newline at end of file
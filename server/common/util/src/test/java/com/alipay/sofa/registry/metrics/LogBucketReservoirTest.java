@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+
+/**
+ *
+ * @author agent
+ * @version $Id: LogBucketReservoirTest.java, v 0.1 2026-10-18 16:00 agent Exp $
+ */
+public class LogBucketReservoirTest {
+
+    @Test
+    public void testQuantiles() {
+        LogBucketReservoir reservoir = new LogBucketReservoir();
+        for (long i = 1; i <= 10000; i++) {
+            reservoir.update(i);
+        }
+        Snapshot snapshot = reservoir.getSnapshot();
+        Assert.assertEquals(1, snapshot.getMin());
+        Assert.assertEquals(10000, snapshot.getMax());
+        Assert.assertEquals(5000, snapshot.getMedian(), 5000 / 16.0);
+        Assert.assertEquals(9900, snapshot.get99thPercentile(), 9900 / 16.0);
+        Assert.assertEquals(5000.5, snapshot.getMean(), 0.001);
+    }
+
+    @Test
+    public void testBuckets() {
+        for (long value : new long[] { 0, 1, 15, 16, 17, 1000, 123456789L, Long.MAX_VALUE }) {
+            int index = LogBucketReservoir.bucketIndex(value);
+            Assert.assertTrue(index >= 0 && index < LogBucketReservoir.BUCKET_COUNT);
+            Assert.assertTrue(LogBucketReservoir.bucketLowerBound(index) <= value);
+            if (index + 1 < LogBucketReservoir.BUCKET_COUNT) {
+                Assert.assertTrue(LogBucketReservoir.bucketLowerBound(index + 1) > value);
+            }
+        }
+    }
+
+    @Test
+    public void testExport() {
+        MetricRegistry registry = new MetricRegistry();
+        registry.histogram("test.delay", () -> new Histogram(
+            new LogBucketReservoir())).update(10);
+        registry.counter("test.count").inc(3);
+        registry.register("test.accepted", new CountingGauge(() -> 7L));
+        registry.register("test.pending", (Gauge<Integer>) () -> 2);
+        String text = PrometheusExporter.export("session", registry);
+        Assert.assertTrue(text, text.contains("# TYPE session_test_delay summary\n"));
+        Assert.assertTrue(text, text.contains("session_test_delay{quantile=\"0.5\"} 10\n"));
+        Assert.assertTrue(text, text.contains("session_test_delay_count 1\n"));
+        Assert.assertTrue(text, text.contains("# TYPE session_test_count_total counter\n"));
+        Assert.assertTrue(text, text.contains("session_test_count_total 3\n"));
+        Assert.assertTrue(text, text.contains("# TYPE session_test_accepted_total counter\n"));
+        Assert.assertTrue(text, text.contains("session_test_accepted_total 7\n"));
+        Assert.assertTrue(text, text.contains("# TYPE session_test_pending gauge\n"));
+        Assert.assertTrue(text, text.contains("session_test_pending 2\n"));
+    }
+}
\ No newline at end of file
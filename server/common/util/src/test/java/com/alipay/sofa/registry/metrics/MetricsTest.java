@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+
+/**
+ *
+ * @author agent
+ * @version $Id: MetricsTest.java, v 0.1 2026-10-18 17:10 agent Exp $
+ */
+public class MetricsTest {
+
+    @Test
+    public void testGaugeKeepsExisting() {
+        Gauge<Integer> first = () -> 1;
+        Gauge<Integer> second = () -> 2;
+
+        Assert.assertSame(first, Metrics.gauge("MetricsTest.keep", first));
+        Assert.assertSame(first, Metrics.gauge("MetricsTest.keep", second));
+        Assert.assertEquals(1, Metrics.getRegistry().getGauges().get("MetricsTest.keep")
+            .getValue());
+
+        Assert.assertTrue(Metrics.remove("MetricsTest.keep"));
+        Assert.assertSame(second, Metrics.gauge("MetricsTest.keep", second));
+        Metrics.remove("MetricsTest.keep");
+    }
+
+    @Test
+    public void testConcurrentGauges() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Metric> registered = new ArrayList<>();
+        List<Thread> list = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int value = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < 1000; j++) {
+                        Metric metric = Metrics.gauge("MetricsTest.concurrent" + j,
+                            (Gauge<Integer>) () -> value);
+                        if (j == 0) {
+                            synchronized (registered) {
+                                registered.add(metric);
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    error.set(e);
+                }
+            });
+            thread.start();
+            list.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : list) {
+            thread.join();
+        }
+
+        Assert.assertNull(error.get());
+        // every thread got the same gauge, the one registered first
+        for (Metric metric : registered) {
+            Assert.assertSame(registered.get(0), metric);
+        }
+        Metrics.removeByPrefix("MetricsTest");
+        Assert.assertTrue(Metrics.getRegistry().getGauges(
+            (name, metric) -> name.startsWith("MetricsTest.")).isEmpty());
+    }
+
+    @Test
+    public void testRemoveByPrefix() {
+        Metrics.gauge("MetricsTestPrefix.a", (Gauge<Integer>) () -> 1);
+        Metrics.countingGauge("MetricsTestPrefix.b", () -> 1L);
+        Metrics.gauge("MetricsTestPrefixOther.a", (Gauge<Integer>) () -> 1);
+
+        Metrics.removeByPrefix("MetricsTestPrefix");
+
+        Assert.assertNull(Metrics.getRegistry().getMetrics().get("MetricsTestPrefix.a"));
+        Assert.assertNull(Metrics.getRegistry().getMetrics().get("MetricsTestPrefix.b"));
+        // a name which only starts with the same characters is another component
+        Assert.assertNotNull(Metrics.getRegistry().getMetrics().get("MetricsTestPrefixOther.a"));
+        Metrics.remove("MetricsTestPrefixOther.a");
+    }
+}
\ No newline at end of file
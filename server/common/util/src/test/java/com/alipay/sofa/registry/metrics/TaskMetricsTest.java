@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ * @version $Id: TaskMetricsTest.java, v 0.1 2026-10-18 21:25 agent Exp $
+ */
+public class TaskMetricsTest {
+
+    @Test
+    public void testMetricsStringByExecutor() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(10));
+        ThreadPoolExecutor poolPrefixed = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(10));
+        try {
+            TaskMetrics.getInstance().registerThreadExecutor("TaskMetricsTestPool", pool);
+            TaskMetrics.getInstance().registerThreadExecutor("TaskMetricsTestPoolB", poolPrefixed);
+            poolPrefixed.prestartAllCoreThreads();
+
+            String text = TaskMetrics.getInstance().metricsString();
+            Assert.assertTrue(text, text.contains("  └─ TaskMetricsTestPool, "));
+            String line = text.substring(text.indexOf("  └─ TaskMetricsTestPool, "));
+            line = line.substring(0, line.indexOf('\n'));
+            // the metrics of TaskMetricsTestPoolB don't show up under TaskMetricsTestPool
+            Assert.assertEquals(line, 1, line.split("current:").length - 1);
+            Assert.assertTrue(line, line.contains("current:0"));
+        } finally {
+            pool.shutdownNow();
+            poolPrefixed.shutdownNow();
+            TaskMetrics.getInstance().unregisterThreadExecutor("TaskMetricsTestPool");
+            TaskMetrics.getInstance().unregisterThreadExecutor("TaskMetricsTestPoolB");
+        }
+    }
+
+    @Test
+    public void testUnregister() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(10));
+        pool.shutdown();
+        TaskMetrics.getInstance().registerThreadExecutor("TaskMetricsTestStopped", pool);
+        TaskMetrics.getInstance().registerThreadExecutor("TaskMetricsTestStoppedB", pool);
+
+        TaskMetrics.getInstance().unregisterThreadExecutor("TaskMetricsTestStopped");
+
+        Assert.assertFalse(TaskMetrics.getInstance().getExecutorNames()
+            .contains("TaskMetricsTestStopped"));
+        Assert.assertNull(Metrics.getRegistry().getGauges().get("TaskMetricsTestStopped.queue"));
+        Assert.assertNotNull(Metrics.getRegistry().getGauges().get("TaskMetricsTestStoppedB.queue"));
+        TaskMetrics.getInstance().unregisterThreadExecutor("TaskMetricsTestStoppedB");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.task.batcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.alipay.sofa.registry.task.batcher.TaskProcessor.ProcessingResult;
+
+/**
+ *
+ * @author agent
+ * @version $Id: EventDrivenAcceptorExecutorTest.java, v 0.1 2026-10-18 16:40 agent Exp $
+ */
+public class EventDrivenAcceptorExecutorTest {
+
+    private EventDrivenAcceptorExecutor<String, String> acceptorExecutor;
+
+    private AtomicBoolean                               workerShutdown;
+
+    @Before
+    public void before() {
+        acceptorExecutor = new EventDrivenAcceptorExecutor<>("test", 2, 1000, 100);
+        workerShutdown = new AtomicBoolean();
+    }
+
+    @After
+    public void after() {
+        acceptorExecutor.shutdown();
+    }
+
+    @Test
+    public void testOverrideAndOrder() throws Exception {
+        acceptorExecutor.process("a", "a1", -1);
+        acceptorExecutor.process("b", "b1", -1);
+        acceptorExecutor.process("a", "a2", -1);
+        Assert.assertEquals(2, acceptorExecutor.getPendingTaskSize());
+        Assert.assertEquals(1, acceptorExecutor.getOverriddenTasks().get());
+
+        Assert.assertEquals("a2", acceptorExecutor.takeWorkItem(workerShutdown).getTask());
+        Assert.assertEquals("b1", acceptorExecutor.takeWorkItem(workerShutdown).getTask());
+    }
+
+    @Test
+    public void testOverflowAndExpiry() throws Exception {
+        acceptorExecutor.process("a", "a1", System.currentTimeMillis() - 1);
+        acceptorExecutor.process("b", "b1", -1);
+        Assert.assertEquals("b1", acceptorExecutor.takeWorkItem(workerShutdown).getTask());
+        Assert.assertEquals(1, acceptorExecutor.getExpiredTasks().get());
+
+        acceptorExecutor.process("c", "c1", -1);
+        acceptorExecutor.process("d", "d1", -1);
+        acceptorExecutor.process("e", "e1", -1);
+        Assert.assertEquals(1, acceptorExecutor.getQueueOverflows().get());
+        Assert.assertEquals("d1", acceptorExecutor.takeWorkItem(workerShutdown).getTask());
+    }
+
+    @Test
+    public void testDiscardListener() throws Exception {
+        List<String> discarded = new ArrayList<>();
+        acceptorExecutor.setDiscardListener(discarded::add);
+
+        acceptorExecutor.process("a", "a1", -1);
+        acceptorExecutor.process("a", "a2", -1);
+        acceptorExecutor.process("b", "b1", -1);
+        acceptorExecutor.process("c", "c1", -1);
+        // overridden a1, then a2 evicted on overflow
+        Assert.assertEquals(Arrays.asList("a1", "a2"), discarded);
+
+        acceptorExecutor.reprocess(new TaskHolder<>("d", "d1", -1), ProcessingResult.Congestion);
+        acceptorExecutor.reprocess(new TaskHolder<>("e", "e1", System.currentTimeMillis() - 1),
+            ProcessingResult.Congestion);
+        Assert.assertEquals(Arrays.asList("a1", "a2", "d1", "e1"), discarded);
+    }
+
+    @Test
+    public void testSignalOnEnqueue() throws Exception {
+        BlockingQueue<String> taken = new LinkedBlockingQueue<>();
+        Thread worker = new Thread(() -> {
+            try {
+                TaskHolder<String, String> holder;
+                while ((holder = acceptorExecutor.takeWorkItem(workerShutdown)) != null) {
+                    taken.add(holder.getTask());
+                }
+            } catch (InterruptedException e) {
+                // exit
+            }
+        });
+        worker.setDaemon(true);
+        worker.start();
+
+        acceptorExecutor.process("a", "a1", -1);
+        Assert.assertEquals("a1", taken.poll(500, TimeUnit.MILLISECONDS));
+
+        // reprocessed task goes first
+        acceptorExecutor.reprocess(new TaskHolder<>("b", "b1", -1), ProcessingResult.Congestion);
+        Assert.assertEquals("b1", taken.poll(2, TimeUnit.SECONDS));
+
+        workerShutdown.set(true);
+        acceptorExecutor.shutdown();
+        worker.join(2000);
+        Assert.assertFalse(worker.isAlive());
+    }
+
+    @Test
+    public void testMetricsRemovedOnShutdown() {
+        EventDrivenAcceptorExecutor<String, String> executor = new EventDrivenAcceptorExecutor<>(
+            "metricsTest", 2, 1000, 100);
+        Assert.assertTrue(
+            Metrics.getRegistry().getGauges().containsKey("taskDispatcher.metricsTest.pending"));
+        Assert.assertTrue(Metrics.getRegistry().getTimers()
+            .containsKey("taskDispatcher.metricsTest.processTime"));
+
+        executor.shutdown();
+        Assert.assertTrue(Metrics.getRegistry().getMetrics().keySet().stream()
+            .noneMatch(name -> name.startsWith("taskDispatcher.metricsTest.")));
+        // the executor of the test is not touched
+        Assert.assertTrue(
+            Metrics.getRegistry().getGauges().containsKey("taskDispatcher.test.pending"));
+    }
+
+    @Test
+    public void testDispatcher() throws Exception {
+        BlockingQueue<String> processed = new LinkedBlockingQueue<>();
+        TaskDispatcher<String, String> dispatcher = TaskDispatchers
+            .createEventDrivenTaskDispatcher("eventDrivenTest", 100, 2, 1000, 100,
+                new TaskProcessor<String>() {
+                    @Override
+                    public ProcessingResult process(String task) {
+                        processed.add(task);
+                        return ProcessingResult.Success;
+                    }
+
+                    @Override
+                    public ProcessingResult process(List<String> tasks) {
+                        processed.addAll(tasks);
+                        return ProcessingResult.Success;
+                    }
+                });
+        try {
+            dispatcher.dispatch("a", "a1", -1);
+            Assert.assertEquals("a1", processed.poll(500, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(1, dispatcher.getAcceptorExecutor().getAcceptedTasks().get());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchingDispatcher() throws Exception {
+        for (boolean eventDriven : new boolean[] { false, true }) {
+            BlockingQueue<List<String>> batches = new LinkedBlockingQueue<>();
+            TaskDispatcher<String, String> dispatcher = TaskDispatchers
+                .createBatchingTaskDispatcher("batchingTest-" + eventDriven, 100, 3, 200, 1,
+                    1000, 100, eventDriven, new TaskProcessor<String>() {
+                        @Override
+                        public ProcessingResult process(String task) {
+                            return ProcessingResult.PermanentError;
+                        }
+
+                        @Override
+                        public ProcessingResult process(List<String> tasks) {
+                            batches.add(tasks);
+                            return ProcessingResult.Success;
+                        }
+                    });
+            try {
+                for (int i = 0; i < 4; i++) {
+                    dispatcher.dispatch("t" + i, "t" + i, -1);
+                }
+                // full batch at once, the rest after the batching delay
+                Assert.assertEquals(3, batches.poll(1, TimeUnit.SECONDS).size());
+                Assert.assertEquals(1, batches.poll(1, TimeUnit.SECONDS).size());
+            } finally {
+                dispatcher.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.task.batcher;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * dispatch latency of the polling dispatcher created by
+ * {@link TaskDispatchers#createDefaultSingleTaskDispatcher} against the event driven one,
+ * run main() to get the p50/p99 from enqueue until a worker starts to process the task.
+ *
+ * @author agent
+ * @version $Id: TaskDispatcherBenchmark.java, v 0.1 2026-10-18 15:02 agent Exp $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskDispatcherBenchmark {
+
+    private static final AtomicLong                         TRIAL  = new AtomicLong();
+
+    @Param({ "default", "eventDriven" })
+    private String                                          engine;
+
+    private TaskDispatcher<String, CompletableFuture<Void>> taskDispatcher;
+
+    private final AtomicLong                                taskId = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        TaskProcessor<CompletableFuture<Void>> taskProcessor = new TaskProcessor<CompletableFuture<Void>>() {
+            @Override
+            public ProcessingResult process(CompletableFuture<Void> task) {
+                task.complete(null);
+                return ProcessingResult.Success;
+            }
+
+            @Override
+            public ProcessingResult process(List<CompletableFuture<Void>> tasks) {
+                tasks.forEach(task -> task.complete(null));
+                return ProcessingResult.Success;
+            }
+        };
+        // dispatchers are cached by name, use a new one for each trial
+        String name = "benchmark-" + engine + "-" + TRIAL.incrementAndGet();
+        if ("eventDriven".equals(engine)) {
+            taskDispatcher = TaskDispatchers.createEventDrivenTaskDispatcher(name, 1000, 20, 1000,
+                100, taskProcessor);
+        } else {
+            taskDispatcher = TaskDispatchers.createDefaultSingleTaskDispatcher(name,
+                taskProcessor);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        taskDispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void dispatch() throws Exception {
+        CompletableFuture<Void> task = new CompletableFuture<>();
+        taskDispatcher.dispatch(Long.toString(taskId.incrementAndGet()), task, -1);
+        task.get(10, TimeUnit.SECONDS);
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : new int[] { 1, 8 }) {
+            Options options = new OptionsBuilder()
+                .include(TaskDispatcherBenchmark.class.getSimpleName()).threads(threads).build();
+            new Runner(options).run();
+        }
+    }
+}
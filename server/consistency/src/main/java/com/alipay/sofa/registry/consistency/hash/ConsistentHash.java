@@ -17,16 +17,21 @@
 package com.alipay.sofa.registry.consistency.hash;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
 /**
  * Consistent hash implementation, use {@link HashNode} as physical node.
+ *
+ * The circle is built once in the constructor and kept as a sorted int[] of virtual node hashes
+ * with a parallel node array, lookups are a binary search on the primitive ring.
  * @param <T> hash node
  * @author zhuoyu.sjw
  * @version $Id : ConsistentHash.java, v 0.1 2016-08-24 11:10 zhuoyu.sjw Exp $$ 
@@ -34,19 +39,22 @@ import java.util.TreeMap;
 public class ConsistentHash<T extends HashNode> {
 
     /** character used to separate virtual nodes */
-    private static final char           SIGN   = '#';
+    private static final char  SIGN = '#';
 
     /** number of virtual nodes for one real node */
-    private final int                   numberOfReplicas;
+    private final int          numberOfReplicas;
 
     /** real nodes */
-    private Set<HashNode>               realNodes;
+    private Set<HashNode>      realNodes;
 
     /** hash function */
-    private final HashFunction          hashFunction;
+    private final HashFunction hashFunction;
+
+    /** sorted hashes of virtual nodes */
+    private final int[]        ring;
 
-    /** */
-    private final SortedMap<Integer, T> circle = new TreeMap<>();
+    /** ringNodes[i] is the node of ring[i] */
+    private final Object[]     ringNodes;
 
     /**
      * Instantiates a new Consistent hash.
@@ -69,8 +77,17 @@ public class ConsistentHash<T extends HashNode> {
         this.realNodes = new HashSet<>();
         this.hashFunction = hashFunction;
         this.numberOfReplicas = numberOfReplicas;
+        SortedMap<Integer, T> circle = new TreeMap<>();
         for (T node : nodes) {
-            addNode(node);
+            addNode(circle, node);
+        }
+        this.ring = new int[circle.size()];
+        this.ringNodes = new Object[circle.size()];
+        int idx = 0;
+        for (Map.Entry<Integer, T> entry : circle.entrySet()) {
+            ring[idx] = entry.getKey();
+            ringNodes[idx] = entry.getValue();
+            idx++;
         }
     }
 
@@ -78,9 +95,10 @@ public class ConsistentHash<T extends HashNode> {
      * Add a new node to the consistent hash
      *
      * This is not thread safe.
+     * @param circle the circle under construction
      * @param node the node
      */
-    private void addNode(T node) {
+    private void addNode(SortedMap<Integer, T> circle, T node) {
         realNodes.add(node);
         for (int i = 0; i < numberOfReplicas; i++) {
             // The string addition forces each replica to have different hash
@@ -88,6 +106,26 @@ public class ConsistentHash<T extends HashNode> {
         }
     }
 
+    /**
+     * index of the first virtual node whose hash is not less than the given hash, wrap to the
+     * first one at the end of the ring
+     *
+     * @param hash the hash
+     * @return index in ring
+     */
+    private int ceilingIndex(int hash) {
+        int idx = Arrays.binarySearch(ring, hash);
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        return idx == ring.length ? 0 : idx;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T nodeAt(int idx) {
+        return (T) ringNodes[idx];
+    }
+
     /**
      * This returns the closest node for the object. If the object is the node it
      * should be an exact hit, but if it is a value traverse to find closest
@@ -96,19 +134,11 @@ public class ConsistentHash<T extends HashNode> {
      * @return node for
      */
     public T getNodeFor(Object key) {
-        if (circle.isEmpty()) {
+        if (ring.length == 0) {
             return null;
         }
-        int hash = hashFunction.hash(key);
-        T node = circle.get(hash);
-
-        if (node == null) {
-            // inexact match -- find the next value in the circle
-            SortedMap<Integer, T> tailMap = circle.tailMap(hash);
-            hash = tailMap.isEmpty() ? circle.firstKey() : tailMap.firstKey();
-            node = circle.get(hash);
-        }
-        return node;
+        // exact match or the next value in the circle
+        return nodeAt(ceilingIndex(hashFunction.hash(key)));
     }
 
     /**
@@ -121,7 +151,7 @@ public class ConsistentHash<T extends HashNode> {
      * @return the n unique nodes for
      */
     public List<T> getNUniqueNodesFor(Object key, int n) {
-        if (circle.isEmpty()) {
+        if (ring.length == 0) {
             return Collections.emptyList();
         }
 
@@ -130,21 +160,14 @@ public class ConsistentHash<T extends HashNode> {
         }
 
         List<T> list = new ArrayList<>(n);
-        int hash = hashFunction.hash(key);
-        for (int i = 0; i < n; i++) {
-            if (!circle.containsKey(hash)) {
-                // go to next element.
-                SortedMap<Integer, T> tailMap = circle.tailMap(hash);
-                hash = tailMap.isEmpty() ? circle.firstKey() : tailMap.firstKey();
-            }
-            T candidate = circle.get(hash);
+        int idx = ceilingIndex(hashFunction.hash(key));
+        while (list.size() < n) {
+            T candidate = nodeAt(idx);
             if (!list.contains(candidate)) {
                 list.add(candidate);
-            } else {
-                i--; // try again.
             }
             // find the next element in the circle
-            hash++;
+            idx = nextIndex(idx);
         }
         return list;
     }
@@ -160,7 +183,7 @@ public class ConsistentHash<T extends HashNode> {
      * @return the n unique nodes for
      */
     public List<T> getNUniqueNodesFor(Object key, int n, List<String> disasterList) {
-        if (circle.isEmpty()) {
+        if (ring.length == 0) {
             return Collections.emptyList();
         }
 
@@ -171,36 +194,29 @@ public class ConsistentHash<T extends HashNode> {
         List<String> disasters = disasterList != null && !disasterList.isEmpty() ? disasterList
             : new ArrayList<>();
         List<T> list = new ArrayList<>(n);
-        int hash = hashFunction.hash(key);
-        for (int i = 0; i < n; i++) {
-            if (!circle.containsKey(hash)) {
-                // go to next element.
-                SortedMap<Integer, T> tailMap = circle.tailMap(hash);
-                hash = tailMap.isEmpty() ? circle.firstKey() : tailMap.firstKey();
-            }
-            T candidate = circle.get(hash);
+        int idx = ceilingIndex(hashFunction.hash(key));
+        while (list.size() < n) {
+            T candidate = nodeAt(idx);
             if (!list.contains(candidate)) {
 
                 while (!disasters.isEmpty() && !disasters.contains(candidate.getNodeName())) {
-                    hash++;
-                    if (!circle.containsKey(hash)) {
-                        // go to next element.
-                        SortedMap<Integer, T> tailMap = circle.tailMap(hash);
-                        hash = tailMap.isEmpty() ? circle.firstKey() : tailMap.firstKey();
-                    }
-                    candidate = circle.get(hash);
+                    // go to next element.
+                    idx = nextIndex(idx);
+                    candidate = nodeAt(idx);
                 }
                 list.add(candidate);
                 if (!disasters.isEmpty()) {
                     disasters.remove(candidate.getNodeName());
                 }
 
-            } else {
-                i--; // try again.
             }
             // find the next element in the circle
-            hash++;
+            idx = nextIndex(idx);
         }
         return list;
     }
+
+    private int nextIndex(int idx) {
+        return idx + 1 == ring.length ? 0 : idx + 1;
+    }
 }
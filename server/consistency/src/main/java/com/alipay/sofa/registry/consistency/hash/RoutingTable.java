@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.consistency.hash;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Routing table of one version of the node list.
+ *
+ * It wraps a {@link ConsistentHash} and keeps a bounded, direct-mapped cache from key to owner
+ * node, so repeated lookups of the same key skip the MD5 digest and the ring search. A table is
+ * immutable, a new node list version means a new table, which drops the whole cache at once.
+ *
+ * @param <T> hash node
+ * @author agent
+ * @version $Id : RoutingTable.java, v 0.1 2026-10-18 10:40 agent Exp $$
+ */
+public class RoutingTable<T extends HashNode> {
+
+    /** version of the node list */
+    private final long              version;
+
+    /** ring */
+    private final ConsistentHash<T> consistentHash;
+
+    /** slots of cached owners, null if the cache is disabled */
+    private final CacheEntry<T>[]   cache;
+
+    /** cache.length - 1 */
+    private final int               mask;
+
+    /**
+     * Instantiates a new Routing table.
+     *
+     * @param version the version of the node list
+     * @param numberOfReplicas the number of replicas
+     * @param nodes the nodes
+     * @param cacheSize max cached keys, rounded up to a power of two, 0 to disable
+     */
+    public RoutingTable(long version, int numberOfReplicas, Collection<T> nodes, int cacheSize) {
+        this(version, new ConsistentHash<>(numberOfReplicas, nodes), cacheSize);
+    }
+
+    /**
+     * Instantiates a new Routing table.
+     *
+     * @param version the version of the node list
+     * @param consistentHash the ring
+     * @param cacheSize max cached keys, rounded up to a power of two, 0 to disable
+     */
+    @SuppressWarnings("unchecked")
+    public RoutingTable(long version, ConsistentHash<T> consistentHash, int cacheSize) {
+        this.version = version;
+        this.consistentHash = consistentHash;
+        if (cacheSize > 0) {
+            int size = 1;
+            while (size < cacheSize && size < (1 << 30)) {
+                size <<= 1;
+            }
+            this.cache = new CacheEntry[size];
+            this.mask = size - 1;
+        } else {
+            this.cache = null;
+            this.mask = 0;
+        }
+    }
+
+    /**
+     * This returns the closest node for the key.
+     *
+     * @param key the key
+     * @return node for
+     * @see ConsistentHash#getNodeFor(Object)
+     */
+    public T getNodeFor(String key) {
+        if (cache == null) {
+            return consistentHash.getNodeFor(key);
+        }
+        int idx = spread(key.hashCode()) & mask;
+        // entries are immutable, a racy read sees either a complete entry or an old one
+        CacheEntry<T> entry = cache[idx];
+        if (entry != null && entry.key.equals(key)) {
+            return entry.node;
+        }
+        T node = consistentHash.getNodeFor(key);
+        if (node != null) {
+            cache[idx] = new CacheEntry<>(key, node);
+        }
+        return node;
+    }
+
+    /**
+     * This returns the closest n unique nodes in order for the key, not cached.
+     *
+     * @param key the key
+     * @param n the n
+     * @return the n unique nodes for
+     * @see ConsistentHash#getNUniqueNodesFor(Object, int)
+     */
+    public List<T> getNUniqueNodesFor(String key, int n) {
+        return consistentHash.getNUniqueNodesFor(key, n);
+    }
+
+    /**
+     * Getter method for property <tt>version</tt>.
+     *
+     * @return property value of version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Getter method for property <tt>consistentHash</tt>.
+     *
+     * @return property value of consistentHash
+     */
+    public ConsistentHash<T> getConsistentHash() {
+        return consistentHash;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class CacheEntry<T> {
+        private final String key;
+
+        private final T      node;
+
+        CacheEntry(String key, T node) {
+            this.key = key;
+            this.node = node;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.consistency.hash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost per lookup of the ring and of the cached routing table.
+ * @author agent
+ * @version $Id : RoutingTableBenchmark.java, v 0.1 2026-10-18 15:20 agent Exp $$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingTableBenchmark {
+
+    @Param({ "10", "200" })
+    private int                      nodeCount;
+
+    @Param({ "10000" })
+    private int                      keyCount;
+
+    private ConsistentHash<TestNode> consistentHash;
+
+    private RoutingTable<TestNode>   routingTable;
+
+    private String[]                 keys;
+
+    private int                      cursor;
+
+    /**
+     * Sets up.
+     */
+    @Setup
+    public void setUp() {
+        List<TestNode> nodes = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new TestNode("10.10." + (i / 250) + "." + (i % 250)));
+        }
+        consistentHash = new ConsistentHash<>(1000, nodes);
+        routingTable = new RoutingTable<>(1, consistentHash, keyCount * 2);
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "com.alipay.test.Service" + i + "#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+        }
+    }
+
+    private String nextKey() {
+        int idx = cursor++;
+        if (cursor == keys.length) {
+            cursor = 0;
+        }
+        return keys[idx];
+    }
+
+    /**
+     * MD5 digest and binary search on the ring.
+     */
+    @Benchmark
+    public TestNode ringLookup() {
+        return consistentHash.getNodeFor(nextKey());
+    }
+
+    /**
+     * Routing table with a warm cache.
+     */
+    @Benchmark
+    public TestNode cachedLookup() {
+        return routingTable.getNodeFor(nextKey());
+    }
+
+    /**
+     * Backup triad lookup.
+     */
+    @Benchmark
+    public List<TestNode> uniqueNodesLookup() {
+        return consistentHash.getNUniqueNodesFor(nextKey(), 3);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(RoutingTableBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
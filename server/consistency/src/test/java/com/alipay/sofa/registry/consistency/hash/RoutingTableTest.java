@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.consistency.hash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * The type Routing table test.
+ * @author agent
+ * @version $Id : RoutingTableTest.java, v 0.1 2026-10-18 14:02 agent Exp $$
+ */
+public class RoutingTableTest {
+
+    private List<TestNode> testNodes;
+
+    /**
+     * Sets up.
+     */
+    @Before
+    public void setUp() {
+        testNodes = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            testNodes.add(new TestNode("10.10.10." + i));
+        }
+    }
+
+    /**
+     * Cached lookups return the same owner as the ring.
+     */
+    @Test
+    public void getNodeForSameAsRing() {
+        ConsistentHash<TestNode> consistentHash = new ConsistentHash<>(100, testNodes);
+        RoutingTable<TestNode> routingTable = new RoutingTable<>(1, consistentHash, 16);
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 1000; i++) {
+                String key = "dataInfoId-" + i;
+                assertSame(consistentHash.getNodeFor(key), routingTable.getNodeFor(key));
+            }
+        }
+        assertEquals(consistentHash.getNUniqueNodesFor("test", 3),
+            routingTable.getNUniqueNodesFor("test", 3));
+    }
+
+    /**
+     * Lookups without cache.
+     */
+    @Test
+    public void getNodeForWithoutCache() {
+        RoutingTable<TestNode> routingTable = new RoutingTable<>(2, 100, testNodes, 0);
+        assertEquals(2, routingTable.getVersion());
+        assertSame(routingTable.getConsistentHash().getNodeFor("test"),
+            routingTable.getNodeFor("test"));
+    }
+
+    /**
+     * Empty node list.
+     */
+    @Test
+    public void getNodeForEmpty() {
+        RoutingTable<TestNode> routingTable = new RoutingTable<>(0, 100,
+            new ArrayList<TestNode>(), 16);
+        assertNull(routingTable.getNodeFor("test"));
+        assertEquals(0, routingTable.getNUniqueNodesFor("test", 3).size());
+    }
+}
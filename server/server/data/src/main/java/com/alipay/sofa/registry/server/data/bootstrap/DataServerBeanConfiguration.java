@@ -59,6 +59,7 @@ import com.alipay.sofa.registry.server.data.event.handler.DataServerChangeEventH
 import com.alipay.sofa.registry.server.data.event.handler.LocalDataServerChangeEventHandler;
 import com.alipay.sofa.registry.server.data.event.handler.MetaServerChangeEventHandler;
 import com.alipay.sofa.registry.server.data.event.handler.StartTaskEventHandler;
+import com.alipay.sofa.registry.server.data.node.DataMigrationProgress;
 import com.alipay.sofa.registry.server.data.node.DataNodeStatus;
 import com.alipay.sofa.registry.server.data.remoting.DataNodeExchanger;
 import com.alipay.sofa.registry.server.data.remoting.MetaNodeExchanger;
@@ -66,9 +67,11 @@ import com.alipay.sofa.registry.server.data.remoting.dataserver.DataServerConnec
 import com.alipay.sofa.registry.server.data.remoting.dataserver.GetSyncDataHandler;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.handler.DataSyncServerConnectionHandler;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.handler.FetchDataHandler;
+import com.alipay.sofa.registry.server.data.remoting.dataserver.handler.NotifyDataSyncBatchHandler;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.handler.NotifyDataSyncHandler;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.handler.NotifyFetchDatumHandler;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.handler.NotifyOnlineHandler;
+import com.alipay.sofa.registry.server.data.remoting.dataserver.handler.SyncDataBatchHandler;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.handler.SyncDataHandler;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.task.AbstractTask;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.task.ConnectionRefreshTask;
@@ -78,6 +81,7 @@ import com.alipay.sofa.registry.server.data.remoting.handler.AbstractServerHandl
 import com.alipay.sofa.registry.server.data.remoting.metaserver.DefaultMetaServiceImpl;
 import com.alipay.sofa.registry.server.data.remoting.metaserver.IMetaServerService;
 import com.alipay.sofa.registry.server.data.remoting.metaserver.MetaServerConnectionFactory;
+import com.alipay.sofa.registry.server.data.remoting.metaserver.handler.NodeChangeDeltaHandler;
 import com.alipay.sofa.registry.server.data.remoting.metaserver.handler.NotifyProvideDataChangeHandler;
 import com.alipay.sofa.registry.server.data.remoting.metaserver.handler.ServerChangeHandler;
 import com.alipay.sofa.registry.server.data.remoting.metaserver.handler.StatusConfirmHandler;
@@ -92,6 +96,7 @@ import com.alipay.sofa.registry.server.data.remoting.sessionserver.forward.Forwa
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.ClientOffHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.DataServerConnectionHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.DatumSnapshotHandler;
+import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.GetDataBatchHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.GetDataHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.GetDataVersionsHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.PublishDataHandler;
@@ -102,6 +107,7 @@ import com.alipay.sofa.registry.server.data.renew.DatumLeaseManager;
 import com.alipay.sofa.registry.server.data.renew.LocalDataServerCleanHandler;
 import com.alipay.sofa.registry.server.data.resource.DataDigestResource;
 import com.alipay.sofa.registry.server.data.resource.HealthResource;
+import com.alipay.sofa.registry.server.data.resource.MetricsResource;
 import com.alipay.sofa.registry.server.data.util.DataMetricsThreadPoolExecutor;
 import com.alipay.sofa.registry.util.NamedThreadFactory;
 import com.alipay.sofa.registry.util.PropertySplitter;
@@ -141,6 +147,11 @@ public class DataServerBeanConfiguration {
             return new DataNodeStatus();
         }
 
+        @Bean
+        public DataMigrationProgress dataMigrationProgress() {
+            return new DataMigrationProgress();
+        }
+
         @Bean(name = "PropertySplitter")
         public PropertySplitter propertySplitter() {
             return new PropertySplitter();
@@ -227,6 +238,7 @@ public class DataServerBeanConfiguration {
         public Collection<AbstractServerHandler> serverHandlers() {
             Collection<AbstractServerHandler> list = new ArrayList<>();
             list.add(getDataHandler());
+            list.add(getDataBatchHandler());
             list.add(clientOffHandler());
             list.add(getDataVersionsHandler());
             list.add(publishDataProcessor());
@@ -247,6 +259,7 @@ public class DataServerBeanConfiguration {
             list.add(notifyFetchDatumHandler());
             list.add(notifyOnlineHandler());
             list.add(syncDataHandler());
+            list.add(syncDataBatchHandler());
             list.add(dataSyncServerConnectionHandler());
             return list;
         }
@@ -255,6 +268,7 @@ public class DataServerBeanConfiguration {
         public Collection<AbstractClientHandler> dataClientHandlers() {
             Collection<AbstractClientHandler> list = new ArrayList<>();
             list.add(notifyDataSyncHandler());
+            list.add(notifyDataSyncBatchHandler());
             list.add(fetchDataHandler());
             return list;
         }
@@ -263,6 +277,7 @@ public class DataServerBeanConfiguration {
         public Collection<AbstractClientHandler> metaClientHandlers() {
             Collection<AbstractClientHandler> list = new ArrayList<>();
             list.add(serverChangeHandler());
+            list.add(nodeChangeDeltaHandler());
             list.add(statusConfirmHandler());
             list.add(notifyProvideDataChangeHandler());
             return list;
@@ -283,6 +298,11 @@ public class DataServerBeanConfiguration {
             return new GetDataHandler();
         }
 
+        @Bean
+        public AbstractServerHandler getDataBatchHandler() {
+            return new GetDataBatchHandler();
+        }
+
         @Bean
         public AbstractServerHandler getDataVersionsHandler() {
             return new GetDataVersionsHandler();
@@ -333,12 +353,22 @@ public class DataServerBeanConfiguration {
             return new SyncDataHandler();
         }
 
+        @Bean
+        public AbstractServerHandler syncDataBatchHandler() {
+            return new SyncDataBatchHandler();
+        }
+
         @Bean
         @ConditionalOnMissingBean
         public NotifyDataSyncHandler notifyDataSyncHandler() {
             return new NotifyDataSyncHandler();
         }
 
+        @Bean
+        public AbstractClientHandler notifyDataSyncBatchHandler() {
+            return new NotifyDataSyncBatchHandler();
+        }
+
         @Bean
         public AbstractClientHandler fetchDataHandler() {
             return new FetchDataHandler();
@@ -349,6 +379,11 @@ public class DataServerBeanConfiguration {
             return new ServerChangeHandler();
         }
 
+        @Bean
+        public AbstractClientHandler nodeChangeDeltaHandler() {
+            return new NodeChangeDeltaHandler();
+        }
+
         @Bean
         public AbstractClientHandler statusConfirmHandler() {
             return new StatusConfirmHandler();
@@ -550,6 +585,12 @@ public class DataServerBeanConfiguration {
             return new HealthResource();
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsResource")
+        public MetricsResource metricsResource() {
+            return new MetricsResource();
+        }
+
         @Bean
         @ConditionalOnMissingBean
         public DataDigestResource dataDigestResource() {
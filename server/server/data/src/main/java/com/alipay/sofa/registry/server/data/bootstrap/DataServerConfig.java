@@ -61,6 +61,12 @@ public class DataServerConfig {
 
     private int                notifyTempDataIntervalMs;
 
+    private String             changeQueueEngine                            = "default";
+
+    private long               changeQueueTickMs                            = 10;
+
+    private int                changeQueueWheelSize                         = 512;
+
     private int                rpcTimeout;
 
     private CommonConfig       commonConfig;
@@ -71,6 +77,8 @@ public class DataServerConfig {
 
     private int                numberOfReplicas                             = 1000;
 
+    private int                routingCacheSize                             = 65536;
+
     private long               localDataServerCleanDelay                    = 1000 * 60 * 30;
 
     private int                getDataExecutorMinPoolSize                   = 80;
@@ -95,6 +103,28 @@ public class DataServerConfig {
 
     private int                notifySessionRetryTimes                      = 5;
 
+    private boolean            notifySessionBatchEnabled                    = false;
+
+    private int                notifySessionBatchSize                       = 500;
+
+    private int                notifySessionBatchLingerMs                   = 10;
+
+    private boolean            metaFollowerReadEnabled                      = true;
+
+    private int                toBeSyncComputeParallelism                   = Runtime.getRuntime().availableProcessors();
+
+    private int                notifyFetchParallelism                       = 4;
+
+    private int                notifyFetchChunkSize                         = 0;
+
+    private boolean            dataSyncNotifyBatchEnabled                   = false;
+
+    private int                dataSyncNotifyBatchSize                      = 200;
+
+    private int                dataSyncNotifyWindowSize                     = 4;
+
+    private int                dataSyncNotifyTimeout                        = 1000;
+
     private int                publishExecutorMinPoolSize                   = 200;
 
     private int                publishExecutorMaxPoolSize                   = 400;
@@ -878,6 +908,276 @@ public class DataServerConfig {
         this.sessionDisconnectDelayMs = sessionDisconnectDelayMs;
     }
 
+    /**
+     * Getter method for property <tt>changeQueueEngine</tt>.
+     *
+     * @return property value of changeQueueEngine
+     */
+    public String getChangeQueueEngine() {
+        return changeQueueEngine;
+    }
+
+    /**
+     * Setter method for property <tt>changeQueueEngine</tt>.
+     *
+     * @param changeQueueEngine value to be assigned to property changeQueueEngine
+     */
+    public void setChangeQueueEngine(String changeQueueEngine) {
+        this.changeQueueEngine = changeQueueEngine;
+    }
+
+    /**
+     * Getter method for property <tt>changeQueueTickMs</tt>.
+     *
+     * @return property value of changeQueueTickMs
+     */
+    public long getChangeQueueTickMs() {
+        return changeQueueTickMs;
+    }
+
+    /**
+     * Setter method for property <tt>changeQueueTickMs</tt>.
+     *
+     * @param changeQueueTickMs value to be assigned to property changeQueueTickMs
+     */
+    public void setChangeQueueTickMs(long changeQueueTickMs) {
+        this.changeQueueTickMs = changeQueueTickMs;
+    }
+
+    /**
+     * Getter method for property <tt>changeQueueWheelSize</tt>.
+     *
+     * @return property value of changeQueueWheelSize
+     */
+    public int getChangeQueueWheelSize() {
+        return changeQueueWheelSize;
+    }
+
+    /**
+     * Setter method for property <tt>changeQueueWheelSize</tt>.
+     *
+     * @param changeQueueWheelSize value to be assigned to property changeQueueWheelSize
+     */
+    public void setChangeQueueWheelSize(int changeQueueWheelSize) {
+        this.changeQueueWheelSize = changeQueueWheelSize;
+    }
+
+    /**
+     * Getter method for property <tt>notifySessionBatchEnabled</tt>.
+     *
+     * @return property value of notifySessionBatchEnabled
+     */
+    public boolean isNotifySessionBatchEnabled() {
+        return notifySessionBatchEnabled;
+    }
+
+    /**
+     * Setter method for property <tt>notifySessionBatchEnabled</tt>.
+     *
+     * @param notifySessionBatchEnabled value to be assigned to property notifySessionBatchEnabled
+     */
+    public void setNotifySessionBatchEnabled(boolean notifySessionBatchEnabled) {
+        this.notifySessionBatchEnabled = notifySessionBatchEnabled;
+    }
+
+    /**
+     * Getter method for property <tt>notifySessionBatchSize</tt>.
+     *
+     * @return property value of notifySessionBatchSize
+     */
+    public int getNotifySessionBatchSize() {
+        return notifySessionBatchSize;
+    }
+
+    /**
+     * Setter method for property <tt>notifySessionBatchSize</tt>.
+     *
+     * @param notifySessionBatchSize value to be assigned to property notifySessionBatchSize
+     */
+    public void setNotifySessionBatchSize(int notifySessionBatchSize) {
+        this.notifySessionBatchSize = notifySessionBatchSize;
+    }
+
+    /**
+     * Getter method for property <tt>notifySessionBatchLingerMs</tt>.
+     *
+     * @return property value of notifySessionBatchLingerMs
+     */
+    public int getNotifySessionBatchLingerMs() {
+        return notifySessionBatchLingerMs;
+    }
+
+    /**
+     * Setter method for property <tt>notifySessionBatchLingerMs</tt>.
+     *
+     * @param notifySessionBatchLingerMs value to be assigned to property notifySessionBatchLingerMs
+     */
+    public void setNotifySessionBatchLingerMs(int notifySessionBatchLingerMs) {
+        this.notifySessionBatchLingerMs = notifySessionBatchLingerMs;
+    }
+
+    /**
+     * Getter method for property <tt>routingCacheSize</tt>.
+     *
+     * @return property value of routingCacheSize
+     */
+    public int getRoutingCacheSize() {
+        return routingCacheSize;
+    }
+
+    /**
+     * Setter method for property <tt>routingCacheSize</tt>.
+     *
+     * @param routingCacheSize value to be assigned to property routingCacheSize
+     */
+    public void setRoutingCacheSize(int routingCacheSize) {
+        this.routingCacheSize = routingCacheSize;
+    }
+
+    /**
+     * Getter method for property <tt>metaFollowerReadEnabled</tt>.
+     *
+     * @return property value of metaFollowerReadEnabled
+     */
+    public boolean isMetaFollowerReadEnabled() {
+        return metaFollowerReadEnabled;
+    }
+
+    /**
+     * Setter method for property <tt>metaFollowerReadEnabled</tt>.
+     *
+     * @param metaFollowerReadEnabled value to be assigned to property metaFollowerReadEnabled
+     */
+    public void setMetaFollowerReadEnabled(boolean metaFollowerReadEnabled) {
+        this.metaFollowerReadEnabled = metaFollowerReadEnabled;
+    }
+
+    /**
+     * Getter method for property <tt>toBeSyncComputeParallelism</tt>.
+     *
+     * @return property value of toBeSyncComputeParallelism
+     */
+    public int getToBeSyncComputeParallelism() {
+        return toBeSyncComputeParallelism;
+    }
+
+    /**
+     * Setter method for property <tt>toBeSyncComputeParallelism</tt>.
+     *
+     * @param toBeSyncComputeParallelism value to be assigned to property toBeSyncComputeParallelism
+     */
+    public void setToBeSyncComputeParallelism(int toBeSyncComputeParallelism) {
+        this.toBeSyncComputeParallelism = toBeSyncComputeParallelism;
+    }
+
+    /**
+     * Getter method for property <tt>notifyFetchParallelism</tt>.
+     *
+     * @return property value of notifyFetchParallelism
+     */
+    public int getNotifyFetchParallelism() {
+        return notifyFetchParallelism;
+    }
+
+    /**
+     * Setter method for property <tt>notifyFetchParallelism</tt>.
+     *
+     * @param notifyFetchParallelism value to be assigned to property notifyFetchParallelism
+     */
+    public void setNotifyFetchParallelism(int notifyFetchParallelism) {
+        this.notifyFetchParallelism = notifyFetchParallelism;
+    }
+
+    /**
+     * Getter method for property <tt>notifyFetchChunkSize</tt>.
+     *
+     * @return property value of notifyFetchChunkSize
+     */
+    public int getNotifyFetchChunkSize() {
+        return notifyFetchChunkSize;
+    }
+
+    /**
+     * Setter method for property <tt>notifyFetchChunkSize</tt>.
+     *
+     * @param notifyFetchChunkSize value to be assigned to property notifyFetchChunkSize
+     */
+    public void setNotifyFetchChunkSize(int notifyFetchChunkSize) {
+        this.notifyFetchChunkSize = notifyFetchChunkSize;
+    }
+
+    /**
+     * Getter method for property <tt>dataSyncNotifyBatchEnabled</tt>.
+     *
+     * @return property value of dataSyncNotifyBatchEnabled
+     */
+    public boolean isDataSyncNotifyBatchEnabled() {
+        return dataSyncNotifyBatchEnabled;
+    }
+
+    /**
+     * Setter method for property <tt>dataSyncNotifyBatchEnabled</tt>.
+     *
+     * @param dataSyncNotifyBatchEnabled value to be assigned to property dataSyncNotifyBatchEnabled
+     */
+    public void setDataSyncNotifyBatchEnabled(boolean dataSyncNotifyBatchEnabled) {
+        this.dataSyncNotifyBatchEnabled = dataSyncNotifyBatchEnabled;
+    }
+
+    /**
+     * Getter method for property <tt>dataSyncNotifyBatchSize</tt>.
+     *
+     * @return property value of dataSyncNotifyBatchSize
+     */
+    public int getDataSyncNotifyBatchSize() {
+        return dataSyncNotifyBatchSize;
+    }
+
+    /**
+     * Setter method for property <tt>dataSyncNotifyBatchSize</tt>.
+     *
+     * @param dataSyncNotifyBatchSize value to be assigned to property dataSyncNotifyBatchSize
+     */
+    public void setDataSyncNotifyBatchSize(int dataSyncNotifyBatchSize) {
+        this.dataSyncNotifyBatchSize = dataSyncNotifyBatchSize;
+    }
+
+    /**
+     * Getter method for property <tt>dataSyncNotifyWindowSize</tt>.
+     *
+     * @return property value of dataSyncNotifyWindowSize
+     */
+    public int getDataSyncNotifyWindowSize() {
+        return dataSyncNotifyWindowSize;
+    }
+
+    /**
+     * Setter method for property <tt>dataSyncNotifyWindowSize</tt>.
+     *
+     * @param dataSyncNotifyWindowSize value to be assigned to property dataSyncNotifyWindowSize
+     */
+    public void setDataSyncNotifyWindowSize(int dataSyncNotifyWindowSize) {
+        this.dataSyncNotifyWindowSize = dataSyncNotifyWindowSize;
+    }
+
+    /**
+     * Getter method for property <tt>dataSyncNotifyTimeout</tt>.
+     *
+     * @return property value of dataSyncNotifyTimeout
+     */
+    public int getDataSyncNotifyTimeout() {
+        return dataSyncNotifyTimeout;
+    }
+
+    /**
+     * Setter method for property <tt>dataSyncNotifyTimeout</tt>.
+     *
+     * @param dataSyncNotifyTimeout value to be assigned to property dataSyncNotifyTimeout
+     */
+    public void setDataSyncNotifyTimeout(int dataSyncNotifyTimeout) {
+        this.dataSyncNotifyTimeout = dataSyncNotifyTimeout;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
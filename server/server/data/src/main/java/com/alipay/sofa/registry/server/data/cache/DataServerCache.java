@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -29,6 +30,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.consistency.hash.ConsistentHash;
 import com.alipay.sofa.registry.log.Logger;
@@ -154,6 +156,51 @@ public class DataServerCache {
         }
     }
 
+    /**
+     * rebuild the newest change item with a delta of the local dataCenter pushed by metaServer
+     *
+     * @param delta
+     * @return the change item to be processed, null if the delta is not based on the newest change item
+     */
+    public DataServerChangeItem applyDelta(NodeChangeDelta<DataNode> delta) {
+        synchronized (DataServerCache.class) {
+            String dataCenter = delta.getLocalDataCenter();
+            Map<String, Long> currentVersionMap = newDataServerChangeItem.getVersionMap();
+            Map<String, Long> newVersionMap = delta.getDataCenterListVersions();
+            if (dataCenter == null || newVersionMap == null
+                || !currentVersionMap.keySet().equals(newVersionMap.keySet())) {
+                return null;
+            }
+            for (Entry<String, Long> entry : newVersionMap.entrySet()) {
+                if (!dataCenter.equals(entry.getKey())
+                    && !Objects.equals(entry.getValue(), currentVersionMap.get(entry.getKey()))) {
+                    return null;
+                }
+            }
+            if (Objects.equals(delta.getVersion(), currentVersionMap.get(dataCenter))) {
+                //retry of a delta already applied
+                return newDataServerChangeItem;
+            }
+            if (delta.getBaseVersion() == null
+                || !delta.getBaseVersion().equals(currentVersionMap.get(dataCenter))) {
+                return null;
+            }
+
+            Map<String, Map<String, DataNode>> serverMap = new HashMap<>(
+                newDataServerChangeItem.getServerMap());
+            Map<String, DataNode> dataNodes = serverMap.get(dataCenter);
+            dataNodes = dataNodes == null ? new HashMap<>() : new HashMap<>(dataNodes);
+            if (delta.getRemoveNodes() != null) {
+                dataNodes.keySet().removeAll(delta.getRemoveNodes());
+            }
+            if (delta.getAddNodes() != null) {
+                dataNodes.putAll(delta.getAddNodes());
+            }
+            serverMap.put(dataCenter, dataNodes);
+            return new DataServerChangeItem(serverMap, new HashMap<>(newVersionMap));
+        }
+    }
+
     private void init(long version) {
         if (curVersion.compareAndSet(-1, version)) {
             Map<String, LocalServerStatusEnum> map = new ConcurrentHashMap<>();
@@ -24,6 +24,7 @@ import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
 
@@ -128,6 +129,20 @@ public class DatumCache {
         return localDatumStorage.getOwnByConnectId(connectId);
     }
 
+    /**
+     * get digest of own publishers by connectId
+     */
+    public String getOwnDigestByConnectId(String connectId) {
+        return localDatumStorage.getOwnDigestByConnectId(connectId);
+    }
+
+    /**
+     * get digest of own publishers by connectId in buckets
+     */
+    public long[] getOwnDigestBucketsByConnectId(String connectId, int bucketCount) {
+        return localDatumStorage.getOwnDigestBucketsByConnectId(connectId, bucketCount);
+    }
+
     /**
      * put datum into cache
      *
@@ -162,7 +177,7 @@ public class DatumCache {
      *
      * @return property value of OWN_CONNECT_ID_INDEX
      */
-    public Set<String> getAllConnectIds() {
+    public Set<ConnectId> getAllConnectIds() {
         return localDatumStorage.getAllConnectIds();
     }
 
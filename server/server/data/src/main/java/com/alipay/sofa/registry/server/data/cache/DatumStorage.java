@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
 
@@ -67,12 +68,22 @@ public interface DatumStorage {
      */
     Map<String, Publisher> getOwnByConnectId(String connectId);
 
+    /**
+     * get digest of own publishers by connectId, return null if there is no own publisher
+     */
+    String getOwnDigestByConnectId(String connectId);
+
+    /**
+     * get digest of own publishers by connectId in buckets, see PublisherDigestUtil#getDigestBucket
+     */
+    long[] getOwnDigestBucketsByConnectId(String connectId, int bucketCount);
+
     /**
      * Getter method for property <tt>OWN_CONNECT_ID_INDEX</tt>.
      *
      * @return property value of OWN_CONNECT_ID_INDEX
      */
-    Set<String> getAllConnectIds();
+    Set<ConnectId> getAllConnectIds();
 
     /**
      * put datum into cache
@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.data.cache;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -23,12 +24,12 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
-import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+import com.alipay.sofa.registry.common.model.PublisherDigestUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Publisher;
-import com.alipay.sofa.registry.common.model.store.WordCache;
 import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
 import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
 import com.alipay.sofa.registry.server.data.node.DataServerNode;
@@ -42,14 +43,14 @@ import com.alipay.sofa.registry.server.data.remoting.dataserver.DataServerNodeFa
  */
 public class LocalDatumStorage implements DatumStorage {
 
-    public static final long                            ERROR_DATUM_VERSION  = -2L;
+    public static final long                               ERROR_DATUM_VERSION  = -2L;
 
     /**
      * row:     dataCenter
      * column:  dataInfoId
      * value:   datum
      */
-    protected final Map<String, Map<String, Datum>>     DATUM_MAP            = new ConcurrentHashMap<>();
+    protected final Map<String, Map<String, Datum>>        DATUM_MAP            = new ConcurrentHashMap<>();
 
     /**
      * all datum index
@@ -58,10 +59,19 @@ public class LocalDatumStorage implements DatumStorage {
      * column:  registerId
      * value:   publisher
      */
-    protected final Map<String, Map<String, Publisher>> ALL_CONNECT_ID_INDEX = new ConcurrentHashMap<>();
+    protected final Map<ConnectId, Map<String, Publisher>> ALL_CONNECT_ID_INDEX = new ConcurrentHashMap<>();
+
+    /**
+     * digest of own publishers, maintained incrementally along with ALL_CONNECT_ID_INDEX,
+     * an entry lives as long as the entry of the same connectId in ALL_CONNECT_ID_INDEX
+     *
+     * key:     ip:port
+     * value:   digest of publishers own by myself
+     */
+    protected final Map<ConnectId, ConnectIdDigest>        OWN_DIGEST_INDEX     = new ConcurrentHashMap<>();
 
     @Autowired
-    private DataServerConfig                            dataServerConfig;
+    private DataServerConfig                               dataServerConfig;
 
     /**
      * get datum by specific dataCenter and dataInfoId
@@ -112,7 +122,8 @@ public class LocalDatumStorage implements DatumStorage {
      * @return
      */
     public Map<String, Publisher> getByConnectId(String connectId) {
-        return ALL_CONNECT_ID_INDEX.getOrDefault(connectId, null);
+        ConnectId id = ConnectId.tryParse(connectId);
+        return id != null ? ALL_CONNECT_ID_INDEX.get(id) : null;
     }
 
     /**
@@ -120,7 +131,7 @@ public class LocalDatumStorage implements DatumStorage {
      */
     public Map<String, Publisher> getOwnByConnectId(String connectId) {
         Map<String, Publisher> ownPubMap = new HashMap<>();
-        Map<String, Publisher> allPubMap = ALL_CONNECT_ID_INDEX.getOrDefault(connectId, null);
+        Map<String, Publisher> allPubMap = getByConnectId(connectId);
         if (allPubMap != null) {
             for (Entry<String, Publisher> entry : allPubMap.entrySet()) {
                 String registerId = entry.getKey();
@@ -133,6 +144,74 @@ public class LocalDatumStorage implements DatumStorage {
         return ownPubMap;
     }
 
+    /**
+     * get digest of own publishers by connectId, return null if there is no own publisher
+     */
+    @Override
+    public String getOwnDigestByConnectId(String connectId) {
+        ConnectId id = ConnectId.tryParse(connectId);
+        if (id == null) {
+            return null;
+        }
+        while (true) {
+            ConnectIdDigest digest = OWN_DIGEST_INDEX.get(id);
+            if (digest == null) {
+                return null;
+            }
+            synchronized (digest) {
+                if (digest.removed) {
+                    continue;
+                }
+                refreshIfInvalid(id, digest);
+                return digest.count > 0 ? String.valueOf(digest.digestSum) : null;
+            }
+        }
+    }
+
+    /**
+     * buckets of the default count are maintained incrementally, others are calculated on demand
+     */
+    @Override
+    public long[] getOwnDigestBucketsByConnectId(String connectId, int bucketCount) {
+        if (bucketCount != PublisherDigestUtil.DIGEST_BUCKET_COUNT) {
+            return PublisherDigestUtil.getDigestValueBuckets(getOwnByConnectId(connectId).values(),
+                bucketCount);
+        }
+        ConnectId id = ConnectId.tryParse(connectId);
+        if (id == null) {
+            return new long[bucketCount];
+        }
+        while (true) {
+            ConnectIdDigest digest = OWN_DIGEST_INDEX.get(id);
+            if (digest == null) {
+                return new long[bucketCount];
+            }
+            synchronized (digest) {
+                if (digest.removed) {
+                    continue;
+                }
+                refreshIfInvalid(id, digest);
+                return digest.bucketDigests.clone();
+            }
+        }
+    }
+
+    private void refreshIfInvalid(ConnectId connectId, ConnectIdDigest digest) {
+        long routingVersion = currentRoutingVersion();
+        if (digest.routingVersion != routingVersion || routingVersion < 0) {
+            // routing changed since last computed, the own publishers need to be recalculated
+            digest.reset(routingVersion);
+            Map<String, Publisher> allPubMap = ALL_CONNECT_ID_INDEX.get(connectId);
+            if (allPubMap != null) {
+                for (Publisher publisher : allPubMap.values()) {
+                    if (isOwnByMyself(publisher.getDataInfoId())) {
+                        digest.add(publisher);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * whether dataInfoId own by self
      */
@@ -370,7 +449,7 @@ public class LocalDatumStorage implements DatumStorage {
                 Publisher pub = pubEntry.getValue();
                 addToIndex(pub);
                 Publisher cachePub = cachePubMap.get(registerId);
-                if (cachePub != null && getConnectId(pub).equals(getConnectId(cachePub))) {
+                if (cachePub != null && pub.connectId().equals(cachePub.connectId())) {
                     cachePubMap.remove(registerId);
                 }
             }
@@ -387,12 +466,34 @@ public class LocalDatumStorage implements DatumStorage {
         if (publisher == null) {
             return;
         }
-        String connectId = getConnectId(publisher);
-
-        // remove from ALL_CONNECT_ID_INDEX
-        Map<String, Publisher> publisherMap = ALL_CONNECT_ID_INDEX.get(connectId);
-        if (publisherMap != null) {
-            publisherMap.remove(publisher.getRegisterId());
+        ConnectId connectId = publisher.connectId();
+        while (true) {
+            ConnectIdDigest digest = OWN_DIGEST_INDEX.get(connectId);
+            if (digest == null) {
+                return;
+            }
+            synchronized (digest) {
+                if (digest.removed) {
+                    // dropped concurrently, look up the current one
+                    continue;
+                }
+                // remove from ALL_CONNECT_ID_INDEX
+                Map<String, Publisher> publisherMap = ALL_CONNECT_ID_INDEX.get(connectId);
+                if (publisherMap != null) {
+                    Publisher removed = publisherMap.remove(publisher.getRegisterId());
+                    if (removed != null && isDigestValid(digest)
+                        && isOwnByMyself(removed.getDataInfoId())) {
+                        digest.remove(removed);
+                    }
+                }
+                if (publisherMap == null || publisherMap.isEmpty()) {
+                    // last publisher of the connectId is gone, eg: client off
+                    ALL_CONNECT_ID_INDEX.remove(connectId);
+                    OWN_DIGEST_INDEX.remove(connectId, digest);
+                    digest.removed = true;
+                }
+                return;
+            }
         }
     }
 
@@ -400,19 +501,40 @@ public class LocalDatumStorage implements DatumStorage {
         if (publisher == null) {
             return;
         }
-        String connectId = getConnectId(publisher);
-
-        // add to ALL_CONNECT_ID_INDEX
-        Map<String, Publisher> publisherMap = ALL_CONNECT_ID_INDEX
-                .computeIfAbsent(connectId, s -> new ConcurrentHashMap<>());
-        publisherMap.put(publisher.getRegisterId(), publisher);
+        ConnectId connectId = publisher.connectId();
+        while (true) {
+            ConnectIdDigest digest = OWN_DIGEST_INDEX.computeIfAbsent(connectId,
+                s -> new ConnectIdDigest());
+            synchronized (digest) {
+                if (digest.removed) {
+                    continue;
+                }
+                // add to ALL_CONNECT_ID_INDEX
+                Map<String, Publisher> publisherMap = ALL_CONNECT_ID_INDEX
+                        .computeIfAbsent(connectId, s -> new ConcurrentHashMap<>());
+                Publisher replaced = publisherMap.put(publisher.getRegisterId(), publisher);
+                if (isDigestValid(digest) && isOwnByMyself(publisher.getDataInfoId())) {
+                    if (replaced != null) {
+                        digest.remove(replaced);
+                    }
+                    digest.add(publisher);
+                }
+                return;
+            }
+        }
+    }
 
+    /**
+     * the incremental digest is only valid under the routing it was computed with,
+     * otherwise it will be recalculated lazily by getOwnDigestByConnectId
+     */
+    private boolean isDigestValid(ConnectIdDigest digest) {
+        long routingVersion = digest.routingVersion;
+        return routingVersion >= 0 && routingVersion == currentRoutingVersion();
     }
 
-    private String getConnectId(Publisher cachePub) {
-        return WordCache.getInstance().getWordCache(
-            cachePub.getSourceAddress().getAddressString() + ValueConstants.CONNECT_ID_SPLIT
-                    + cachePub.getTargetAddress().getAddressString());
+    protected long currentRoutingVersion() {
+        return DataServerNodeFactory.getRoutingVersion(dataServerConfig.getLocalDataCenter());
     }
 
     /**
@@ -420,8 +542,53 @@ public class LocalDatumStorage implements DatumStorage {
      *
      * @return property value of OWN_CONNECT_ID_INDEX
      */
-    public Set<String> getAllConnectIds() {
+    public Set<ConnectId> getAllConnectIds() {
         return ALL_CONNECT_ID_INDEX.keySet();
     }
 
+    /**
+     * running digest of the publishers own by myself under one connectId
+     */
+    protected static final class ConnectIdDigest {
+
+        /** version of routing table which the digest is computed with, -1 means invalid */
+        private long         routingVersion = -1L;
+
+        private long         digestSum;
+
+        private int          count;
+
+        /** digestSum split by PublisherDigestUtil#getDigestBucket */
+        private final long[] bucketDigests  = new long[PublisherDigestUtil.DIGEST_BUCKET_COUNT];
+
+        /** dropped from OWN_DIGEST_INDEX, a thread waiting for its lock has to look up again */
+        private boolean      removed;
+
+        private void reset(long routingVersion) {
+            this.routingVersion = routingVersion;
+            this.digestSum = 0L;
+            this.count = 0;
+            Arrays.fill(bucketDigests, 0L);
+        }
+
+        private void add(Publisher publisher) {
+            long value = PublisherDigestUtil.getDigestValue(publisher);
+            digestSum += value;
+            bucketDigests[bucketOf(publisher)] += value;
+            count++;
+        }
+
+        private void remove(Publisher publisher) {
+            long value = PublisherDigestUtil.getDigestValue(publisher);
+            digestSum -= value;
+            bucketDigests[bucketOf(publisher)] -= value;
+            count--;
+        }
+
+        private static int bucketOf(Publisher publisher) {
+            return PublisherDigestUtil.getDigestBucket(publisher.getRegisterId(),
+                PublisherDigestUtil.DIGEST_BUCKET_COUNT);
+        }
+    }
+
 }
\ No newline at end of file
@@ -34,7 +34,7 @@ import com.alipay.sofa.registry.server.data.cache.DatumCache;
 import com.alipay.sofa.registry.server.data.cache.LocalDatumStorage;
 import com.alipay.sofa.registry.server.data.cache.MergeResult;
 import com.alipay.sofa.registry.server.data.change.event.DataChangeEventCenter;
-import com.alipay.sofa.registry.server.data.change.event.DataChangeEventQueue;
+import com.alipay.sofa.registry.server.data.change.event.IDataChangeEventQueue;
 import com.alipay.sofa.registry.server.data.change.notify.IDataChangeNotifier;
 import com.alipay.sofa.registry.server.data.executor.ExecutorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -72,13 +72,13 @@ public class DataChangeHandler {
 
     @PostConstruct
     public void start() {
-        DataChangeEventQueue[] queues = dataChangeEventCenter.getQueues();
+        IDataChangeEventQueue[] queues = dataChangeEventCenter.getQueues();
         int queueCount = queues.length;
         Executor executor = ExecutorFactory.newFixedThreadPool(queueCount, DataChangeHandler.class.getSimpleName());
         Executor notifyExecutor = ExecutorFactory
                 .newFixedThreadPool(dataServerConfig.getQueueCount() * 5, this.getClass().getSimpleName());
         for (int idx = 0; idx < queueCount; idx++) {
-            final DataChangeEventQueue dataChangeEventQueue = queues[idx];
+            final IDataChangeEventQueue dataChangeEventQueue = queues[idx];
             final String name = dataChangeEventQueue.getName();
             executor.execute(() -> {
                 while (true) {
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.change.event;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
+import com.alipay.sofa.registry.server.data.cache.DatumCache;
+import com.alipay.sofa.registry.server.data.cache.UnPublisher;
+import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
+import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
+import com.alipay.sofa.registry.server.data.change.SnapshotData;
+import com.alipay.sofa.registry.server.data.node.DataServerNode;
+import com.alipay.sofa.registry.server.data.remoting.dataserver.DataServerNodeFactory;
+import com.google.common.collect.Interners;
+
+/**
+ * common event handling of DataChangeEventQueue engines, the subclass decides on which thread
+ * events are handled and how datum changes are merged and delayed before they are taken by
+ * DataChangeHandler
+ *
+ * @author agent
+ * @version $Id: AbstractDataChangeEventQueue.java, v 0.1 2026-10-18 11:32 agent Exp $
+ */
+public abstract class AbstractDataChangeEventQueue implements IDataChangeEventQueue {
+
+    private static final Logger         LOGGER       = LoggerFactory
+                                                         .getLogger(AbstractDataChangeEventQueue.class);
+
+    private static final Logger         RENEW_LOGGER = LoggerFactory.getLogger(
+                                                         ValueConstants.LOGGER_NAME_RENEW,
+                                                         "[DataChangeEventQueue]");
+
+    /**
+     *
+     */
+    private final String                name;
+
+    protected final int                 notifyIntervalMs;
+
+    protected final int                 notifyTempDataIntervalMs;
+
+    private final int                   queueIdx;
+
+    protected final DataServerConfig    dataServerConfig;
+
+    private final DataChangeEventCenter dataChangeEventCenter;
+
+    private final DatumCache            datumCache;
+
+    /**
+     * constructor
+     * @param queueIdx
+     * @param dataServerConfig
+     * @param dataChangeEventCenter
+     * @param datumCache
+     */
+    protected AbstractDataChangeEventQueue(int queueIdx, DataServerConfig dataServerConfig,
+                                           DataChangeEventCenter dataChangeEventCenter,
+                                           DatumCache datumCache) {
+        this.queueIdx = queueIdx;
+        this.name = String.format("%s_%s", DataChangeEventQueue.class.getSimpleName(), queueIdx);
+        this.dataServerConfig = dataServerConfig;
+        this.notifyIntervalMs = dataServerConfig.getNotifyIntervalMs();
+        this.notifyTempDataIntervalMs = dataServerConfig.getNotifyTempDataIntervalMs();
+        this.dataChangeEventCenter = dataChangeEventCenter;
+        this.datumCache = datumCache;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * a queue of pending work bounded by data.server.queueSize, unbounded if it is not positive
+     *
+     * @param queueSize
+     * @return queue
+     */
+    protected static <E> BlockingQueue<E> newBoundedQueue(int queueSize) {
+        if (queueSize <= 0) {
+            return new LinkedBlockingDeque<>();
+        } else {
+            return new LinkedBlockingDeque<>(queueSize);
+        }
+    }
+
+    /**
+     * handle an event of any scope
+     *
+     * @param event
+     */
+    protected void handleEvent(IDataChangeEvent event) {
+        DataChangeScopeEnum scope = event.getScope();
+        if (scope == DataChangeScopeEnum.DATUM) {
+            handleDataChangeEvent((DataChangeEvent) event);
+        } else if (scope == DataChangeScopeEnum.CLIENT) {
+            handleClientOff((ClientChangeEvent) event);
+        } else if (scope == DataChangeScopeEnum.SNAPSHOT) {
+            handleSnapshot((DatumSnapshotEvent) event);
+        }
+    }
+
+    /**
+     * handle a datum scope event
+     *
+     * @param dataChangeEvent
+     */
+    protected void handleDataChangeEvent(DataChangeEvent dataChangeEvent) {
+        //Temporary push data will be notify as soon as,and not merge to normal pub data;
+        if (dataChangeEvent.getSourceType() == DataSourceTypeEnum.PUB_TEMP) {
+            addTempChangeData(dataChangeEvent.getDatum(), dataChangeEvent.getChangeType(),
+                dataChangeEvent.getSourceType());
+        } else {
+            handleDatum(dataChangeEvent.getChangeType(), dataChangeEvent.getSourceType(),
+                dataChangeEvent.getDatum());
+        }
+    }
+
+    private void handleClientOff(ClientChangeEvent event) {
+        String connectId = event.getHost();
+        synchronized (Interners.newWeakInterner().intern(connectId)) {
+            Map<String, Publisher> pubMap = datumCache.getByConnectId(connectId);
+            if (pubMap != null && !pubMap.isEmpty()) {
+                LOGGER.info(
+                    "[{}] client off begin, connectId={}, occurTimestamp={}, all pubSize={}",
+                    getName(), connectId, event.getOccurredTimestamp(), pubMap.size());
+                int count = 0;
+                for (Publisher publisher : pubMap.values()) {
+                    // Only care dataInfoIds which belong to this queue
+                    if (!belongTo(publisher.getDataInfoId())) {
+                        continue;
+                    }
+
+                    DataServerNode dataServerNode = DataServerNodeFactory.computeDataServerNode(
+                        dataServerConfig.getLocalDataCenter(), publisher.getDataInfoId());
+                    //current dataCenter backup data need not unPub,it will be unPub by backup sync event
+                    if (DataServerConfig.IP.equals(dataServerNode.getIp())) {
+                        Datum datum = new Datum(new UnPublisher(publisher.getDataInfoId(),
+                            publisher.getRegisterId(), event.getOccurredTimestamp()),
+                            event.getDataCenter(), event.getVersion());
+                        datum.setContainsUnPub(true);
+                        handleDatum(DataChangeTypeEnum.MERGE, DataSourceTypeEnum.PUB, datum);
+                        count++;
+                    }
+                }
+                LOGGER
+                    .info(
+                        "[{}] client off handle, connectId={}, occurTimestamp={}, version={}, handle pubSize={}",
+                        getName(), connectId, event.getOccurredTimestamp(), event.getVersion(),
+                        count);
+            }
+        }
+    }
+
+    private void handleSnapshot(DatumSnapshotEvent event) {
+        String connectId = event.getConnectId();
+        Map<String, Publisher> cachePubMap = event.getCachePubMap();
+        Map<String, Publisher> snapshotPubMap = event.getPubMap();
+
+        // build SnapshotData
+        Map<String, SnapshotData> dataInfoId2SnapshotData = new HashMap<>();
+        synchronized (Interners.newWeakInterner().intern(connectId)) {
+            for (Map.Entry<String, Publisher> entry : snapshotPubMap.entrySet()) {
+                String registerId = entry.getKey();
+                Publisher publisher = entry.getValue();
+                String dataInfoId = publisher.getDataInfoId();
+
+                // Only care dataInfoIds which belong to this queue
+                if (!belongTo(dataInfoId)) {
+                    continue;
+                }
+
+                SnapshotData snapshotData = getOrCreateSnapshotData(dataInfoId2SnapshotData,
+                    dataInfoId);
+                snapshotData.getSnapshotPubMap().put(registerId, publisher);
+            }
+            for (Map.Entry<String, Publisher> entry : cachePubMap.entrySet()) {
+                String registerId = entry.getKey();
+                Publisher publisher = entry.getValue();
+                String dataInfoId = publisher.getDataInfoId();
+
+                // Only care dataInfoIds which belong to this queue
+                if (!belongTo(dataInfoId)) {
+                    continue;
+                }
+
+                SnapshotData snapshotData = getOrCreateSnapshotData(dataInfoId2SnapshotData,
+                    dataInfoId);
+                snapshotData.getToBeDeletedPubMap().put(registerId, publisher);
+            }
+        }
+
+        // put all SnapshotDatas to queue
+        for (SnapshotData snapshotData : dataInfoId2SnapshotData.values()) {
+            RENEW_LOGGER
+                .info(
+                    "SnapshotData: connectId={}, dataInfoId={}, cachePubSize={}, snapshotPubSize={}",
+                    connectId, snapshotData.getDataInfoId(), snapshotData.getToBeDeletedPubMap()
+                        .size(), snapshotData.getSnapshotPubMap().size());
+            addSnapshotData(snapshotData);
+        }
+    }
+
+    private SnapshotData getOrCreateSnapshotData(Map<String, SnapshotData> dataInfoId2SnapshotData,
+                                                 String dataInfoId) {
+        SnapshotData snapshotData = dataInfoId2SnapshotData.get(dataInfoId);
+        if (snapshotData == null) {
+            snapshotData = new SnapshotData(dataInfoId, new HashMap<>(), new HashMap<>());
+            dataInfoId2SnapshotData.put(dataInfoId, snapshotData);
+        }
+        return snapshotData;
+    }
+
+    /**
+     * merge the changed datum into the pending ChangeData of the same dataInfoId
+     *
+     * @param changeType
+     * @param sourceType
+     * @param targetDatum
+     */
+    protected abstract void handleDatum(DataChangeTypeEnum changeType,
+                                        DataSourceTypeEnum sourceType, Datum targetDatum);
+
+    /**
+     * temporary data is not merged, it is delayed by notifyTempDataIntervalMs only
+     *
+     * @param targetDatum
+     * @param changeType
+     * @param sourceType
+     */
+    protected abstract void addTempChangeData(Datum targetDatum, DataChangeTypeEnum changeType,
+                                              DataSourceTypeEnum sourceType);
+
+    /**
+     * snapshot data is taken without delay
+     *
+     * @param snapshotData
+     */
+    protected abstract void addSnapshotData(SnapshotData snapshotData);
+
+    /**
+     * Determine whether dataInfoId belongs to the current queue
+     */
+    private boolean belongTo(String dataInfoId) {
+        return this.queueIdx == this.dataChangeEventCenter.hash(dataInfoId);
+    }
+}
@@ -37,32 +37,45 @@ import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
  * @version $Id: DataChangeEventCenter.java, v 0.1 2018-03-09 14:25 qian.lqlq Exp $
  */
 public class DataChangeEventCenter {
-    private AtomicBoolean          isInited = new AtomicBoolean(false);
+
+    /**
+     * value of data.server.changeQueueEngine to use StripedDataChangeEventQueue
+     */
+    public static final String      ENGINE_STRIPED = "striped";
+
+    private AtomicBoolean           isInited       = new AtomicBoolean(false);
 
     /**
      * count of DataChangeEventQueue
      */
-    private int                    queueCount;
+    private int                     queueCount;
 
     /**
      * queues of DataChangeEvent
      */
-    private DataChangeEventQueue[] dataChangeEventQueues;
+    private IDataChangeEventQueue[] dataChangeEventQueues;
 
     @Autowired
-    private DataServerConfig       dataServerConfig;
+    private DataServerConfig        dataServerConfig;
 
     @Autowired
-    private DatumCache             datumCache;
+    private DatumCache              datumCache;
 
     @PostConstruct
     public void init() {
         if (isInited.compareAndSet(false, true)) {
             queueCount = dataServerConfig.getQueueCount();
-            dataChangeEventQueues = new DataChangeEventQueue[queueCount];
+            boolean striped = ENGINE_STRIPED.equalsIgnoreCase(dataServerConfig
+                .getChangeQueueEngine());
+            dataChangeEventQueues = new IDataChangeEventQueue[queueCount];
             for (int idx = 0; idx < queueCount; idx++) {
-                dataChangeEventQueues[idx] = new DataChangeEventQueue(idx, dataServerConfig, this,
-                    datumCache);
+                if (striped) {
+                    dataChangeEventQueues[idx] = new StripedDataChangeEventQueue(idx,
+                        dataServerConfig, this, datumCache);
+                } else {
+                    dataChangeEventQueues[idx] = new DataChangeEventQueue(idx, dataServerConfig,
+                        this, datumCache);
+                }
                 dataChangeEventQueues[idx].start();
             }
         }
@@ -105,7 +118,7 @@ public class DataChangeEventCenter {
      * @param event
      */
     public void onChange(ClientChangeEvent event) {
-        for (DataChangeEventQueue dataChangeEventQueue : dataChangeEventQueues) {
+        for (IDataChangeEventQueue dataChangeEventQueue : dataChangeEventQueues) {
             dataChangeEventQueue.onChange(event);
         }
     }
@@ -115,7 +128,7 @@ public class DataChangeEventCenter {
      * @param event
      */
     public void onChange(DatumSnapshotEvent event) {
-        for (DataChangeEventQueue dataChangeEventQueue : dataChangeEventQueues) {
+        for (IDataChangeEventQueue dataChangeEventQueue : dataChangeEventQueues) {
             dataChangeEventQueue.onChange(event);
         }
     }
@@ -149,7 +162,7 @@ public class DataChangeEventCenter {
      *
      * @return
      */
-    public DataChangeEventQueue[] getQueues() {
+    public IDataChangeEventQueue[] getQueues() {
         return dataChangeEventQueues;
     }
 
@@ -16,16 +16,13 @@
  */
 package com.alipay.sofa.registry.server.data.change.event;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.locks.ReentrantLock;
 
-import com.alipay.sofa.registry.common.model.constants.ValueConstants;
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.log.Logger;
@@ -38,9 +35,6 @@ import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
 import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
 import com.alipay.sofa.registry.server.data.change.SnapshotData;
 import com.alipay.sofa.registry.server.data.executor.ExecutorFactory;
-import com.alipay.sofa.registry.server.data.node.DataServerNode;
-import com.alipay.sofa.registry.server.data.remoting.dataserver.DataServerNodeFactory;
-import com.google.common.collect.Interners;
 
 /**
  * a queue of DataChangeEvent
@@ -48,7 +42,7 @@ import com.google.common.collect.Interners;
  * @author qian.lqlq
  * @version $Id: DataChangeEventQueue.java, v 0.1 2017-12-11 17:10 qian.lqlq Exp $
  */
-public class DataChangeEventQueue {
+public class DataChangeEventQueue extends AbstractDataChangeEventQueue {
 
     private static final Logger                        LOGGER                    = LoggerFactory
                                                                                      .getLogger(DataChangeEventQueue.class);
@@ -56,16 +50,6 @@ public class DataChangeEventQueue {
     private static final Logger                        LOGGER_START              = LoggerFactory
                                                                                      .getLogger("DATA-START-LOGS");
 
-    private static final Logger                        RENEW_LOGGER              = LoggerFactory
-                                                                                     .getLogger(
-                                                                                         ValueConstants.LOGGER_NAME_RENEW,
-                                                                                         "[DataChangeEventQueue]");
-
-    /**
-     *
-     */
-    private final String                               name;
-
     /**
      * a block queue that stores all data change events
      */
@@ -81,20 +65,8 @@ public class DataChangeEventQueue {
      */
     private final DelayQueue<ChangeData>               CHANGE_QUEUE              = new DelayQueue();
 
-    private final int                                  notifyIntervalMs;
-
-    private final int                                  notifyTempDataIntervalMs;
-
     private final ReentrantLock                        lock                      = new ReentrantLock();
 
-    private final int                                  queueIdx;
-
-    private DataServerConfig                           dataServerConfig;
-
-    private DataChangeEventCenter                      dataChangeEventCenter;
-
-    private DatumCache                                 datumCache;
-
     /**
      * constructor
      * @param queueIdx
@@ -102,26 +74,11 @@ public class DataChangeEventQueue {
      */
     public DataChangeEventQueue(int queueIdx, DataServerConfig dataServerConfig,
                                 DataChangeEventCenter dataChangeEventCenter, DatumCache datumCache) {
-        this.queueIdx = queueIdx;
-        this.name = String.format("%s_%s", DataChangeEventQueue.class.getSimpleName(), queueIdx);
-        this.dataServerConfig = dataServerConfig;
-        int queueSize = dataServerConfig.getQueueSize();
-        if (queueSize <= 0) {
-            eventQueue = new LinkedBlockingDeque<>();
-        } else {
-            eventQueue = new LinkedBlockingDeque<>(queueSize);
-        }
-        this.notifyIntervalMs = dataServerConfig.getNotifyIntervalMs();
-        this.notifyTempDataIntervalMs = dataServerConfig.getNotifyTempDataIntervalMs();
-        this.dataChangeEventCenter = dataChangeEventCenter;
-        this.datumCache = datumCache;
+        super(queueIdx, dataServerConfig, dataChangeEventCenter, datumCache);
+        this.eventQueue = newBoundedQueue(dataServerConfig.getQueueSize());
     }
 
-    /**
-     * receive event when data changed
-     *
-     * @param event
-     */
+    @Override
     public void onChange(IDataChangeEvent event) {
         try {
             eventQueue.add(event);
@@ -131,12 +88,20 @@ public class DataChangeEventQueue {
         }
     }
 
-    /**
-     *
-     * @return
-     */
-    public String getName() {
-        return name;
+    @Override
+    public void start() {
+        Executor executor = ExecutorFactory
+                .newSingleThreadExecutor(String.format("%s_%s", getClass().getSimpleName(), getName()));
+        executor.execute(() -> {
+            while (true) {
+                try {
+                    handleEvent(eventQueue.take());
+                } catch (Throwable e) {
+                    LOGGER.error("[{}] handle change event failed", getName(), e);
+                }
+            }
+        });
+        LOGGER_START.info("[{}] start {} success", getName(), getClass().getSimpleName());
     }
 
     /**
@@ -144,6 +109,7 @@ public class DataChangeEventQueue {
      * @return
      * @throws InterruptedException
      */
+    @Override
     public ChangeData take() throws InterruptedException {
         ChangeData changeData = CHANGE_QUEUE.take();
         lock.lock();
@@ -194,185 +160,68 @@ public class DataChangeEventQueue {
         return changeData;
     }
 
-    /**
-     *
-     */
-    public void start() {
-        Executor executor = ExecutorFactory
-                .newSingleThreadExecutor(String.format("%s_%s", DataChangeEventQueue.class.getSimpleName(), getName()));
-        executor.execute(() -> {
-            while (true) {
-                try {
-                    IDataChangeEvent event = eventQueue.take();
-                    DataChangeScopeEnum scope = event.getScope();
-                    if (scope == DataChangeScopeEnum.DATUM) {
-                        DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
-                        //Temporary push data will be notify as soon as,and not merge to normal pub data;
-                        if (dataChangeEvent.getSourceType() == DataSourceTypeEnum.PUB_TEMP) {
-                            addTempChangeData(dataChangeEvent.getDatum(), dataChangeEvent.getChangeType(),
-                                    dataChangeEvent.getSourceType());
-                        } else {
-                            handleDatum(dataChangeEvent.getChangeType(), dataChangeEvent.getSourceType(),
-                                    dataChangeEvent.getDatum());
-                        }
-                    } else if (scope == DataChangeScopeEnum.CLIENT) {
-                        handleClientOff((ClientChangeEvent) event);
-                    } else if (scope == DataChangeScopeEnum.SNAPSHOT) {
-                        handleSnapshot((DatumSnapshotEvent) event);
-                    }
-                } catch (Throwable e) {
-                    LOGGER.error("[{}] handle change event failed", getName(), e);
-                }
-            }
-        });
-        LOGGER_START.info("[{}] start DataChangeEventQueue success", getName());
-    }
-
-    private void handleClientOff(ClientChangeEvent event) {
-        String connectId = event.getHost();
-        synchronized (Interners.newWeakInterner().intern(connectId)) {
-            Map<String, Publisher> pubMap = datumCache.getByConnectId(connectId);
-            if (pubMap != null && !pubMap.isEmpty()) {
-                LOGGER.info(
-                    "[{}] client off begin, connectId={}, occurTimestamp={}, all pubSize={}",
-                    getName(), connectId, event.getOccurredTimestamp(), pubMap.size());
-                int count = 0;
-                for (Publisher publisher : pubMap.values()) {
-                    // Only care dataInfoIds which belong to this queue
-                    if (!belongTo(publisher.getDataInfoId())) {
-                        continue;
-                    }
-
-                    DataServerNode dataServerNode = DataServerNodeFactory.computeDataServerNode(
-                        dataServerConfig.getLocalDataCenter(), publisher.getDataInfoId());
-                    //current dataCenter backup data need not unPub,it will be unPub by backup sync event
-                    if (DataServerConfig.IP.equals(dataServerNode.getIp())) {
-                        Datum datum = new Datum(new UnPublisher(publisher.getDataInfoId(),
-                            publisher.getRegisterId(), event.getOccurredTimestamp()),
-                            event.getDataCenter(), event.getVersion());
-                        datum.setContainsUnPub(true);
-                        handleDatum(DataChangeTypeEnum.MERGE, DataSourceTypeEnum.PUB, datum);
-                        count++;
-                    }
-                }
-                LOGGER
-                    .info(
-                        "[{}] client off handle, connectId={}, occurTimestamp={}, version={}, handle pubSize={}",
-                        getName(), connectId, event.getOccurredTimestamp(), event.getVersion(),
-                        count);
-            }
-        }
-    }
-
-    private void handleDatum(DataChangeTypeEnum changeType, DataSourceTypeEnum sourceType,
-                             Datum targetDatum) {
+    @Override
+    protected void handleDatum(DataChangeTypeEnum changeType, DataSourceTypeEnum sourceType,
+                               Datum targetDatum) {
         lock.lock();
         try {
             //get changed datum
             ChangeData changeData = getChangeData(targetDatum.getDataCenter(),
                 targetDatum.getDataInfoId(), sourceType, changeType);
-            Datum cacheDatum = changeData.getDatum();
-            if (changeType == DataChangeTypeEnum.COVER || cacheDatum == null) {
-                changeData.setDatum(targetDatum);
-            } else {
-                Map<String, Publisher> targetPubMap = targetDatum.getPubMap();
-                Map<String, Publisher> cachePubMap = cacheDatum.getPubMap();
-                for (Publisher pub : targetPubMap.values()) {
-                    String registerId = pub.getRegisterId();
-                    Publisher cachePub = cachePubMap.get(registerId);
-                    if (cachePub != null) {
-                        // if the registerTimestamp of cachePub is greater than the registerTimestamp of pub, it means
-                        // that pub is not the newest data, should be ignored
-                        if (pub.getRegisterTimestamp() < cachePub.getRegisterTimestamp()) {
-                            continue;
-                        }
-                        // if pub and cachePub both are publisher, and sourceAddress of both are equal,
-                        // and version of cachePub is greater than version of pub, should be ignored
-                        if (!(pub instanceof UnPublisher) && !(cachePub instanceof UnPublisher)
-                            && pub.getSourceAddress().equals(cachePub.getSourceAddress())
-                            && cachePub.getVersion() > pub.getVersion()) {
-                            continue;
-                        }
-                    }
-                    cachePubMap.put(registerId, pub);
-                    cacheDatum.setVersion(targetDatum.getVersion());
-                }
-            }
+            mergeDatum(changeData, changeType, targetDatum);
         } finally {
             lock.unlock();
         }
     }
 
-    private void handleSnapshot(DatumSnapshotEvent event) {
-        String connectId = event.getConnectId();
-        Map<String, Publisher> cachePubMap = event.getCachePubMap();
-        Map<String, Publisher> snapshotPubMap = event.getPubMap();
-
-        // build SnapshotData
-        Map<String, SnapshotData> dataInfoId2SnapshotData = new HashMap<>();
-        synchronized (Interners.newWeakInterner().intern(connectId)) {
-            for (Map.Entry<String, Publisher> entry : snapshotPubMap.entrySet()) {
-                String registerId = entry.getKey();
-                Publisher publisher = entry.getValue();
-                String dataInfoId = publisher.getDataInfoId();
-
-                // Only care dataInfoIds which belong to this queue
-                if (!belongTo(dataInfoId)) {
-                    continue;
-                }
-
-                SnapshotData snapshotData = getOrCreateSnapshotData(dataInfoId2SnapshotData,
-                    dataInfoId);
-                snapshotData.getSnapshotPubMap().put(registerId, publisher);
-            }
-            for (Map.Entry<String, Publisher> entry : cachePubMap.entrySet()) {
-                String registerId = entry.getKey();
-                Publisher publisher = entry.getValue();
-                String dataInfoId = publisher.getDataInfoId();
-
-                // Only care dataInfoIds which belong to this queue
-                if (!belongTo(dataInfoId)) {
-                    continue;
-                }
-
-                SnapshotData snapshotData = getOrCreateSnapshotData(dataInfoId2SnapshotData,
-                    dataInfoId);
-                snapshotData.getToBeDeletedPubMap().put(registerId, publisher);
-            }
-        }
-
-        // put all SnapshotDatas to queue
-        for (SnapshotData snapshotData : dataInfoId2SnapshotData.values()) {
-            RENEW_LOGGER
-                .info(
-                    "SnapshotData: connectId={}, dataInfoId={}, cachePubSize={}, snapshotPubSize={}",
-                    connectId, snapshotData.getDataInfoId(), snapshotData.getToBeDeletedPubMap()
-                        .size(), snapshotData.getSnapshotPubMap().size());
-            CHANGE_QUEUE.put(snapshotData);
-        }
-    }
-
-    private SnapshotData getOrCreateSnapshotData(Map<String, SnapshotData> dataInfoId2SnapshotData,
-                                                 String dataInfoId) {
-        SnapshotData snapshotData = dataInfoId2SnapshotData.get(dataInfoId);
-        if (snapshotData == null) {
-            snapshotData = new SnapshotData(dataInfoId, new HashMap<>(), new HashMap<>());
-            dataInfoId2SnapshotData.put(dataInfoId, snapshotData);
-        }
-        return snapshotData;
+    @Override
+    protected void addSnapshotData(SnapshotData snapshotData) {
+        CHANGE_QUEUE.put(snapshotData);
     }
 
-    private void addTempChangeData(Datum targetDatum, DataChangeTypeEnum changeType,
-                                   DataSourceTypeEnum sourceType) {
+    @Override
+    protected void addTempChangeData(Datum targetDatum, DataChangeTypeEnum changeType,
+                                     DataSourceTypeEnum sourceType) {
         ChangeData tempChangeData = new ChangeData(targetDatum, this.notifyTempDataIntervalMs,
             sourceType, changeType);
         CHANGE_QUEUE.put(tempChangeData);
     }
 
     /**
-     * Determine whether dataInfoId belongs to the current queue
+     * merge targetDatum into the datum of changeData, the caller must hold the lock of changeData
+     *
+     * @param changeData
+     * @param changeType
+     * @param targetDatum
      */
-    private boolean belongTo(String dataInfoId) {
-        return this.queueIdx == this.dataChangeEventCenter.hash(dataInfoId);
+    static void mergeDatum(ChangeData changeData, DataChangeTypeEnum changeType,
+                           Datum targetDatum) {
+        Datum cacheDatum = changeData.getDatum();
+        if (changeType == DataChangeTypeEnum.COVER || cacheDatum == null) {
+            changeData.setDatum(targetDatum);
+        } else {
+            Map<String, Publisher> targetPubMap = targetDatum.getPubMap();
+            Map<String, Publisher> cachePubMap = cacheDatum.getPubMap();
+            for (Publisher pub : targetPubMap.values()) {
+                String registerId = pub.getRegisterId();
+                Publisher cachePub = cachePubMap.get(registerId);
+                if (cachePub != null) {
+                    // if the registerTimestamp of cachePub is greater than the registerTimestamp of pub, it means
+                    // that pub is not the newest data, should be ignored
+                    if (pub.getRegisterTimestamp() < cachePub.getRegisterTimestamp()) {
+                        continue;
+                    }
+                    // if pub and cachePub both are publisher, and sourceAddress of both are equal,
+                    // and version of cachePub is greater than version of pub, should be ignored
+                    if (!(pub instanceof UnPublisher) && !(cachePub instanceof UnPublisher)
+                        && pub.getSourceAddress().equals(cachePub.getSourceAddress())
+                        && cachePub.getVersion() > pub.getVersion()) {
+                        continue;
+                    }
+                }
+                cachePubMap.put(registerId, pub);
+                cacheDatum.setVersion(targetDatum.getVersion());
+            }
+        }
     }
-}
\ No newline at end of file
+}
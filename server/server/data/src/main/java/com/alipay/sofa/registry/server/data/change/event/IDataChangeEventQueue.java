@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.change.event;
+
+import com.alipay.sofa.registry.server.data.change.ChangeData;
+
+/**
+ * queue that merges data change events and hands the merged ChangeData to DataChangeHandler
+ *
+ * @author agent
+ * @version $Id: IDataChangeEventQueue.java, v 0.1 2026-10-18 11:20 agent Exp $
+ */
+public interface IDataChangeEventQueue {
+
+    /**
+     * receive event when data changed
+     *
+     * @param event
+     */
+    void onChange(IDataChangeEvent event);
+
+    /**
+     * take one merged ChangeData whose notify delay has expired, block if none
+     *
+     * @return
+     * @throws InterruptedException
+     */
+    ChangeData take() throws InterruptedException;
+
+    /**
+     *
+     * @return
+     */
+    String getName();
+
+    /**
+     * start the queue worker
+     */
+    void start();
+}
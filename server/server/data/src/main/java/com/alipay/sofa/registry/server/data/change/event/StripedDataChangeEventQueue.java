@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.change.event;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
+import com.alipay.sofa.registry.server.data.cache.DatumCache;
+import com.alipay.sofa.registry.server.data.change.ChangeData;
+import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
+import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
+import com.alipay.sofa.registry.server.data.change.SnapshotData;
+import com.alipay.sofa.registry.server.data.util.DelayBucketWheel;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+
+/**
+ * a queue of DataChangeEvent without the global merge lock.
+ *
+ * Datum events are merged on the caller thread into a per dataInfoId slot: the first change of a
+ * dataInfoId claims the slot with putIfAbsent and is scheduled on a DelayBucketWheel, later
+ * changes coalesce into the pending ChangeData under its own monitor. take() releases the slot with
+ * remove(key, value), so a change arriving afterwards claims a new slot and is notified again.
+ * Client off and snapshot events walk all the publishers of a connection, they are handed to the
+ * single worker thread of the queue, whose pending events are bounded by data.server.queueSize
+ * and rejected beyond it. The unpublish of a client off may then be merged after a later change of
+ * the same publisher, it is ignored for its older registerTimestamp, see
+ * {@link DataChangeEventQueue#mergeDatum}.
+ *
+ * @author agent
+ * @version $Id: StripedDataChangeEventQueue.java, v 0.1 2026-10-18 15:40 agent Exp $
+ */
+public class StripedDataChangeEventQueue extends AbstractDataChangeEventQueue {
+
+    private static final Logger                                            LOGGER       = LoggerFactory
+                                                                                            .getLogger(StripedDataChangeEventQueue.class);
+
+    private static final Logger                                            LOGGER_START = LoggerFactory
+                                                                                            .getLogger("DATA-START-LOGS");
+
+    /**
+     * dataCenter -> dataInfoId -> pending ChangeData
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, ChangeData>> mergeSlots   = new ConcurrentHashMap<>();
+
+    private final DelayBucketWheel<ChangeData>                             wheel;
+
+    /**
+     * handles client off and snapshot events
+     */
+    private final ThreadPoolExecutor                                       scopeExecutor;
+
+    /**
+     * constructor
+     * @param queueIdx
+     * @param dataServerConfig
+     * @param dataChangeEventCenter
+     * @param datumCache
+     */
+    public StripedDataChangeEventQueue(int queueIdx, DataServerConfig dataServerConfig,
+                                       DataChangeEventCenter dataChangeEventCenter,
+                                       DatumCache datumCache) {
+        super(queueIdx, dataServerConfig, dataChangeEventCenter, datumCache);
+        this.wheel = new DelayBucketWheel<>(dataServerConfig.getChangeQueueTickMs(),
+            dataServerConfig.getChangeQueueWheelSize());
+        this.scopeExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            newBoundedQueue(dataServerConfig.getQueueSize()), new NamedThreadFactory(String.format(
+                "%s_%s", getClass().getSimpleName(), getName())));
+    }
+
+    @Override
+    public void onChange(IDataChangeEvent event) {
+        try {
+            if (event.getScope() == DataChangeScopeEnum.DATUM) {
+                // merge on the producer thread, only contends with changes of the same dataInfoId
+                handleEvent(event);
+            } else {
+                scopeExecutor.execute(() -> {
+                    try {
+                        handleEvent(event);
+                    } catch (Throwable e) {
+                        LOGGER.error("[{}] handle change event failed", getName(), e);
+                    }
+                });
+            }
+        } catch (Throwable e) {
+            LOGGER.error("[{}] handle change event failed", getName(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void start() {
+        LOGGER_START.info("[{}] start {} success", getName(), getClass().getSimpleName());
+    }
+
+    @Override
+    public ChangeData take() throws InterruptedException {
+        ChangeData changeData = wheel.take();
+        if (changeData instanceof SnapshotData
+            || changeData.getSourceType() == DataSourceTypeEnum.PUB_TEMP) {
+            return changeData;
+        }
+        synchronized (changeData) {
+            Datum datum = changeData.getDatum();
+            getSlots(datum.getDataCenter()).remove(datum.getDataInfoId(), changeData);
+        }
+        return changeData;
+    }
+
+    @Override
+    protected void handleDatum(DataChangeTypeEnum changeType, DataSourceTypeEnum sourceType,
+                               Datum targetDatum) {
+        String dataInfoId = targetDatum.getDataInfoId();
+        ConcurrentMap<String, ChangeData> slots = getSlots(targetDatum.getDataCenter());
+        for (;;) {
+            ChangeData changeData = slots.get(dataInfoId);
+            if (changeData == null) {
+                ChangeData newChangeData = new ChangeData(targetDatum, notifyIntervalMs,
+                    sourceType, changeType);
+                if (slots.putIfAbsent(dataInfoId, newChangeData) == null) {
+                    wheel.offer(newChangeData, notifyIntervalMs);
+                    return;
+                }
+                continue;
+            }
+            synchronized (changeData) {
+                // the slot has been released by take, retry with a new slot
+                if (slots.get(dataInfoId) != changeData) {
+                    continue;
+                }
+                DataChangeEventQueue.mergeDatum(changeData, changeType, targetDatum);
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected void addTempChangeData(Datum targetDatum, DataChangeTypeEnum changeType,
+                                     DataSourceTypeEnum sourceType) {
+        wheel.offer(new ChangeData(targetDatum, notifyTempDataIntervalMs, sourceType, changeType),
+            notifyTempDataIntervalMs);
+    }
+
+    @Override
+    protected void addSnapshotData(SnapshotData snapshotData) {
+        wheel.offer(snapshotData, 0);
+    }
+
+    private ConcurrentMap<String, ChangeData> getSlots(String dataCenter) {
+        ConcurrentMap<String, ChangeData> slots = mergeSlots.get(dataCenter);
+        if (slots == null) {
+            ConcurrentMap<String, ChangeData> newSlots = new ConcurrentHashMap<>();
+            slots = mergeSlots.putIfAbsent(dataCenter, newSlots);
+            if (slots == null) {
+                slots = newSlots;
+            }
+        }
+        return slots;
+    }
+}
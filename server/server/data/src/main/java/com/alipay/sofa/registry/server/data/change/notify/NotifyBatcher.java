@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.change.notify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.IntSupplier;
+
+import com.alipay.sofa.registry.common.model.sessionserver.DataChangeRequest;
+
+/**
+ * groups the DataChangeRequests to the same sessionServer address, a batch is sent when it
+ * reaches the batch size or when the linger time since its first request has passed.
+ * The batch of an address is dropped once it is flushed, so addresses of sessionServers which
+ * are gone don't stay in the map.
+ *
+ * @author agent
+ * @version $Id: NotifyBatcher.java, v 0.1 2026-10-18 20:05 agent Exp $
+ */
+class NotifyBatcher<C> {
+
+    /**
+     * sessionServer address -> pending changes to be sent in one DataChangeBatchRequest
+     */
+    private final ConcurrentMap<String, Batch<C>>        batches = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService               flushExecutor;
+
+    private final IntSupplier                            batchSize;
+
+    private final IntSupplier                            lingerMs;
+
+    private final BiConsumer<C, List<DataChangeRequest>> sender;
+
+    /**
+     * constructor
+     * @param flushExecutor
+     * @param batchSize
+     * @param lingerMs
+     * @param sender
+     */
+    NotifyBatcher(ScheduledExecutorService flushExecutor, IntSupplier batchSize,
+                  IntSupplier lingerMs, BiConsumer<C, List<DataChangeRequest>> sender) {
+        this.flushExecutor = flushExecutor;
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.sender = sender;
+    }
+
+    /**
+     * add request to the batch of address, the batch is sent on the caller thread if it is full
+     * @param address
+     * @param connection
+     * @param request
+     */
+    void add(String address, C connection, DataChangeRequest request) {
+        List<DataChangeRequest> full = null;
+        while (true) {
+            Batch<C> batch = batches.computeIfAbsent(address, k -> new Batch<>());
+            synchronized (batch) {
+                if (batch.removed) {
+                    continue;
+                }
+                batch.connection = connection;
+                batch.requests.add(request);
+                if (batch.requests.size() >= batchSize.getAsInt()) {
+                    full = batch.drain();
+                    if (!batch.flushScheduled) {
+                        remove(address, batch);
+                    }
+                } else if (!batch.flushScheduled) {
+                    batch.flushScheduled = true;
+                    flushExecutor.schedule(() -> flush(address, batch), lingerMs.getAsInt(),
+                            TimeUnit.MILLISECONDS);
+                }
+                break;
+            }
+        }
+        if (full != null) {
+            sender.accept(connection, full);
+        }
+    }
+
+    /**
+     * @return the count of addresses with a pending batch
+     */
+    int pendingAddresses() {
+        return batches.size();
+    }
+
+    private void flush(String address, Batch<C> batch) {
+        C connection;
+        List<DataChangeRequest> requests;
+        synchronized (batch) {
+            batch.flushScheduled = false;
+            connection = batch.connection;
+            requests = batch.drain();
+            remove(address, batch);
+        }
+        if (!requests.isEmpty()) {
+            sender.accept(connection, requests);
+        }
+    }
+
+    private void remove(String address, Batch<C> batch) {
+        batch.removed = true;
+        batches.remove(address, batch);
+    }
+
+    private static final class Batch<C> {
+
+        private C                       connection;
+
+        private List<DataChangeRequest> requests = new ArrayList<>();
+
+        private boolean                 flushScheduled;
+
+        private boolean                 removed;
+
+        private List<DataChangeRequest> drain() {
+            List<DataChangeRequest> drained = requests;
+            requests = new ArrayList<>();
+            return drained;
+        }
+    }
+}
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.data.change.notify;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -28,7 +29,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.remoting.Connection;
 import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.GenericResponse;
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.sessionserver.DataChangeBatchRequest;
 import com.alipay.sofa.registry.common.model.sessionserver.DataChangeRequest;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
@@ -58,6 +61,8 @@ public class SessionServerNotifier implements IDataChangeNotifier {
 
     private AsyncHashedWheelTimer          asyncHashedWheelTimer;
 
+    private NotifyBatcher<Connection>      notifyBatcher;
+
     @Autowired
     private DataServerConfig               dataServerConfig;
 
@@ -90,6 +95,11 @@ public class SessionServerNotifier implements IDataChangeNotifier {
                     LOGGER.error("executionFailed: " + e.getMessage(), e);
                 }
             });
+        if (dataServerConfig.isNotifySessionBatchEnabled()) {
+            notifyBatcher = new NotifyBatcher<>(ExecutorFactory.newScheduledThreadPool(1,
+                "SessionServerNotifier-BatchFlush"), dataServerConfig::getNotifySessionBatchSize,
+                dataServerConfig::getNotifySessionBatchLingerMs, this::doBatchNotify);
+        }
     }
 
     @Override
@@ -107,7 +117,44 @@ public class SessionServerNotifier implements IDataChangeNotifier {
             datum.getDataCenter(), datum.getVersion());
         List<Connection> connections = sessionServerConnectionFactory.getSessionConnections();
         for (Connection connection : connections) {
-            doNotify(new NotifyCallback(connection, request));
+            if (notifyBatcher != null) {
+                notifyBatcher.add(connection.getRemoteAddress().toString(), connection, request);
+            } else {
+                doNotify(new NotifyCallback(connection, request));
+            }
+        }
+    }
+
+    private void doBatchNotify(Connection connection, List<DataChangeRequest> requests) {
+        if (requests.size() == 1) {
+            doNotify(new NotifyCallback(connection, requests.get(0)));
+            return;
+        }
+        BatchNotifyCallback batchCallback = new BatchNotifyCallback(connection, requests);
+        try {
+            //check connection active
+            if (!connection.isFine()) {
+                LOGGER.info(String.format(
+                    "connection from sessionServer(%s) is not fine, so ignore batch notify, size=%s",
+                    connection.getRemoteAddress(), requests.size()));
+                return;
+            }
+            Server sessionServer = boltExchange.getServer(dataServerConfig.getPort());
+            sessionServer.sendCallback(sessionServer.getChannel(connection.getRemoteAddress()),
+                new DataChangeBatchRequest(requests), batchCallback, dataServerConfig.getRpcTimeout());
+        } catch (Exception e) {
+            LOGGER.error(String.format("invokeWithCallback failed: sessionServer(%s), batch size=%s",
+                connection.getRemoteAddress(), requests.size()), e);
+            onBatchFailed(connection, requests);
+        }
+    }
+
+    /**
+     * retry the failed entries of a batch one by one, with the same version check as single request
+     */
+    private void onBatchFailed(Connection connection, List<DataChangeRequest> requests) {
+        for (DataChangeRequest request : requests) {
+            onFailed(new NotifyCallback(connection, request));
         }
     }
 
@@ -183,6 +230,60 @@ public class SessionServerNotifier implements IDataChangeNotifier {
         return result >= 0L ? result : 0L;
     }
 
+    private class BatchNotifyCallback implements CallbackHandler {
+
+        private Connection              connection;
+        private List<DataChangeRequest> requests;
+
+        public BatchNotifyCallback(Connection connection, List<DataChangeRequest> requests) {
+            this.connection = connection;
+            this.requests = requests;
+        }
+
+        @Override
+        public void onCallback(Channel channel, Object message) {
+            CommonResponse result = (CommonResponse) message;
+            if (result != null && !result.isSuccess()) {
+                LOGGER.error(String.format(
+                    "response not success when batch notify sessionServer(%s), size=%s, response=%s",
+                    connection.getRemoteAddress(), requests.size(), result));
+                onBatchFailed(connection, failedRequests(result));
+            }
+        }
+
+        /**
+         * the entries which failed on the sessionServer, or the whole batch if it doesn't tell
+         */
+        private List<DataChangeRequest> failedRequests(CommonResponse result) {
+            if (!(result instanceof GenericResponse)) {
+                return requests;
+            }
+            Object data = ((GenericResponse) result).getData();
+            if (!(data instanceof List)) {
+                return requests;
+            }
+            List<DataChangeRequest> failed = new ArrayList<>();
+            for (Object entry : (List<?>) data) {
+                if (entry instanceof DataChangeRequest) {
+                    failed.add((DataChangeRequest) entry);
+                }
+            }
+            return failed.isEmpty() ? requests : failed;
+        }
+
+        @Override
+        public void onException(Channel channel, Throwable e) {
+            LOGGER.error(String.format("exception when batch notify sessionServer(%s), size=%s",
+                connection.getRemoteAddress(), requests.size()), e);
+            onBatchFailed(connection, requests);
+        }
+
+        @Override
+        public Executor getExecutor() {
+            return ExecutorFactory.NOTIFY_SESSION_CALLBACK_EXECUTOR;
+        }
+    }
+
     private class NotifyCallback implements CallbackHandler {
 
         private int               retryTimes = 0;
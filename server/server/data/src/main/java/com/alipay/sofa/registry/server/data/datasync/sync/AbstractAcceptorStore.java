@@ -18,8 +18,11 @@ package com.alipay.sofa.registry.server.data.datasync.sync;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -30,6 +33,7 @@ import com.alipay.sofa.registry.common.model.dataserver.SyncData;
 import com.alipay.sofa.registry.common.model.dataserver.SyncDataRequest;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
 import com.alipay.sofa.registry.remoting.Server;
 import com.alipay.sofa.registry.remoting.exchange.Exchange;
 import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
@@ -37,10 +41,10 @@ import com.alipay.sofa.registry.server.data.cache.DatumCache;
 import com.alipay.sofa.registry.server.data.datasync.AcceptorStore;
 import com.alipay.sofa.registry.server.data.datasync.Operator;
 import com.alipay.sofa.registry.server.data.datasync.SnapshotOperator;
+import com.alipay.sofa.registry.server.data.executor.ExecutorFactory;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.DataServerConnectionFactory;
 import com.alipay.sofa.registry.server.data.remoting.metaserver.IMetaServerService;
 import com.alipay.sofa.registry.server.data.util.DelayItem;
-import com.alipay.sofa.registry.server.data.util.TimeUtil;
 
 /**
  *
@@ -55,6 +59,12 @@ public abstract class AbstractAcceptorStore implements AcceptorStore {
 
     private static final int                                                 DEFAULT_MAX_BUFFER_SIZE = 30;
 
+    private static final Executor                                            CALLBACK_EXECUTOR       = ExecutorFactory
+                                                                                                         .newFixedThreadPool(2, "DataSyncNotifyCallback");
+
+    private static final ScheduledExecutorService                            RETRY_EXECUTOR          = ExecutorFactory
+                                                                                                         .newScheduledThreadPool(1, "DataSyncNotifyRetry");
+
     @Autowired
     protected IMetaServerService                                             metaServerService;
 
@@ -76,6 +86,11 @@ public abstract class AbstractAcceptorStore implements AcceptorStore {
 
     private DelayQueue<DelayItem<Acceptor>>                                  delayQueue              = new DelayQueue<>();
 
+    /**
+     * targetDataIp -> notify sender, the changeDataCheck thread only hands requests over and never waits for a peer
+     */
+    private final Map<String/*targetDataIp*/, PeerNotifier>                 peerNotifiers           = new ConcurrentHashMap<>();
+
     @Override
     public void checkAcceptorsChangAndExpired() {
         acceptors.forEach((dataCenter, acceptorMap) -> {
@@ -83,6 +98,7 @@ public abstract class AbstractAcceptorStore implements AcceptorStore {
                 acceptorMap.forEach((dataInfoId, acceptor) -> acceptor.checkExpired(0));
             }
         });
+        removeDepartedPeers();
     }
 
     private String getLogByClass(String msg) {
@@ -203,39 +219,63 @@ public abstract class AbstractAcceptorStore implements AcceptorStore {
             if (DataServerConfig.IP.equals(targetDataIp)) {
                 continue;
             }
-
-            Server syncServer = boltExchange.getServer(dataServerConfig.getSyncDataPort());
-
-            for (int tryCount = 0; tryCount < dataServerConfig.getDataSyncNotifyRetry(); tryCount++) {
-                try {
-
-                    Connection connection = dataServerConnectionFactory.getConnection(targetDataIp);
-                    if (connection == null) {
-                        LOGGER.error(getLogByClass(String.format(
-                            "Can not get notify data server connection!ip: %s,retry=%s",
-                            targetDataIp, tryCount)));
-                        TimeUtil.randomDelay(1000);
-                        continue;
-                    }
-                    LOGGER.info(
-                        getLogByClass("Notify data server {} change data {} to sync,retry={}"),
-                        connection.getRemoteIP(), request, tryCount);
-
-                    syncServer.sendSync(syncServer.getChannel(connection.getRemoteAddress()),
-                        request, 1000);
+            while (true) {
+                PeerNotifier peerNotifier = peerNotifiers.computeIfAbsent(targetDataIp,
+                    ip -> new PeerNotifier(ip, dataServerConfig, this::sendNotify,
+                        CALLBACK_EXECUTOR, RETRY_EXECUTOR));
+                if (peerNotifier.offer(request, 0)) {
                     break;
-                } catch (Exception e) {
-                    LOGGER.error(getLogByClass(String.format(
-                        "Notify data server %s failed, NotifyDataSyncRequest:%s,retry=%s",
-                        targetDataIp, request, tryCount)), e);
-                    TimeUtil.randomDelay(1000);
                 }
+                // closed as the data server was gone, it is back now
+                peerNotifiers.remove(targetDataIp, peerNotifier);
             }
         }
     }
 
+    private void sendNotify(String targetDataIp, Object request, CallbackHandler callbackHandler) {
+        Connection connection = dataServerConnectionFactory.getConnection(targetDataIp);
+        if (connection == null) {
+            throw new IllegalStateException(String.format(
+                "Can not get notify data server connection!ip: %s", targetDataIp));
+        }
+        LOGGER.info(getLogByClass("Notify data server {} change data {} to sync"),
+            connection.getRemoteIP(), request);
+
+        Server syncServer = boltExchange.getServer(dataServerConfig.getSyncDataPort());
+        syncServer.sendCallback(syncServer.getChannel(connection.getRemoteAddress()), request,
+            callbackHandler, dataServerConfig.getDataSyncNotifyTimeout());
+    }
+
+    /**
+     * close the notifiers of the data servers which are not in the data server list any more
+     */
+    private void removeDepartedPeers() {
+        if (peerNotifiers.isEmpty()) {
+            return;
+        }
+        Set<String> dataServerIps = getDataServerIps();
+        if (dataServerIps.isEmpty()) {
+            // data server list not known yet
+            return;
+        }
+        peerNotifiers.forEach((targetDataIp, peerNotifier) -> {
+            if (!dataServerIps.contains(targetDataIp)) {
+                peerNotifier.close();
+                peerNotifiers.remove(targetDataIp, peerNotifier);
+                LOGGER.info(getLogByClass("Remove notifier of departed data server {}"),
+                    targetDataIp);
+            }
+        });
+    }
+
     abstract public List<String> getTargetDataIp(String dataInfoId);
 
+    /**
+     * ips of all data servers which notifies could be sent to
+     * @return
+     */
+    abstract public Set<String> getDataServerIps();
+
     @Override
     public void changeDataCheck() {
 
@@ -18,14 +18,10 @@ package com.alipay.sofa.registry.server.data.datasync.sync;
 
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -38,27 +34,34 @@ import com.alipay.sofa.registry.server.data.datasync.Operator;
 import com.alipay.sofa.registry.util.DatumVersionUtil;
 
 /**
+ * operation log of one datum, kept in a fixed-capacity ring ordered by version
  *
  * @author shangyu.wh
  * @version $Id: Acceptor.java, v 0.1 2018-03-05 16:57 shangyu.wh Exp $
  */
 public class Acceptor {
 
-    static final int                        DEFAULT_DURATION_SECS = 30;
-    private static final Logger             LOGGER                = LoggerFactory.getLogger(
-                                                                      Acceptor.class,
-                                                                      "[SyncDataService]");
-    private final Deque<Long/*version*/>   logOperatorsOrder     = new ConcurrentLinkedDeque<>();
-    private final String                    dataInfoId;
-    private final String                    dataCenter;
-    private int                             maxBufferSize;
-    private Map<Long/*version*/, Operator> logOperators          = new ConcurrentHashMap<>();
+    static final int                     DEFAULT_DURATION_SECS = 30;
+    private static final Logger          LOGGER                = LoggerFactory.getLogger(
+                                                                   Acceptor.class,
+                                                                   "[SyncDataService]");
+    private final String                 dataInfoId;
+    private final String                 dataCenter;
+    private final int                    maxBufferSize;
 
-    private final ReentrantReadWriteLock    readWriteLock         = new ReentrantReadWriteLock();
-    private final Lock                      read                  = readWriteLock.readLock();
-    private final Lock                      write                 = readWriteLock.writeLock();
+    /**
+     * ring of operators, versions[i] is the version of operators[i], in ascending order from head
+     */
+    private final long[]                 versions;
+    private final Operator[]             operators;
+    private int                          head;
+    private int                          size;
 
-    private final DatumCache                datumCache;
+    private final ReentrantReadWriteLock readWriteLock         = new ReentrantReadWriteLock();
+    private final Lock                   read                  = readWriteLock.readLock();
+    private final Lock                   write                 = readWriteLock.writeLock();
+
+    private final DatumCache             datumCache;
 
     /**
      * constructor
@@ -71,6 +74,8 @@ public class Acceptor {
         this.dataInfoId = dataInfoId;
         this.dataCenter = dataCenter;
         this.datumCache = datumCache;
+        this.versions = new long[maxBufferSize];
+        this.operators = new Operator[maxBufferSize];
     }
 
     /**
@@ -83,32 +88,33 @@ public class Acceptor {
     public void appendOperator(Operator operator) {
         write.lock();
         try {
-            if (isFull()) {
-                logOperators.remove(logOperatorsOrder.poll());
-            }
             if (operator.getSourceVersion() == null) {
                 operator.setSourceVersion(0L);
             }
-            Long tailVersion = logOperatorsOrder.peekLast();
-
-            if (tailVersion != null) {
+            long version = operator.getVersion();
+            if (size > 0) {
+                long tailVersion = versions[index(size - 1)];
+                if (indexOf(version) >= 0) {
+                    LOGGER.warn("Append operation has been exist!");
+                    return;
+                }
                 //operation add not by solid sequence
-                if (tailVersion.longValue() != operator.getSourceVersion().longValue()) {
+                if (tailVersion != operator.getSourceVersion() || tailVersion > version) {
                     LOGGER
                         .warn(
                             "Datum {} append operation not follow version sequence!Current version {},but input source version {}.In order to avoid get "
                                     + "data error clear operations!", operator.getDatum()
                                 .getDataInfoId(), tailVersion, operator.getSourceVersion());
-                    clearBefore();
+                    clear();
                 }
             }
-
-            Operator previousOperator = logOperators.put(operator.getVersion(), operator);
-            if (previousOperator == null) {
-                logOperatorsOrder.add(operator.getVersion());
-            } else {
-                LOGGER.warn("Append operation has been exist!");
+            if (isFull()) {
+                poll();
             }
+            int tail = index(size);
+            versions[tail] = version;
+            operators[tail] = operator;
+            size++;
         } finally {
             write.unlock();
         }
@@ -119,15 +125,12 @@ public class Acceptor {
      * @return
      */
     public Collection<Operator> getAllOperators() {
-        LinkedList<Operator> linkRet = new LinkedList<>();
-        if (logOperatorsOrder.peek() != null) {
-            Iterator iterator = logOperatorsOrder.iterator();
-            while (iterator.hasNext()) {
-                Long i = (Long) iterator.next();
-                linkRet.add(logOperators.get(i));
-            }
+        read.lock();
+        try {
+            return copyOf(0, size);
+        } finally {
+            read.unlock();
         }
-        return linkRet;
     }
 
     /**
@@ -143,34 +146,35 @@ public class Acceptor {
         try {
             Collection<Operator> operators = acceptOperator(currentVersion);
 
-            List<Datum> retList = new LinkedList<>();
-            SyncData syncData;
+            //SyncData is sent to other data server, keep a plain ArrayList for serialization
+            List<Datum> retList;
             boolean wholeDataTag = false;
             if (operators != null) {
                 //first get all data
                 if (operators.isEmpty()) {
                     wholeDataTag = true;
+                    retList = new ArrayList<>(1);
                     retList.add(datumCache.get(dataCenter, dataInfoId));
                     LOGGER.info("Get all data!dataInfoID:{} dataCenter:{}.All data size{}:",
                         dataInfoId, dataCenter, retList.size());
                 } else {
+                    retList = new ArrayList<>(operators.size());
                     for (Operator operator : operators) {
                         retList.add(operator.getDatum());
                     }
                 }
-                syncData = new SyncData(dataInfoId, dataCenter, wholeDataTag, retList);
             } else {
                 //no match get all data
                 LOGGER
                     .info(
                         "Append log queue is empty,Maybe all logs record expired or no operator append!So must get all data!dataInfoID:{} dataCenter:{}.queue size{}:",
-                        dataInfoId, dataCenter, logOperatorsOrder.size());
+                        dataInfoId, dataCenter, size);
                 wholeDataTag = true;
+                retList = new ArrayList<>(1);
                 retList.add(datumCache.get(dataCenter, dataInfoId));
-                syncData = new SyncData(dataInfoId, dataCenter, wholeDataTag, retList);
             }
 
-            return syncData;
+            return new SyncData(dataInfoId, dataCenter, wholeDataTag, retList);
         } finally {
             read.unlock();
         }
@@ -188,38 +192,36 @@ public class Acceptor {
                 .info(
                     "Current version input is null,maybe first get all data!dataInfoID:{} dataCenter:{}",
                     dataInfoId, dataCenter);
-            return new ArrayList<>();
+            return Collections.emptyList();
         }
 
-        if (logOperatorsOrder.size() > 0) {
-            LinkedList<Operator> linkRet = new LinkedList<>();
-            //target version found
-            if (logOperatorsOrder.contains(currentVersion)) {
-                Iterator iterator = logOperatorsOrder.descendingIterator();
-                while (iterator.hasNext()) {
-                    Long i = (Long) iterator.next();
-                    if (currentVersion.equals(i)) {
-                        break;
-                    }
-                    linkRet.addFirst(logOperators.get(i));
-                }
-            } else {
-                //target version not found,but source version equals
-                Operator headOperator = logOperators.get(logOperatorsOrder.peek());
-                if (currentVersion.equals(headOperator.getSourceVersion())) {
+        read.lock();
+        try {
+            if (size > 0) {
+                List<Operator> ret;
+                int found = indexOf(currentVersion);
+                //target version found
+                if (found >= 0) {
+                    ret = copyOf(found + 1, size);
+                } else if (currentVersion.equals(operators[head].getSourceVersion())) {
+                    //target version not found,but source version equals
                     LOGGER
                         .info("current version not found on queue,but header source version equals current version!");
-                    linkRet.addAll(logOperators.values());
+                    ret = copyOf(0, size);
+                } else {
+                    ret = Collections.emptyList();
                 }
+                if (ret.isEmpty()) {
+                    LOGGER.info("Current version {} not match on queue,queue size {} !",
+                        currentVersion, size);
+                }
+                return ret;
             }
-            if (linkRet.isEmpty()) {
-                LOGGER.info("Current version {} not match on queue,queue size {} !",
-                    currentVersion, logOperatorsOrder.size());
-            }
-            return linkRet;
+            //cannot match version,must poll all data
+            return null;
+        } finally {
+            read.unlock();
         }
-        //cannot match version,must poll all data
-        return null;
     }
 
     /**
@@ -230,10 +232,8 @@ public class Acceptor {
         write.lock();
         try {
             //check all expired
-            Long peekVersion = logOperatorsOrder.peek();
-            if (peekVersion != null && isExpired(durationSEC, peekVersion)) {
-                logOperators.remove(logOperatorsOrder.poll());
-                checkExpired(durationSEC);
+            while (size > 0 && isExpired(durationSEC, versions[head])) {
+                poll();
             }
         } finally {
             write.unlock();
@@ -245,11 +245,73 @@ public class Acceptor {
      * @return
      */
     public Long getLastVersion() {
-        return logOperatorsOrder.peekLast();
+        read.lock();
+        try {
+            return size > 0 ? versions[index(size - 1)] : null;
+        } finally {
+            read.unlock();
+        }
     }
 
     private boolean isFull() {
-        return logOperators.size() >= maxBufferSize;
+        return size >= maxBufferSize;
+    }
+
+    private int index(int offset) {
+        int i = head + offset;
+        return i < maxBufferSize ? i : i - maxBufferSize;
+    }
+
+    /**
+     * binary search version in the ring
+     *
+     * @param version
+     * @return offset from head, or -1 if not found
+     */
+    private int indexOf(long version) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midVersion = versions[index(mid)];
+            if (midVersion < version) {
+                low = mid + 1;
+            } else if (midVersion > version) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * copy operators in [from, to) offset from head, the ring may be overwritten after the lock released
+     */
+    private List<Operator> copyOf(int from, int to) {
+        if (from >= to) {
+            return Collections.emptyList();
+        }
+        Operator[] copy = new Operator[to - from];
+        int start = index(from);
+        int firstPart = Math.min(copy.length, maxBufferSize - start);
+        System.arraycopy(operators, start, copy, 0, firstPart);
+        if (firstPart < copy.length) {
+            System.arraycopy(operators, 0, copy, firstPart, copy.length - firstPart);
+        }
+        return Arrays.asList(copy);
+    }
+
+    private void poll() {
+        operators[head] = null;
+        head = index(1);
+        size--;
+    }
+
+    private void clear() {
+        Arrays.fill(operators, null);
+        head = 0;
+        size = 0;
     }
 
     private boolean isExpired(int durationSECS, long peekVersion) {
@@ -266,9 +328,7 @@ public class Acceptor {
     public void clearBefore() {
         write.lock();
         try {
-
-            logOperators.clear();
-            logOperatorsOrder.clear();
+            clear();
         } finally {
             write.unlock();
         }
@@ -278,18 +338,20 @@ public class Acceptor {
      *
      */
     public void printInfo() {
-        LOGGER
-            .debug("----------------------------------------------------------------------------");
-        LOGGER.debug("Acceptor info has " + logOperators.size() + " operations，dataInfoID:"
-                     + this.getDataInfoId() + " dataCenter:" + this.getDataCenter());
-        if (logOperatorsOrder.size() > 0) {
-            for (Long version : logOperatorsOrder) {
-                Operator operator = logOperators.get(version);
+        read.lock();
+        try {
+            LOGGER
+                .debug("----------------------------------------------------------------------------");
+            LOGGER.debug("Acceptor info has " + size + " operations，dataInfoID:"
+                         + this.getDataInfoId() + " dataCenter:" + this.getDataCenter());
+            for (int i = 0; i < size; i++) {
+                Operator operator = operators[index(i)];
                 LOGGER.debug("| " + pidLine(String.valueOf(operator.getVersion()), 24, " ")
                              + pidLine(String.valueOf(operator.getSourceVersion()), 24, " ")
                              + operator.getDatum());
-
             }
+        } finally {
+            read.unlock();
         }
     }
 
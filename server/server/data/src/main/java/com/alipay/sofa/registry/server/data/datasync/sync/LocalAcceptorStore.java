@@ -20,7 +20,10 @@ import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
 import com.alipay.sofa.registry.server.data.node.DataServerNode;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -46,4 +49,15 @@ public class LocalAcceptorStore extends AbstractAcceptorStore {
 
         return ips;
     }
+
+    @Override
+    public Set<String> getDataServerIps() {
+        Set<String> ips = new HashSet<>();
+        Collection<DataServerNode> dataServerNodes = metaServerService
+                .getDataServers(getDataServerConfig().getLocalDataCenter());
+        if (dataServerNodes != null) {
+            dataServerNodes.forEach(dataServerNode -> ips.add(dataServerNode.getIp()));
+        }
+        return ips;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.datasync.sync;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.alipay.sofa.registry.common.model.dataserver.NotifyDataSyncBatchRequest;
+import com.alipay.sofa.registry.common.model.dataserver.NotifyDataSyncRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
+
+/**
+ * send notify requests to one backup data server asynchronously, at most dataSyncNotifyWindowSize
+ * requests are outstanding, pending requests of the same datum are merged into the newest one.
+ * A closed notifier drops its pending requests and refuses new ones.
+ *
+ * @author agent
+ * @version $Id: PeerNotifier.java, v 0.1 2026-10-18 21:40 agent Exp $
+ */
+final class PeerNotifier {
+
+    private static final Logger              LOGGER  = LoggerFactory.getLogger(
+                                                         PeerNotifier.class, "[SyncDataService]");
+
+    /**
+     * sends one NotifyDataSyncRequest or NotifyDataSyncBatchRequest to a data server
+     */
+    interface Sender {
+        /**
+         * @param targetDataIp
+         * @param request
+         * @param callbackHandler
+         * @throws Exception if the request could not be sent
+         */
+        void send(String targetDataIp, Object request, CallbackHandler callbackHandler)
+                                                                                        throws Exception;
+    }
+
+    private final String                     targetDataIp;
+
+    private final DataServerConfig           dataServerConfig;
+
+    private final Sender                     sender;
+
+    private final Executor                   callbackExecutor;
+
+    private final ScheduledExecutorService   retryExecutor;
+
+    /**
+     * dataCenter#dataInfoId -> pending notify
+     */
+    private final Map<String, PendingNotify> pending = new LinkedHashMap<>();
+
+    private int                              inflight;
+
+    private boolean                          closed;
+
+    /**
+     * constructor
+     * @param targetDataIp
+     * @param dataServerConfig
+     * @param sender
+     * @param callbackExecutor
+     * @param retryExecutor
+     */
+    PeerNotifier(String targetDataIp, DataServerConfig dataServerConfig, Sender sender,
+                 Executor callbackExecutor, ScheduledExecutorService retryExecutor) {
+        this.targetDataIp = targetDataIp;
+        this.dataServerConfig = dataServerConfig;
+        this.sender = sender;
+        this.callbackExecutor = callbackExecutor;
+        this.retryExecutor = retryExecutor;
+    }
+
+    /**
+     * @param request
+     * @param retry
+     * @return false if the notifier is closed
+     */
+    boolean offer(NotifyDataSyncRequest request, int retry) {
+        String key = request.getDataCenter() + "#" + request.getDataInfoId();
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            PendingNotify exist = pending.get(key);
+            if (exist == null || exist.request.getVersion() <= request.getVersion()) {
+                pending.put(key, new PendingNotify(request, retry));
+            }
+        }
+        flush();
+        return true;
+    }
+
+    /**
+     * drop the pending requests, the outstanding ones are not retried
+     */
+    synchronized void close() {
+        closed = true;
+        if (!pending.isEmpty()) {
+            LOGGER.warn("Data server {} is gone, drop {} pending notifies", targetDataIp,
+                pending.size());
+            pending.clear();
+        }
+    }
+
+    /**
+     * @return the count of pending requests
+     */
+    synchronized int pendingSize() {
+        return pending.size();
+    }
+
+    private void flush() {
+        while (true) {
+            List<PendingNotify> batch;
+            synchronized (this) {
+                if (pending.isEmpty() || inflight >= dataServerConfig.getDataSyncNotifyWindowSize()) {
+                    return;
+                }
+                int batchSize = dataServerConfig.isDataSyncNotifyBatchEnabled() ? dataServerConfig
+                    .getDataSyncNotifyBatchSize() : 1;
+                batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+                Iterator<PendingNotify> iterator = pending.values().iterator();
+                while (iterator.hasNext() && batch.size() < batchSize) {
+                    batch.add(iterator.next());
+                    iterator.remove();
+                }
+                inflight++;
+            }
+            send(batch);
+        }
+    }
+
+    private void send(List<PendingNotify> batch) {
+        final Object request = toRequest(batch);
+        try {
+            sender.send(targetDataIp, request, new CallbackHandler() {
+                @Override
+                public void onCallback(Channel channel, Object message) {
+                    complete(batch, true, true);
+                }
+
+                @Override
+                public void onException(Channel channel, Throwable exception) {
+                    LOGGER.error(String.format("Notify data server %s failed, request:%s",
+                        targetDataIp, request), exception);
+                    complete(batch, false, true);
+                }
+
+                @Override
+                public Executor getExecutor() {
+                    return callbackExecutor;
+                }
+            });
+        } catch (Exception e) {
+            LOGGER.error(String.format("Notify data server %s failed, request:%s", targetDataIp,
+                request), e);
+            complete(batch, false, false);
+        }
+    }
+
+    private Object toRequest(List<PendingNotify> batch) {
+        if (batch.size() == 1) {
+            return batch.get(0).request;
+        }
+        List<NotifyDataSyncRequest> requests = new ArrayList<>(batch.size());
+        batch.forEach(pendingNotify -> requests.add(pendingNotify.request));
+        return new NotifyDataSyncBatchRequest(requests);
+    }
+
+    /**
+     * release the window, failed entries are offered again after a random delay
+     *
+     * @param batch
+     * @param success
+     * @param reflush false if called in flush, which goes on sending by itself
+     */
+    private void complete(List<PendingNotify> batch, boolean success, boolean reflush) {
+        synchronized (this) {
+            inflight--;
+        }
+        if (!success) {
+            for (PendingNotify pendingNotify : batch) {
+                int retry = pendingNotify.retry + 1;
+                if (retry >= dataServerConfig.getDataSyncNotifyRetry()) {
+                    LOGGER.error(String.format(
+                        "Notify data server %s failed after %s times, NotifyDataSyncRequest:%s",
+                        targetDataIp, retry, pendingNotify.request));
+                    continue;
+                }
+                retryExecutor.schedule(() -> offer(pendingNotify.request, retry),
+                    ThreadLocalRandom.current().nextInt(1000), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (reflush) {
+            flush();
+        }
+    }
+
+    private static final class PendingNotify {
+
+        private final NotifyDataSyncRequest request;
+
+        private final int                   retry;
+
+        PendingNotify(NotifyDataSyncRequest request, int retry) {
+            this.request = request;
+            this.retry = retry;
+        }
+    }
+}
\ No newline at end of file
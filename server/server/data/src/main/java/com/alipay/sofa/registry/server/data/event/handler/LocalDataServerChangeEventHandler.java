@@ -16,14 +16,22 @@
  */
 package com.alipay.sofa.registry.server.data.event.handler;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +54,7 @@ import com.alipay.sofa.registry.server.data.cache.DataServerCache;
 import com.alipay.sofa.registry.server.data.cache.DatumCache;
 import com.alipay.sofa.registry.server.data.event.LocalDataServerChangeEvent;
 import com.alipay.sofa.registry.server.data.executor.ExecutorFactory;
+import com.alipay.sofa.registry.server.data.node.DataMigrationProgress;
 import com.alipay.sofa.registry.server.data.node.DataNodeStatus;
 import com.alipay.sofa.registry.server.data.node.DataServerNode;
 import com.alipay.sofa.registry.server.data.remoting.DataNodeExchanger;
@@ -89,6 +98,13 @@ public class LocalDataServerChangeEventHandler extends
     @Autowired
     private DatumLeaseManager                         datumLeaseManager;
 
+    @Autowired
+    private DataMigrationProgress                     dataMigrationProgress;
+
+    private ForkJoinPool                              forkJoinPool;
+
+    private ExecutorService                           notifyExecutor;
+
     private BlockingQueue<LocalDataServerChangeEvent> events    = new LinkedBlockingDeque<>();
 
     private AtomicBoolean                             isChanged = new AtomicBoolean(false);
@@ -121,6 +137,9 @@ public class LocalDataServerChangeEventHandler extends
      *
      */
     public void start() {
+        forkJoinPool = new ForkJoinPool(dataServerConfig.getToBeSyncComputeParallelism());
+        notifyExecutor = (ExecutorService) ExecutorFactory.newFixedThreadPool(
+            dataServerConfig.getNotifyFetchParallelism(), "NotifyFetchDatumExecutor");
         Executor executor = ExecutorFactory
             .newSingleThreadExecutor(LocalDataServerChangeEventHandler.class.getSimpleName());
         executor.execute(new LocalClusterDataSyncer());
@@ -174,54 +193,37 @@ public class LocalDataServerChangeEventHandler extends
          */
         private void notifyToFetch(LocalDataServerChangeEvent event, long changeVersion) {
 
+            dataMigrationProgress.begin(changeVersion);
             Map<String, DataNode> dataServerMapIn = event.getLocalDataServerMap();
             List<DataNode> dataServerNodeList = Lists.newArrayList(dataServerMapIn.values());
             ConsistentHash<DataNode> consistentHash = new ConsistentHash<>(
                 dataServerConfig.getNumberOfReplicas(), dataServerNodeList);
             Map<String, DataNode> dataServerMap = new ConcurrentHashMap<>(dataServerMapIn);
 
-            Map<String, Map<String, Map<String, BackupTriad>>> toBeSyncMap = getToBeSyncMap(consistentHash);
+            Map<String, Map<String, Map<String, Long>>> toBeSyncMap = getToBeSyncMap(consistentHash);
             if (!isChanged.get()) {
-                if (!toBeSyncMap.isEmpty()) {
-                    for (Entry<String, Map<String, Map<String, BackupTriad>>> toBeSyncEntry : toBeSyncMap
-                        .entrySet()) {
-                        String ip = toBeSyncEntry.getKey();
-                        Map<String, Map<String, Long>> allVersionMap = new HashMap<>();
-                        Map<String, Map<String, BackupTriad>> dataInfoMap = toBeSyncEntry
-                            .getValue();
-                        for (Entry<String, Map<String, BackupTriad>> dataCenterEntry : dataInfoMap
-                            .entrySet()) {
-                            String dataCenter = dataCenterEntry.getKey();
-                            Map<String, Long> versionMap = new HashMap<>();
-                            Map<String, BackupTriad> dataTriadMap = dataCenterEntry.getValue();
-                            for (Entry<String, BackupTriad> dataTriadEntry : dataTriadMap
-                                .entrySet()) {
-                                String dataInfoId = dataTriadEntry.getKey();
-                                Datum datum = datumCache.get(dataCenter, dataInfoId);
-                                if (datum != null) {
-                                    versionMap.put(dataInfoId, datum.getVersion());
-                                }
-                            }
-                            if (!versionMap.isEmpty()) {
-                                allVersionMap.put(dataCenter, versionMap);
-                            }
-                        }
-                        if (!allVersionMap.isEmpty()) {
-                            dataServerMap.remove(ip);
-                            if (doNotify(ip, allVersionMap, changeVersion)) {
-                                //remove new status node,avoid duplicate notify sync data
-                                dataServerCache.removeNotifyNewStatusNode(ip);
-                            }
-                        }
-                    }
+                List<Future<?>> futures = new ArrayList<>();
+                for (Entry<String, Map<String, Map<String, Long>>> toBeSyncEntry : toBeSyncMap
+                    .entrySet()) {
+                    String ip = toBeSyncEntry.getKey();
+                    Map<String, Map<String, Long>> allVersionMap = toBeSyncEntry.getValue();
+                    dataServerMap.remove(ip);
+                    futures.add(notifyExecutor.submit(() -> notifyTarget(ip, allVersionMap,
+                        changeVersion)));
                 }
                 //if no datum to notify, notify empty map
-                if (!dataServerMap.isEmpty()) {
-                    for (String targetIp : dataServerMap.keySet()) {
-                        if (doNotify(targetIp, new HashMap<>(), changeVersion)) {
-                            //remove new status node,avoid duplicate notify sync data
-                            dataServerCache.removeNotifyNewStatusNode(targetIp);
-                        }
+                for (String targetIp : dataServerMap.keySet()) {
+                    futures.add(notifyExecutor.submit(() -> notifyTarget(targetIp,
+                        new HashMap<>(), changeVersion)));
+                }
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        LOGGER.error("notify to fetch datum error", e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException("interrupted when notify to fetch datum", e);
                     }
                 }
                 if (!isChanged.get()) {
@@ -230,66 +232,79 @@ public class LocalDataServerChangeEventHandler extends
                         dataServerConfig.getLocalDataCenter());
                 }
             }
+            dataMigrationProgress.end();
+            LOGGER.info("end handle dataserver change, version={}, progress={}", changeVersion,
+                dataMigrationProgress.toMap());
         }
 
         /**
-         * get map of datum to be synced
+         * notify target to fetch datum, the version map is sent in pages of notifyFetchChunkSize
+         *
+         * @param targetIp
+         * @param allVersionMap
+         * @param changeVersion
+         */
+        private void notifyTarget(String targetIp, Map<String, Map<String, Long>> allVersionMap,
+                                  long changeVersion) {
+            List<Map<String, Map<String, Long>>> chunks = splitVersionMap(allVersionMap,
+                dataServerConfig.getNotifyFetchChunkSize());
+            dataMigrationProgress.addTarget(chunks.size());
+            boolean success = true;
+            for (int i = 0; i < chunks.size() && success; i++) {
+                success = doNotify(targetIp, chunks.get(i), changeVersion, chunks.size() > 1 ? i
+                    : 0, chunks.size() > 1 ? chunks.size() : 0);
+                if (success) {
+                    dataMigrationProgress.chunkSent();
+                }
+            }
+            if (success) {
+                //remove new status node,avoid duplicate notify sync data
+                dataServerCache.removeNotifyNewStatusNode(targetIp);
+            }
+            dataMigrationProgress.targetNotified(success);
+        }
+
+        /**
+         * get versions of datum to be synced, the new joined nodes of every dataInfoId are computed in fork join pool
          *
          * @param consistentHash
          * @return
          */
-        private Map<String/*ip*/, Map<String/*datacenter*/, Map<String/*datainfoId*/, BackupTriad>>> getToBeSyncMap(ConsistentHash<DataNode> consistentHash) {
+        private Map<String/*ip*/, Map<String/*datacenter*/, Map<String/*datainfoId*/, Long>>> getToBeSyncMap(ConsistentHash<DataNode> consistentHash) {
 
-            Map<String, Map<String, Map<String, BackupTriad>>> toBeSyncMap = new HashMap<>();
-            Map<String, List<DataNode>> triadCache = new HashMap<>();
+            Map<String, Map<String, Map<String, Long>>> toBeSyncMap = new HashMap<>();
 
             ConsistentHash<DataNode> consistentHashOld = dataServerCache
                 .calculateOldConsistentHash(dataServerConfig.getLocalDataCenter());
+            Set<String> notWorking = dataServerCache.getNotWorking();
 
-            //compute new triad for every datum in cache
+            //compute new triad for every dataInfoId in cache, the same dataInfoId of other datacenters use the same triad
             Map<String, Map<String, Datum>> allMap = datumCache.getAll();
+            Set<String> dataInfoIds = new HashSet<>();
+            allMap.values().forEach(datumMap -> dataInfoIds.addAll(datumMap.keySet()));
+            long begin = System.currentTimeMillis();
+            Map<String, List<DataNode>> newJoinedMap = forkJoinPool.invoke(new NewJoinedTask(
+                new ArrayList<>(dataInfoIds), 0, dataInfoIds.size(), consistentHash,
+                consistentHashOld, notWorking));
+            dataMigrationProgress.computed(dataInfoIds.size(), System.currentTimeMillis() - begin);
+            //if dataservers are changed, no longer to handle
+            if (isChanged.get()) {
+                return new HashMap<>();
+            }
+
             for (Entry<String, Map<String, Datum>> dataCenterEntry : allMap.entrySet()) {
                 String dataCenter = dataCenterEntry.getKey();
-                Map<String, Datum> datumMap = dataCenterEntry.getValue();
-                for (String dataInfoId : datumMap.keySet()) {
-                    //if dataservers are changed, no longer to handle
-                    if (isChanged.get()) {
-                        return new HashMap<>();
-                    }
-                    //compute new triad by new dataservers
-                    List<DataNode> backupNodes;
-                    if (triadCache.containsKey(dataInfoId)) {
-                        backupNodes = triadCache.get(dataInfoId);
-                    } else {
-                        backupNodes = consistentHash.getNUniqueNodesFor(dataInfoId,
-                            dataServerConfig.getStoreNodes());
-                        triadCache.put(dataInfoId, backupNodes);
+                for (Entry<String, Datum> datumEntry : dataCenterEntry.getValue().entrySet()) {
+                    List<DataNode> newJoinedNodes = newJoinedMap.get(datumEntry.getKey());
+                    Datum datum = datumEntry.getValue();
+                    if (newJoinedNodes == null || datum == null) {
+                        continue;
                     }
-                    BackupTriad backupTriad = new BackupTriad(dataInfoId,
-                        consistentHashOld.getNUniqueNodesFor(dataInfoId,
-                            dataServerConfig.getStoreNodes()));
-                    if (backupTriad != null) {
-                        List<DataNode> newJoinedNodes = backupTriad.getNewJoined(backupNodes,
-                            dataServerCache.getNotWorking());
-                        //all data node send notify to new join,the same data maybe send twice,receiver check same data duplicate!
-                        LOGGER
-                            .info(
-                                "DataInfoId {} has got newJoinedNodes={}  for backupNodes={},now backupTriad is {}",
-                                dataInfoId, newJoinedNodes, backupNodes, backupTriad);
-                        if (!newJoinedNodes.isEmpty()) {
-                            for (DataNode node : newJoinedNodes) {
-                                String ip = node.getIp();
-                                if (!toBeSyncMap.containsKey(ip)) {
-                                    toBeSyncMap.put(ip, new HashMap<>());
-                                }
-                                Map<String, Map<String, BackupTriad>> dataInfoMap = toBeSyncMap
-                                    .get(ip);
-                                if (!dataInfoMap.containsKey(dataCenter)) {
-                                    dataInfoMap.put(dataCenter, new HashMap<>());
-                                }
-                                dataInfoMap.get(dataCenter).put(dataInfoId, backupTriad);
-                            }
-                        }
+                    //all data node send notify to new join,the same data maybe send twice,receiver check same data duplicate!
+                    for (DataNode node : newJoinedNodes) {
+                        toBeSyncMap.computeIfAbsent(node.getIp(), k -> new HashMap<>())
+                            .computeIfAbsent(dataCenter, k -> new HashMap<>())
+                            .put(datumEntry.getKey(), datum.getVersion());
                     }
                 }
             }
@@ -302,9 +317,11 @@ public class LocalDataServerChangeEventHandler extends
          *
          * @param targetIp
          * @param notifyVersionMap
+         * @param chunkIndex
+         * @param chunkCount 0 if the version map is not paged
          */
         private boolean doNotify(String targetIp, Map<String, Map<String, Long>> notifyVersionMap,
-                                 long version) {
+                                 long version, int chunkIndex, int chunkCount) {
             while (!isChanged.get()) {
                 DataServerNode targetNode = DataServerNodeFactory.getDataServerNode(
                     dataServerConfig.getLocalDataCenter(), targetIp);
@@ -319,8 +336,11 @@ public class LocalDataServerChangeEventHandler extends
                         new Request() {
                             @Override
                             public Object getRequestBody() {
-                                return new NotifyFetchDatumRequest(notifyVersionMap,
-                                    DataServerConfig.IP, version);
+                                NotifyFetchDatumRequest request = new NotifyFetchDatumRequest(
+                                    notifyVersionMap, DataServerConfig.IP, version);
+                                request.setChunkIndex(chunkIndex);
+                                request.setChunkCount(chunkCount);
+                                return request;
                             }
 
                             @Override
@@ -333,8 +353,9 @@ public class LocalDataServerChangeEventHandler extends
                     if (response.isSuccess()) {
                         LOGGER
                             .info(
-                                "notify {} version change to sync,current node list version={}, map={}",
-                                targetNode.getIp(), version, notifyVersionMap);
+                                "notify {} version change to sync,current node list version={}, chunk={}/{}, map={}",
+                                targetNode.getIp(), version, chunkIndex, chunkCount,
+                                notifyVersionMap);
                         return true;
                     } else {
                         throw new RuntimeException(response.getMessage());
@@ -460,4 +481,104 @@ public class LocalDataServerChangeEventHandler extends
                 dataServerConfig);
         }
     }
+    /**
+     * split version map into pages with at most chunkSize dataInfoIds, not split if chunkSize is not positive
+     *
+     * @param versionMap
+     * @param chunkSize
+     * @return
+     */
+    static List<Map<String, Map<String, Long>>> splitVersionMap(Map<String, Map<String, Long>> versionMap,
+                                                                int chunkSize) {
+        List<Map<String, Map<String, Long>>> chunks = new ArrayList<>();
+        if (chunkSize <= 0 || versionMap.isEmpty()) {
+            chunks.add(versionMap);
+            return chunks;
+        }
+        Map<String, Map<String, Long>> chunk = new HashMap<>();
+        int size = 0;
+        for (Entry<String, Map<String, Long>> dataCenterEntry : versionMap.entrySet()) {
+            for (Entry<String, Long> entry : dataCenterEntry.getValue().entrySet()) {
+                if (size == chunkSize) {
+                    chunks.add(chunk);
+                    chunk = new HashMap<>();
+                    size = 0;
+                }
+                chunk.computeIfAbsent(dataCenterEntry.getKey(), k -> new HashMap<>()).put(
+                    entry.getKey(), entry.getValue());
+                size++;
+            }
+        }
+        if (size > 0) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * compute new joined nodes of dataInfoIds in [from, to), split until the range is small enough
+     */
+    private class NewJoinedTask extends RecursiveTask<Map<String, List<DataNode>>> {
+
+        private static final int               THRESHOLD = 1024;
+
+        private final List<String>             dataInfoIds;
+
+        private final int                      from;
+
+        private final int                      to;
+
+        private final ConsistentHash<DataNode> consistentHash;
+
+        private final ConsistentHash<DataNode> consistentHashOld;
+
+        private final Set<String>              notWorking;
+
+        NewJoinedTask(List<String> dataInfoIds, int from, int to,
+                      ConsistentHash<DataNode> consistentHash,
+                      ConsistentHash<DataNode> consistentHashOld, Set<String> notWorking) {
+            this.dataInfoIds = dataInfoIds;
+            this.from = from;
+            this.to = to;
+            this.consistentHash = consistentHash;
+            this.consistentHashOld = consistentHashOld;
+            this.notWorking = notWorking;
+        }
+
+        @Override
+        protected Map<String, List<DataNode>> compute() {
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                NewJoinedTask left = new NewJoinedTask(dataInfoIds, from, mid, consistentHash,
+                    consistentHashOld, notWorking);
+                NewJoinedTask right = new NewJoinedTask(dataInfoIds, mid, to, consistentHash,
+                    consistentHashOld, notWorking);
+                left.fork();
+                Map<String, List<DataNode>> result = right.compute();
+                result.putAll(left.join());
+                return result;
+            }
+            Map<String, List<DataNode>> result = new HashMap<>();
+            int storeNodes = dataServerConfig.getStoreNodes();
+            for (int i = from; i < to; i++) {
+                //if dataservers are changed, no longer to handle
+                if (isChanged.get()) {
+                    break;
+                }
+                String dataInfoId = dataInfoIds.get(i);
+                List<DataNode> backupNodes = consistentHash.getNUniqueNodesFor(dataInfoId,
+                    storeNodes);
+                BackupTriad backupTriad = new BackupTriad(dataInfoId,
+                    consistentHashOld.getNUniqueNodesFor(dataInfoId, storeNodes));
+                List<DataNode> newJoinedNodes = backupTriad.getNewJoined(backupNodes, notWorking);
+                if (!newJoinedNodes.isEmpty()) {
+                    LOGGER.info(
+                        "DataInfoId {} has got newJoinedNodes={}  for backupNodes={},now backupTriad is {}",
+                        dataInfoId, newJoinedNodes, backupNodes, backupTriad);
+                    result.put(dataInfoId, newJoinedNodes);
+                }
+            }
+            return result;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.node;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.codahale.metrics.Gauge;
+
+/**
+ * progress of the latest notify to fetch datum after local data server list changed.
+ * LocalDataServerChangeEventHandler begins it for each change version and records the datum
+ * computed, the chunks sent and the targets notified. It is exposed as gauges of the shared metric
+ * registry and by DataDigestResource, a new change version resets the counters.
+ *
+ * @author agent
+ * @version $Id: DataMigrationProgress.java, v 0.1 2026-10-18 10:20 agent Exp $
+ */
+public class DataMigrationProgress {
+
+    private volatile long    changeVersion;
+
+    private volatile long    beginTimestamp;
+
+    private volatile long    endTimestamp;
+
+    private volatile long    computeCostMillis;
+
+    private final AtomicLong datumCount     = new AtomicLong();
+
+    private final AtomicLong targetCount    = new AtomicLong();
+
+    private final AtomicLong notifiedCount  = new AtomicLong();
+
+    private final AtomicLong failedCount    = new AtomicLong();
+
+    private final AtomicLong chunkCount     = new AtomicLong();
+
+    private final AtomicLong sentChunkCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        Metrics.gauge("dataMigration.changeVersion", (Gauge<Long>) () -> changeVersion);
+        Metrics.gauge("dataMigration.computeCostMillis", (Gauge<Long>) () -> computeCostMillis);
+        Metrics.gauge("dataMigration.costMillis", (Gauge<Long>) this::getCostMillis);
+        Metrics.gauge("dataMigration.datumCount", (Gauge<Long>) datumCount::get);
+        Metrics.gauge("dataMigration.targetCount", (Gauge<Long>) targetCount::get);
+        Metrics.gauge("dataMigration.notifiedCount", (Gauge<Long>) notifiedCount::get);
+        Metrics.gauge("dataMigration.failedCount", (Gauge<Long>) failedCount::get);
+        Metrics.gauge("dataMigration.chunkCount", (Gauge<Long>) chunkCount::get);
+        Metrics.gauge("dataMigration.sentChunkCount", (Gauge<Long>) sentChunkCount::get);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        Metrics.removeByPrefix("dataMigration");
+    }
+
+    /**
+     * start a new round of migration, counters of the last round are cleared
+     *
+     * @param version change version of data server list
+     */
+    public void begin(long version) {
+        changeVersion = version;
+        beginTimestamp = System.currentTimeMillis();
+        endTimestamp = 0;
+        computeCostMillis = 0;
+        datumCount.set(0);
+        targetCount.set(0);
+        notifiedCount.set(0);
+        failedCount.set(0);
+        chunkCount.set(0);
+        sentChunkCount.set(0);
+    }
+
+    public void computed(long datumSize, long costMillis) {
+        datumCount.set(datumSize);
+        computeCostMillis = costMillis;
+    }
+
+    public void addTarget(int chunks) {
+        targetCount.incrementAndGet();
+        chunkCount.addAndGet(chunks);
+    }
+
+    public void chunkSent() {
+        sentChunkCount.incrementAndGet();
+    }
+
+    public void targetNotified(boolean success) {
+        if (success) {
+            notifiedCount.incrementAndGet();
+        } else {
+            failedCount.incrementAndGet();
+        }
+    }
+
+    public void end() {
+        endTimestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * cost of the current round, till now if it is not finished
+     *
+     * @return
+     */
+    public long getCostMillis() {
+        if (beginTimestamp == 0) {
+            return 0;
+        }
+        long end = endTimestamp;
+        return (end == 0 ? System.currentTimeMillis() : end) - beginTimestamp;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("changeVersion", changeVersion);
+        map.put("finished", beginTimestamp != 0 && endTimestamp != 0);
+        map.put("costMillis", getCostMillis());
+        map.put("computeCostMillis", computeCostMillis);
+        map.put("datumCount", datumCount.get());
+        map.put("targetCount", targetCount.get());
+        map.put("notifiedCount", notifiedCount.get());
+        map.put("failedCount", failedCount.get());
+        map.put("chunkCount", chunkCount.get());
+        map.put("sentChunkCount", sentChunkCount.get());
+        return map;
+    }
+}
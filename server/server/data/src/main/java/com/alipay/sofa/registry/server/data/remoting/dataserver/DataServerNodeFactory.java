@@ -23,9 +23,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.alipay.remoting.Connection;
-import com.alipay.sofa.registry.consistency.hash.ConsistentHash;
+import com.alipay.sofa.registry.consistency.hash.RoutingTable;
 import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
 import com.alipay.sofa.registry.server.data.node.DataServerNode;
 import com.google.common.collect.Lists;
@@ -43,16 +44,21 @@ public class DataServerNodeFactory {
      * column:  ip
      * value    dataServerNode
      */
-    private static final Map<String, Map<String, DataServerNode>>    MAP                 = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, DataServerNode>>  MAP               = new ConcurrentHashMap<>();
 
     /**
      * key:     dataCenter
-     * value:   consistentHash
+     * value:   routingTable
      */
-    private static final Map<String, ConsistentHash<DataServerNode>> CONSISTENT_HASH_MAP = new ConcurrentHashMap<>();
+    private static final Map<String, RoutingTable<DataServerNode>> ROUTING_TABLE_MAP = new ConcurrentHashMap<>();
 
-    private static AtomicBoolean                                     init                = new AtomicBoolean(
-                                                                                             false);
+    /**
+     * version of routing tables, increased on every refresh
+     */
+    private static final AtomicLong                                ROUTING_VERSION   = new AtomicLong();
+
+    private static AtomicBoolean                                   init              = new AtomicBoolean(
+                                                                                         false);
 
     /**
      * add a dataserver to cache
@@ -86,8 +92,14 @@ public class DataServerNodeFactory {
                     .getLocalDataCenter(), null));
             }
         }
-        CONSISTENT_HASH_MAP.put(dataCenter,
-            new ConsistentHash<>(dataServerConfig.getNumberOfReplicas(), dataServerNodes));
+        ROUTING_TABLE_MAP.put(dataCenter, newRoutingTable(dataServerNodes, dataServerConfig));
+    }
+
+    private static RoutingTable<DataServerNode> newRoutingTable(List<DataServerNode> dataServerNodes,
+                                                                DataServerConfig dataServerConfig) {
+        return new RoutingTable<>(ROUTING_VERSION.incrementAndGet(),
+            dataServerConfig.getNumberOfReplicas(), dataServerNodes,
+            dataServerConfig.getRoutingCacheSize());
     }
 
     /**
@@ -99,8 +111,8 @@ public class DataServerNodeFactory {
             List<DataServerNode> dataServerNodes = Lists.newArrayList();
             dataServerNodes.add(new DataServerNode(DataServerConfig.IP, dataServerConfig
                 .getLocalDataCenter(), null));
-            CONSISTENT_HASH_MAP.put(dataServerConfig.getLocalDataCenter(), new ConsistentHash<>(
-                dataServerConfig.getNumberOfReplicas(), dataServerNodes));
+            ROUTING_TABLE_MAP.put(dataServerConfig.getLocalDataCenter(),
+                newRoutingTable(dataServerNodes, dataServerConfig));
         }
     }
 
@@ -181,7 +193,7 @@ public class DataServerNodeFactory {
         getDataServerNodes(dataCenter).values().stream().map(DataServerNode::getConnection)
                 .filter(connection -> connection != null && connection.isFine()).forEach(Connection::close);
         MAP.remove(dataCenter);
-        CONSISTENT_HASH_MAP.remove(dataCenter);
+        ROUTING_TABLE_MAP.remove(dataCenter);
     }
 
     /**
@@ -192,20 +204,34 @@ public class DataServerNodeFactory {
      * @return
      */
     public static DataServerNode computeDataServerNode(String dataCenter, String dataInfoId) {
-        ConsistentHash<DataServerNode> consistentHash = CONSISTENT_HASH_MAP.get(dataCenter);
-        if (consistentHash != null) {
-            return consistentHash.getNodeFor(dataInfoId);
+        RoutingTable<DataServerNode> routingTable = ROUTING_TABLE_MAP.get(dataCenter);
+        if (routingTable != null) {
+            return routingTable.getNodeFor(dataInfoId);
         }
         return null;
     }
 
     public static List<DataServerNode> computeDataServerNodes(String dataCenter, String dataInfoId,
                                                               int backupNodes) {
-        ConsistentHash<DataServerNode> consistentHash = CONSISTENT_HASH_MAP.get(dataCenter);
-        if (consistentHash != null) {
-            return consistentHash.getNUniqueNodesFor(dataInfoId, backupNodes);
+        RoutingTable<DataServerNode> routingTable = ROUTING_TABLE_MAP.get(dataCenter);
+        if (routingTable != null) {
+            return routingTable.getNUniqueNodesFor(dataInfoId, backupNodes);
         }
         return null;
     }
 
+    /**
+     * get version of the routing table of specific datacenter
+     *
+     * @param dataCenter
+     * @return version of current routing table, or -1 if the routing table is not ready
+     */
+    public static long getRoutingVersion(String dataCenter) {
+        RoutingTable<DataServerNode> routingTable = ROUTING_TABLE_MAP.get(dataCenter);
+        if (routingTable != null) {
+            return routingTable.getVersion();
+        }
+        return -1L;
+    }
+
 }
\ No newline at end of file
@@ -16,6 +16,11 @@
  */
 package com.alipay.sofa.registry.server.data.remoting.dataserver;
 
+import com.alipay.remoting.Connection;
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.dataserver.SyncData;
+import com.alipay.sofa.registry.common.model.dataserver.SyncDataBatchRequest;
+import com.alipay.sofa.registry.common.model.dataserver.SyncDataRequest;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
@@ -25,6 +30,8 @@ import com.alipay.sofa.registry.remoting.exchange.message.Request;
 import com.alipay.sofa.registry.server.data.remoting.DataNodeExchanger;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 
 /**
@@ -89,4 +96,72 @@ public class GetSyncDataHandler {
         }
     }
 
+    /**
+     * get sync data of all callbacks in one SyncDataBatchRequest, every SyncData of the response is
+     * handled by its own callback, the failed ones are retried one by one
+     *
+     * @param connection
+     * @param callbacks
+     */
+    public void syncDataBatch(Connection connection, List<SyncDataCallback> callbacks) {
+        List<SyncDataRequest> requests = new ArrayList<>(callbacks.size());
+        callbacks.forEach(callback -> requests.add(callback.getRequest()));
+        try {
+            dataNodeExchanger.request(new Request() {
+                @Override
+                public Object getRequestBody() {
+                    return new SyncDataBatchRequest(requests);
+                }
+
+                @Override
+                public URL getRequestUrl() {
+                    return new URL(connection.getRemoteIP(), connection.getRemotePort());
+                }
+
+                @Override
+                public CallbackHandler getCallBackHandler() {
+                    return new CallbackHandler() {
+                        @Override
+                        public void onCallback(Channel channel, Object message) {
+                            GenericResponse<List<SyncData>> response = (GenericResponse<List<SyncData>>) message;
+                            List<SyncData> syncDatas = response.getData();
+                            if (!response.isSuccess() || syncDatas == null
+                                || syncDatas.size() != callbacks.size()) {
+                                LOGGER.error(
+                                    "[GetSyncDataHandler] sync data batch failed, size={}, msg={}",
+                                    callbacks.size(), response.getMessage());
+                                callbacks.forEach(callback -> syncData(callback));
+                                return;
+                            }
+                            for (int i = 0; i < callbacks.size(); i++) {
+                                SyncData syncData = syncDatas.get(i);
+                                if (syncData == null) {
+                                    syncData(callbacks.get(i));
+                                } else {
+                                    callbacks.get(i).onResponse(
+                                        new GenericResponse<SyncData>().fillSucceed(syncData));
+                                }
+                            }
+                        }
+
+                        @Override
+                        public void onException(Channel channel, Throwable exception) {
+                            LOGGER.error("[GetSyncDataHandler] sync data batch error, size={}",
+                                callbacks.size(), exception);
+                            callbacks.forEach(callback -> syncData(callback));
+                        }
+
+                        @Override
+                        public Executor getExecutor() {
+                            return callbacks.get(0).getExecutor();
+                        }
+                    };
+                }
+            });
+        } catch (Exception e) {
+            LOGGER.error("[GetSyncDataHandler] send sync data batch request failed", e);
+            callbacks.forEach(callback -> syncData(callback));
+        }
+    }
+
 }
\ No newline at end of file
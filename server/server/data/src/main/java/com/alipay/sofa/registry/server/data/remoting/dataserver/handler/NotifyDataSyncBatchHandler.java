@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.remoting.dataserver.handler;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.dataserver.NotifyDataSyncBatchRequest;
+import com.alipay.sofa.registry.common.model.dataserver.NotifyDataSyncRequest;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.remoting.bolt.BoltChannel;
+import com.alipay.sofa.registry.server.data.remoting.handler.AbstractClientHandler;
+import com.alipay.sofa.registry.util.ParaCheckUtil;
+
+/**
+ * handle NotifyDataSyncBatchRequest, every entry is handled the same way as a NotifyDataSyncRequest
+ *
+ * @author agent
+ * @version $Id: NotifyDataSyncBatchHandler.java, v 0.1 2026-10-18 15:10 agent Exp $
+ */
+public class NotifyDataSyncBatchHandler extends AbstractClientHandler<NotifyDataSyncBatchRequest> {
+
+    @Autowired
+    private NotifyDataSyncHandler notifyDataSyncHandler;
+
+    @Override
+    public void checkParam(NotifyDataSyncBatchRequest request) throws RuntimeException {
+        ParaCheckUtil.checkNotNull(request.getRequests(), "request.requests");
+        for (NotifyDataSyncRequest notifyDataSyncRequest : request.getRequests()) {
+            notifyDataSyncHandler.checkParam(notifyDataSyncRequest);
+        }
+    }
+
+    @Override
+    public Object doHandle(Channel channel, NotifyDataSyncBatchRequest request) {
+        notifyDataSyncHandler.handleBatch(((BoltChannel) channel).getConnection(),
+            request.getRequests());
+        return CommonResponse.buildSuccessResponse();
+    }
+
+    @Override
+    public CommonResponse buildFailedResponse(String msg) {
+        return CommonResponse.buildFailedResponse(msg);
+    }
+
+    @Override
+    public Class interest() {
+        return NotifyDataSyncBatchRequest.class;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return notifyDataSyncHandler.getExecutor();
+    }
+
+    @Override
+    public HandlerType getType() {
+        return HandlerType.PROCESSER;
+    }
+
+    @Override
+    protected Node.NodeType getConnectNodeType() {
+        return Node.NodeType.DATA;
+    }
+}
\ No newline at end of file
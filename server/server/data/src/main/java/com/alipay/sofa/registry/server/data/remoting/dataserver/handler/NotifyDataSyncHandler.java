@@ -16,6 +16,8 @@
  */
 package com.alipay.sofa.registry.server.data.remoting.dataserver.handler;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
@@ -108,7 +110,51 @@ public class NotifyDataSyncHandler extends AbstractClientHandler<NotifyDataSyncR
         });
     }
 
+    /**
+     * handle entries of NotifyDataSyncBatchRequest, the sync data of them is got in one SyncDataBatchRequest
+     *
+     * @param connection
+     * @param requests
+     */
+    public void handleBatch(Connection connection, List<NotifyDataSyncRequest> requests) {
+        if (dataNodeStatus.getStatus() != LocalServerStatusEnum.WORKING) {
+            LOGGER.info("receive notifyDataSync batch request,but data server not working!");
+            requests.forEach(request -> noWorkQueue.add(new SyncDataRequestForWorking(connection,
+                request)));
+            return;
+        }
+        executor.execute(() -> {
+            List<SyncDataCallback> callbacks = new ArrayList<>(requests.size());
+            for (NotifyDataSyncRequest request : requests) {
+                SyncDataCallback callback = createSyncDataCallback(connection, request);
+                if (callback != null) {
+                    callbacks.add(callback);
+                }
+            }
+            if (callbacks.size() == 1) {
+                getSyncDataHandler.syncData(callbacks.get(0));
+            } else if (!callbacks.isEmpty()) {
+                getSyncDataHandler.syncDataBatch(connection, callbacks);
+            }
+        });
+    }
+
     protected void fetchSyncData(Connection connection, NotifyDataSyncRequest request) {
+        SyncDataCallback callback = createSyncDataCallback(connection, request);
+        if (callback != null) {
+            getSyncDataHandler.syncData(callback);
+        }
+    }
+
+    /**
+     * create callback to get sync data, null if local datum is not older than the request
+     *
+     * @param connection
+     * @param request
+     * @return
+     */
+    private SyncDataCallback createSyncDataCallback(Connection connection,
+                                                    NotifyDataSyncRequest request) {
         String dataInfoId = request.getDataInfoId();
         String dataCenter = request.getDataCenter();
         Datum datum = datumCache.get(dataCenter, dataInfoId);
@@ -119,14 +165,13 @@ public class NotifyDataSyncHandler extends AbstractClientHandler<NotifyDataSyncR
             LOGGER.info(
                 "[NotifyDataSyncProcessor] begin get sync data, currentVersion={},request={}",
                 version, request);
-            getSyncDataHandler.syncData(new SyncDataCallback(getSyncDataHandler, connection,
-                new SyncDataRequest(dataInfoId, dataCenter, version, request.getDataSourceType()),
-                dataChangeEventCenter));
-        } else {
-            LOGGER.info(
-                "[NotifyDataSyncHandler] not need to sync data, currentVersion={},request={}",
-                version, request);
+            return new SyncDataCallback(getSyncDataHandler, connection, new SyncDataRequest(
+                dataInfoId, dataCenter, version, request.getDataSourceType()),
+                dataChangeEventCenter);
         }
+        LOGGER.info("[NotifyDataSyncHandler] not need to sync data, currentVersion={},request={}",
+            version, request);
+        return null;
     }
 
     @Override
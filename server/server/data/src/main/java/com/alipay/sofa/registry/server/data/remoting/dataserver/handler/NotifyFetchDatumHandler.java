@@ -18,6 +18,8 @@ package com.alipay.sofa.registry.server.data.remoting.dataserver.handler;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -53,29 +55,34 @@ import com.alipay.sofa.registry.util.ParaCheckUtil;
  */
 public class NotifyFetchDatumHandler extends AbstractServerHandler<NotifyFetchDatumRequest> {
 
-    private static final Logger         LOGGER = LoggerFactory
-                                                   .getLogger(NotifyFetchDatumHandler.class);
+    private static final Logger             LOGGER        = LoggerFactory
+                                                              .getLogger(NotifyFetchDatumHandler.class);
 
     @Autowired
-    private DataServerCache             dataServerCache;
+    private DataServerCache                 dataServerCache;
 
     @Autowired
-    private DataServerConnectionFactory dataServerConnectionFactory;
+    private DataServerConnectionFactory     dataServerConnectionFactory;
 
     @Autowired
-    private DataChangeEventCenter       dataChangeEventCenter;
+    private DataChangeEventCenter           dataChangeEventCenter;
 
     @Autowired
-    private Exchange                    boltExchange;
+    private Exchange                        boltExchange;
 
     @Autowired
-    private DataServerConfig            dataServerConfig;
+    private DataServerConfig                dataServerConfig;
 
     @Autowired
-    private DatumCache                  datumCache;
+    private DatumCache                      datumCache;
 
     @Autowired
-    private LocalDataServerCleanHandler localDataServerCleanHandler;
+    private LocalDataServerCleanHandler     localDataServerCleanHandler;
+
+    /**
+     * fetched chunk indexes of paged notify, key is ip#changeVersion
+     */
+    private final Map<String, Set<Integer>> fetchedChunks = new ConcurrentHashMap<>();
 
     @Override
     public void checkParam(NotifyFetchDatumRequest request) throws RuntimeException {
@@ -125,7 +132,9 @@ public class NotifyFetchDatumHandler extends AbstractServerHandler<NotifyFetchDa
                             fetchDatum(ip, dataCenter, dataInfoId);
                         }
                     }
-                    dataServerCache.synced(version, ip);
+                    if (isAllChunksFetched(request)) {
+                        dataServerCache.synced(version, ip);
+                    }
                 });
             }
         } else {
@@ -135,6 +144,34 @@ public class NotifyFetchDatumHandler extends AbstractServerHandler<NotifyFetchDa
         return CommonResponse.buildSuccessResponse();
     }
 
+    /**
+     * whether all chunks of the notify are fetched, the request not paged is always the last one
+     *
+     * @param request
+     * @return
+     */
+    private boolean isAllChunksFetched(NotifyFetchDatumRequest request) {
+        if (request.getChunkCount() <= 0) {
+            return true;
+        }
+        String prefix = request.getIp() + "#";
+        String key = prefix + request.getChangeVersion();
+        //chunks of older change version will never complete
+        fetchedChunks.keySet().removeIf(k -> k.startsWith(prefix) && !k.equals(key));
+        Set<Integer> fetched = fetchedChunks.computeIfAbsent(key,
+            k -> ConcurrentHashMap.newKeySet());
+        synchronized (fetched) {
+            fetched.add(request.getChunkIndex());
+            if (fetched.size() < request.getChunkCount()) {
+                return false;
+            }
+            fetchedChunks.remove(key, fetched);
+            LOGGER.info("[NotifyFetchDatumHandler] fetch all {} chunks from {} of version {}",
+                request.getChunkCount(), request.getIp(), request.getChangeVersion());
+            return true;
+        }
+    }
+
     /**
      * 拉取数据
      *
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.remoting.dataserver.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.dataserver.SyncData;
+import com.alipay.sofa.registry.common.model.dataserver.SyncDataBatchRequest;
+import com.alipay.sofa.registry.common.model.dataserver.SyncDataRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.data.datasync.SyncDataService;
+import com.alipay.sofa.registry.server.data.remoting.handler.AbstractServerHandler;
+import com.alipay.sofa.registry.util.ParaCheckUtil;
+
+/**
+ * handle SyncDataBatchRequest, the SyncData of a failed entry is null and the requester retries it alone
+ *
+ * @author agent
+ * @version $Id: SyncDataBatchHandler.java, v 0.1 2026-10-18 15:20 agent Exp $
+ */
+public class SyncDataBatchHandler extends AbstractServerHandler<SyncDataBatchRequest> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SyncDataBatchHandler.class);
+
+    @Autowired
+    private SyncDataService     syncDataService;
+
+    @Override
+    public void checkParam(SyncDataBatchRequest request) throws RuntimeException {
+        ParaCheckUtil.checkNotNull(request.getRequests(), "request.requests");
+    }
+
+    @Override
+    public Object doHandle(Channel channel, SyncDataBatchRequest request) {
+        List<SyncData> syncDatas = new ArrayList<>(request.getRequests().size());
+        for (SyncDataRequest syncDataRequest : request.getRequests()) {
+            SyncData syncData = null;
+            try {
+                syncData = syncDataService.getSyncDataChange(syncDataRequest);
+            } catch (Exception e) {
+                LOGGER.error("[SyncDataBatchHandler] get sync data error, request={}",
+                    syncDataRequest, e);
+            }
+            syncDatas.add(syncData);
+        }
+        return new GenericResponse<List<SyncData>>().fillSucceed(syncDatas);
+    }
+
+    @Override
+    public GenericResponse<List<SyncData>> buildFailedResponse(String msg) {
+        return new GenericResponse<List<SyncData>>().fillFailed(msg);
+    }
+
+    @Override
+    public HandlerType getType() {
+        return HandlerType.PROCESSER;
+    }
+
+    @Override
+    public Class interest() {
+        return SyncDataBatchRequest.class;
+    }
+
+    @Override
+    protected Node.NodeType getConnectNodeType() {
+        return Node.NodeType.DATA;
+    }
+}
\ No newline at end of file
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -173,9 +174,9 @@ public class DefaultMetaServiceImpl implements IMetaServerService {
     public DataServerChangeItem getDateServers() {
         Map<String, Connection> connectionMap = metaServerConnectionFactory
             .getConnections(dataServerConfig.getLocalDataCenter());
-        String leader = getLeader().getIp();
-        if (connectionMap.containsKey(leader)) {
-            Connection connection = connectionMap.get(leader);
+        String metaIp = selectReadMetaServer(connectionMap);
+        if (connectionMap.containsKey(metaIp)) {
+            Connection connection = connectionMap.get(metaIp);
             if (connection.isFine()) {
                 try {
                     GetNodesRequest request = new GetNodesRequest(NodeType.DATA);
@@ -199,7 +200,7 @@ public class DefaultMetaServiceImpl implements IMetaServerService {
                 } catch (Exception e) {
                     LOGGER.error(
                         "[ConnectionRefreshTask] refresh connections from metaServer error : {}",
-                        leader, e);
+                        metaIp, e);
                     String newip = refreshLeader().getIp();
                     LOGGER
                         .warn(
@@ -273,9 +274,9 @@ public class DefaultMetaServiceImpl implements IMetaServerService {
 
         Map<String, Connection> connectionMap = metaServerConnectionFactory
             .getConnections(dataServerConfig.getLocalDataCenter());
-        String leader = getLeader().getIp();
-        if (connectionMap.containsKey(leader)) {
-            Connection connection = connectionMap.get(leader);
+        String metaIp = selectReadMetaServer(connectionMap);
+        if (connectionMap.containsKey(metaIp)) {
+            Connection connection = connectionMap.get(metaIp);
             if (connection.isFine()) {
                 try {
                     Request<FetchProvideDataRequest> request = new Request<FetchProvideDataRequest>() {
@@ -315,6 +316,23 @@ public class DefaultMetaServiceImpl implements IMetaServerService {
 
     }
 
+    /**
+     * read only requests are spread over all fine metaServer connections if follower read is enabled
+     * @param connectionMap
+     * @return
+     */
+    private String selectReadMetaServer(Map<String, Connection> connectionMap) {
+        if (dataServerConfig.isMetaFollowerReadEnabled()) {
+            List<String> ips = connectionMap.entrySet().stream()
+                .filter(entry -> entry.getValue().isFine()).map(Entry::getKey)
+                .collect(Collectors.toList());
+            if (!ips.isEmpty()) {
+                return ips.get(ThreadLocalRandom.current().nextInt(ips.size()));
+            }
+        }
+        return getLeader().getIp();
+    }
+
     @Override
     public void startRaftClient() {
         try {
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.remoting.metaserver.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.data.cache.DataServerCache;
+import com.alipay.sofa.registry.server.data.cache.DataServerChangeItem;
+import com.alipay.sofa.registry.server.data.event.DataServerChangeEvent;
+import com.alipay.sofa.registry.server.data.event.DataServerChangeEvent.FromType;
+import com.alipay.sofa.registry.server.data.event.EventCenter;
+import com.alipay.sofa.registry.server.data.executor.ExecutorFactory;
+import com.alipay.sofa.registry.server.data.remoting.handler.AbstractClientHandler;
+
+/**
+ * apply the data node list delta pushed by metaServer,
+ * a failed response makes metaServer push the full node list
+ *
+ * @author agent
+ * @version $Id: NodeChangeDeltaHandler.java, v 0.1 2026-10-18 20:30 agent Exp $
+ */
+public class NodeChangeDeltaHandler extends AbstractClientHandler<NodeChangeDelta> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeChangeDeltaHandler.class);
+
+    @Autowired
+    private EventCenter         eventCenter;
+
+    @Autowired
+    private DataServerCache     dataServerCache;
+
+    @Override
+    public void checkParam(NodeChangeDelta request) throws RuntimeException {
+
+    }
+
+    @Override
+    public Object doHandle(Channel channel, NodeChangeDelta request) {
+        LOGGER.info("Received NodeChangeDelta: {}", request);
+        if (request.getNodeType() != NodeType.DATA) {
+            return CommonResponse.buildFailedResponse("Unsupported node type "
+                                                      + request.getNodeType());
+        }
+        DataServerChangeItem dataServerChangeItem = dataServerCache
+            .applyDelta((NodeChangeDelta<DataNode>) request);
+        if (dataServerChangeItem == null) {
+            LOGGER.info("NodeChangeDelta base version {} is not the current version, need all nodes",
+                request.getBaseVersion());
+            return CommonResponse.buildFailedResponse("Base version not match");
+        }
+        ExecutorFactory.getCommonExecutor().execute(
+            () -> eventCenter.post(new DataServerChangeEvent(dataServerChangeItem,
+                FromType.META_NOTIFY)));
+        return CommonResponse.buildSuccessResponse();
+    }
+
+    @Override
+    public CommonResponse buildFailedResponse(String msg) {
+        return CommonResponse.buildFailedResponse(msg);
+    }
+
+    @Override
+    public Class interest() {
+        return NodeChangeDelta.class;
+    }
+
+    @Override
+    public HandlerType getType() {
+        return HandlerType.PROCESSER;
+    }
+
+    @Override
+    protected Node.NodeType getConnectNodeType() {
+        return Node.NodeType.DATA;
+    }
+}
@@ -79,7 +79,16 @@ public class DatumSnapshotHandler extends AbstractServerHandler<DatumSnapshotReq
     @Override
     public void checkParam(DatumSnapshotRequest request) throws RuntimeException {
         ParaCheckUtil.checkNotBlank(request.getConnectId(), "DatumSnapshotRequest.connectId");
-        ParaCheckUtil.checkNotEmpty(request.getPublishers(), "DatumSnapshotRequest.publishers");
+        if (request.getBuckets() == null) {
+            ParaCheckUtil.checkNotEmpty(request.getPublishers(), "DatumSnapshotRequest.publishers");
+        } else {
+            // the buckets may have no publisher at session side, then all of them should be removed
+            ParaCheckUtil.checkNotNull(request.getPublishers(), "DatumSnapshotRequest.publishers");
+            if (request.getBucketCount() <= 0) {
+                throw new IllegalArgumentException("DatumSnapshotRequest.bucketCount is illegal: "
+                                                   + request.getBucketCount());
+            }
+        }
     }
 
     @Override
@@ -101,6 +110,11 @@ public class DatumSnapshotHandler extends AbstractServerHandler<DatumSnapshotReq
         // diff the cache and snapshot
         boolean isDiff = true;
         Map<String, Publisher> cachePubMap = datumCache.getOwnByConnectId(connectId);
+        if (cachePubMap != null && request.getBuckets() != null) {
+            // only the publishers in the buckets are sent, compare with the same part of cache
+            cachePubMap = filterByBuckets(cachePubMap, request.getBuckets(),
+                request.getBucketCount());
+        }
         if (cachePubMap == null) {
             RENEW_LOGGER
                 .info(
@@ -157,6 +171,23 @@ public class DatumSnapshotHandler extends AbstractServerHandler<DatumSnapshotReq
         }
     }
 
+    private Map<String, Publisher> filterByBuckets(Map<String, Publisher> pubMap, int[] buckets,
+                                                   int bucketCount) {
+        boolean[] included = new boolean[bucketCount];
+        for (int bucket : buckets) {
+            if (bucket >= 0 && bucket < bucketCount) {
+                included[bucket] = true;
+            }
+        }
+        Map<String, Publisher> filtered = new HashMap<>();
+        for (Map.Entry<String, Publisher> entry : pubMap.entrySet()) {
+            if (included[PublisherDigestUtil.getDigestBucket(entry.getKey(), bucketCount)]) {
+                filtered.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return filtered;
+    }
+
     private List subtract(Map<String, Publisher> pubMap1, Map<String, Publisher> pubMap2) {
         List list = new ArrayList();
         for (Map.Entry<String, Publisher> entry : pubMap1.entrySet()) {
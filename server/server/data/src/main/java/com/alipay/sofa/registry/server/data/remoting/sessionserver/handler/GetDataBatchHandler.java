@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.remoting.sessionserver.handler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.dataserver.GetDataBatchRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.data.cache.DatumCache;
+import com.alipay.sofa.registry.server.data.remoting.handler.AbstractServerHandler;
+import com.alipay.sofa.registry.server.data.remoting.sessionserver.forward.ForwardService;
+import com.alipay.sofa.registry.util.ParaCheckUtil;
+
+/**
+ * processor to get the data of many dataInfoIds
+ *
+ * @author agent
+ * @version $Id: GetDataBatchHandler.java, v 0.1 2026-10-18 11:35 agent Exp $
+ */
+public class GetDataBatchHandler extends AbstractServerHandler<GetDataBatchRequest> {
+
+    /** LOGGER */
+    private static final Logger LOGGER = LoggerFactory.getLogger(GetDataBatchHandler.class);
+
+    @Autowired
+    private ForwardService      forwardService;
+
+    @Autowired
+    private DatumCache          datumCache;
+
+    @Autowired
+    private ThreadPoolExecutor  getDataProcessorExecutor;
+
+    @Override
+    public Executor getExecutor() {
+        return getDataProcessorExecutor;
+    }
+
+    @Override
+    public void checkParam(GetDataBatchRequest request) throws RuntimeException {
+        ParaCheckUtil.checkNotEmpty(request.getDataInfoIds(), "GetDataBatchRequest.dataInfoIds");
+    }
+
+    @Override
+    public Object doHandle(Channel channel, GetDataBatchRequest request) {
+        if (forwardService.needForward()) {
+            // the datums may be on different nodes, session falls back to GetDataRequest one by one
+            LOGGER.warn("[forward] Get data batch request can not be forwarded, request: {}",
+                request);
+            return buildFailedResponse("need forward");
+        }
+
+        Map<String, Map<String, Datum>> result = new HashMap<>(request.getDataInfoIds().size());
+        for (String dataInfoId : request.getDataInfoIds()) {
+            result.put(dataInfoId,
+                datumCache.getDatumGroupByDataCenter(request.getDataCenter(), dataInfoId));
+        }
+        return new GenericResponse<Map<String, Map<String, Datum>>>().fillSucceed(result);
+    }
+
+    @Override
+    public GenericResponse<Map<String, Map<String, Datum>>> buildFailedResponse(String msg) {
+        return new GenericResponse<Map<String, Map<String, Datum>>>().fillFailed(msg);
+    }
+
+    @Override
+    public HandlerType getType() {
+        return HandlerType.PROCESSER;
+    }
+
+    @Override
+    public Class interest() {
+        return GetDataBatchRequest.class;
+    }
+
+    @Override
+    protected Node.NodeType getConnectNodeType() {
+        return Node.NodeType.DATA;
+    }
+
+}
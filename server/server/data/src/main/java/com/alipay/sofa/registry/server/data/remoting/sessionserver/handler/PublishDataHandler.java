@@ -19,7 +19,6 @@ package com.alipay.sofa.registry.server.data.remoting.sessionserver.handler;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
-import com.alipay.sofa.registry.common.model.constants.ValueConstants;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.CommonResponse;
@@ -27,7 +26,6 @@ import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.PublishType;
 import com.alipay.sofa.registry.common.model.dataserver.PublishDataRequest;
 import com.alipay.sofa.registry.common.model.store.Publisher;
-import com.alipay.sofa.registry.common.model.store.WordCache;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.Channel;
@@ -99,9 +97,7 @@ public class PublishDataHandler extends AbstractServerHandler<PublishDataRequest
         dataChangeEventCenter.onChange(publisher, dataServerConfig.getLocalDataCenter());
 
         if (publisher.getPublishType() != PublishType.TEMPORARY) {
-            String connectId = WordCache.getInstance().getWordCache(
-                publisher.getSourceAddress().getAddressString() + ValueConstants.CONNECT_ID_SPLIT
-                        + publisher.getTargetAddress().getAddressString());
+            String connectId = publisher.connectId().toString();
             sessionServerConnectionFactory.registerConnectId(request.getSessionServerProcessId(),
                 connectId);
             // record the renew timestamp
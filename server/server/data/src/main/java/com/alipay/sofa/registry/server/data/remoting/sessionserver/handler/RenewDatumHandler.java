@@ -16,7 +16,6 @@
  */
 package com.alipay.sofa.registry.server.data.remoting.sessionserver.handler;
 
-import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -30,11 +29,12 @@ import com.alipay.sofa.registry.common.model.GenericResponse;
 import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.PublisherDigestUtil;
 import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
-import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.WordCache;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.Metrics;
 import com.alipay.sofa.registry.remoting.Channel;
 import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
 import com.alipay.sofa.registry.server.data.cache.DatumCache;
@@ -42,6 +42,7 @@ import com.alipay.sofa.registry.server.data.event.AfterWorkingProcess;
 import com.alipay.sofa.registry.server.data.remoting.handler.AbstractServerHandler;
 import com.alipay.sofa.registry.server.data.renew.DatumLeaseManager;
 import com.alipay.sofa.registry.util.ParaCheckUtil;
+import com.codahale.metrics.Timer;
 
 /**
  * handling snapshot request
@@ -61,6 +62,8 @@ public class RenewDatumHandler extends AbstractServerHandler<RenewDatumRequest>
 
     private final AtomicBoolean renewEnabled = new AtomicBoolean(false);
 
+    private final Timer         handleTimer  = Metrics.timer("data.renew.handle");
+
     @Autowired
     private DatumLeaseManager   datumLeaseManager;
 
@@ -102,9 +105,18 @@ public class RenewDatumHandler extends AbstractServerHandler<RenewDatumRequest>
             return response;
         }
 
-        boolean theSame = renewDatum(request);
+        long start = System.nanoTime();
+        try {
+            boolean theSame = renewDatum(request);
 
-        return new GenericResponse<Boolean>().fillSucceed(theSame);
+            if (request.getBucketDigests() != null) {
+                return new GenericResponse<RenewDatumResult>().fillSucceed(diffBuckets(request,
+                    theSame));
+            }
+            return new GenericResponse<Boolean>().fillSucceed(theSame);
+        } finally {
+            handleTimer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
     @Override
@@ -129,19 +141,14 @@ public class RenewDatumHandler extends AbstractServerHandler<RenewDatumRequest>
 
     /**
      * 1. Update the timestamp corresponding to connectId in datumCache
-     * 2. Compare checksum: Get all pubs corresponding to the connId from datumCache and calculate checksum.
+     * 2. Compare checksum: Get the checksum of all pubs corresponding to the connId from datumCache.
      */
     private boolean renewDatum(RenewDatumRequest request) {
         String connectId = WordCache.getInstance().getWordCache(request.getConnectId());
         String renewDigest = request.getDigestSum();
 
-        // Get all pubs corresponding to the connectId from datumCache
-        Map<String, Publisher> publisherMap = datumCache.getOwnByConnectId(connectId);
-        String cacheDigest = null;
-        if (publisherMap != null && publisherMap.values().size() > 0) {
-            cacheDigest = String.valueOf(PublisherDigestUtil.getDigestValueSum(publisherMap
-                .values()));
-        }
+        // Get the digest of own pubs corresponding to the connectId, which is maintained incrementally by datumCache
+        String cacheDigest = datumCache.getOwnDigestByConnectId(connectId);
 
         // record the renew timestamp
         datumLeaseManager.renew(connectId);
@@ -154,6 +161,30 @@ public class RenewDatumHandler extends AbstractServerHandler<RenewDatumRequest>
         return result;
     }
 
+    /**
+     * tell the session which buckets are different, so it only needs to send the publishers of them
+     */
+    RenewDatumResult diffBuckets(RenewDatumRequest request, boolean theSame) {
+        long[] renewBuckets = request.getBucketDigests();
+        if (theSame) {
+            return new RenewDatumResult(true, renewBuckets.length, null);
+        }
+        if (renewBuckets.length == 0) {
+            return new RenewDatumResult(false, 0, null);
+        }
+        String connectId = WordCache.getInstance().getWordCache(request.getConnectId());
+        long[] cacheBuckets = datumCache.getOwnDigestBucketsByConnectId(connectId,
+            renewBuckets.length);
+        int[] diffBuckets = PublisherDigestUtil.diffDigestBuckets(renewBuckets, cacheBuckets);
+        if (diffBuckets != null && diffBuckets.length == 0) {
+            // sums are different but buckets are the same, e.g. no own publisher, send all of them
+            diffBuckets = null;
+        }
+        RENEW_LOGGER.info("Digest buckets different! connectId={}, diffBuckets={}", connectId,
+            diffBuckets != null ? diffBuckets.length : "all");
+        return new RenewDatumResult(false, renewBuckets.length, diffBuckets);
+    }
+
     @Override
     public void afterWorkingProcess() {
         renewDatumProcessorExecutor.submit(() -> {
@@ -20,7 +20,6 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
-import com.alipay.sofa.registry.common.model.constants.ValueConstants;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.CommonResponse;
@@ -28,7 +27,6 @@ import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.common.model.dataserver.UnPublishDataRequest;
 import com.alipay.sofa.registry.common.model.store.Publisher;
-import com.alipay.sofa.registry.common.model.store.WordCache;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.Channel;
@@ -96,7 +94,7 @@ public class UnPublishDataHandler extends AbstractServerHandler<UnPublishDataReq
                 .getRegisterTimestamp()), dataServerConfig.getLocalDataCenter());
 
         // Attempt to get connectId from datumCache (Datum may not exist), and record the renew timestamp
-        String connectId = WordCache.getInstance().getWordCache(getConnectId(request));
+        String connectId = getConnectId(request);
         if (connectId != null) {
             datumLeaseManager.renew(connectId);
         }
@@ -116,9 +114,7 @@ public class UnPublishDataHandler extends AbstractServerHandler<UnPublishDataReq
             if (pubMap != null) {
                 Publisher publisher = pubMap.get(request.getRegisterId());
                 if (publisher != null) {
-                    return publisher.getSourceAddress().getAddressString()
-                           + ValueConstants.CONNECT_ID_SPLIT
-                           + publisher.getTargetAddress().getAddressString();
+                    return publisher.connectId().toString();
                 }
             }
         }
@@ -30,6 +30,7 @@ import org.apache.commons.lang.time.DateFormatUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
@@ -284,8 +285,9 @@ public class DatumLeaseManager implements AfterWorkingProcess {
                 return;
             }
 
-            Set<String> allConnectIds = datumCache.getAllConnectIds();
-            for (String connectId : allConnectIds) {
+            Set<ConnectId> allConnectIds = datumCache.getAllConnectIds();
+            for (ConnectId id : allConnectIds) {
+                String connectId = id.toString();
                 Long timestamp = connectIdRenewTimestampMap.get(connectId);
                 // no heartbeat
                 if (timestamp == null) {
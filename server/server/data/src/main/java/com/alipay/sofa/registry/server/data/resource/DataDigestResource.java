@@ -43,6 +43,7 @@ import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
 import com.alipay.sofa.registry.server.data.cache.DataServerCache;
 import com.alipay.sofa.registry.server.data.cache.DatumCache;
+import com.alipay.sofa.registry.server.data.node.DataMigrationProgress;
 import com.alipay.sofa.registry.server.data.node.DataServerNode;
 import com.alipay.sofa.registry.server.data.remoting.dataserver.DataServerNodeFactory;
 import com.alipay.sofa.registry.server.data.remoting.metaserver.MetaServerConnectionFactory;
@@ -77,6 +78,9 @@ public class DataDigestResource {
     @Autowired
     private DataServerCache                dataServerCache;
 
+    @Autowired
+    private DataMigrationProgress          dataMigrationProgress;
+
     @GET
     @Path("datum/query")
     @Produces(MediaType.APPLICATION_JSON)
@@ -150,6 +154,13 @@ public class DataDigestResource {
         return sb.toString();
     }
 
+    @GET
+    @Path("migration/progress")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Object> getMigrationProgress() {
+        return dataMigrationProgress.toMap();
+    }
+
     @GET
     @Path("{type}/serverList/query")
     @Produces(MediaType.APPLICATION_JSON)
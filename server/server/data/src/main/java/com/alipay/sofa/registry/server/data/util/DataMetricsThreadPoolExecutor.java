@@ -56,6 +56,12 @@ public class DataMetricsThreadPoolExecutor extends ThreadPoolExecutor {
         TaskMetrics.getInstance().registerThreadExecutor(executorName, this);
     }
 
+    @Override
+    protected void terminated() {
+        super.terminated();
+        TaskMetrics.getInstance().unregisterThreadExecutor(executorName);
+    }
+
     @Override
     public void execute(Runnable command) {
         try {
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.util;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A hashed-wheel style delay queue used in place of DelayQueue on hot paths.
+ *
+ * Producers only append to a lock-free incoming queue. The taking thread moves incoming items
+ * into the bucket of their deadline tick and drains one bucket per elapsed tick, so offer never
+ * contends with take on a heap lock. Delays are rounded up to tickMs.
+ *
+ * @author agent
+ * @version $Id: DelayBucketWheel.java, v 0.1 2026-10-18 14:05 agent Exp $
+ */
+public class DelayBucketWheel<T> {
+
+    private final long                           tickMs;
+
+    private final int                            mask;
+
+    private final ArrayDeque<Slot<T>>[]          buckets;
+
+    private final ConcurrentLinkedQueue<Slot<T>> incoming = new ConcurrentLinkedQueue<>();
+
+    /** items which are not taken yet, include incoming and bucketed ones */
+    private final AtomicInteger                  size     = new AtomicInteger();
+
+    private final ReentrantLock                  takeLock = new ReentrantLock();
+
+    private final ReentrantLock                  idleLock = new ReentrantLock();
+
+    private final Condition                      notEmpty = idleLock.newCondition();
+
+    private final long                           startTime;
+
+    /** guarded by takeLock */
+    private final ArrayDeque<T>                  expired  = new ArrayDeque<>();
+
+    /** guarded by takeLock */
+    private long                                 tick;
+
+    /** guarded by takeLock */
+    private int                                  bucketed;
+
+    /**
+     * constructor
+     * @param tickMs duration of one tick
+     * @param wheelSize bucket count, rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public DelayBucketWheel(long tickMs, int wheelSize) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs must be greater than 0: " + tickMs);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize must be in (0, 2^30]: " + wheelSize);
+        }
+        int normalized = 1;
+        while (normalized < wheelSize) {
+            normalized <<= 1;
+        }
+        this.tickMs = tickMs;
+        this.mask = normalized - 1;
+        this.buckets = new ArrayDeque[normalized];
+        for (int i = 0; i < normalized; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * add item which could be taken after delayMs, never blocks
+     *
+     * @param item
+     * @param delayMs
+     */
+    public void offer(T item, long delayMs) {
+        incoming.offer(new Slot<>(item, System.currentTimeMillis() + Math.max(delayMs, 0)));
+        if (size.getAndIncrement() == 0) {
+            idleLock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * take one expired item, block until there is one
+     *
+     * @return
+     * @throws InterruptedException
+     */
+    public T take() throws InterruptedException {
+        takeLock.lockInterruptibly();
+        try {
+            for (;;) {
+                T item = expired.poll();
+                if (item != null) {
+                    size.decrementAndGet();
+                    return item;
+                }
+                if (size.get() == 0) {
+                    awaitNotEmpty();
+                }
+                long now = System.currentTimeMillis();
+                long currentTick = (now - startTime) / tickMs;
+                if (bucketed == 0 && tick < currentTick) {
+                    // nothing waits in buckets, skip the empty ticks passed while idle
+                    tick = currentTick;
+                }
+                transferIncoming();
+                if (tick > currentTick) {
+                    TimeUnit.MILLISECONDS.sleep(startTime + tick * tickMs - now);
+                    continue;
+                }
+                expireBucket();
+                tick++;
+            }
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * count of items not taken yet
+     *
+     * @return
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private void awaitNotEmpty() throws InterruptedException {
+        idleLock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                notEmpty.await();
+            }
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void transferIncoming() {
+        Slot<T> slot;
+        while ((slot = incoming.poll()) != null) {
+            // round up, an item must never be taken before its deadline
+            long deadlineTick = (slot.deadline - startTime + tickMs - 1) / tickMs;
+            if (deadlineTick < tick) {
+                expired.offer(slot.item);
+                continue;
+            }
+            slot.rounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].offer(slot);
+            bucketed++;
+        }
+    }
+
+    private void expireBucket() {
+        ArrayDeque<Slot<T>> bucket = buckets[(int) (tick & mask)];
+        Iterator<Slot<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Slot<T> slot = iterator.next();
+            if (slot.rounds <= 0) {
+                iterator.remove();
+                bucketed--;
+                expired.offer(slot.item);
+            } else {
+                slot.rounds--;
+            }
+        }
+    }
+
+    private static final class Slot<T> {
+        private final T    item;
+
+        private final long deadline;
+
+        private long       rounds;
+
+        Slot(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -104,4 +104,33 @@ public class TestSyncData {
         Assert.assertTrue(ops[1].getVersion().equals(operator5.getVersion()));
     }
 
+    @Test
+    public void testAcceptOnRing() {
+        Acceptor acceptor = new Acceptor(3, "11", "DefaultDataCenter", new DatumCache());
+        for (long version = 10; version < 15; version++) {
+            acceptor.appendOperator(new Operator(version, version == 10 ? 0L : version - 1,
+                datum1, DataSourceTypeEnum.SYNC));
+        }
+
+        Assert.assertEquals(3, acceptor.getAllOperators().size());
+        Assert.assertEquals(Long.valueOf(14), acceptor.getLastVersion());
+        Operator[] ops = acceptor.acceptOperator(12L).toArray(new Operator[0]);
+        Assert.assertEquals(2, ops.length);
+        Assert.assertEquals(Long.valueOf(13), ops[0].getVersion());
+        Assert.assertEquals(Long.valueOf(14), ops[1].getVersion());
+        Assert.assertTrue(acceptor.acceptOperator(14L).isEmpty());
+        Assert.assertTrue(acceptor.acceptOperator(99L).isEmpty());
+        //header source version equals
+        Assert.assertEquals(3, acceptor.acceptOperator(11L).size());
+
+        //not follow version sequence, operations before are cleared
+        acceptor.appendOperator(new Operator(20L, 18L, datum2, DataSourceTypeEnum.SYNC));
+        Assert.assertEquals(1, acceptor.getAllOperators().size());
+        Assert.assertEquals(Long.valueOf(20), acceptor.getLastVersion());
+
+        acceptor.clearBefore();
+        Assert.assertNull(acceptor.getLastVersion());
+        Assert.assertNull(acceptor.acceptOperator(20L));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.cache;
+
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
+import com.alipay.sofa.registry.server.data.event.DataServerChangeEvent.FromType;
+
+/**
+ *
+ * @author agent
+ * @version $Id: DataServerCacheTest.java, v 0.1 2026-10-18 23:45 agent Exp $
+ */
+public class DataServerCacheTest {
+
+    private static final String LOCAL  = "dc1";
+
+    private static final String REMOTE = "dc2";
+
+    @Mock
+    private DataServerConfig    dataServerConfig;
+
+    @InjectMocks
+    private DataServerCache     dataServerCache;
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+        when(dataServerConfig.getLocalDataCenter()).thenReturn(LOCAL);
+        dataServerCache.compareAndSet(item(1L, 1L, "1.1.1.1", "1.1.1.2"), FromType.META_NOTIFY);
+    }
+
+    @Test
+    public void testApplyDelta() {
+        DataServerChangeItem item = dataServerCache.applyDelta(delta(1L, 2L, 1L,
+            Collections.singleton("1.1.1.1"), "1.1.1.3"));
+
+        Assert.assertNotNull(item);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("1.1.1.2", "1.1.1.3")), item
+            .getServerMap().get(LOCAL).keySet());
+        Assert.assertEquals(Collections.singleton("2.2.2.2"), item.getServerMap().get(REMOTE)
+            .keySet());
+        Assert.assertEquals(Long.valueOf(2L), item.getVersionMap().get(LOCAL));
+        Assert.assertEquals(Long.valueOf(1L), item.getVersionMap().get(REMOTE));
+        // same result as the full node list
+        Assert.assertEquals(item(2L, 1L, "1.1.1.2", "1.1.1.3").getServerMap(), item
+            .getServerMap());
+    }
+
+    @Test
+    public void testRetry() {
+        DataServerChangeItem item = dataServerCache.applyDelta(delta(0L, 1L, 1L,
+            Collections.emptySet(), "1.1.1.1"));
+        Assert.assertEquals(Long.valueOf(1L), item.getVersionMap().get(LOCAL));
+        Assert.assertEquals(2, item.getServerMap().get(LOCAL).size());
+    }
+
+    @Test
+    public void testVersionGap() {
+        // the delta 1 -> 2 is lost, the full node list has to be fetched
+        Assert.assertNull(dataServerCache.applyDelta(delta(2L, 3L, 1L, Collections.emptySet(),
+            "1.1.1.3")));
+    }
+
+    @Test
+    public void testOutOfOrder() {
+        dataServerCache.compareAndSet(dataServerCache.applyDelta(delta(1L, 2L, 1L,
+            Collections.emptySet(), "1.1.1.3")), FromType.META_NOTIFY);
+
+        // an older delta arriving late is not applied over the newer node list
+        Assert.assertNull(dataServerCache.applyDelta(delta(0L, 1L, 1L, Collections.emptySet(),
+            "1.1.1.4")));
+        Assert.assertNotNull(dataServerCache.applyDelta(delta(2L, 3L, 1L,
+            Collections.emptySet(), "1.1.1.4")));
+    }
+
+    @Test
+    public void testRemoteDataCenterChanged() {
+        Assert.assertNull(dataServerCache.applyDelta(delta(1L, 2L, 2L, Collections.emptySet(),
+            "1.1.1.3")));
+    }
+
+    private DataServerChangeItem item(long version, long remoteVersion, String... ips) {
+        Map<String, DataNode> localNodes = new HashMap<>();
+        for (String ip : ips) {
+            localNodes.put(ip, new DataNode(new URL(ip, 9620), LOCAL));
+        }
+        Map<String, Map<String, DataNode>> serverMap = new HashMap<>();
+        serverMap.put(LOCAL, localNodes);
+        serverMap.put(REMOTE, Collections.singletonMap("2.2.2.2", new DataNode(new URL(
+            "2.2.2.2", 9620), REMOTE)));
+        return new DataServerChangeItem(serverMap, versions(version, remoteVersion));
+    }
+
+    private NodeChangeDelta<DataNode> delta(long baseVersion, long version, long remoteVersion,
+                                            Set<String> removeNodes, String addNode) {
+        NodeChangeDelta<DataNode> delta = new NodeChangeDelta<>(NodeType.DATA);
+        delta.setLocalDataCenter(LOCAL);
+        delta.setBaseVersion(baseVersion);
+        delta.setVersion(version);
+        delta.setAddNodes(Collections.singletonMap(addNode, new DataNode(new URL(addNode, 9620),
+            LOCAL)));
+        delta.setRemoveNodes(removeNodes);
+        delta.setDataCenterListVersions(versions(version, remoteVersion));
+        return delta;
+    }
+
+    private Map<String, Long> versions(long version, long remoteVersion) {
+        Map<String, Long> versions = new HashMap<>();
+        versions.put(LOCAL, version);
+        versions.put(REMOTE, remoteVersion);
+        return versions;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.common.model.PublisherDigestUtil;
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
+import com.alipay.sofa.registry.common.model.store.DataInfo;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
+
+/**
+ *
+ * @author agent
+ * @version $Id: LocalDatumStorageTest.java, v 0.1 2026-10-18 10:20 agent Exp $
+ */
+public class LocalDatumStorageTest {
+
+    private static final String DATA_CENTER    = "dc";
+
+    private static final String DATA1          = dataInfoId("data1");
+
+    private static final String DATA2          = dataInfoId("data2");
+
+    private static final String DATA3          = dataInfoId("data3");
+
+    private final Set<String>   ownDataInfoIds = new HashSet<>();
+
+    private long                routingVersion;
+
+    private LocalDatumStorage   storage;
+
+    private ConnectId           connectId;
+
+    @Before
+    public void before() {
+        storage = new LocalDatumStorage() {
+            @Override
+            protected boolean isOwnByMyself(String dataInfoId) {
+                return ownDataInfoIds.contains(dataInfoId);
+            }
+
+            @Override
+            protected long currentRoutingVersion() {
+                return routingVersion;
+            }
+        };
+        routingVersion = 1L;
+        ownDataInfoIds.add(DATA1);
+        ownDataInfoIds.add(DATA2);
+    }
+
+    @Test
+    public void testIncrementalDigest() {
+        Publisher pub1 = newPublisher(DATA1, "r1", 1L);
+        put(pub1);
+        put(newPublisher(DATA2, "r2", 1L));
+        put(newPublisher(DATA3, "r3", 1L));
+        assertDigest();
+
+        // overwrite
+        put(newPublisher(DATA1, "r1", 2L));
+        assertDigest();
+
+        // remove
+        put(new UnPublisher(DATA2, "r2", System.currentTimeMillis() + 1000));
+        assertDigest();
+
+        // routing changed, data3 is own now
+        ownDataInfoIds.clear();
+        ownDataInfoIds.add(DATA3);
+        routingVersion = 2L;
+        assertDigest();
+        put(newPublisher(DATA3, "r4", 1L));
+        assertDigest();
+    }
+
+    @Test
+    public void testDropDigestWithLastPublisher() {
+        put(newPublisher(DATA1, "r1", 1L));
+        put(newPublisher(DATA3, "r3", 1L));
+        assertDigest();
+
+        // client off unPubs the own publisher, the backup one is left
+        put(new UnPublisher(DATA1, "r1", System.currentTimeMillis() + 1000));
+        Assert.assertNull(storage.getOwnDigestByConnectId(connectId.toString()));
+        Assert.assertTrue(storage.OWN_DIGEST_INDEX.containsKey(connectId));
+
+        put(new UnPublisher(DATA3, "r3", System.currentTimeMillis() + 1000));
+        Assert.assertFalse(storage.OWN_DIGEST_INDEX.containsKey(connectId));
+        Assert.assertFalse(storage.getAllConnectIds().contains(connectId));
+
+        // read and remove paths do not create entries
+        Assert.assertNull(storage.getOwnDigestByConnectId(connectId.toString()));
+        Assert.assertEquals(PublisherDigestUtil.DIGEST_BUCKET_COUNT,
+            storage.getOwnDigestBucketsByConnectId(connectId.toString(),
+                PublisherDigestUtil.DIGEST_BUCKET_COUNT).length);
+        put(new UnPublisher(DATA1, "r1", System.currentTimeMillis() + 2000));
+        Assert.assertTrue(storage.OWN_DIGEST_INDEX.isEmpty());
+
+        // added again after dropped
+        put(newPublisher(DATA2, "r2", 1L));
+        assertDigest();
+    }
+
+    private void assertDigest() {
+        Collection<Publisher> ownPubs = storage.getOwnByConnectId(connectId.toString()).values();
+        long expected = PublisherDigestUtil.getDigestValueSum(ownPubs);
+        String digest = storage.getOwnDigestByConnectId(connectId.toString());
+        Assert.assertEquals(ownPubs.isEmpty() ? null : String.valueOf(expected), digest);
+
+        long[] buckets = storage.getOwnDigestBucketsByConnectId(connectId.toString(),
+            PublisherDigestUtil.DIGEST_BUCKET_COUNT);
+        long sum = 0;
+        for (long bucket : buckets) {
+            sum += bucket;
+        }
+        Assert.assertEquals(expected, sum);
+    }
+
+    private void put(Publisher publisher) {
+        storage.putDatum(DataChangeTypeEnum.MERGE, new Datum(publisher, DATA_CENTER,
+            System.currentTimeMillis()));
+    }
+
+    private Publisher newPublisher(String dataInfoId, String registerId, long version) {
+        Publisher publisher = new Publisher();
+        publisher.setDataInfoId(dataInfoId);
+        publisher.setDataId(DataInfo.valueOf(dataInfoId).getDataId());
+        publisher.setRegisterId(registerId);
+        publisher.setVersion(version);
+        publisher.setRegisterTimestamp(System.currentTimeMillis());
+        publisher.setSourceAddress(new URL("192.168.1.1", 12345));
+        publisher.setTargetAddress(new URL("192.168.1.2", 9600));
+        connectId = publisher.connectId();
+        return publisher;
+    }
+
+    private static String dataInfoId(String dataId) {
+        return DataInfo.toDataInfoId(dataId, "DEFAULT_INSTANCE_ID", "DEFAULT_GROUP");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.change.event;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.data.bootstrap.CommonConfig;
+import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
+import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
+import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
+
+/**
+ * publish storm against the merge path of DataChangeEventQueue and StripedDataChangeEventQueue,
+ * run main() to get the throughput at 1, 8 and 32 producer threads.
+ *
+ * The default engine merges on its single worker thread under the queue lock, the benchmark calls
+ * the merge path from the producer threads directly so both engines are measured without the
+ * event queue in between.
+ *
+ * @author agent
+ * @version $Id: DataChangeEventQueueBenchmark.java, v 0.1 2026-10-18 10:12 agent Exp $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataChangeEventQueueBenchmark {
+
+    private static final String          DATA_CENTER = "DefaultDataCenter";
+
+    @Param({ "default", "striped" })
+    private String                       engine;
+
+    @Param({ "1000" })
+    private int                          dataInfoIdCount;
+
+    private AbstractDataChangeEventQueue queue;
+
+    private Thread                       consumer;
+
+    private String[]                     dataInfoIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DataServerConfig dataServerConfig = new DataServerConfig(new CommonConfig());
+        dataServerConfig.setQueueSize(10240);
+        dataServerConfig.setNotifyIntervalMs(500);
+        dataServerConfig.setNotifyTempDataIntervalMs(10);
+        if (DataChangeEventCenter.ENGINE_STRIPED.equals(engine)) {
+            queue = new StripedDataChangeEventQueue(0, dataServerConfig,
+                new DataChangeEventCenter(), null);
+        } else {
+            queue = new DataChangeEventQueue(0, dataServerConfig, new DataChangeEventCenter(),
+                null);
+        }
+
+        dataInfoIds = new String[dataInfoIdCount];
+        for (int i = 0; i < dataInfoIdCount; i++) {
+            dataInfoIds[i] = "benchmark-" + i + "#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+        }
+
+        consumer = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "DataChangeEventQueueBenchmark-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        consumer.interrupt();
+    }
+
+    @Benchmark
+    public void publish() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String dataInfoId = dataInfoIds[random.nextInt(dataInfoIds.length)];
+
+        Publisher publisher = new Publisher();
+        publisher.setDataInfoId(dataInfoId);
+        publisher.setRegisterId(Long.toString(random.nextLong(10000)));
+        publisher.setSourceAddress(new URL("192.168.1." + random.nextInt(255), 12200));
+        publisher.setVersion(1L);
+        publisher.setRegisterTimestamp(System.currentTimeMillis());
+
+        queue.handleDataChangeEvent(new DataChangeEvent(DataChangeTypeEnum.MERGE,
+            DataSourceTypeEnum.PUB, new Datum(publisher, DATA_CENTER)));
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : new int[] { 1, 8, 32 }) {
+            Options options = new OptionsBuilder()
+                .include(DataChangeEventQueueBenchmark.class.getSimpleName()).threads(threads)
+                .build();
+            new Runner(options).run();
+        }
+    }
+}
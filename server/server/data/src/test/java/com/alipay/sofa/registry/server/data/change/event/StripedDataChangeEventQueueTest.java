@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.change.event;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.data.bootstrap.CommonConfig;
+import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
+import com.alipay.sofa.registry.server.data.change.ChangeData;
+import com.alipay.sofa.registry.server.data.change.DataChangeTypeEnum;
+import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
+import com.alipay.sofa.registry.server.data.change.SnapshotData;
+
+/**
+ *
+ * @author agent
+ * @version $Id: StripedDataChangeEventQueueTest.java, v 0.1 2026-10-18 11:05 agent Exp $
+ */
+public class StripedDataChangeEventQueueTest {
+
+    private static final String         DATA_CENTER  = "DefaultDataCenter";
+
+    private static final String         DATA_INFO_ID = "test#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+
+    private DataServerConfig            dataServerConfig;
+
+    private StripedDataChangeEventQueue queue;
+
+    private ExecutorService             consumer;
+
+    @Before
+    public void before() {
+        dataServerConfig = new DataServerConfig(new CommonConfig());
+        dataServerConfig.setNotifyIntervalMs(100);
+        dataServerConfig.setNotifyTempDataIntervalMs(10);
+        // not started, datum events are merged on the producer thread
+        queue = new StripedDataChangeEventQueue(0, dataServerConfig, new DataChangeEventCenter(),
+            null);
+        consumer = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void after() {
+        consumer.shutdownNow();
+    }
+
+    @Test
+    public void testMerge() throws Exception {
+        queue.onChange(newEvent(newPublisher("r1", 1L)));
+        queue.onChange(newEvent(newPublisher("r2", 1L)));
+        queue.onChange(newEvent(newPublisher("r1", 2L)));
+
+        ChangeData changeData = take();
+        Datum datum = changeData.getDatum();
+        Assert.assertEquals(2, datum.getPubMap().size());
+        Assert.assertEquals(2L, datum.getPubMap().get("r1").getVersion().longValue());
+
+        // the slot is released by take, a later change is notified again
+        queue.onChange(newEvent(newPublisher("r3", 1L)));
+        ChangeData next = take();
+        Assert.assertNotSame(changeData, next);
+        Assert.assertEquals(Collections.singleton("r3"), next.getDatum().getPubMap().keySet());
+    }
+
+    @Test
+    public void testScopeEventsOnWorker() throws Exception {
+        Publisher publisher = newPublisher("r1", 1L);
+        queue.onChange(newEvent(publisher));
+        queue.onChange(new DatumSnapshotEvent(publisher.connectId().toString(), Collections
+            .singletonMap("r1", publisher), Collections.emptyMap()));
+
+        // the snapshot, which is not delayed, is there first
+        ChangeData snapshot = take();
+        Assert.assertTrue(snapshot instanceof SnapshotData);
+        Assert.assertEquals(Collections.singleton("r1"), ((SnapshotData) snapshot)
+            .getToBeDeletedPubMap().keySet());
+
+        ChangeData changeData = take();
+        Assert.assertFalse(changeData instanceof SnapshotData);
+        Assert.assertEquals(DATA_INFO_ID, changeData.getDatum().getDataInfoId());
+    }
+
+    @Test
+    public void testScopeEventsBounded() throws Exception {
+        dataServerConfig.setQueueSize(1);
+        queue = new StripedDataChangeEventQueue(0, dataServerConfig, new DataChangeEventCenter(),
+            null);
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, Publisher> blockingPubMap = new HashMap<String, Publisher>() {
+            @Override
+            public Set<Entry<String, Publisher>> entrySet() {
+                handling.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.entrySet();
+            }
+        };
+        Publisher publisher = newPublisher("r1", 1L);
+        String connectId = publisher.connectId().toString();
+
+        // the worker is busy with the first event, the second one fills the queue
+        queue.onChange(new DatumSnapshotEvent(connectId, Collections.emptyMap(), blockingPubMap));
+        Assert.assertTrue(handling.await(2, TimeUnit.SECONDS));
+        queue.onChange(new DatumSnapshotEvent(connectId, Collections.emptyMap(), Collections
+            .emptyMap()));
+        try {
+            queue.onChange(new DatumSnapshotEvent(connectId, Collections.emptyMap(), Collections
+                .emptyMap()));
+            Assert.fail("the third event should be rejected");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+
+        // datum events are not bounded by the worker
+        queue.onChange(newEvent(publisher));
+        release.countDown();
+        Assert.assertEquals(DATA_INFO_ID, take().getDatum().getDataInfoId());
+    }
+
+    private ChangeData take() throws Exception {
+        return consumer.submit(queue::take).get(2, TimeUnit.SECONDS);
+    }
+
+    private DataChangeEvent newEvent(Publisher publisher) {
+        return new DataChangeEvent(DataChangeTypeEnum.MERGE, DataSourceTypeEnum.PUB, new Datum(
+            publisher, DATA_CENTER));
+    }
+
+    private Publisher newPublisher(String registerId, long version) {
+        Publisher publisher = new Publisher();
+        publisher.setDataInfoId(DATA_INFO_ID);
+        publisher.setDataId("test");
+        publisher.setRegisterId(registerId);
+        publisher.setVersion(version);
+        publisher.setRegisterTimestamp(System.currentTimeMillis());
+        publisher.setSourceAddress(new URL("192.168.1.1", 12200));
+        publisher.setTargetAddress(new URL("192.168.1.2", 9600));
+        return publisher;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.change.notify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.common.model.sessionserver.DataChangeRequest;
+
+/**
+ *
+ * @author agent
+ * @version $Id: NotifyBatcherTest.java, v 0.1 2026-10-18 20:20 agent Exp $
+ */
+public class NotifyBatcherTest {
+
+    private final Map<String, List<List<DataChangeRequest>>> sent = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService                         flushExecutor;
+
+    private int                                              batchSize;
+
+    private NotifyBatcher<String>                            batcher;
+
+    @Before
+    public void before() {
+        flushExecutor = new ScheduledThreadPoolExecutor(1);
+        batchSize = 3;
+        batcher = new NotifyBatcher<>(flushExecutor, () -> batchSize, () -> 20,
+            (connection, requests) -> sent.computeIfAbsent(connection, k -> new ArrayList<>())
+                    .add(requests));
+    }
+
+    @After
+    public void after() {
+        flushExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testFlushByLinger() throws InterruptedException {
+        DataChangeRequest r1 = newRequest("data1");
+        DataChangeRequest r2 = newRequest("data2");
+        DataChangeRequest r3 = newRequest("data3");
+        batcher.add("a", "a", r1);
+        batcher.add("a", "a", r2);
+        batcher.add("b", "b", r3);
+        Assert.assertTrue(sent.isEmpty());
+        Assert.assertEquals(2, batcher.pendingAddresses());
+
+        waitFlushed();
+        Assert.assertEquals(Arrays.asList(Arrays.asList(r1, r2)), sent.get("a"));
+        Assert.assertEquals(Arrays.asList(Arrays.asList(r3)), sent.get("b"));
+    }
+
+    @Test
+    public void testFlushBySize() throws InterruptedException {
+        DataChangeRequest r1 = newRequest("data1");
+        DataChangeRequest r2 = newRequest("data2");
+        DataChangeRequest r3 = newRequest("data3");
+        DataChangeRequest r4 = newRequest("data4");
+        batcher.add("a", "a", r1);
+        batcher.add("a", "a", r2);
+        batcher.add("a", "a", r3);
+        // sent on the caller thread once full
+        Assert.assertEquals(Arrays.asList(Arrays.asList(r1, r2, r3)), sent.get("a"));
+        batcher.add("a", "a", r4);
+
+        waitFlushed();
+        Assert.assertEquals(Arrays.asList(Arrays.asList(r1, r2, r3), Arrays.asList(r4)),
+            sent.get("a"));
+    }
+
+    @Test
+    public void testBatchDroppedAfterFlush() throws InterruptedException {
+        batchSize = 1;
+        batcher.add("a", "a", newRequest("data1"));
+        Assert.assertEquals(1, sent.get("a").size());
+        Assert.assertEquals(0, batcher.pendingAddresses());
+
+        batchSize = 3;
+        for (int i = 0; i < 100; i++) {
+            batcher.add("session" + i, "session" + i, newRequest("data1"));
+        }
+        Assert.assertEquals(100, batcher.pendingAddresses());
+        waitFlushed();
+        Assert.assertEquals(101, sent.size());
+
+        // a new batch is created for an address whose batch was dropped
+        DataChangeRequest r2 = newRequest("data2");
+        batcher.add("session0", "session0", r2);
+        waitFlushed();
+        Assert.assertEquals(Arrays.asList(r2), sent.get("session0").get(1));
+    }
+
+    private void waitFlushed() throws InterruptedException {
+        for (int i = 0; i < 100 && batcher.pendingAddresses() != 0; i++) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        Assert.assertEquals(0, batcher.pendingAddresses());
+        // the batch is dropped before it is sent
+        TimeUnit.MILLISECONDS.sleep(20);
+    }
+
+    private DataChangeRequest newRequest(String dataInfoId) {
+        return new DataChangeRequest(dataInfoId, "dc", System.currentTimeMillis());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.datasync.sync;
+
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.server.data.cache.DatumCache;
+import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
+import com.alipay.sofa.registry.server.data.datasync.Operator;
+
+/**
+ * append and process(version) of the ring Acceptor against the former deque + map operation log,
+ * run main() to get the average time of each operation.
+ *
+ * @author agent
+ * @version $Id: AcceptorBenchmark.java, v 0.1 2026-10-18 16:30 agent Exp $
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AcceptorBenchmark {
+
+    private static final String DATA_CENTER  = "DefaultDataCenter";
+
+    private static final String DATA_INFO_ID = "benchmark#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+
+    @Param({ "30" })
+    private int                 bufferSize;
+
+    private Datum               datum;
+
+    private Acceptor            acceptor;
+
+    private LegacyAcceptor      legacyAcceptor;
+
+    private long                version;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        datum = new Datum();
+        datum.setDataCenter(DATA_CENTER);
+        datum.setDataInfoId(DATA_INFO_ID);
+        acceptor = new Acceptor(bufferSize, DATA_INFO_ID, DATA_CENTER, new DatumCache());
+        legacyAcceptor = new LegacyAcceptor(bufferSize);
+        version = 1;
+        //fill the buffer, append below always polls the oldest one
+        for (int i = 0; i < bufferSize; i++) {
+            Operator operator = nextOperator();
+            acceptor.appendOperator(operator);
+            legacyAcceptor.appendOperator(operator);
+        }
+    }
+
+    private Operator nextOperator() {
+        Operator operator = new Operator(version + 1, version, datum, DataSourceTypeEnum.SYNC);
+        version++;
+        return operator;
+    }
+
+    @Benchmark
+    public Long appendRing() {
+        acceptor.appendOperator(nextOperator());
+        return acceptor.getLastVersion();
+    }
+
+    @Benchmark
+    public Long appendLegacy() {
+        legacyAcceptor.appendOperator(nextOperator());
+        return legacyAcceptor.logOperatorsOrder.peekLast();
+    }
+
+    @Benchmark
+    public Object processRing() {
+        //the requester is half of the buffer behind
+        return acceptor.process(version - bufferSize / 2);
+    }
+
+    @Benchmark
+    public Object processLegacy() {
+        return legacyAcceptor.process(version - bufferSize / 2);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder().include(AcceptorBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * the operation log of Acceptor before it was a ring, without logging and locks
+     */
+    private static class LegacyAcceptor {
+
+        private final Deque<Long>         logOperatorsOrder = new ConcurrentLinkedDeque<>();
+
+        private final Map<Long, Operator> logOperators      = new ConcurrentHashMap<>();
+
+        private final int                 maxBufferSize;
+
+        LegacyAcceptor(int maxBufferSize) {
+            this.maxBufferSize = maxBufferSize;
+        }
+
+        void appendOperator(Operator operator) {
+            if (logOperators.size() >= maxBufferSize) {
+                logOperators.remove(logOperatorsOrder.poll());
+            }
+            Long tailVersion = logOperatorsOrder.peekLast();
+            if (tailVersion != null
+                && tailVersion.longValue() != operator.getSourceVersion().longValue()) {
+                logOperators.clear();
+                logOperatorsOrder.clear();
+            }
+            if (logOperators.put(operator.getVersion(), operator) == null) {
+                logOperatorsOrder.add(operator.getVersion());
+            }
+        }
+
+        List<Datum> process(Long currentVersion) {
+            Collection<Operator> operators = acceptOperator(currentVersion);
+            List<Datum> retList = new LinkedList<>();
+            for (Operator operator : operators) {
+                retList.add(operator.getDatum());
+            }
+            return retList;
+        }
+
+        Collection<Operator> acceptOperator(Long currentVersion) {
+            LinkedList<Operator> linkRet = new LinkedList<>();
+            if (logOperatorsOrder.contains(currentVersion)) {
+                Iterator<Long> iterator = logOperatorsOrder.descendingIterator();
+                while (iterator.hasNext()) {
+                    Long i = iterator.next();
+                    if (currentVersion.equals(i)) {
+                        break;
+                    }
+                    linkRet.addFirst(logOperators.get(i));
+                }
+            }
+            return linkRet;
+        }
+    }
+}
\ No newline at end of file
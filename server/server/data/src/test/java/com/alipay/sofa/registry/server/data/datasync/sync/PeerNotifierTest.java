@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.datasync.sync;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.common.model.dataserver.NotifyDataSyncBatchRequest;
+import com.alipay.sofa.registry.common.model.dataserver.NotifyDataSyncRequest;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
+import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
+
+/**
+ *
+ * @author agent
+ * @version $Id: PeerNotifierTest.java, v 0.1 2026-10-18 21:55 agent Exp $
+ */
+public class PeerNotifierTest {
+
+    private DataServerConfig         dataServerConfig;
+
+    private ScheduledExecutorService retryExecutor;
+
+    private BlockingQueue<Sent>      sent;
+
+    private PeerNotifier             peerNotifier;
+
+    @Before
+    public void before() {
+        dataServerConfig = new DataServerConfig(null);
+        dataServerConfig.setDataSyncNotifyWindowSize(1);
+        dataServerConfig.setDataSyncNotifyRetry(2);
+        retryExecutor = new ScheduledThreadPoolExecutor(1);
+        sent = new LinkedBlockingQueue<>();
+        peerNotifier = new PeerNotifier("192.168.1.1", dataServerConfig,
+            (targetDataIp, request, callbackHandler) -> sent.add(new Sent(request, callbackHandler)),
+            Runnable::run, retryExecutor);
+    }
+
+    @After
+    public void after() {
+        retryExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testWindowAndMerge() {
+        Assert.assertTrue(peerNotifier.offer(request("a", 1), 0));
+        Assert.assertTrue(peerNotifier.offer(request("b", 1), 0));
+        Assert.assertTrue(peerNotifier.offer(request("b", 3), 0));
+        Assert.assertTrue(peerNotifier.offer(request("b", 2), 0));
+
+        // window is full, the rest waits
+        Assert.assertEquals(1, sent.size());
+        Assert.assertEquals(1, peerNotifier.pendingSize());
+
+        Sent first = sent.poll();
+        Assert.assertEquals("a", ((NotifyDataSyncRequest) first.request).getDataInfoId());
+        first.callbackHandler.onCallback(null, null);
+
+        Sent second = sent.poll();
+        Assert.assertEquals("b", ((NotifyDataSyncRequest) second.request).getDataInfoId());
+        Assert.assertEquals(3, ((NotifyDataSyncRequest) second.request).getVersion());
+        Assert.assertEquals(0, peerNotifier.pendingSize());
+    }
+
+    @Test
+    public void testBatch() {
+        dataServerConfig.setDataSyncNotifyBatchEnabled(true);
+        dataServerConfig.setDataSyncNotifyBatchSize(2);
+
+        peerNotifier.offer(request("a", 1), 0);
+        peerNotifier.offer(request("b", 1), 0);
+        peerNotifier.offer(request("c", 1), 0);
+        sent.poll().callbackHandler.onCallback(null, null);
+
+        Sent batch = sent.poll();
+        Assert.assertTrue(batch.request instanceof NotifyDataSyncBatchRequest);
+        List<NotifyDataSyncRequest> requests = ((NotifyDataSyncBatchRequest) batch.request)
+            .getRequests();
+        Assert.assertEquals(2, requests.size());
+        Assert.assertEquals("b", requests.get(0).getDataInfoId());
+        Assert.assertEquals("c", requests.get(1).getDataInfoId());
+    }
+
+    @Test
+    public void testRetry() throws InterruptedException {
+        peerNotifier.offer(request("a", 1), 0);
+        sent.poll().callbackHandler.onException(null, new RuntimeException("mock"));
+
+        Sent retried = sent.poll(3, TimeUnit.SECONDS);
+        Assert.assertNotNull(retried);
+        Assert.assertEquals("a", ((NotifyDataSyncRequest) retried.request).getDataInfoId());
+
+        // retry limit reached, dropped
+        retried.callbackHandler.onException(null, new RuntimeException("mock"));
+        Assert.assertNull(sent.poll(1500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSendFailed() throws InterruptedException {
+        PeerNotifier failNotifier = new PeerNotifier("192.168.1.2", dataServerConfig,
+            (targetDataIp, request, callbackHandler) -> {
+                sent.add(new Sent(request, callbackHandler));
+                throw new IllegalStateException("no connection");
+            }, Runnable::run, retryExecutor);
+        failNotifier.offer(request("a", 1), 0);
+        failNotifier.offer(request("b", 1), 0);
+
+        // window released after the failure, both are sent once
+        Assert.assertEquals(2, sent.size());
+        sent.clear();
+        Assert.assertNotNull(sent.poll(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testClose() throws InterruptedException {
+        peerNotifier.offer(request("a", 1), 0);
+        peerNotifier.offer(request("b", 1), 0);
+        Sent first = sent.poll();
+
+        peerNotifier.close();
+        Assert.assertEquals(0, peerNotifier.pendingSize());
+        Assert.assertFalse(peerNotifier.offer(request("c", 1), 0));
+
+        // the outstanding one is not retried on a closed notifier
+        first.callbackHandler.onException(null, new RuntimeException("mock"));
+        Assert.assertNull(sent.poll(1500, TimeUnit.MILLISECONDS));
+    }
+
+    private NotifyDataSyncRequest request(String dataInfoId, long version) {
+        return new NotifyDataSyncRequest(dataInfoId, "DefaultDataCenter", version, "BACKUP");
+    }
+
+    private static final class Sent {
+
+        private final Object          request;
+
+        private final CallbackHandler callbackHandler;
+
+        Sent(Object request, CallbackHandler callbackHandler) {
+            this.request = request;
+            this.callbackHandler = callbackHandler;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.event.handler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ * @version $Id: LocalDataServerChangeEventHandlerTest.java, v 0.1 2026-10-18 11:05 agent Exp $
+ */
+public class LocalDataServerChangeEventHandlerTest {
+
+    @Test
+    public void testSplitVersionMap() {
+        Map<String, Map<String, Long>> versionMap = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            versionMap.computeIfAbsent("dc1", k -> new HashMap<>()).put("data" + i, (long) i);
+            versionMap.computeIfAbsent("dc2", k -> new HashMap<>()).put("data" + i, (long) i);
+        }
+
+        List<Map<String, Map<String, Long>>> chunks = LocalDataServerChangeEventHandler
+            .splitVersionMap(versionMap, 3);
+        Assert.assertEquals(4, chunks.size());
+        Map<String, Map<String, Long>> merged = new HashMap<>();
+        int total = 0;
+        for (Map<String, Map<String, Long>> chunk : chunks) {
+            int size = chunk.values().stream().mapToInt(Map::size).sum();
+            Assert.assertTrue(size <= 3);
+            total += size;
+            chunk.forEach((dataCenter, map) -> merged.computeIfAbsent(dataCenter,
+                k -> new HashMap<>()).putAll(map));
+        }
+        Assert.assertEquals(10, total);
+        Assert.assertEquals(versionMap, merged);
+    }
+
+    @Test
+    public void testNotSplit() {
+        Map<String, Map<String, Long>> versionMap = new HashMap<>();
+        versionMap.put("dc1", new HashMap<>());
+        versionMap.get("dc1").put("data", 1L);
+
+        Assert.assertEquals(1, LocalDataServerChangeEventHandler.splitVersionMap(versionMap, 0)
+            .size());
+        Assert.assertEquals(1,
+            LocalDataServerChangeEventHandler.splitVersionMap(new HashMap<>(), 3).size());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.remoting.sessionserver.handler;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.alipay.sofa.registry.common.model.DatumSnapshotRequest;
+import com.alipay.sofa.registry.common.model.PublisherDigestUtil;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.data.cache.DatumCache;
+import com.alipay.sofa.registry.server.data.change.event.DataChangeEventCenter;
+import com.alipay.sofa.registry.server.data.change.event.DatumSnapshotEvent;
+import com.alipay.sofa.registry.server.data.renew.DatumLeaseManager;
+
+/**
+ *
+ * @author agent
+ * @version $Id: DatumSnapshotHandlerTest.java, v 0.1 2026-10-18 14:30 agent Exp $
+ */
+public class DatumSnapshotHandlerTest {
+
+    private static final String     CONNECT_ID   = "192.168.1.1:12345_192.168.1.2:9600";
+
+    private static final int        BUCKET_COUNT = 4;
+
+    @Mock
+    private DataChangeEventCenter   dataChangeEventCenter;
+
+    @Mock
+    private DatumLeaseManager       datumLeaseManager;
+
+    @Mock
+    private DatumCache              datumCache;
+
+    @InjectMocks
+    private DatumSnapshotHandler    datumSnapshotHandler;
+
+    /** publishers of CONNECT_ID in the cache, grouped by digest bucket */
+    private final List<Publisher>[] cacheBuckets = new List[BUCKET_COUNT];
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+        Map<String, Publisher> cachePubMap = new HashMap<>();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cacheBuckets[i] = new ArrayList<>();
+        }
+        for (int i = 0; i < 16; i++) {
+            Publisher publisher = newPublisher("r" + i);
+            cachePubMap.put(publisher.getRegisterId(), publisher);
+            cacheBuckets[PublisherDigestUtil.getDigestBucket(publisher.getRegisterId(),
+                BUCKET_COUNT)].add(publisher);
+        }
+        for (List<Publisher> bucket : cacheBuckets) {
+            Assert.assertFalse(bucket.isEmpty());
+        }
+        when(datumCache.getOwnByConnectId(CONNECT_ID)).thenReturn(cachePubMap);
+    }
+
+    @Test
+    public void testEmptyBucketRemovesCache() {
+        // the session has no publisher in bucket 1 any more
+        DatumSnapshotRequest request = new DatumSnapshotRequest(CONNECT_ID, "192.168.1.2",
+            new ArrayList<>(), new int[] { 1 }, BUCKET_COUNT);
+        datumSnapshotHandler.checkParam(request);
+        datumSnapshotHandler.doHandle(mock(Channel.class), request);
+
+        DatumSnapshotEvent event = captureEvent();
+        Assert.assertEquals(CONNECT_ID, event.getConnectId());
+        Assert.assertTrue(event.getPubMap().isEmpty());
+        // only the publishers of bucket 1 are compared, so only they are removed
+        Assert.assertEquals(cacheBuckets[1].size(), event.getCachePubMap().size());
+        for (Publisher publisher : cacheBuckets[1]) {
+            Assert.assertSame(publisher, event.getCachePubMap().get(publisher.getRegisterId()));
+        }
+        verify(datumLeaseManager).renew(CONNECT_ID);
+    }
+
+    @Test
+    public void testSameBuckets() {
+        List<Publisher> publishers = new ArrayList<>();
+        for (Publisher publisher : cacheBuckets[0]) {
+            publishers.add(copy(publisher));
+        }
+        for (Publisher publisher : cacheBuckets[2]) {
+            publishers.add(copy(publisher));
+        }
+        DatumSnapshotRequest request = new DatumSnapshotRequest(CONNECT_ID, "192.168.1.2",
+            publishers, new int[] { 0, 2 }, BUCKET_COUNT);
+        datumSnapshotHandler.doHandle(mock(Channel.class), request);
+
+        // publishers of the other buckets are not sent, but they are not different
+        verify(dataChangeEventCenter, never()).onChange(any(DatumSnapshotEvent.class));
+        verify(datumLeaseManager).renew(CONNECT_ID);
+    }
+
+    @Test
+    public void testFullSnapshot() {
+        DatumSnapshotRequest request = new DatumSnapshotRequest(CONNECT_ID, "192.168.1.2",
+            Collections.singletonList(copy(cacheBuckets[0].get(0))));
+        datumSnapshotHandler.doHandle(mock(Channel.class), request);
+
+        DatumSnapshotEvent event = captureEvent();
+        Assert.assertEquals(1, event.getPubMap().size());
+        Assert.assertEquals(16, event.getCachePubMap().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCheckBucketCount() {
+        datumSnapshotHandler.checkParam(new DatumSnapshotRequest(CONNECT_ID, "192.168.1.2",
+            new ArrayList<>(), new int[] { 1 }, 0));
+    }
+
+    private DatumSnapshotEvent captureEvent() {
+        ArgumentCaptor<DatumSnapshotEvent> captor = ArgumentCaptor
+            .forClass(DatumSnapshotEvent.class);
+        verify(dataChangeEventCenter).onChange(captor.capture());
+        return captor.getValue();
+    }
+
+    private Publisher copy(Publisher publisher) {
+        Publisher copy = newPublisher(publisher.getRegisterId());
+        copy.setRegisterTimestamp(publisher.getRegisterTimestamp());
+        return copy;
+    }
+
+    private Publisher newPublisher(String registerId) {
+        Publisher publisher = new Publisher();
+        publisher.setDataInfoId("data#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP");
+        publisher.setRegisterId(registerId);
+        publisher.setVersion(1L);
+        publisher.setRegisterTimestamp(System.currentTimeMillis());
+        return publisher;
+    }
+}
\ No newline at end of file
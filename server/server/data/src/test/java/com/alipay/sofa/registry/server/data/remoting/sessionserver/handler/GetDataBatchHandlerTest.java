@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.remoting.sessionserver.handler;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.dataserver.GetDataBatchRequest;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.data.cache.DatumCache;
+import com.alipay.sofa.registry.server.data.remoting.sessionserver.forward.ForwardService;
+
+/**
+ *
+ * @author agent
+ * @version $Id: GetDataBatchHandlerTest.java, v 0.1 2026-10-18 22:30 agent Exp $
+ */
+public class GetDataBatchHandlerTest {
+
+    @Mock
+    private ForwardService      forwardService;
+
+    @Mock
+    private DatumCache          datumCache;
+
+    @InjectMocks
+    private GetDataBatchHandler getDataBatchHandler;
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void testHandle() {
+        Datum datumA = new Datum("a", "dc");
+        when(datumCache.getDatumGroupByDataCenter("dc", "a")).thenReturn(
+            Collections.singletonMap("dc", datumA));
+        when(datumCache.getDatumGroupByDataCenter("dc", "b")).thenReturn(new HashMap<>());
+
+        GenericResponse<Map<String, Map<String, Datum>>> response = handle(new GetDataBatchRequest(
+            Arrays.asList("a", "b"), "dc"));
+
+        Assert.assertTrue(response.isSuccess());
+        Map<String, Map<String, Datum>> result = response.getData();
+        Assert.assertEquals(2, result.size());
+        Assert.assertSame(datumA, result.get("a").get("dc"));
+        Assert.assertTrue(result.get("b").isEmpty());
+    }
+
+    @Test
+    public void testAllDataCenters() {
+        Map<String, Datum> datums = new HashMap<>();
+        datums.put("dc1", new Datum("a", "dc1"));
+        datums.put("dc2", new Datum("a", "dc2"));
+        when(datumCache.getDatumGroupByDataCenter(null, "a")).thenReturn(datums);
+
+        GenericResponse<Map<String, Map<String, Datum>>> response = handle(new GetDataBatchRequest(
+            Collections.singletonList("a"), null));
+
+        Assert.assertTrue(response.isSuccess());
+        Assert.assertEquals(datums, response.getData().get("a"));
+    }
+
+    @Test
+    public void testNeedForward() {
+        when(forwardService.needForward()).thenReturn(true);
+
+        GenericResponse<Map<String, Map<String, Datum>>> response = handle(new GetDataBatchRequest(
+            Collections.singletonList("a"), "dc"));
+
+        // session falls back to GetDataRequest one by one
+        Assert.assertFalse(response.isSuccess());
+        Assert.assertNull(response.getData());
+        verify(datumCache, never()).getDatumGroupByDataCenter("dc", "a");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testCheckParam() {
+        getDataBatchHandler.checkParam(new GetDataBatchRequest(Collections.emptyList(), "dc"));
+    }
+
+    private GenericResponse<Map<String, Map<String, Datum>>> handle(GetDataBatchRequest request) {
+        return (GenericResponse<Map<String, Map<String, Datum>>>) getDataBatchHandler.doHandle(
+            mock(Channel.class), request);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.remoting.sessionserver.handler;
+
+import static org.mockito.Mockito.when;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
+import com.alipay.sofa.registry.server.data.cache.DatumCache;
+
+/**
+ *
+ * @author agent
+ * @version $Id: RenewDatumHandlerTest.java, v 0.1 2026-10-18 14:10 agent Exp $
+ */
+public class RenewDatumHandlerTest {
+
+    private static final String CONNECT_ID = "192.168.1.1:12345_192.168.1.2:9600";
+
+    @Mock
+    private DatumCache          datumCache;
+
+    @InjectMocks
+    private RenewDatumHandler   renewDatumHandler;
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void testTheSame() {
+        RenewDatumResult result = renewDatumHandler.diffBuckets(
+            request(new long[] { 1L, 2L, 3L, 4L }), true);
+
+        Assert.assertTrue(result.isTheSame());
+        Assert.assertEquals(4, result.getBucketCount());
+        Assert.assertNull(result.getDiffBuckets());
+    }
+
+    @Test
+    public void testDiffBuckets() {
+        when(datumCache.getOwnDigestBucketsByConnectId(CONNECT_ID, 4)).thenReturn(
+            new long[] { 1L, 5L, 3L, 0L });
+
+        RenewDatumResult result = renewDatumHandler.diffBuckets(
+            request(new long[] { 1L, 2L, 3L, 4L }), false);
+
+        Assert.assertFalse(result.isTheSame());
+        Assert.assertEquals(4, result.getBucketCount());
+        Assert.assertArrayEquals(new int[] { 1, 3 }, result.getDiffBuckets());
+    }
+
+    @Test
+    public void testSameBucketsWithDifferentSum() {
+        when(datumCache.getOwnDigestBucketsByConnectId(CONNECT_ID, 4)).thenReturn(
+            new long[] { 1L, 2L, 3L, 4L });
+
+        RenewDatumResult result = renewDatumHandler.diffBuckets(
+            request(new long[] { 1L, 2L, 3L, 4L }), false);
+
+        // nothing to narrow down, the session sends all the publishers
+        Assert.assertFalse(result.isTheSame());
+        Assert.assertNull(result.getDiffBuckets());
+    }
+
+    @Test
+    public void testNoBucket() {
+        RenewDatumResult result = renewDatumHandler.diffBuckets(request(new long[0]), false);
+
+        Assert.assertFalse(result.isTheSame());
+        Assert.assertEquals(0, result.getBucketCount());
+        Assert.assertNull(result.getDiffBuckets());
+    }
+
+    private RenewDatumRequest request(long[] bucketDigests) {
+        return new RenewDatumRequest(CONNECT_ID, "192.168.1.2", "10", bucketDigests);
+    }
+}
\ No newline at end of file
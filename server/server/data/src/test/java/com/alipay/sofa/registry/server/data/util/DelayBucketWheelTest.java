@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ * @version $Id: DelayBucketWheelTest.java, v 0.1 2026-10-18 11:02 agent Exp $
+ */
+public class DelayBucketWheelTest {
+
+    @Test
+    public void testTakeAfterDelay() throws InterruptedException {
+        DelayBucketWheel<String> wheel = new DelayBucketWheel<>(10, 8);
+        long start = System.currentTimeMillis();
+        wheel.offer("a", 200);
+        Assert.assertEquals(1, wheel.size());
+        Assert.assertEquals("a", wheel.take());
+        Assert.assertTrue(System.currentTimeMillis() - start >= 200);
+        Assert.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testOrderByDeadline() throws InterruptedException {
+        // delays longer than one round of the wheel
+        DelayBucketWheel<String> wheel = new DelayBucketWheel<>(5, 4);
+        wheel.offer("c", 150);
+        wheel.offer("a", 0);
+        wheel.offer("b", 60);
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            result.add(wheel.take());
+        }
+        Assert.assertEquals("a", result.get(0));
+        Assert.assertEquals("b", result.get(1));
+        Assert.assertEquals("c", result.get(2));
+    }
+
+    @Test
+    public void testOfferFromOtherThread() throws InterruptedException {
+        DelayBucketWheel<Integer> wheel = new DelayBucketWheel<>(10, 16);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                wheel.offer(i, i % 5);
+            }
+        });
+        producer.start();
+        int count = 0;
+        while (count < 100) {
+            Assert.assertNotNull(wheel.take());
+            count++;
+        }
+        producer.join();
+        Assert.assertEquals(0, wheel.size());
+    }
+}
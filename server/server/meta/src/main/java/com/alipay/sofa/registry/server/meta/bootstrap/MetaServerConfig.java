@@ -37,6 +37,8 @@ public interface MetaServerConfig {
 
     int getSchedulerHeartbeatExpBackOffBound();
 
+    int getNodeLeaseGracePeriodSecs();
+
     int getSchedulerGetDataChangeTimeout();
 
     int getSchedulerGetDataChangeFirstDelay();
@@ -145,6 +147,16 @@ public interface MetaServerConfig {
 
     int getRaftElectionTimeout();
 
+    int getRaftProposalBatchMaxSize();
+
+    long getRaftProposalBatchLingerMs();
+
+    int getRaftProposalBatchQueueSize();
+
+    int getRaftReadIndexTimeoutMs();
+
+    boolean isNodeChangeDeltaPushEnabled();
+
     double getSessionLoadbalanceThresholdRatio();
 
     /**
@@ -47,6 +47,8 @@ public class MetaServerConfigBean implements MetaServerConfig {
 
     private int                schedulerHeartbeatExpBackOffBound               = 10;
 
+    private int                nodeLeaseGracePeriodSecs                        = 30;
+
     private int                schedulerGetDataChangeTimeout                   = 5;
 
     private int                schedulerGetDataChangeFirstDelay                = 5;
@@ -83,6 +85,20 @@ public class MetaServerConfigBean implements MetaServerConfig {
 
     private int                raftElectionTimeout                             = 1000;
 
+    /**
+     * batched log entries can not be applied by meta servers without proposal batching,
+     * enable it (greater than 1) only after every meta server of the cluster is upgraded
+     */
+    private int                raftProposalBatchMaxSize                        = 1;
+
+    private long               raftProposalBatchLingerMs                       = 1;
+
+    private int                raftProposalBatchQueueSize                      = 10000;
+
+    private int                raftReadIndexTimeoutMs                          = 1000;
+
+    private boolean            nodeChangeDeltaPushEnabled                      = false;
+
     /**
      * Whether to enable metrics for node.
      */
@@ -861,6 +877,120 @@ public class MetaServerConfigBean implements MetaServerConfig {
         return metaSchedulerPoolSize;
     }
 
+    /**
+     * Getter method for property <tt>nodeLeaseGracePeriodSecs</tt>.
+     *
+     * @return property value of nodeLeaseGracePeriodSecs
+     */
+    @Override
+    public int getNodeLeaseGracePeriodSecs() {
+        return nodeLeaseGracePeriodSecs;
+    }
+
+    /**
+     * Setter method for property <tt>nodeLeaseGracePeriodSecs</tt>.
+     *
+     * @param nodeLeaseGracePeriodSecs value to be assigned to property nodeLeaseGracePeriodSecs
+     */
+    public void setNodeLeaseGracePeriodSecs(int nodeLeaseGracePeriodSecs) {
+        this.nodeLeaseGracePeriodSecs = nodeLeaseGracePeriodSecs;
+    }
+
+    /**
+     * Getter method for property <tt>raftProposalBatchMaxSize</tt>.
+     *
+     * @return property value of raftProposalBatchMaxSize
+     */
+    @Override
+    public int getRaftProposalBatchMaxSize() {
+        return raftProposalBatchMaxSize;
+    }
+
+    /**
+     * Setter method for property <tt>raftProposalBatchMaxSize</tt>.
+     *
+     * @param raftProposalBatchMaxSize value to be assigned to property raftProposalBatchMaxSize
+     */
+    public void setRaftProposalBatchMaxSize(int raftProposalBatchMaxSize) {
+        this.raftProposalBatchMaxSize = raftProposalBatchMaxSize;
+    }
+
+    /**
+     * Getter method for property <tt>raftProposalBatchLingerMs</tt>.
+     *
+     * @return property value of raftProposalBatchLingerMs
+     */
+    @Override
+    public long getRaftProposalBatchLingerMs() {
+        return raftProposalBatchLingerMs;
+    }
+
+    /**
+     * Setter method for property <tt>raftProposalBatchLingerMs</tt>.
+     *
+     * @param raftProposalBatchLingerMs value to be assigned to property raftProposalBatchLingerMs
+     */
+    public void setRaftProposalBatchLingerMs(long raftProposalBatchLingerMs) {
+        this.raftProposalBatchLingerMs = raftProposalBatchLingerMs;
+    }
+
+    /**
+     * Getter method for property <tt>raftProposalBatchQueueSize</tt>.
+     *
+     * @return property value of raftProposalBatchQueueSize
+     */
+    @Override
+    public int getRaftProposalBatchQueueSize() {
+        return raftProposalBatchQueueSize;
+    }
+
+    /**
+     * Setter method for property <tt>raftProposalBatchQueueSize</tt>.
+     *
+     * @param raftProposalBatchQueueSize value to be assigned to property raftProposalBatchQueueSize
+     */
+    public void setRaftProposalBatchQueueSize(int raftProposalBatchQueueSize) {
+        this.raftProposalBatchQueueSize = raftProposalBatchQueueSize;
+    }
+
+    /**
+     * Getter method for property <tt>raftReadIndexTimeoutMs</tt>.
+     *
+     * @return property value of raftReadIndexTimeoutMs
+     */
+    @Override
+    public int getRaftReadIndexTimeoutMs() {
+        return raftReadIndexTimeoutMs;
+    }
+
+    /**
+     * Setter method for property <tt>raftReadIndexTimeoutMs</tt>.
+     *
+     * @param raftReadIndexTimeoutMs value to be assigned to property raftReadIndexTimeoutMs
+     */
+    public void setRaftReadIndexTimeoutMs(int raftReadIndexTimeoutMs) {
+        this.raftReadIndexTimeoutMs = raftReadIndexTimeoutMs;
+    }
+
+    /**
+     * Getter method for property <tt>nodeChangeDeltaPushEnabled</tt>.
+     *
+     * @return property value of nodeChangeDeltaPushEnabled
+     */
+    @Override
+    public boolean isNodeChangeDeltaPushEnabled() {
+        return nodeChangeDeltaPushEnabled;
+    }
+
+    /**
+     * Setter method for property <tt>nodeChangeDeltaPushEnabled</tt>.
+     *
+     * @param nodeChangeDeltaPushEnabled value to be assigned to property nodeChangeDeltaPushEnabled
+     */
+    public void setNodeChangeDeltaPushEnabled(boolean nodeChangeDeltaPushEnabled) {
+        this.nodeChangeDeltaPushEnabled = nodeChangeDeltaPushEnabled;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -46,6 +46,12 @@ public class MetaMetricsThreadPoolExecutor extends ThreadPoolExecutor {
         TaskMetrics.getInstance().registerThreadExecutor(executorName, this);
     }
 
+    @Override
+    protected void terminated() {
+        super.terminated();
+        TaskMetrics.getInstance().unregisterThreadExecutor(executorName);
+    }
+
     @Override
     public void execute(Runnable command) {
         try {
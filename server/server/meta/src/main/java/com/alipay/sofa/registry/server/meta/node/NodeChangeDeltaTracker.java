@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.node;
+
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Remember the last pushed node list and compute the delta of the local dataCenter against it,
+ * so a membership change is pushed as the changed nodes only instead of the whole node list.
+ *
+ * @author agent
+ * @version $Id: NodeChangeDeltaTracker.java, v 0.1 2026-10-18 19:55 agent Exp $
+ */
+public class NodeChangeDeltaTracker<T extends Node> {
+
+    private NodeChangeResult<T> lastResult;
+
+    private NodeChangeDelta<T>  lastDelta;
+
+    /**
+     * track the node list to be pushed
+     * @param result
+     * @return delta against the previous tracked node list, null if the full node list must be pushed
+     */
+    public synchronized NodeChangeDelta<T> track(NodeChangeResult<T> result) {
+        NodeChangeResult<T> previous = lastResult;
+        if (previous != null && Objects.equals(previous.getVersion(), result.getVersion())
+            && Objects.equals(previous.getDataCenterListVersions(),
+                result.getDataCenterListVersions())) {
+            //retry of the same push
+            return lastDelta;
+        }
+        lastResult = result;
+        lastDelta = computeDelta(previous, result);
+        return lastDelta;
+    }
+
+    private NodeChangeDelta<T> computeDelta(NodeChangeResult<T> previous,
+                                            NodeChangeResult<T> current) {
+        String dataCenter = current.getLocalDataCenter();
+        if (previous == null || dataCenter == null
+            || !dataCenter.equals(previous.getLocalDataCenter())
+            || previous.getVersion() == null || current.getVersion() == null
+            || previous.getVersion() >= current.getVersion()) {
+            return null;
+        }
+        Map<String, Map<String, T>> previousNodes = previous.getNodes();
+        Map<String, Map<String, T>> currentNodes = current.getNodes();
+        Map<String, Long> previousVersions = previous.getDataCenterListVersions();
+        Map<String, Long> currentVersions = current.getDataCenterListVersions();
+        if (previousNodes == null || currentNodes == null || previousVersions == null
+            || currentVersions == null || !previousVersions.keySet().equals(currentVersions.keySet())) {
+            return null;
+        }
+        //other dataCenters must stay the same, the delta only carries the local dataCenter
+        for (Map.Entry<String, Long> entry : currentVersions.entrySet()) {
+            if (!dataCenter.equals(entry.getKey())
+                && !Objects.equals(entry.getValue(), previousVersions.get(entry.getKey()))) {
+                return null;
+            }
+        }
+
+        Map<String, T> previousMap = previousNodes.getOrDefault(dataCenter, new HashMap<>());
+        Map<String, T> currentMap = currentNodes.getOrDefault(dataCenter, new HashMap<>());
+        Map<String, T> addNodes = new HashMap<>();
+        currentMap.forEach((ip, node) -> {
+            if (!Objects.equals(node, previousMap.get(ip))) {
+                addNodes.put(ip, node);
+            }
+        });
+        Set<String> removeNodes = new HashSet<>(previousMap.keySet());
+        removeNodes.removeAll(currentMap.keySet());
+
+        NodeChangeDelta<T> delta = new NodeChangeDelta<>(current.getNodeType());
+        delta.setLocalDataCenter(dataCenter);
+        delta.setBaseVersion(previous.getVersion());
+        delta.setVersion(current.getVersion());
+        delta.setAddNodes(addNodes);
+        delta.setRemoveNodes(removeNodes);
+        delta.setDataCenterListVersions(currentVersions);
+        return delta;
+    }
+}
@@ -20,6 +20,7 @@ import com.alipay.sofa.registry.common.model.CommonResponse;
 import com.alipay.sofa.registry.common.model.Node.NodeType;
 import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodes;
 import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.common.model.metaserver.NotifyProvideDataChange;
 import com.alipay.sofa.registry.common.model.metaserver.StatusConfirmRequest;
@@ -30,8 +31,10 @@ import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
 import com.alipay.sofa.registry.remoting.exchange.RequestException;
 import com.alipay.sofa.registry.remoting.exchange.message.Request;
 import com.alipay.sofa.registry.remoting.exchange.message.Response;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.bootstrap.ServiceFactory;
 import com.alipay.sofa.registry.server.meta.node.DataNodeService;
+import com.alipay.sofa.registry.server.meta.node.NodeChangeDeltaTracker;
 import com.alipay.sofa.registry.server.meta.remoting.connection.NodeConnectManager;
 import com.alipay.sofa.registry.server.meta.remoting.handler.AbstractServerHandler;
 import com.alipay.sofa.registry.server.meta.store.StoreService;
@@ -50,16 +53,22 @@ import java.util.Map;
  */
 public class DataNodeServiceImpl implements DataNodeService {
 
-    private static final Logger   LOGGER = LoggerFactory.getLogger(DataNodeServiceImpl.class);
+    private static final Logger                    LOGGER           = LoggerFactory
+                                                                        .getLogger(DataNodeServiceImpl.class);
+
+    private final NodeChangeDeltaTracker<DataNode> dataNodesTracker = new NodeChangeDeltaTracker<>();
+
+    @Autowired
+    private NodeExchanger                          dataNodeExchanger;
 
     @Autowired
-    private NodeExchanger         dataNodeExchanger;
+    private MetaServerConfig                       metaServerConfig;
 
     @Autowired
-    private StoreService          dataStoreService;
+    private StoreService                           dataStoreService;
 
     @Autowired
-    private AbstractServerHandler dataConnectionHandler;
+    private AbstractServerHandler                  dataConnectionHandler;
 
     @Override
     public NodeType getNodeType() {
@@ -88,6 +97,12 @@ public class DataNodeServiceImpl implements DataNodeService {
                 throw new RuntimeException("Push dataNode list error! No data node registered!");
             }
 
+            NodeChangeDelta nodeChangeDelta = null;
+            if (metaServerConfig.isNodeChangeDeltaPushEnabled()
+                && nodeChangeResult.getNodeType() == NodeType.DATA) {
+                nodeChangeDelta = dataNodesTracker.track(nodeChangeResult);
+            }
+
             for (InetSocketAddress address : connections) {
                 try {
                     if (targetNodes != null && !targetNodes.isEmpty()) {
@@ -101,20 +116,10 @@ public class DataNodeServiceImpl implements DataNodeService {
                         }
                     }
 
-                    Request<NodeChangeResult> nodeChangeRequestRequest = new Request<NodeChangeResult>() {
-                        @Override
-                        public NodeChangeResult getRequestBody() {
-                            return nodeChangeResult;
-                        }
-
-                        @Override
-                        public URL getRequestUrl() {
-                            return new URL(address);
-                        }
-                    };
                     LOGGER.info("pushDataNodes sent url {},node type {}", address,
                         nodeChangeResult.getNodeType());
-                    Response response = dataNodeExchanger.request(nodeChangeRequestRequest);
+                    Response response = pushNodeChange(address, nodeChangeResult,
+                        nodeChangeDelta);
 
                     if (confirm) {
                         Object result = response.getResult();
@@ -232,6 +237,45 @@ public class DataNodeServiceImpl implements DataNodeService {
         }
     }
 
+    /**
+     * push the delta if there is one, and fall back to the full node list
+     * when the data server has not applied the base version of the delta
+     */
+    private Response pushNodeChange(InetSocketAddress address,
+                                    NodeChangeResult nodeChangeResult,
+                                    NodeChangeDelta nodeChangeDelta) throws RequestException {
+        if (nodeChangeDelta != null) {
+            try {
+                Response response = sendNodeChange(address, nodeChangeDelta);
+                Object result = response.getResult();
+                if (result instanceof CommonResponse && ((CommonResponse) result).isSuccess()) {
+                    return response;
+                }
+                LOGGER.info("pushDataNodes delta not applied by {}, push all nodes, result {}",
+                    address, result);
+            } catch (RequestException e) {
+                LOGGER.warn("pushDataNodes delta to {} error, push all nodes", address, e);
+            }
+        }
+        return sendNodeChange(address, nodeChangeResult);
+    }
+
+    private Response sendNodeChange(InetSocketAddress address, Object nodeChange)
+                                                                                throws RequestException {
+        Request<Object> nodeChangeRequestRequest = new Request<Object>() {
+            @Override
+            public Object getRequestBody() {
+                return nodeChange;
+            }
+
+            @Override
+            public URL getRequestUrl() {
+                return new URL(address);
+            }
+        };
+        return dataNodeExchanger.request(nodeChangeRequestRequest);
+    }
+
     private void confirmStatus(InetSocketAddress address, String confirmNodeIp) {
         String ipAddress = address.getAddress().getHostAddress();
         dataStoreService.confirmNodeStatus(ipAddress, confirmNodeIp);
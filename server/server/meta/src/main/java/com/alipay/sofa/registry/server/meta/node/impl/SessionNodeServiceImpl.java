@@ -29,6 +29,7 @@ import com.alipay.sofa.registry.common.model.metaserver.*;
 import com.alipay.sofa.registry.remoting.exchange.message.Response;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.alipay.sofa.registry.common.model.CommonResponse;
 import com.alipay.sofa.registry.common.model.Node.NodeType;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.log.Logger;
@@ -38,6 +39,7 @@ import com.alipay.sofa.registry.remoting.exchange.RequestException;
 import com.alipay.sofa.registry.remoting.exchange.message.Request;
 import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.bootstrap.ServiceFactory;
+import com.alipay.sofa.registry.server.meta.node.NodeChangeDeltaTracker;
 import com.alipay.sofa.registry.server.meta.node.SessionNodeService;
 import com.alipay.sofa.registry.server.meta.remoting.connection.NodeConnectManager;
 import com.alipay.sofa.registry.server.meta.remoting.handler.AbstractServerHandler;
@@ -49,19 +51,22 @@ import com.alipay.sofa.registry.server.meta.store.StoreService;
  */
 public class SessionNodeServiceImpl implements SessionNodeService {
 
-    private static final Logger   LOGGER = LoggerFactory.getLogger(SessionNodeServiceImpl.class);
+    private static final Logger                    LOGGER           = LoggerFactory
+                                                                        .getLogger(SessionNodeServiceImpl.class);
+
+    private final NodeChangeDeltaTracker<DataNode> dataNodesTracker = new NodeChangeDeltaTracker<>();
 
     @Autowired
-    private NodeExchanger         sessionNodeExchanger;
+    private NodeExchanger                          sessionNodeExchanger;
 
     @Autowired
-    private StoreService          sessionStoreService;
+    private StoreService                           sessionStoreService;
 
     @Autowired
-    private MetaServerConfig      metaServerConfig;
+    private MetaServerConfig                       metaServerConfig;
 
     @Autowired
-    private AbstractServerHandler sessionConnectionHandler;
+    private AbstractServerHandler                  sessionConnectionHandler;
 
     @Override
     public NodeType getNodeType() {
@@ -143,6 +148,12 @@ public class SessionNodeServiceImpl implements SessionNodeService {
             throw new RuntimeException("Push sessionNode list error! No session node registered!");
         }
 
+        NodeChangeDelta nodeChangeDelta = null;
+        if (metaServerConfig.isNodeChangeDeltaPushEnabled()
+            && nodeChangeResult.getNodeType() == NodeType.DATA) {
+            nodeChangeDelta = dataNodesTracker.track(nodeChangeResult);
+        }
+
         for (InetSocketAddress connection : connections) {
 
             if (!sessionNodes.keySet().contains(connection.getAddress().getHostAddress())) {
@@ -150,20 +161,10 @@ public class SessionNodeServiceImpl implements SessionNodeService {
             }
 
             try {
-                Request<NodeChangeResult> nodeChangeRequestRequest = new Request<NodeChangeResult>() {
-
-                    @Override
-                    public NodeChangeResult getRequestBody() {
-                        return nodeChangeResult;
-                    }
-
-                    @Override
-                    public URL getRequestUrl() {
-                        return new URL(connection);
-                    }
-                };
-
-                sessionNodeExchanger.request(nodeChangeRequestRequest);
+                if (nodeChangeDelta != null && pushNodeChangeDelta(connection, nodeChangeDelta)) {
+                    continue;
+                }
+                sendNodeChange(connection, nodeChangeResult);
 
             } catch (RequestException e) {
                 throw new RuntimeException("Push sessionNode list error: " + e.getMessage(), e);
@@ -171,6 +172,42 @@ public class SessionNodeServiceImpl implements SessionNodeService {
         }
     }
 
+    /**
+     * @return false if the session server has not applied the base version of the delta
+     */
+    private boolean pushNodeChangeDelta(InetSocketAddress connection,
+                                        NodeChangeDelta nodeChangeDelta) {
+        try {
+            Object result = sendNodeChange(connection, nodeChangeDelta).getResult();
+            if (result instanceof CommonResponse && ((CommonResponse) result).isSuccess()) {
+                return true;
+            }
+            LOGGER.info("pushDataNodes delta not applied by {}, push all nodes, result {}",
+                connection, result);
+        } catch (RequestException e) {
+            LOGGER.warn("pushDataNodes delta to {} error, push all nodes", connection, e);
+        }
+        return false;
+    }
+
+    private Response sendNodeChange(InetSocketAddress connection, Object nodeChange)
+                                                                                    throws RequestException {
+        Request<Object> nodeChangeRequestRequest = new Request<Object>() {
+
+            @Override
+            public Object getRequestBody() {
+                return nodeChange;
+            }
+
+            @Override
+            public URL getRequestUrl() {
+                return new URL(connection);
+            }
+        };
+
+        return sessionNodeExchanger.request(nodeChangeRequestRequest);
+    }
+
     @Override
     public void notifyProvideDataChange(NotifyProvideDataChange notifyProvideDataChange) {
 
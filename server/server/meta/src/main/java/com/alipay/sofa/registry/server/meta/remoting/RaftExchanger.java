@@ -55,6 +55,7 @@ import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.bootstrap.NodeConfig;
 import com.alipay.sofa.registry.server.meta.executor.ExecutorManager;
 import com.alipay.sofa.registry.server.meta.registry.Registry;
+import com.alipay.sofa.registry.server.meta.store.NodeLeaseManager;
 
 /**
  * @author shangyu.wh
@@ -80,6 +81,9 @@ public class RaftExchanger {
     @Autowired
     private Registry            metaServerRegistry;
 
+    @Autowired
+    private NodeLeaseManager    nodeLeaseManager;
+
     private RaftServer          raftServer;
 
     private RaftClient          raftClient;
@@ -108,6 +112,8 @@ public class RaftExchanger {
                     @Override
                     public void startProcess() {
                         LOGGER_START.info("Start leader process...");
+                        // heartbeat leases are leader local, start over with a grace period
+                        nodeLeaseManager.reset();
                         executorManager.startScheduler();
                         LOGGER_START.info("Initialize server scheduler success!");
                         PeerId leader = new PeerId(NetUtil.getLocalAddress().getHostAddress(),
@@ -120,6 +126,7 @@ public class RaftExchanger {
                     @Override
                     public void stopProcess() {
                         LOGGER_START.info("Stop leader process...");
+                        nodeLeaseManager.reset();
                         executorManager.stopScheduler();
                         LOGGER_START.info("Stop server scheduler success!");
                         PeerId leader = new PeerId(NetUtil.getLocalAddress().getHostAddress(),
@@ -173,6 +180,12 @@ public class RaftExchanger {
                 raftServerConfig.setMetricsLogger(METRICS_LOGGER);
                 raftServerConfig.setEnableMetrics(metaServerConfig.isEnableMetrics());
                 raftServerConfig.setElectionTimeoutMs(metaServerConfig.getRaftElectionTimeout());
+                raftServerConfig.setProposalBatchMaxSize(metaServerConfig
+                    .getRaftProposalBatchMaxSize());
+                raftServerConfig.setProposalBatchLingerMs(metaServerConfig
+                    .getRaftProposalBatchLingerMs());
+                raftServerConfig.setProposalBatchQueueSize(metaServerConfig
+                    .getRaftProposalBatchQueueSize());
                 if (metaServerConfig.getRockDBCacheSize() > 0) {
                     raftServerConfig.setRockDBCacheSize(metaServerConfig.getRockDBCacheSize());
                 }
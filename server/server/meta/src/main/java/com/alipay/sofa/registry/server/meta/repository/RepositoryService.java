@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.meta.repository;
 
+import com.alipay.sofa.registry.store.api.annotation.ReadOnFollower;
 import com.alipay.sofa.registry.store.api.annotation.ReadOnLeader;
 
 import java.util.Map;
@@ -46,15 +47,19 @@ public interface RepositoryService<K, V> {
     V replace(K key, V value,Long currentTimeMillis);
 
     @ReadOnLeader
+    @ReadOnFollower
     V get(Object key);
 
     @ReadOnLeader
+    @ReadOnFollower
     Map<K, V> getAllData();
 
     @ReadOnLeader
+    @ReadOnFollower
     Map<String, Map<K, V>> getAllDataMap();
 
     @ReadOnLeader
+    @ReadOnFollower
     Map<String, NodeRepository> getNodeRepositories();
 
     Map<K, V> replaceAll(String dataCenter, Map<K, V> map, Long version);
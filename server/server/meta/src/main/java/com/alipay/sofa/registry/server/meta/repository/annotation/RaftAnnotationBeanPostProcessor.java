@@ -16,11 +16,14 @@
  */
 package com.alipay.sofa.registry.server.meta.repository.annotation;
 
+import com.alipay.sofa.jraft.Node;
 import com.alipay.sofa.registry.jraft.bootstrap.RaftClient;
+import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
 import com.alipay.sofa.registry.jraft.processor.Processor;
 import com.alipay.sofa.registry.jraft.processor.ProxyHandler;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.remoting.RaftExchanger;
 import com.alipay.sofa.registry.store.api.annotation.RaftReference;
 import com.alipay.sofa.registry.store.api.annotation.RaftService;
@@ -47,6 +50,9 @@ public class RaftAnnotationBeanPostProcessor implements BeanPostProcessor, Order
     @Autowired
     private RaftExchanger       raftExchanger;
 
+    @Autowired
+    private MetaServerConfig    metaServerConfig;
+
     @Override
     public Object postProcessBeforeInitialization(Object bean, String beanName)
                                                                                throws BeansException {
@@ -93,7 +99,13 @@ public class RaftAnnotationBeanPostProcessor implements BeanPostProcessor, Order
         }
         return Proxy.newProxyInstance(Thread.currentThread().getContextClassLoader(),
             new Class<?>[] { interfaceType }, new ProxyHandler(interfaceType, serviceId,
-                raftExchanger.getRaftClient()));
+                raftExchanger.getRaftClient(), this::getRaftNode,
+                metaServerConfig.getRaftReadIndexTimeoutMs()));
+    }
+
+    private Node getRaftNode() {
+        RaftServer raftServer = raftExchanger.getRaftServer();
+        return raftServer != null ? raftServer.getNode() : null;
     }
 
     private void processRaftService(Object bean, String beanName) {
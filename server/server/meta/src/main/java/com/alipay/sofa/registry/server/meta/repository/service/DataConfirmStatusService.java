@@ -159,7 +159,7 @@ public class DataConfirmStatusService extends AbstractSnapshotProcess
         if (path.endsWith(NODE_ORDERS_EXTEND_NAME)) {
             return save(path, expectNodesOrders);
         } else {
-            return save(path, expectNodes);
+            return saveEntries(path, expectNodes);
         }
 
     }
@@ -177,8 +177,7 @@ public class DataConfirmStatusService extends AbstractSnapshotProcess
                 expectNodesOrders.addAll(queue);
 
             } else {
-                ConcurrentHashMap<DataNode, Map<String, DataNode>> map = load(path,
-                    expectNodes.getClass());
+                Map<DataNode, Map<String, DataNode>> map = loadEntries(path);
                 expectNodes.clear();
                 expectNodes.putAll(map);
             }
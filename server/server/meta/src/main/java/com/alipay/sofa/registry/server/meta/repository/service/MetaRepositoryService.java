@@ -326,13 +326,13 @@ public class MetaRepositoryService extends AbstractSnapshotProcess
 
     @Override
     public boolean save(String path) {
-        return save(path, registry);
+        return NodeRepositorySnapshot.save(this, path, registry);
     }
 
     @Override
     public synchronized boolean load(String path) {
         try {
-            Map<String, NodeRepository> map = load(path, registry.getClass());
+            Map<String, NodeRepository> map = NodeRepositorySnapshot.load(this, path);
             registry.clear();
             registry.putAll(map);
             return true;
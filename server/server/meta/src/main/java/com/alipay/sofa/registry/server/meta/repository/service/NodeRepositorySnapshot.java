@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.repository.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.alipay.sofa.registry.jraft.processor.AbstractSnapshotProcess;
+import com.alipay.sofa.registry.server.meta.repository.NodeRepository;
+import com.alipay.sofa.registry.server.meta.store.RenewDecorate;
+
+/**
+ * streams the node repositories of every dataCenter into a snapshot:
+ * each repository is written as a header without nodes followed by one entry per node,
+ * so a big repository is split across chunks and applied chunk by chunk on load.
+ *
+ * @author agent
+ * @version $Id: NodeRepositorySnapshot.java, v 0.1 2026-10-18 19:40 agent Exp $
+ */
+final class NodeRepositorySnapshot {
+
+    private NodeRepositorySnapshot() {
+    }
+
+    /**
+     * save node repositories to file
+     * @param process
+     * @param path
+     * @param registry
+     * @return
+     */
+    static boolean save(AbstractSnapshotProcess process, String path,
+                        Map<String, NodeRepository> registry) {
+        return process.saveEntries(path, writer -> {
+            for (Map.Entry<String, NodeRepository> entry : registry.entrySet()) {
+                NodeRepository repository = entry.getValue();
+                writer.write(entry.getKey(), new NodeRepository(repository.getDataCenter(),
+                    new ConcurrentHashMap<>(), repository.getVersion()));
+                Map<String, RenewDecorate> nodeMap = repository.getNodeMap();
+                if (nodeMap != null) {
+                    for (Map.Entry<String, RenewDecorate> node : nodeMap.entrySet()) {
+                        writer.write(node.getKey(), node.getValue());
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * load node repositories from file, snapshots which hold the whole repositories
+     * as map values are still readable
+     * @param process
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    static Map<String, NodeRepository> load(AbstractSnapshotProcess process, String path)
+                                                                                          throws IOException {
+        Map<String, NodeRepository> registry = new ConcurrentHashMap<>();
+        NodeRepository[] current = new NodeRepository[1];
+        process.<String, Object> loadEntries(path, (key, value) -> {
+            if (value instanceof NodeRepository) {
+                NodeRepository repository = (NodeRepository) value;
+                Map<String, RenewDecorate> nodeMap = repository.getNodeMap();
+                repository.setNodeMap(nodeMap == null ? new ConcurrentHashMap<>()
+                    : new ConcurrentHashMap<>(nodeMap));
+                registry.put(key, repository);
+                current[0] = repository;
+            } else if (current[0] != null) {
+                current[0].getNodeMap().put(key, value);
+            } else {
+                throw new IOException("Fail to load snapshot from " + path + ", node " + key
+                                      + " precedes its repository");
+            }
+        });
+        return registry;
+    }
+}
\ No newline at end of file
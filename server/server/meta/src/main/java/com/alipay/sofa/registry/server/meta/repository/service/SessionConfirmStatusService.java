@@ -161,7 +161,7 @@ public class SessionConfirmStatusService extends AbstractSnapshotProcess
         if (path.endsWith(NODE_ORDERS_EXTEND_NAME)) {
             return save(path, expectNodesOrders);
         } else {
-            return save(path, expectNodes);
+            return saveEntries(path, expectNodes);
         }
 
     }
@@ -179,8 +179,7 @@ public class SessionConfirmStatusService extends AbstractSnapshotProcess
                 expectNodesOrders.addAll(queue);
 
             } else {
-                ConcurrentHashMap<SessionNode, Map<String, SessionNode>> map = load(path,
-                    expectNodes.getClass());
+                Map<SessionNode, Map<String, SessionNode>> map = loadEntries(path);
                 expectNodes.clear();
                 expectNodes.putAll(map);
             }
@@ -174,14 +174,13 @@ public class SessionRepositoryService extends AbstractSnapshotProcess
 
     @Override
     public boolean save(String path) {
-        return save(path, registry);
+        return saveEntries(path, registry);
     }
 
     @Override
     public synchronized boolean load(String path) {
         try {
-            ConcurrentHashMap<String, RenewDecorate<SessionNode>> map = load(path,
-                registry.getClass());
+            Map<String, RenewDecorate<SessionNode>> map = loadEntries(path);
             registry.clear();
             registry.putAll(map);
             return true;
@@ -26,6 +26,7 @@ import com.alipay.sofa.registry.util.VersionsMapUtils;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -80,13 +81,13 @@ public class SessionVersionRepositoryService extends AbstractSnapshotProcess
 
     @Override
     public boolean save(String path) {
-        return save(path, dataCenterListVersions);
+        return saveEntries(path, dataCenterListVersions);
     }
 
     @Override
     public synchronized boolean load(String path) {
         try {
-            ConcurrentHashMap<String, Long> map = load(path, dataCenterListVersions.getClass());
+            Map<String, Long> map = loadEntries(path);
             dataCenterListVersions.clear();
             dataCenterListVersions.putAll(map);
             return true;
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.resource;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.alipay.sofa.registry.metrics.PrometheusExporter;
+
+/**
+ * metrics of the meta server in the Prometheus text format
+ *
+ * @author agent
+ * @version $Id: MetricsResource.java, v 0.1 2026-10-18 15:20 agent Exp $
+ */
+@Path("metrics")
+public class MetricsResource {
+
+    @GET
+    @Produces(PrometheusExporter.CONTENT_TYPE)
+    public String metrics() {
+        return PrometheusExporter.export("meta", Metrics.getRegistry());
+    }
+}
\ No newline at end of file
@@ -83,6 +83,9 @@ public class DataStoreService implements StoreService<DataNode> {
     @RaftReference(uniqueId = "dataServer")
     private NodeConfirmStatusService<DataNode>                 dataConfirmStatusService;
 
+    @Autowired
+    private NodeLeaseManager                                   nodeLeaseManager;
+
     private AtomicLong                                         localDataCenterInitVersion = new AtomicLong(
                                                                                               -1L);
 
@@ -127,6 +130,7 @@ public class DataStoreService implements StoreService<DataNode> {
         try {
 
             RenewDecorate<DataNode> dataNode = dataRepositoryService.remove(ipAddress);
+            nodeLeaseManager.cancel(NodeType.DATA, ipAddress);
             if (dataNode != null) {
 
                 dataConfirmStatusService.putConfirmNode(dataNode.getRenewal(), DataOperator.REMOVE);
@@ -150,6 +154,7 @@ public class DataStoreService implements StoreService<DataNode> {
                     String ipAddress = dataNode.getNodeUrl().getIpAddress();
                     RenewDecorate<DataNode> dataNodeRemove = dataRepositoryService
                         .remove(ipAddress);
+                    nodeLeaseManager.cancel(NodeType.DATA, ipAddress);
                     if (dataNodeRemove != null) {
 
                         dataConfirmStatusService.putConfirmNode(dataNode, DataOperator.REMOVE);
@@ -166,23 +171,31 @@ public class DataStoreService implements StoreService<DataNode> {
     @Override
     public void renew(DataNode dataNode, int duration) {
 
+        String ipAddress = dataNode.getNodeUrl().getIpAddress();
+        RenewDecorate<DataNode> renewer = dataRepositoryService.get(ipAddress);
+        if (renewer != null && dataNode.equals(renewer.getRenewal())) {
+            // heartbeat of a known node only refreshes the lease in leader memory, no raft write
+            nodeLeaseManager.renew(NodeType.DATA, ipAddress, duration);
+            return;
+        }
+
         write.lock();
         try {
-            String ipAddress = dataNode.getNodeUrl().getIpAddress();
-            RenewDecorate renewer = dataRepositoryService.get(ipAddress);
+            renewer = dataRepositoryService.get(ipAddress);
 
             if (renewer == null) {
                 LOGGER.warn("Renew Data node with ipAddress:" + ipAddress
                             + " has not existed!It will be registered again!");
                 addNode(dataNode);
             } else {
+                // node info changed, commit it through raft
                 if (duration > 0) {
                     dataRepositoryService.replace(ipAddress, new RenewDecorate(dataNode, duration));
                 } else {
                     dataRepositoryService.replace(ipAddress, new RenewDecorate(dataNode,
                         RenewDecorate.DEFAULT_DURATION_SECS));
                 }
-
+                nodeLeaseManager.renew(NodeType.DATA, ipAddress, duration);
             }
         } finally {
             write.unlock();
@@ -199,16 +212,19 @@ public class DataStoreService implements StoreService<DataNode> {
         read.lock();
         try {
             Map<String, RenewDecorate<DataNode>> dataMap = dataRepositoryService.getAllData();
+            Set<String> localIps = new HashSet<>();
 
             dataMap.forEach((ip, dataNode) -> {
 
                 String dataCenter = dataNode.getRenewal().getDataCenter();
                 if (dataCenter.equals(nodeConfig.getLocalDataCenter())) {
-                    if (dataNode.isExpired()) {
+                    localIps.add(ip);
+                    if (nodeLeaseManager.isExpired(NodeType.DATA, ip)) {
                         renewerList.add(dataNode.getRenewal());
                     }
                 }
             });
+            nodeLeaseManager.retain(NodeType.DATA, localIps);
 
         } finally {
             read.unlock();
@@ -592,4 +608,13 @@ public class DataStoreService implements StoreService<DataNode> {
         this.dataConfirmStatusService = dataConfirmStatusService;
     }
 
+    /**
+     * Setter method for property <tt>nodeLeaseManager</tt>.
+     *
+     * @param nodeLeaseManager  value to be assigned to property nodeLeaseManager
+     */
+    public void setNodeLeaseManager(NodeLeaseManager nodeLeaseManager) {
+        this.nodeLeaseManager = nodeLeaseManager;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.store;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
+
+/**
+ * heartbeat leases of session/data nodes, kept only in the memory of the meta leader.
+ * Node membership (add, remove, expire) is still committed through raft, a heartbeat of a
+ * known node just moves its lease forward here instead of writing a raft log entry.
+ *
+ * @author agent
+ * @version $Id: NodeLeaseManager.java, v 0.1 2026-10-18 10:35 agent Exp $
+ */
+public class NodeLeaseManager {
+
+    private static final Logger                                  LOGGER = LoggerFactory
+                                                                            .getLogger(NodeLeaseManager.class);
+
+    private final Map<NodeType, Map<String/*ipAddress*/, Long>> leases = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MetaServerConfig                                     metaServerConfig;
+
+    /**
+     * grant or refresh the lease of one node
+     *
+     * @param nodeType
+     * @param ipAddress
+     * @param durationSECS lease duration, DEFAULT_DURATION_SECS of RenewDecorate if not positive
+     */
+    public void renew(NodeType nodeType, String ipAddress, int durationSECS) {
+        long duration = durationSECS > 0 ? durationSECS : RenewDecorate.DEFAULT_DURATION_SECS;
+        getLeases(nodeType).put(ipAddress, System.currentTimeMillis() + duration * 1000);
+    }
+
+    /**
+     * drop the lease of one node after it is removed
+     *
+     * @param nodeType
+     * @param ipAddress
+     */
+    public void cancel(NodeType nodeType, String ipAddress) {
+        getLeases(nodeType).remove(ipAddress);
+    }
+
+    /**
+     * verify the lease of one node expired or not, a node without lease (e.g. registered
+     * before this meta server became leader) gets a lease of the grace period
+     *
+     * @param nodeType
+     * @param ipAddress
+     * @return
+     */
+    public boolean isExpired(NodeType nodeType, String ipAddress) {
+        long now = System.currentTimeMillis();
+        Long expireTimestamp = getLeases(nodeType).computeIfAbsent(ipAddress,
+            k -> now + metaServerConfig.getNodeLeaseGracePeriodSecs() * 1000L);
+        return now > expireTimestamp;
+    }
+
+    /**
+     * drop leases of nodes no longer registered
+     *
+     * @param nodeType
+     * @param ipAddresses registered nodes
+     */
+    public void retain(NodeType nodeType, Collection<String> ipAddresses) {
+        getLeases(nodeType).keySet().retainAll(ipAddresses);
+    }
+
+    /**
+     * called when leadership changes, the new leader re-establishes leases with the grace period
+     */
+    public void reset() {
+        leases.clear();
+        LOGGER.info("Node leases reset, grace period {}s", metaServerConfig.getNodeLeaseGracePeriodSecs());
+    }
+
+    /**
+     * Setter method for property <tt>metaServerConfig</tt>.
+     *
+     * @param metaServerConfig  value to be assigned to property metaServerConfig
+     */
+    public void setMetaServerConfig(MetaServerConfig metaServerConfig) {
+        this.metaServerConfig = metaServerConfig;
+    }
+
+    private Map<String, Long> getLeases(NodeType nodeType) {
+        return leases.computeIfAbsent(nodeType, k -> new ConcurrentHashMap<>());
+    }
+}
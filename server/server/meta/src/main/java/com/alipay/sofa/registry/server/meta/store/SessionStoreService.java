@@ -90,6 +90,9 @@ public class SessionStoreService implements StoreService<SessionNode> {
     @RaftReference
     private DBService                                             dbService;
 
+    @Autowired
+    private NodeLeaseManager                                      nodeLeaseManager;
+
     @Override
     public NodeType getNodeType() {
         return NodeType.SESSION;
@@ -131,6 +134,7 @@ public class SessionStoreService implements StoreService<SessionNode> {
         try {
             RenewDecorate<SessionNode> oldRenewDecorate = sessionRepositoryService
                 .remove(ipAddress);
+            nodeLeaseManager.cancel(NodeType.SESSION, ipAddress);
             if (oldRenewDecorate == null) {
                 LOGGER
                     .info("Remove Session node with ipAddress:" + ipAddress + " has not existed!");
@@ -159,6 +163,7 @@ public class SessionStoreService implements StoreService<SessionNode> {
                     String ipAddress = node.getNodeUrl().getIpAddress();
                     RenewDecorate<SessionNode> oldRenewDecorate = sessionRepositoryService
                         .remove(ipAddress);
+                    nodeLeaseManager.cancel(NodeType.SESSION, ipAddress);
                     if (oldRenewDecorate == null) {
                         LOGGER.warn("Remove session nodes with ipAddress:" + ipAddress
                                     + " has not existed!");
@@ -182,16 +187,24 @@ public class SessionStoreService implements StoreService<SessionNode> {
     @Override
     public void renew(SessionNode sessionNode, int duration) {
 
+        String ipAddress = sessionNode.getNodeUrl().getIpAddress();
+        RenewDecorate<SessionNode> renewer = sessionRepositoryService.get(ipAddress);
+        if (renewer != null && sessionNode.equals(renewer.getRenewal())) {
+            // heartbeat of a known node only refreshes the lease in leader memory, no raft write
+            nodeLeaseManager.renew(NodeType.SESSION, ipAddress, duration);
+            return;
+        }
+
         write.lock();
         try {
-            String ipAddress = sessionNode.getNodeUrl().getIpAddress();
-            RenewDecorate renewer = sessionRepositoryService.get(ipAddress);
+            renewer = sessionRepositoryService.get(ipAddress);
 
             if (renewer == null) {
                 LOGGER.warn("Renew session node with ipAddress:" + ipAddress
                             + " has not existed!It will be registered again!");
                 addNode(sessionNode);
             } else {
+                // node info changed, commit it through raft
                 if (duration > 0) {
                     sessionRepositoryService.replace(ipAddress, new RenewDecorate(sessionNode,
                         duration));
@@ -199,6 +212,7 @@ public class SessionStoreService implements StoreService<SessionNode> {
                     sessionRepositoryService.replace(ipAddress, new RenewDecorate(sessionNode,
                         RenewDecorate.DEFAULT_DURATION_SECS));
                 }
+                nodeLeaseManager.renew(NodeType.SESSION, ipAddress, duration);
             }
         } finally {
             write.unlock();
@@ -212,10 +226,11 @@ public class SessionStoreService implements StoreService<SessionNode> {
         try {
             Map<String, RenewDecorate<SessionNode>> map = sessionRepositoryService.getAllData();
             map.forEach((key, value) -> {
-                if (value.isExpired()) {
+                if (nodeLeaseManager.isExpired(NodeType.SESSION, key)) {
                     renewerList.add(value.getRenewal());
                 }
             });
+            nodeLeaseManager.retain(NodeType.SESSION, map.keySet());
         } finally {
             read.unlock();
         }
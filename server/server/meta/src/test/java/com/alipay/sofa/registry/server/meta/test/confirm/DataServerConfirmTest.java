@@ -24,6 +24,7 @@ import com.alipay.sofa.registry.server.meta.bootstrap.NodeConfig;
 import com.alipay.sofa.registry.server.meta.repository.service.DataConfirmStatusService;
 import com.alipay.sofa.registry.server.meta.repository.service.DataRepositoryService;
 import com.alipay.sofa.registry.server.meta.store.DataStoreService;
+import com.alipay.sofa.registry.server.meta.store.NodeLeaseManager;
 import com.alipay.sofa.registry.task.listener.DefaultTaskListenerManager;
 import com.alipay.sofa.registry.task.listener.TaskListenerManager;
 import com.alipay.sofa.registry.task.scheduler.TimedSupervisorTask;
@@ -67,6 +68,7 @@ public class DataServerConfirmTest {
         dataStoreService.setNodeConfig(nodeConfig);
         dataStoreService.setTaskListenerManager(taskListenerManager);
         dataStoreService.setDataConfirmStatusService(dataConfirmStatusService);
+        dataStoreService.setNodeLeaseManager(new NodeLeaseManager());
 
         DataRepositoryService dataRepositoryService = new DataRepositoryService();
         dataRepositoryService.setNodeConfig(nodeConfig);
@@ -116,6 +118,7 @@ public class DataServerConfirmTest {
         dataStoreService.setNodeConfig(nodeConfig);
         dataStoreService.setTaskListenerManager(taskListenerManager);
         dataStoreService.setDataConfirmStatusService(dataConfirmStatusService);
+        dataStoreService.setNodeLeaseManager(new NodeLeaseManager());
 
         DataRepositoryService dataRepositoryService = new DataRepositoryService();
         dataRepositoryService.setNodeConfig(nodeConfig);
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.node;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.common.model.Node.NodeStatus;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.meta.node.NodeChangeDeltaTracker;
+
+/**
+ *
+ * @author agent
+ * @version $Id: NodeChangeDeltaTrackerTest.java, v 0.1 2026-10-18 23:35 agent Exp $
+ */
+public class NodeChangeDeltaTrackerTest {
+
+    private static final String              LOCAL  = "dc1";
+
+    private static final String              REMOTE = "dc2";
+
+    private NodeChangeDeltaTracker<DataNode> tracker;
+
+    @Before
+    public void before() {
+        tracker = new NodeChangeDeltaTracker<>();
+    }
+
+    @Test
+    public void testDelta() {
+        Assert.assertNull("first push is the full node list",
+            tracker.track(result(1L, 1L, "1.1.1.1", "1.1.1.2")));
+
+        NodeChangeDelta<DataNode> delta = tracker.track(result(2L, 1L, "1.1.1.2", "1.1.1.3"));
+        Assert.assertNotNull(delta);
+        Assert.assertEquals(NodeType.DATA, delta.getNodeType());
+        Assert.assertEquals(LOCAL, delta.getLocalDataCenter());
+        Assert.assertEquals(Long.valueOf(1L), delta.getBaseVersion());
+        Assert.assertEquals(Long.valueOf(2L), delta.getVersion());
+        Assert.assertEquals(Collections.singleton("1.1.1.3"), delta.getAddNodes().keySet());
+        Assert.assertEquals(Collections.singleton("1.1.1.1"), delta.getRemoveNodes());
+        Assert.assertEquals(Long.valueOf(1L), delta.getDataCenterListVersions().get(REMOTE));
+
+        // retry of the same push gets the same delta
+        Assert.assertSame(delta, tracker.track(result(2L, 1L, "1.1.1.2", "1.1.1.3")));
+    }
+
+    @Test
+    public void testChangedNode() {
+        tracker.track(result(1L, 1L, "1.1.1.1"));
+        NodeChangeResult<DataNode> result = result(2L, 1L, "1.1.1.1");
+        result.getNodes().get(LOCAL).put("1.1.1.1",
+            new DataNode(new URL("1.1.1.1", 9620), LOCAL, NodeStatus.WORKING));
+
+        NodeChangeDelta<DataNode> delta = tracker.track(result);
+        Assert.assertEquals(Collections.singleton("1.1.1.1"), delta.getAddNodes().keySet());
+        Assert.assertTrue(delta.getRemoveNodes().isEmpty());
+    }
+
+    @Test
+    public void testRemoteDataCenterChanged() {
+        tracker.track(result(1L, 1L, "1.1.1.1"));
+        Assert.assertNull(tracker.track(result(2L, 2L, "1.1.1.1", "1.1.1.2")));
+    }
+
+    @Test
+    public void testOutOfOrder() {
+        tracker.track(result(1L, 1L, "1.1.1.1"));
+        tracker.track(result(3L, 1L, "1.1.1.1", "1.1.1.2"));
+        // an older node list never turns into a delta
+        Assert.assertNull(tracker.track(result(2L, 1L, "1.1.1.1")));
+    }
+
+    @Test
+    public void testLocalDataCenterChanged() {
+        tracker.track(result(1L, 1L, "1.1.1.1"));
+        NodeChangeResult<DataNode> result = result(2L, 1L, "1.1.1.1");
+        result.setLocalDataCenter(REMOTE);
+        Assert.assertNull(tracker.track(result));
+    }
+
+    private NodeChangeResult<DataNode> result(long version, long remoteVersion, String... ips) {
+        Map<String, DataNode> localNodes = new HashMap<>();
+        for (String ip : ips) {
+            localNodes.put(ip, new DataNode(new URL(ip, 9620), LOCAL));
+        }
+        Map<String, DataNode> remoteNodes = new HashMap<>();
+        remoteNodes.put("2.2.2.2", new DataNode(new URL("2.2.2.2", 9620), REMOTE));
+
+        Map<String, Map<String, DataNode>> nodes = new HashMap<>();
+        nodes.put(LOCAL, localNodes);
+        nodes.put(REMOTE, remoteNodes);
+        Map<String, Long> versions = new HashMap<>();
+        versions.put(LOCAL, version);
+        versions.put(REMOTE, remoteVersion);
+
+        NodeChangeResult<DataNode> result = new NodeChangeResult<>(NodeType.DATA);
+        result.setLocalDataCenter(LOCAL);
+        result.setVersion(version);
+        result.setNodes(nodes);
+        result.setDataCenterListVersions(versions);
+        return result;
+    }
+}
\ No newline at end of file
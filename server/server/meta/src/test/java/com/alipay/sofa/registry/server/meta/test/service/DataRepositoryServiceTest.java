@@ -26,6 +26,8 @@ import com.alipay.sofa.registry.server.meta.store.RenewDecorate;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -238,4 +240,51 @@ public class DataRepositoryServiceTest {
             NodeStatus.WORKING);
         Assert.assertEquals(metaRepositoryService.getAllDataMap().get(dataCenter).size(), 1);
     }
+
+    @Test
+    public void testSnapshotSaveAndLoad() throws IOException {
+        Map<String/*dataCenter*/, NodeRepository> registry = newRegistry();
+        DataRepositoryService repositoryService = new DataRepositoryService(registry);
+        File file = File.createTempFile("DataRepositoryService", ".snapshot");
+        file.deleteOnExit();
+        Assert.assertTrue(repositoryService.save(file.getPath()));
+
+        DataRepositoryService loaded = new DataRepositoryService();
+        Assert.assertTrue(loaded.load(file.getPath()));
+        assertRegistry(registry, loaded);
+
+        // snapshots holding whole repositories are still readable
+        Assert.assertTrue(repositoryService.save(file.getPath(), registry));
+        loaded = new DataRepositoryService();
+        Assert.assertTrue(loaded.load(file.getPath()));
+        assertRegistry(registry, loaded);
+    }
+
+    private Map<String, NodeRepository> newRegistry() {
+        Map<String/*dataCenter*/, NodeRepository> registry = new ConcurrentHashMap<>();
+        for (String dataCenter : new String[] { "zue", "zui" }) {
+            Map<String, RenewDecorate<DataNode>> nodeMap = new ConcurrentHashMap<>();
+            for (int i = 0; i < 300; i++) {
+                String ip = "192.1." + dataCenter.length() + "." + i;
+                nodeMap.put(ip, new RenewDecorate(new DataNode(new URL(ip, 0), dataCenter)));
+            }
+            registry.put(dataCenter, new NodeRepository(dataCenter, nodeMap, 100L));
+        }
+        registry.put("empty", new NodeRepository("empty", new ConcurrentHashMap<>(), 1L));
+        return registry;
+    }
+
+    private void assertRegistry(Map<String, NodeRepository> expect, DataRepositoryService loaded) {
+        Map<String, NodeRepository> actual = loaded.getNodeRepositories();
+        Assert.assertEquals(expect.keySet(), actual.keySet());
+        for (Map.Entry<String, NodeRepository> entry : expect.entrySet()) {
+            NodeRepository repository = actual.get(entry.getKey());
+            Assert.assertEquals(entry.getValue().getVersion(), repository.getVersion());
+            Assert.assertEquals(entry.getValue().getNodeMap().keySet(), repository.getNodeMap()
+                .keySet());
+            Assert.assertTrue(repository.getNodeMap() instanceof ConcurrentHashMap);
+        }
+        Assert.assertEquals("192.1.3.7", loaded.getAllData().get("192.1.3.7").getRenewal()
+            .getIp());
+    }
 }
\ No newline at end of file
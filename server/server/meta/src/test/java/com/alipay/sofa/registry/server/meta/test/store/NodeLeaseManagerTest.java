@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.store;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfigBean;
+import com.alipay.sofa.registry.server.meta.store.NodeLeaseManager;
+
+/**
+ *
+ * @author agent
+ * @version $Id: NodeLeaseManagerTest.java, v 0.1 2026-10-18 23:05 agent Exp $
+ */
+public class NodeLeaseManagerTest {
+
+    private static final String  IP1 = "192.1.1.1";
+
+    private static final String  IP2 = "192.1.1.2";
+
+    private MetaServerConfigBean metaServerConfig;
+
+    private NodeLeaseManager     nodeLeaseManager;
+
+    @Before
+    public void before() {
+        metaServerConfig = new MetaServerConfigBean();
+        metaServerConfig.setNodeLeaseGracePeriodSecs(1);
+        nodeLeaseManager = new NodeLeaseManager();
+        nodeLeaseManager.setMetaServerConfig(metaServerConfig);
+    }
+
+    @Test
+    public void testExpireAndRenew() throws InterruptedException {
+        nodeLeaseManager.renew(NodeType.DATA, IP1, 1);
+        nodeLeaseManager.renew(NodeType.DATA, IP2, 10);
+        Assert.assertFalse(nodeLeaseManager.isExpired(NodeType.DATA, IP1));
+
+        Thread.sleep(1100);
+        Assert.assertTrue(nodeLeaseManager.isExpired(NodeType.DATA, IP1));
+        Assert.assertFalse(nodeLeaseManager.isExpired(NodeType.DATA, IP2));
+
+        // a heartbeat moves the lease forward
+        nodeLeaseManager.renew(NodeType.DATA, IP1, 1);
+        Assert.assertFalse(nodeLeaseManager.isExpired(NodeType.DATA, IP1));
+    }
+
+    @Test
+    public void testDefaultDuration() throws InterruptedException {
+        nodeLeaseManager.renew(NodeType.SESSION, IP1, 0);
+        Thread.sleep(1100);
+        // DEFAULT_DURATION_SECS instead of the grace period
+        Assert.assertFalse(nodeLeaseManager.isExpired(NodeType.SESSION, IP1));
+    }
+
+    @Test
+    public void testGracePeriod() throws InterruptedException {
+        nodeLeaseManager.renew(NodeType.DATA, IP2, 10);
+        nodeLeaseManager.reset();
+
+        // unknown node, e.g. registered before this meta server became leader
+        Assert.assertFalse(nodeLeaseManager.isExpired(NodeType.DATA, IP1));
+        Assert.assertFalse(nodeLeaseManager.isExpired(NodeType.DATA, IP2));
+
+        Thread.sleep(1100);
+        Assert.assertTrue(nodeLeaseManager.isExpired(NodeType.DATA, IP1));
+        // the lease granted before reset is dropped
+        Assert.assertTrue(nodeLeaseManager.isExpired(NodeType.DATA, IP2));
+    }
+
+    @Test
+    public void testCancelAndRetain() throws InterruptedException {
+        nodeLeaseManager.renew(NodeType.DATA, IP1, 1);
+        nodeLeaseManager.renew(NodeType.DATA, IP2, 1);
+        nodeLeaseManager.renew(NodeType.SESSION, IP2, 1);
+        Thread.sleep(1100);
+
+        nodeLeaseManager.cancel(NodeType.DATA, IP1);
+        nodeLeaseManager.retain(NodeType.SESSION, Collections.emptyList());
+
+        // leases dropped, registered again with the grace period
+        Assert.assertFalse(nodeLeaseManager.isExpired(NodeType.DATA, IP1));
+        Assert.assertFalse(nodeLeaseManager.isExpired(NodeType.SESSION, IP2));
+        Assert.assertTrue(nodeLeaseManager.isExpired(NodeType.DATA, IP2));
+    }
+}
\ No newline at end of file
@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.alipay.sofa.registry.common.model.DatumSnapshotRequest;
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
@@ -264,9 +265,18 @@ public class WriteDataProcessor {
             connectId, request.getDataServerIP(), request.getRequestType(),
             request.getRequestBody());
 
-        String connectId = (String) request.getRequestBody();
-        DatumSnapshotRequest datumSnapshotRequest = renewService.getDatumSnapshotRequest(connectId,
-            request.getDataServerIP());
+        String connectId = request.getConnectId();
+        DatumSnapshotRequest datumSnapshotRequest;
+        if (request.getRequestBody() instanceof RenewDatumResult) {
+            // only the digest buckets found different by renew
+            RenewDatumResult renewDatumResult = (RenewDatumResult) request.getRequestBody();
+            datumSnapshotRequest = renewService.getDatumSnapshotRequest(connectId,
+                request.getDataServerIP(), renewDatumResult.getDiffBuckets(),
+                renewDatumResult.getBucketCount());
+        } else {
+            datumSnapshotRequest = renewService.getDatumSnapshotRequest(connectId,
+                request.getDataServerIP());
+        }
         if (datumSnapshotRequest != null) {
             TaskEvent taskEvent = new TaskEvent(datumSnapshotRequest, TaskType.DATUM_SNAPSHOT_TASK);
             taskListenerManager.sendTaskEvent(taskEvent);
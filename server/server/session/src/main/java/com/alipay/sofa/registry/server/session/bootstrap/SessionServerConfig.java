@@ -55,6 +55,14 @@ public interface SessionServerConfig {
 
     int getDataNodeExchangeForFetchDatumTimeOut();
 
+    int getFetchDatumBatchSize();
+
+    int getFetchDatumBatchConcurrency();
+
+    int getFetchDataVersionConcurrency();
+
+    boolean isMetaFollowerReadEnabled();
+
     int getMetaNodeExchangeTimeOut();
 
     String getSessionServerRegion();
@@ -175,6 +183,22 @@ public interface SessionServerConfig {
 
     int getNumberOfReplicas();
 
+    int getRoutingCacheSize();
+
+    int getPushPayloadCacheMaxSize();
+
+    boolean isDeltaPushEnabled();
+
+    int getDeltaPushHistorySize();
+
+    boolean isEventDrivenTaskDispatcher();
+
+    boolean isTaskBatchingEnabled();
+
+    int getTaskBatchingMaxSize();
+
+    long getTaskBatchingMaxDelayMs();
+
     boolean isStopPushSwitch();
 
     void setStopPushSwitch(boolean stopPushSwitch);
@@ -183,12 +207,16 @@ public interface SessionServerConfig {
 
     void setBeginDataFetchTask(boolean beginDataFetchTask);
 
+    String getInvalidForeverZones();
+
     boolean isInvalidForeverZone(String zoneId);
 
     boolean isInvalidIgnored(String dataId);
 
     int getRenewAndSnapshotSilentPeriodSec();
 
+    int getRenewDatumDigestBucketCount();
+
     int getWriteDataAcceptorQueueSize();
 
     int getDataNodeRetryExecutorQueueSize();
@@ -161,10 +161,34 @@ public class SessionServerConfigBean implements SessionServerConfig {
 
     private int                dataNodeExchangeForFetchDatumTimeOut    = 5000;
 
+    private int                fetchDatumBatchSize                     = 500;
+
+    private int                fetchDatumBatchConcurrency              = 8;
+
+    private int                fetchDataVersionConcurrency             = 10;
+
+    private boolean            metaFollowerReadEnabled                 = true;
+
     private int                metaNodeExchangeTimeOut                 = 3000;
 
     private int                numberOfReplicas                        = 1000;
 
+    private int                routingCacheSize                        = 65536;
+
+    private int                pushPayloadCacheMaxSize                 = 4096;
+
+    private boolean            deltaPushEnabled                        = false;
+
+    private int                deltaPushHistorySize                    = 1024;
+
+    private boolean            eventDrivenTaskDispatcher               = false;
+
+    private boolean            taskBatchingEnabled                     = false;
+
+    private int                taskBatchingMaxSize                     = 100;
+
+    private long               taskBatchingMaxDelayMs                  = 5;
+
     private int                userDataPushRetryWheelTicksSize         = 5120;
 
     private int                userDataPushRetryWheelTicksDuration     = 100;
@@ -242,6 +266,8 @@ public class SessionServerConfigBean implements SessionServerConfig {
 
     private int                renewAndSnapshotSilentPeriodSec         = 20;
 
+    private int                renewDatumDigestBucketCount             = 64;
+
     private int                writeDataAcceptorQueueSize              = 10000;
 
     private int                dataNodeRetryExecutorQueueSize          = 1000000;
@@ -1306,6 +1332,7 @@ public class SessionServerConfigBean implements SessionServerConfig {
         this.beginDataFetchTask = beginDataFetchTask;
     }
 
+    @Override
     public String getInvalidForeverZones() {
         return invalidForeverZones;
     }
@@ -1317,6 +1344,7 @@ public class SessionServerConfigBean implements SessionServerConfig {
      */
     public void setInvalidForeverZones(String invalidForeverZones) {
         this.invalidForeverZones = invalidForeverZones;
+        this.invalidForeverZonesSet = null;
     }
 
     public String getInvalidIgnoreDataidRegex() {
@@ -2138,6 +2166,253 @@ public class SessionServerConfigBean implements SessionServerConfig {
         return Runtime.getRuntime().availableProcessors();
     }
 
+    /**
+     * Getter method for property <tt>routingCacheSize</tt>.
+     *
+     * @return property value of routingCacheSize
+     */
+    @Override
+    public int getRoutingCacheSize() {
+        return routingCacheSize;
+    }
+
+    /**
+     * Setter method for property <tt>routingCacheSize</tt>.
+     *
+     * @param routingCacheSize value to be assigned to property routingCacheSize
+     */
+    public void setRoutingCacheSize(int routingCacheSize) {
+        this.routingCacheSize = routingCacheSize;
+    }
+
+    /**
+     * Getter method for property <tt>pushPayloadCacheMaxSize</tt>.
+     *
+     * @return property value of pushPayloadCacheMaxSize
+     */
+    @Override
+    public int getPushPayloadCacheMaxSize() {
+        return pushPayloadCacheMaxSize;
+    }
+
+    /**
+     * Setter method for property <tt>pushPayloadCacheMaxSize</tt>.
+     *
+     * @param pushPayloadCacheMaxSize value to be assigned to property pushPayloadCacheMaxSize
+     */
+    public void setPushPayloadCacheMaxSize(int pushPayloadCacheMaxSize) {
+        this.pushPayloadCacheMaxSize = pushPayloadCacheMaxSize;
+    }
+
+    /**
+     * Getter method for property <tt>deltaPushEnabled</tt>.
+     *
+     * @return property value of deltaPushEnabled
+     */
+    @Override
+    public boolean isDeltaPushEnabled() {
+        return deltaPushEnabled;
+    }
+
+    /**
+     * Setter method for property <tt>deltaPushEnabled</tt>.
+     *
+     * @param deltaPushEnabled value to be assigned to property deltaPushEnabled
+     */
+    public void setDeltaPushEnabled(boolean deltaPushEnabled) {
+        this.deltaPushEnabled = deltaPushEnabled;
+    }
+
+    /**
+     * Getter method for property <tt>deltaPushHistorySize</tt>.
+     *
+     * @return property value of deltaPushHistorySize
+     */
+    @Override
+    public int getDeltaPushHistorySize() {
+        return deltaPushHistorySize;
+    }
+
+    /**
+     * Setter method for property <tt>deltaPushHistorySize</tt>.
+     *
+     * @param deltaPushHistorySize value to be assigned to property deltaPushHistorySize
+     */
+    public void setDeltaPushHistorySize(int deltaPushHistorySize) {
+        this.deltaPushHistorySize = deltaPushHistorySize;
+    }
+
+    /**
+     * Getter method for property <tt>eventDrivenTaskDispatcher</tt>.
+     *
+     * @return property value of eventDrivenTaskDispatcher
+     */
+    @Override
+    public boolean isEventDrivenTaskDispatcher() {
+        return eventDrivenTaskDispatcher;
+    }
+
+    /**
+     * Setter method for property <tt>eventDrivenTaskDispatcher</tt>.
+     *
+     * @param eventDrivenTaskDispatcher value to be assigned to property eventDrivenTaskDispatcher
+     */
+    public void setEventDrivenTaskDispatcher(boolean eventDrivenTaskDispatcher) {
+        this.eventDrivenTaskDispatcher = eventDrivenTaskDispatcher;
+    }
+
+    /**
+     * Getter method for property <tt>taskBatchingEnabled</tt>.
+     *
+     * @return property value of taskBatchingEnabled
+     */
+    @Override
+    public boolean isTaskBatchingEnabled() {
+        return taskBatchingEnabled;
+    }
+
+    /**
+     * Setter method for property <tt>taskBatchingEnabled</tt>.
+     *
+     * @param taskBatchingEnabled value to be assigned to property taskBatchingEnabled
+     */
+    public void setTaskBatchingEnabled(boolean taskBatchingEnabled) {
+        this.taskBatchingEnabled = taskBatchingEnabled;
+    }
+
+    /**
+     * Getter method for property <tt>taskBatchingMaxSize</tt>.
+     *
+     * @return property value of taskBatchingMaxSize
+     */
+    @Override
+    public int getTaskBatchingMaxSize() {
+        return taskBatchingMaxSize;
+    }
+
+    /**
+     * Setter method for property <tt>taskBatchingMaxSize</tt>.
+     *
+     * @param taskBatchingMaxSize value to be assigned to property taskBatchingMaxSize
+     */
+    public void setTaskBatchingMaxSize(int taskBatchingMaxSize) {
+        this.taskBatchingMaxSize = taskBatchingMaxSize;
+    }
+
+    /**
+     * Getter method for property <tt>taskBatchingMaxDelayMs</tt>.
+     *
+     * @return property value of taskBatchingMaxDelayMs
+     */
+    @Override
+    public long getTaskBatchingMaxDelayMs() {
+        return taskBatchingMaxDelayMs;
+    }
+
+    /**
+     * Setter method for property <tt>taskBatchingMaxDelayMs</tt>.
+     *
+     * @param taskBatchingMaxDelayMs value to be assigned to property taskBatchingMaxDelayMs
+     */
+    public void setTaskBatchingMaxDelayMs(long taskBatchingMaxDelayMs) {
+        this.taskBatchingMaxDelayMs = taskBatchingMaxDelayMs;
+    }
+
+    /**
+     * Getter method for property <tt>fetchDatumBatchSize</tt>.
+     *
+     * @return property value of fetchDatumBatchSize
+     */
+    @Override
+    public int getFetchDatumBatchSize() {
+        return fetchDatumBatchSize;
+    }
+
+    /**
+     * Setter method for property <tt>fetchDatumBatchSize</tt>.
+     *
+     * @param fetchDatumBatchSize value to be assigned to property fetchDatumBatchSize
+     */
+    public void setFetchDatumBatchSize(int fetchDatumBatchSize) {
+        this.fetchDatumBatchSize = fetchDatumBatchSize;
+    }
+
+    /**
+     * Getter method for property <tt>fetchDatumBatchConcurrency</tt>.
+     *
+     * @return property value of fetchDatumBatchConcurrency
+     */
+    @Override
+    public int getFetchDatumBatchConcurrency() {
+        return fetchDatumBatchConcurrency;
+    }
+
+    /**
+     * Setter method for property <tt>fetchDatumBatchConcurrency</tt>.
+     *
+     * @param fetchDatumBatchConcurrency value to be assigned to property fetchDatumBatchConcurrency
+     */
+    public void setFetchDatumBatchConcurrency(int fetchDatumBatchConcurrency) {
+        this.fetchDatumBatchConcurrency = fetchDatumBatchConcurrency;
+    }
+
+    /**
+     * Getter method for property <tt>fetchDataVersionConcurrency</tt>.
+     *
+     * @return property value of fetchDataVersionConcurrency
+     */
+    @Override
+    public int getFetchDataVersionConcurrency() {
+        return fetchDataVersionConcurrency;
+    }
+
+    /**
+     * Setter method for property <tt>fetchDataVersionConcurrency</tt>.
+     *
+     * @param fetchDataVersionConcurrency value to be assigned to property fetchDataVersionConcurrency
+     */
+    public void setFetchDataVersionConcurrency(int fetchDataVersionConcurrency) {
+        this.fetchDataVersionConcurrency = fetchDataVersionConcurrency;
+    }
+
+    /**
+     * Getter method for property <tt>metaFollowerReadEnabled</tt>.
+     *
+     * @return property value of metaFollowerReadEnabled
+     */
+    @Override
+    public boolean isMetaFollowerReadEnabled() {
+        return metaFollowerReadEnabled;
+    }
+
+    /**
+     * Setter method for property <tt>metaFollowerReadEnabled</tt>.
+     *
+     * @param metaFollowerReadEnabled value to be assigned to property metaFollowerReadEnabled
+     */
+    public void setMetaFollowerReadEnabled(boolean metaFollowerReadEnabled) {
+        this.metaFollowerReadEnabled = metaFollowerReadEnabled;
+    }
+
+    /**
+     * Getter method for property <tt>renewDatumDigestBucketCount</tt>.
+     *
+     * @return property value of renewDatumDigestBucketCount
+     */
+    @Override
+    public int getRenewDatumDigestBucketCount() {
+        return renewDatumDigestBucketCount;
+    }
+
+    /**
+     * Setter method for property <tt>renewDatumDigestBucketCount</tt>.
+     *
+     * @param renewDatumDigestBucketCount value to be assigned to property renewDatumDigestBucketCount
+     */
+    public void setRenewDatumDigestBucketCount(int renewDatumDigestBucketCount) {
+        this.renewDatumDigestBucketCount = renewDatumDigestBucketCount;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
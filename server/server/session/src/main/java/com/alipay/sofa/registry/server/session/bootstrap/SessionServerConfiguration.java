@@ -39,6 +39,7 @@ import com.alipay.sofa.registry.server.session.acceptor.WriteDataAcceptorImpl;
 import com.alipay.sofa.registry.server.session.cache.CacheGenerator;
 import com.alipay.sofa.registry.server.session.cache.CacheService;
 import com.alipay.sofa.registry.server.session.cache.DatumCacheGenerator;
+import com.alipay.sofa.registry.server.session.cache.PushPayloadCache;
 import com.alipay.sofa.registry.server.session.cache.SessionCacheService;
 import com.alipay.sofa.registry.server.session.filter.DataIdMatchStrategy;
 import com.alipay.sofa.registry.server.session.filter.IPMatchStrategy;
@@ -247,6 +248,7 @@ public class SessionServerConfiguration {
             Collection<AbstractClientHandler> list = new ArrayList<>();
             list.add(dataNodeConnectionHandler());
             list.add(dataChangeRequestHandler());
+            list.add(dataChangeBatchRequestHandler());
             list.add(dataPushRequestHandler());
             return list;
         }
@@ -256,6 +258,7 @@ public class SessionServerConfiguration {
             Collection<AbstractClientHandler> list = new ArrayList<>();
             list.add(metaNodeConnectionHandler());
             list.add(nodeChangeResultHandler());
+            list.add(nodeChangeDeltaHandler());
             list.add(notifyProvideDataChangeHandler());
             list.add(loadbalanceMetricsHandler());
             list.add(configureLoadbalanceHandler());
@@ -277,6 +280,11 @@ public class SessionServerConfiguration {
             return new DataChangeRequestHandler();
         }
 
+        @Bean
+        public AbstractClientHandler dataChangeBatchRequestHandler() {
+            return new DataChangeBatchRequestHandler();
+        }
+
         @Bean
         public AbstractClientHandler dataPushRequestHandler() {
             return new DataPushRequestHandler();
@@ -287,6 +295,11 @@ public class SessionServerConfiguration {
             return new NodeChangeResultHandler();
         }
 
+        @Bean
+        public AbstractClientHandler nodeChangeDeltaHandler() {
+            return new NodeChangeDeltaHandler();
+        }
+
         @Bean
         public AbstractClientHandler notifyProvideDataChangeHandler() {
             return new NotifyProvideDataChangeHandler();
@@ -330,6 +343,12 @@ public class SessionServerConfiguration {
             return new HealthResource();
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsResource")
+        public MetricsResource metricsResource() {
+            return new MetricsResource();
+        }
+
         @Bean
         public ClientsOpenResource clientsOpenResource() {
             return new ClientsOpenResource();
@@ -426,6 +445,11 @@ public class SessionServerConfiguration {
         public CacheGenerator datumCacheGenerator() {
             return new DatumCacheGenerator();
         }
+
+        @Bean
+        public PushPayloadCache pushPayloadCache() {
+            return new PushPayloadCache();
+        }
     }
 
     @Configuration
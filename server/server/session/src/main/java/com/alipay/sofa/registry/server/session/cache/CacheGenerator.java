@@ -16,6 +16,10 @@
  */
 package com.alipay.sofa.registry.server.session.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  *
  * @author shangyu.wh
@@ -31,4 +35,18 @@ public interface CacheGenerator {
      */
     Value generatePayload(Key key);
 
+    /**
+     * generator cache of many keys in bulk, keys are generated one by one by default
+     *
+     * @param keys
+     * @return
+     */
+    default Map<Key, Value> generatePayloads(Collection<Key> keys) {
+        Map<Key, Value> values = new HashMap<>(keys.size());
+        for (Key key : keys) {
+            values.put(key, generatePayload(key));
+        }
+        return values;
+    }
+
 }
\ No newline at end of file
@@ -16,6 +16,11 @@
  */
 package com.alipay.sofa.registry.server.session.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.server.session.node.service.DataNodeService;
@@ -58,6 +63,36 @@ public class DatumCacheGenerator implements CacheGenerator {
         return null;
     }
 
+    /**
+     * datums of the same dataCenter are fetched with one request for each data server
+     */
+    @Override
+    public Map<Key, Value> generatePayloads(Collection<Key> keys) {
+        Map<Key, Value> values = new HashMap<>(keys.size());
+        Map<String/*dataCenter*/, Map<String/*dataInfoId*/, Key>> keysByDataCenter = new HashMap<>();
+        for (Key key : keys) {
+            EntityType entityType = key.getEntityType();
+            if (entityType instanceof DatumKey) {
+                DatumKey datumKey = (DatumKey) entityType;
+                if (isNotBlank(datumKey.getDataCenter()) && isNotBlank(datumKey.getDataInfoId())) {
+                    keysByDataCenter.computeIfAbsent(datumKey.getDataCenter(),
+                        k -> new HashMap<>()).put(datumKey.getDataInfoId(), key);
+                    continue;
+                }
+            }
+            LOGGER.warn("Input key " + key + " invalid!");
+        }
+
+        for (Map.Entry<String, Map<String, Key>> entry : keysByDataCenter.entrySet()) {
+            Map<String, Key> dataInfoIdKeys = entry.getValue();
+            Map<String, Datum> datums = dataNodeService.fetchDataCenterBatch(
+                dataInfoIdKeys.keySet(), entry.getKey());
+            dataInfoIdKeys.forEach((dataInfoId, key) -> values.put(key,
+                new Value(datums.get(dataInfoId))));
+        }
+        return values;
+    }
+
     public boolean isNotBlank(String ss) {
         return ss != null && !ss.isEmpty();
     }
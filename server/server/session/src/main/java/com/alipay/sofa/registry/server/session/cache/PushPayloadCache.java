@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.core.model.DataBox;
+import com.alipay.sofa.registry.core.model.PublisherData;
+import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.core.model.ScopeEnum;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.converter.ReceivedDataConverter;
+import com.codahale.metrics.Gauge;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * cache of converted push payload.
+ *
+ * All subscribers of the same datum version, scope and cell receive the same data boxes,
+ * so the data boxes are converted once and shared by all push tasks, only the subscriber
+ * register id list is different for each client. The zone filter config is part of the key,
+ * so a config change does not serve payloads filtered with the old config.
+ *
+ * @author agent
+ * @version $Id: PushPayloadCache.java, v 0.1 2026-10-18 14:35 agent Exp $
+ */
+public class PushPayloadCache {
+
+    private static final Logger                               LOGGER = LoggerFactory
+                                                                         .getLogger(PushPayloadCache.class);
+
+    @Autowired
+    private SessionServerConfig                               sessionServerConfig;
+
+    private Cache<PushPayloadKey, Map<String, List<DataBox>>> cache;
+
+    /**
+     * publisher keyed payload for clients which support delta push
+     */
+    private Cache<PushPayloadKey, Map<String, PublisherData>> publisherDataCache;
+
+    /**
+     * delta payload between two versions
+     */
+    private Cache<PushPayloadKey, PublisherDelta>             deltaCache;
+
+    /**
+     * datum pushed recently, which delta pushes are computed against
+     */
+    private Cache<PushPayloadKey, Datum>                      datumHistory;
+
+    @PostConstruct
+    public void init() {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(sessionServerConfig.getPushPayloadCacheMaxSize()).recordStats().build();
+
+        this.publisherDataCache = CacheBuilder.newBuilder()
+            .maximumSize(sessionServerConfig.getPushPayloadCacheMaxSize()).build();
+        this.deltaCache = CacheBuilder.newBuilder()
+            .maximumSize(sessionServerConfig.getPushPayloadCacheMaxSize()).recordStats().build();
+        this.datumHistory = CacheBuilder.newBuilder()
+            .maximumSize(sessionServerConfig.getDeltaPushHistorySize()).build();
+
+        Metrics.gauge("pushPayloadCache.size", (Gauge<Long>) () -> cache.size());
+        Metrics.countingGauge("pushPayloadCache.hitCount", () -> cache.stats().hitCount());
+        Metrics.countingGauge("pushPayloadCache.missCount", () -> cache.stats().missCount());
+        Metrics.gauge("pushPayloadCache.hitRate", (Gauge<Double>) () -> cache.stats().hitRate());
+        Metrics.countingGauge("pushPayloadCache.evictionCount",
+            () -> cache.stats().evictionCount());
+        Metrics.gauge("pushPayloadCache.deltaHitRate",
+            (Gauge<Double>) () -> deltaCache.stats().hitRate());
+        Metrics.countingGauge("pushPayloadCache.deltaPushCount",
+            () -> deltaCache.stats().requestCount());
+    }
+
+    /**
+     * the gauges read the caches, remove them from the shared registry when the bean is destroyed
+     */
+    @PreDestroy
+    public void destroy() {
+        Metrics.removeByPrefix("pushPayloadCache");
+    }
+
+    /**
+     * get ReceivedData for subscribers of a client, the data boxes are shared with other clients
+     *
+     * @param datum the datum
+     * @param scope the scope
+     * @param subscriberRegisterIdList the subscriber register id list of the client
+     * @param clientCell the cell of the client
+     * @return received data multi
+     */
+    public ReceivedData getReceivedDataMulti(Datum datum, ScopeEnum scope,
+                                             List<String> subscriberRegisterIdList,
+                                             String clientCell) {
+        if (null == datum) {
+            return null;
+        }
+        PushPayloadKey key = newKey(datum, scope, clientCell, -1L);
+        Predicate<String> zonePredicate = zonePredicate(key);
+        Map<String, List<DataBox>> zoneDataBoxes;
+        try {
+            zoneDataBoxes = cache.get(key,
+                () -> ReceivedDataConverter.getZoneDataBoxes(datum, zonePredicate));
+        } catch (ExecutionException e) {
+            LOGGER.error("Convert push payload error, key={}", key, e);
+            zoneDataBoxes = ReceivedDataConverter.getZoneDataBoxes(datum, zonePredicate);
+        }
+        return ReceivedDataConverter.getReceivedDataMulti(datum, scope, subscriberRegisterIdList,
+            clientCell, zoneDataBoxes);
+    }
+
+    /**
+     * record the datum being pushed, so delta pushes can be computed against it later
+     *
+     * @param datum the datum
+     */
+    public void recordDatum(Datum datum) {
+        if (datum != null) {
+            datumHistory.put(new PushPayloadKey(datum.getDataInfoId(), datum.getDataCenter(),
+                datum.getVersion()), datum);
+        }
+    }
+
+    /**
+     * get ReceivedData keyed by publisher for subscribers of a client which supports delta push.
+     * A delta against baseVersion is returned if the datum of baseVersion is still recorded
+     * and the delta is smaller than full data, otherwise full data is returned.
+     *
+     * @param datum the datum
+     * @param baseVersion the version last pushed to all the subscribers, null if unknown
+     * @param scope the scope
+     * @param subscriberRegisterIdList the subscriber register id list of the client
+     * @param clientCell the cell of the client
+     * @return received data multi
+     */
+    public ReceivedData getReceivedDataKeyed(Datum datum, Long baseVersion, ScopeEnum scope,
+                                             List<String> subscriberRegisterIdList,
+                                             String clientCell) {
+        if (null == datum) {
+            return null;
+        }
+        PushPayloadKey key = newKey(datum, scope, clientCell, -1L);
+        Predicate<String> zonePredicate = zonePredicate(key);
+        Map<String, PublisherData> publisherData = getPublisherData(key, datum, zonePredicate);
+
+        if (baseVersion != null && baseVersion < datum.getVersion()) {
+            Datum baseDatum = datumHistory.getIfPresent(new PushPayloadKey(datum
+                .getDataInfoId(), datum.getDataCenter(), baseVersion));
+            if (baseDatum != null) {
+                PublisherDelta delta = getDelta(newKey(datum, scope, clientCell, baseVersion),
+                    baseDatum, datum, publisherData, zonePredicate);
+                if (delta.size() < publisherData.size()) {
+                    return ReceivedDataConverter.getReceivedDataKeyed(datum, scope,
+                        subscriberRegisterIdList, clientCell, delta.changed, baseVersion,
+                        delta.removed);
+                }
+            }
+        }
+        // version gap or delta is not smaller, fall back to full push
+        return ReceivedDataConverter.getReceivedDataKeyed(datum, scope, subscriberRegisterIdList,
+            clientCell, publisherData, null, null);
+    }
+
+    private PushPayloadKey newKey(Datum datum, ScopeEnum scope, String clientCell,
+                                  long baseVersion) {
+        return new PushPayloadKey(datum.getDataInfoId(), datum.getDataCenter(),
+            datum.getVersion(), scope, clientCell, sessionServerConfig.getInvalidForeverZones(),
+            sessionServerConfig.isInvalidIgnored(datum.getDataId()), baseVersion);
+    }
+
+    /**
+     * zone filter of the payload, only decided by the inputs in the key, the invalid forever
+     * zones are read from the key and not from the live config, which may change meanwhile
+     *
+     * @param key the payload key
+     * @return predicate which returns true if the zone should be filtered
+     */
+    static Predicate<String> zonePredicate(PushPayloadKey key) {
+        String clientCell = key.getCell();
+        ScopeEnum scope = key.getScope();
+        boolean invalidIgnored = key.isInvalidIgnored();
+        Set<String> invalidForeverZones = parseZones(key.getInvalidForeverZones());
+        return (zone) -> {
+            if (!clientCell.equals(zone)) {
+                if (ScopeEnum.zone == scope) {
+                    // zone scope subscribe only return zone list
+                    return true;
+
+                } else if (ScopeEnum.dataCenter == scope || ScopeEnum.global == scope) {
+                    // disable zone config
+                    return !invalidIgnored && invalidForeverZones.contains(zone);
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * same format as SessionServerConfig#isInvalidForeverZone, zones separated by ';'
+     *
+     * @param zones the zones config
+     * @return zone set
+     */
+    private static Set<String> parseZones(String zones) {
+        if (zones == null || zones.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> zoneSet = new HashSet<>();
+        for (String zone : zones.split(";")) {
+            if (zone.trim().length() > 0) {
+                zoneSet.add(zone);
+            }
+        }
+        return zoneSet;
+    }
+
+    private Map<String, PublisherData> getPublisherData(PushPayloadKey key, Datum datum,
+                                                        Predicate<String> zonePredicate) {
+        try {
+            return publisherDataCache.get(key,
+                () -> ReceivedDataConverter.getPublisherData(datum, zonePredicate));
+        } catch (ExecutionException e) {
+            LOGGER.error("Convert push payload error, key={}", key, e);
+            return ReceivedDataConverter.getPublisherData(datum, zonePredicate);
+        }
+    }
+
+    private PublisherDelta getDelta(PushPayloadKey key, Datum baseDatum, Datum datum,
+                                    Map<String, PublisherData> publisherData,
+                                    Predicate<String> zonePredicate) {
+        try {
+            return deltaCache.get(key,
+                () -> computeDelta(baseDatum, datum, publisherData, zonePredicate));
+        } catch (ExecutionException e) {
+            LOGGER.error("Compute push delta error, key={}", key, e);
+            return computeDelta(baseDatum, datum, publisherData, zonePredicate);
+        }
+    }
+
+    private static PublisherDelta computeDelta(Datum baseDatum, Datum datum,
+                                               Map<String, PublisherData> publisherData,
+                                               Predicate<String> zonePredicate) {
+        Map<String, Publisher> basePubMap = baseDatum.getPubMap() != null ? baseDatum.getPubMap()
+            : new HashMap<>();
+        Map<String, Publisher> pubMap = datum.getPubMap() != null ? datum.getPubMap()
+            : new HashMap<>();
+
+        // publisherData only contains publishers not filtered by zone
+        Map<String, PublisherData> changed = new HashMap<>();
+        for (Map.Entry<String, PublisherData> entry : publisherData.entrySet()) {
+            String registerId = entry.getKey();
+            Publisher basePub = basePubMap.get(registerId);
+            if (basePub == null || zonePredicate.test(basePub.getCell())
+                || !isSamePublisher(basePub, pubMap.get(registerId))) {
+                changed.put(registerId, entry.getValue());
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (Map.Entry<String, Publisher> entry : basePubMap.entrySet()) {
+            String registerId = entry.getKey();
+            if (!publisherData.containsKey(registerId)
+                && !zonePredicate.test(entry.getValue().getCell())) {
+                removed.add(registerId);
+            }
+        }
+        return new PublisherDelta(changed, removed);
+    }
+
+    private static boolean isSamePublisher(Publisher basePub, Publisher pub) {
+        return pub != null && Objects.equals(basePub.getVersion(), pub.getVersion())
+               && basePub.getRegisterTimestamp() == pub.getRegisterTimestamp();
+    }
+
+    /**
+     * get stats of the cache
+     *
+     * @return cache stats
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * get stats of the delta cache
+     *
+     * @return cache stats
+     */
+    public CacheStats getDeltaStats() {
+        return deltaCache.stats();
+    }
+
+    /**
+     * Setter method for property <tt>sessionServerConfig</tt>.
+     *
+     * @param sessionServerConfig value to be assigned to property sessionServerConfig
+     */
+    public void setSessionServerConfig(SessionServerConfig sessionServerConfig) {
+        this.sessionServerConfig = sessionServerConfig;
+    }
+
+    /**
+     * invalidate all cached payloads
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        publisherDataCache.invalidateAll();
+        deltaCache.invalidateAll();
+    }
+
+    /**
+     * changed and removed publishers between two versions
+     */
+    private static final class PublisherDelta {
+
+        private final Map<String, PublisherData> changed;
+
+        private final List<String>               removed;
+
+        private PublisherDelta(Map<String, PublisherData> changed, List<String> removed) {
+            this.changed = changed;
+            this.removed = removed;
+        }
+
+        private int size() {
+            return changed.size() + removed.size();
+        }
+    }
+}
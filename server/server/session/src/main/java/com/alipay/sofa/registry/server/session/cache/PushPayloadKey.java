@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.cache;
+
+import com.alipay.sofa.registry.common.model.store.WordCache;
+import com.alipay.sofa.registry.core.model.ScopeEnum;
+
+/**
+ * key of push payload, subscribers with the same key receive the same data boxes
+ *
+ * @author agent
+ * @version $Id: PushPayloadKey.java, v 0.1 2026-10-18 14:20 agent Exp $
+ */
+public class PushPayloadKey {
+
+    private final String    dataInfoId;
+
+    private final String    dataCenter;
+
+    private final long      version;
+
+    private final ScopeEnum scope;
+
+    private final String    cell;
+
+    /**
+     * config the zone filter of the payload is decided by, see SessionServerConfig#isInvalidForeverZone
+     */
+    private final String    invalidForeverZones;
+
+    /**
+     * see SessionServerConfig#isInvalidIgnored
+     */
+    private final boolean   invalidIgnored;
+
+    /**
+     * version which a delta payload is based on, -1 for full payload
+     */
+    private final long      baseVersion;
+
+    private final int       hashCode;
+
+    public PushPayloadKey(String dataInfoId, String dataCenter, long version) {
+        this(dataInfoId, dataCenter, version, null, null, null, false, -1L);
+    }
+
+    public PushPayloadKey(String dataInfoId, String dataCenter, long version, ScopeEnum scope,
+                          String cell, String invalidForeverZones, boolean invalidIgnored,
+                          long baseVersion) {
+        this.dataInfoId = WordCache.getInstance().getWordCache(dataInfoId);
+        this.dataCenter = WordCache.getInstance().getWordCache(dataCenter);
+        this.version = version;
+        this.scope = scope;
+        this.cell = WordCache.getInstance().getWordCache(cell);
+        this.invalidForeverZones = invalidForeverZones;
+        this.invalidIgnored = invalidIgnored;
+        this.baseVersion = baseVersion;
+        this.hashCode = computeHashCode();
+    }
+
+    private int computeHashCode() {
+        int result = dataInfoId != null ? dataInfoId.hashCode() : 0;
+        result = 31 * result + (dataCenter != null ? dataCenter.hashCode() : 0);
+        result = 31 * result + (int) (version ^ (version >>> 32));
+        result = 31 * result + (scope != null ? scope.hashCode() : 0);
+        result = 31 * result + (cell != null ? cell.hashCode() : 0);
+        result = 31 * result + (invalidForeverZones != null ? invalidForeverZones.hashCode() : 0);
+        result = 31 * result + (invalidIgnored ? 1 : 0);
+        result = 31 * result + (int) (baseVersion ^ (baseVersion >>> 32));
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PushPayloadKey)) {
+            return false;
+        }
+        PushPayloadKey that = (PushPayloadKey) other;
+        return version == that.version && baseVersion == that.baseVersion
+               && scope == that.scope && equals(dataInfoId, that.dataInfoId)
+               && equals(dataCenter, that.dataCenter) && equals(cell, that.cell)
+               && invalidIgnored == that.invalidIgnored
+               && equals(invalidForeverZones, that.invalidForeverZones);
+    }
+
+    private static boolean equals(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * Getter method for property <tt>dataInfoId</tt>.
+     *
+     * @return property value of dataInfoId
+     */
+    public String getDataInfoId() {
+        return dataInfoId;
+    }
+
+    /**
+     * Getter method for property <tt>dataCenter</tt>.
+     *
+     * @return property value of dataCenter
+     */
+    public String getDataCenter() {
+        return dataCenter;
+    }
+
+    /**
+     * Getter method for property <tt>version</tt>.
+     *
+     * @return property value of version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Getter method for property <tt>scope</tt>.
+     *
+     * @return property value of scope
+     */
+    public ScopeEnum getScope() {
+        return scope;
+    }
+
+    /**
+     * Getter method for property <tt>cell</tt>.
+     *
+     * @return property value of cell
+     */
+    public String getCell() {
+        return cell;
+    }
+
+    /**
+     * Getter method for property <tt>invalidForeverZones</tt>.
+     *
+     * @return property value of invalidForeverZones
+     */
+    public String getInvalidForeverZones() {
+        return invalidForeverZones;
+    }
+
+    /**
+     * Getter method for property <tt>invalidIgnored</tt>.
+     *
+     * @return property value of invalidIgnored
+     */
+    public boolean isInvalidIgnored() {
+        return invalidIgnored;
+    }
+
+    /**
+     * Getter method for property <tt>baseVersion</tt>.
+     *
+     * @return property value of baseVersion
+     */
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("PushPayloadKey{");
+        sb.append("dataInfoId='").append(dataInfoId).append('\'');
+        sb.append(", dataCenter='").append(dataCenter).append('\'');
+        sb.append(", version=").append(version);
+        sb.append(", scope=").append(scope);
+        sb.append(", cell='").append(cell).append('\'');
+        sb.append(", invalidForeverZones='").append(invalidForeverZones).append('\'');
+        sb.append(", invalidIgnored=").append(invalidIgnored);
+        sb.append(", baseVersion=").append(baseVersion);
+        sb.append('}');
+        return sb.toString();
+    }
+}
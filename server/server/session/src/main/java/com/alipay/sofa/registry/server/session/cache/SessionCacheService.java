@@ -16,7 +16,9 @@
  */
 package com.alipay.sofa.registry.server.session.cache;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -24,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.session.cache.Key.KeyType;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -54,6 +57,11 @@ public class SessionCacheService implements CacheService {
                 public Value load(Key key) {
                     return generatePayload(key);
                 }
+
+                @Override
+                public Map<Key, Value> loadAll(Iterable<? extends Key> keys) {
+                    return generatePayloads(keys);
+                }
             });
     }
 
@@ -83,6 +91,36 @@ public class SessionCacheService implements CacheService {
         return value;
     }
 
+    /**
+     * keys are grouped by generator, so each generator can load its keys in bulk
+     */
+    private Map<Key, Value> generatePayloads(Iterable<? extends Key> keys) {
+        Map<Key, Value> values = new HashMap<>();
+        Map<CacheGenerator, List<Key>> keysByGenerator = new HashMap<>();
+        for (Key key : keys) {
+            if (key == null || key.getEntityType() == null) {
+                throw new IllegalArgumentException("Generator key input error!");
+            }
+            if (key.getKeyType() == KeyType.OBJ) {
+                CacheGenerator cacheGenerator = cacheGenerators.get(key.getEntityType().getClass()
+                    .getName());
+                keysByGenerator.computeIfAbsent(cacheGenerator, k -> new ArrayList<>()).add(key);
+            } else {
+                Value value = generatePayload(key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }
+        }
+        keysByGenerator.forEach((cacheGenerator, generatorKeys) -> cacheGenerator
+            .generatePayloads(generatorKeys).forEach((key, value) -> {
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }));
+        return values;
+    }
+
     @Override
     public Value getValue(final Key key) throws CacheAccessException {
         Value payload = null;
@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.session.connections;
 
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.Channel;
@@ -32,8 +33,6 @@ import java.net.InetSocketAddress;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.alipay.sofa.registry.common.model.constants.ValueConstants.CONNECT_ID_SPLIT;
-
 public class ConnectionsService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionsResource.class);
@@ -59,9 +58,9 @@ public class ConnectionsService {
                 channel -> channel.getRemoteAddress().getAddress().getHostAddress() + ":" + channel.getRemoteAddress().getPort()
         ).collect(Collectors.toSet());
         Set<String> connectIds = new HashSet<>();
-        connectIds.addAll(sessionDataStore.getConnectPublishers().keySet().stream().map(connectId -> connectId.split(CONNECT_ID_SPLIT)[0]).collect(Collectors.toList()));
-        connectIds.addAll(sessionInterests.getConnectSubscribers().keySet().stream().map(connectId -> connectId.split(CONNECT_ID_SPLIT)[0]).collect(Collectors.toList()));
-        connectIds.addAll(sessionWatchers.getConnectWatchers().keySet().stream().map(connectId -> connectId.split(CONNECT_ID_SPLIT)[0]).collect(Collectors.toList()));
+        connectIds.addAll(sessionDataStore.getConnectPublishers().keySet().stream().map(ConnectId::clientAddressString).collect(Collectors.toList()));
+        connectIds.addAll(sessionInterests.getConnectSubscribers().keySet().stream().map(ConnectId::clientAddressString).collect(Collectors.toList()));
+        connectIds.addAll(sessionWatchers.getConnectWatchers().keySet().stream().map(ConnectId::clientAddressString).collect(Collectors.toList()));
         connectIds.retainAll(boltConnectIds);
         return new ArrayList<>(connectIds);
     }
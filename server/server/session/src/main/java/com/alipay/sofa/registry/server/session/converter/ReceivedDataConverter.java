@@ -30,6 +30,7 @@ import com.alipay.sofa.registry.common.model.store.DataInfo;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.core.model.DataBox;
+import com.alipay.sofa.registry.core.model.PublisherData;
 import com.alipay.sofa.registry.core.model.ReceivedConfigData;
 import com.alipay.sofa.registry.core.model.ReceivedData;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
@@ -95,6 +96,24 @@ public class ReceivedDataConverter {
             return null;
         }
 
+        return getReceivedDataMulti(datum, scope, subscriberRegisterIdList, regionLocal,
+            getZoneDataBoxes(datum, zonePredicate));
+    }
+
+    /**
+     * Standard RunEnv, with zone data boxes already converted
+     * @param datum the datum 
+     * @param scope the scope 
+     * @param subscriberRegisterIdList the subscriber register id list 
+     * @param regionLocal the region local 
+     * @param zoneDataBoxes the zone data boxes, may be shared with other ReceivedData and must not be modified
+     * @return received data multi
+     */
+    public static ReceivedData getReceivedDataMulti(Datum datum, ScopeEnum scope,
+                                                    List subscriberRegisterIdList,
+                                                    String regionLocal,
+                                                    Map<String, List<DataBox>> zoneDataBoxes) {
+
         // todo judge server mode to decide local region
         ReceivedData receivedData = new ReceivedData();
         receivedData.setDataId(datum.getDataId());
@@ -108,12 +127,24 @@ public class ReceivedDataConverter {
 
         receivedData.setLocalZone(regionLocal);
 
+        receivedData.setData(zoneDataBoxes);
+
+        return receivedData;
+    }
+
+    /**
+     * convert publishers of datum to data boxes group by zone
+     * @param datum the datum 
+     * @param zonePredicate return true if the zone should be filtered
+     * @return zone data boxes
+     */
+    public static Map<String, List<DataBox>> getZoneDataBoxes(Datum datum,
+                                                              Predicate<String> zonePredicate) {
         Map<String/*zone*/, List<DataBox>> swizzMap = new HashMap<>();
 
         Map<String, Publisher> publisherMap = datum.getPubMap();
         if (publisherMap == null || publisherMap.isEmpty()) {
-            receivedData.setData(swizzMap);
-            return receivedData;
+            return swizzMap;
         }
         for (Entry<String, Publisher> entry : publisherMap.entrySet()) {
             Publisher publisher = entry.getValue();
@@ -134,11 +165,80 @@ public class ReceivedDataConverter {
 
         }
 
-        receivedData.setData(swizzMap);
+        return swizzMap;
+    }
+
+    /**
+     * Standard RunEnv, data keyed by publisher for clients which support delta push
+     * @param datum the datum 
+     * @param scope the scope 
+     * @param subscriberRegisterIdList the subscriber register id list 
+     * @param regionLocal the region local 
+     * @param publisherData all publishers in a full push, or changed publishers in a delta push
+     * @param baseVersion null in a full push, or the version which the delta push based on
+     * @param removedPublisherIds the publishers removed since baseVersion 
+     * @return received data multi
+     */
+    public static ReceivedData getReceivedDataKeyed(Datum datum, ScopeEnum scope,
+                                                    List subscriberRegisterIdList,
+                                                    String regionLocal,
+                                                    Map<String, PublisherData> publisherData,
+                                                    Long baseVersion,
+                                                    List<String> removedPublisherIds) {
+        ReceivedData receivedData = new ReceivedData();
+        receivedData.setDataId(datum.getDataId());
+        receivedData.setGroup(datum.getGroup());
+        receivedData.setInstanceId(datum.getInstanceId());
+        receivedData.setSubscriberRegistIds(subscriberRegisterIdList);
+        receivedData.setSegment(datum.getDataCenter());
+        receivedData.setScope(scope.name());
+
+        receivedData.setVersion(datum.getVersion());
+
+        receivedData.setLocalZone(regionLocal);
+
+        receivedData.setPublisherData(publisherData);
+        receivedData.setBaseVersion(baseVersion);
+        receivedData.setRemovedPublisherIds(removedPublisherIds);
 
         return receivedData;
     }
 
+    /**
+     * convert publishers of datum to data boxes keyed by publisher registerId
+     * @param datum the datum 
+     * @param zonePredicate return true if the zone should be filtered
+     * @return publisher data
+     */
+    public static Map<String, PublisherData> getPublisherData(Datum datum,
+                                                              Predicate<String> zonePredicate) {
+        Map<String/*registerId*/, PublisherData> publisherDataMap = new HashMap<>();
+
+        Map<String, Publisher> publisherMap = datum.getPubMap();
+        if (publisherMap == null || publisherMap.isEmpty()) {
+            return publisherDataMap;
+        }
+        for (Entry<String, Publisher> entry : publisherMap.entrySet()) {
+            Publisher publisher = entry.getValue();
+            String region = publisher.getCell();
+
+            if (zonePredicate.test(region)) {
+                continue;
+            }
+
+            List<ServerDataBox> datas = publisher.getDataList();
+            if (null == datas) {
+                datas = new ArrayList<>();
+            }
+
+            List<DataBox> regionDatas = new ArrayList<>(datas.size());
+            fillRegionDatas(regionDatas, datas);
+            publisherDataMap.put(entry.getKey(), new PublisherData(region, regionDatas));
+        }
+
+        return publisherDataMap;
+    }
+
     private static void fillRegionDatas(List<DataBox> regionDatas, List<ServerDataBox> datas) {
         for (ServerDataBox data : datas) {
             DataBox box = new DataBox();
@@ -16,12 +16,15 @@
  */
 package com.alipay.sofa.registry.server.session.converter;
 
+import java.util.Map;
+
 import com.alipay.sofa.registry.common.model.store.BaseInfo.ClientVersion;
 import com.alipay.sofa.registry.common.model.store.DataInfo;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.common.model.store.Watcher;
 import com.alipay.sofa.registry.converter.ScopeEnumConverter;
+import com.alipay.sofa.registry.core.constants.PushConstants;
 import com.alipay.sofa.registry.core.model.ConfiguratorRegister;
 import com.alipay.sofa.registry.core.model.SubscriberRegister;
 
@@ -59,6 +62,12 @@ public class SubscriberConverter {
 
             subscriber.setClientVersion(ClientVersion.StoreData);
 
+            Map<String, String> attributes = source.getAttributes();
+            if (attributes != null && attributes.containsKey(PushConstants.DELTA_PUSH_SUPPORTED)) {
+                subscriber.getAttributes().put(PushConstants.DELTA_PUSH_SUPPORTED,
+                        attributes.get(PushConstants.DELTA_PUSH_SUPPORTED));
+            }
+
             DataInfo dataInfo = new DataInfo(source.getInstanceId(), source.getDataId(),
                     source.getGroup());
 
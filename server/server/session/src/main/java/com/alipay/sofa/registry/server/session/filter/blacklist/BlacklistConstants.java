@@ -34,4 +34,7 @@ public class BlacklistConstants {
 
     /** match full ip */
     public static final String IP_FULL                 = "IP_FULL";
+
+    /** match ip by cidr, eg:10.1.0.0/16 */
+    public static final String IP_CIDR                 = "IP_CIDR";
 }
\ No newline at end of file
@@ -43,6 +43,12 @@ public interface BlacklistManager {
      */
     void setBlacklistConfigList(List<BlacklistConfig> blacklistConfigList);
 
+    /**
+     * get rules compiled from current list, replaced as a whole when list is set
+     * @return
+     */
+    BlacklistRules getBlacklistRules();
+
     /**
      * convert blacklist map to blacklist config list
      * @param config
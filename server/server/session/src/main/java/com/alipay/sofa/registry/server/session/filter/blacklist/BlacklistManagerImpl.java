@@ -39,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  *
@@ -47,21 +48,25 @@ import java.util.Set;
  */
 public class BlacklistManagerImpl implements BlacklistManager {
 
-    private static final Logger   LOGGER              = LoggerFactory
-                                                          .getLogger(BlacklistManagerImpl.class);
+    private static final Logger            LOGGER              = LoggerFactory
+                                                                   .getLogger(BlacklistManagerImpl.class);
 
-    private static final Logger   EXCHANGE_LOGGER     = LoggerFactory.getLogger("SESSION-EXCHANGE");
+    private static final Logger            EXCHANGE_LOGGER     = LoggerFactory.getLogger("SESSION-EXCHANGE");
 
     @Autowired
-    private SessionServerConfig   sessionServerConfig;
+    private SessionServerConfig            sessionServerConfig;
 
     @Autowired
-    protected NodeExchanger       metaNodeExchanger;
+    protected NodeExchanger                metaNodeExchanger;
 
     @Autowired
-    protected RaftClientManager   raftClientManager;
+    protected RaftClientManager            raftClientManager;
 
-    private List<BlacklistConfig> blacklistConfigList = new ArrayList();
+    private volatile List<BlacklistConfig> blacklistConfigList = new ArrayList();
+
+    private volatile BlacklistRules        blacklistRules      = BlacklistRules.EMPTY;
+
+    private final AtomicLong               rulesVersion        = new AtomicLong();
 
     @Override
     public void load() {
@@ -74,8 +79,17 @@ public class BlacklistManagerImpl implements BlacklistManager {
     }
 
     @Override
-    public void setBlacklistConfigList(List<BlacklistConfig> blacklistConfigList) {
+    public synchronized void setBlacklistConfigList(List<BlacklistConfig> blacklistConfigList) {
+        BlacklistRules rules = BlacklistRules.compile(rulesVersion.incrementAndGet(),
+            blacklistConfigList);
         this.blacklistConfigList = blacklistConfigList;
+        this.blacklistRules = rules;
+        LOGGER.info("Blacklist rules updated, version {}", rules.getVersion());
+    }
+
+    @Override
+    public BlacklistRules getBlacklistRules() {
+        return blacklistRules;
     }
 
     private void fetchStopPushSwitch() {
@@ -110,7 +124,7 @@ public class BlacklistManagerImpl implements BlacklistManager {
 
                 @Override
                 public URL getRequestUrl() {
-                    return new URL(raftClientManager.getLeader().getIp(),
+                    return new URL(raftClientManager.getReadPeer().getIp(),
                         sessionServerConfig.getMetaServerPort());
                 }
             };
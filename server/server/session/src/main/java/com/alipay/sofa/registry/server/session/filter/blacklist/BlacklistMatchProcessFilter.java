@@ -24,8 +24,6 @@ import com.alipay.sofa.registry.server.session.filter.IPMatchStrategy;
 import com.alipay.sofa.registry.server.session.filter.ProcessFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.List;
-
 /**
  *
  * @author shangyu.wh
@@ -48,10 +46,8 @@ public class BlacklistMatchProcessFilter implements ProcessFilter<BaseInfo> {
     @Override
     public boolean match(BaseInfo storeData) {
 
-        final List<BlacklistConfig> configList = blacklistManager.getBlacklistConfigList();
-
-        // empty list proceed
-        if (null == configList || configList.size() == 0) {
+        // empty rules proceed
+        if (blacklistManager.getBlacklistRules().isEmpty()) {
             return false;
         }
 
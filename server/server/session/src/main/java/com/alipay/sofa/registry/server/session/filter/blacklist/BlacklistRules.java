@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.filter.blacklist;
+
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * blacklist config compiled for matching, immutable after compile.
+ * BlacklistManager swaps the whole instance when config changes, so readers never see half a config.
+ *
+ * @author agent
+ * @version 1.0: BlacklistRules.java, v 0.1 2026-10-18 10:45 agent Exp $
+ */
+public final class BlacklistRules {
+
+    private static final Logger        LOGGER = LoggerFactory.getLogger(BlacklistRules.class);
+
+    public static final BlacklistRules EMPTY  = new BlacklistRules(0,
+                                                  Collections.<String, IPRule> emptyMap());
+
+    private final long                 version;
+
+    /** key:blacklist type */
+    private final Map<String, IPRule>  ipRules;
+
+    private BlacklistRules(long version, Map<String, IPRule> ipRules) {
+        this.version = version;
+        this.ipRules = ipRules;
+    }
+
+    /**
+     * compile config list, patterns of unknown match type or bad format are skipped
+     * @param version
+     * @param configList
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static BlacklistRules compile(long version, List<BlacklistConfig> configList) {
+        Map<String, IPRule> ipRules = new HashMap<>();
+        if (configList != null) {
+            for (BlacklistConfig blacklistConfig : configList) {
+                if (blacklistConfig == null || blacklistConfig.getType() == null
+                    || blacklistConfig.getMatchTypes() == null) {
+                    continue;
+                }
+                IPRule ipRule = ipRules.computeIfAbsent(blacklistConfig.getType(),
+                    k -> new IPRule());
+                for (MatchType matchType : blacklistConfig.getMatchTypes()) {
+                    if (matchType == null || matchType.getPatternSet() == null) {
+                        continue;
+                    }
+                    Set<String> patterns = matchType.getPatternSet();
+                    if (BlacklistConstants.IP_FULL.equals(matchType.getType())) {
+                        for (String pattern : patterns) {
+                            if (pattern == null) {
+                                continue;
+                            }
+                            if (IPPrefixTrie.parseIPv4(pattern, 0, pattern.length()) >= 0) {
+                                ipRule.prefixes.add(pattern);
+                            } else {
+                                //not IPv4, keep full match
+                                ipRule.others.add(pattern);
+                            }
+                        }
+                    } else if (BlacklistConstants.IP_CIDR.equals(matchType.getType())) {
+                        for (String pattern : patterns) {
+                            if (!ipRule.prefixes.add(pattern)) {
+                                LOGGER.warn("Blacklist type {} ignore bad cidr {}",
+                                    blacklistConfig.getType(), pattern);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        ipRules.values().removeIf(IPRule::isEmpty);
+        return new BlacklistRules(version, ipRules);
+    }
+
+    /**
+     * @param type blacklist type
+     * @param ip
+     * @return true if ip is in blacklist of type
+     */
+    public boolean match(String type, String ip) {
+        IPRule ipRule = ipRules.get(type);
+        return ipRule != null && ipRule.match(ip);
+    }
+
+    public boolean isEmpty() {
+        return ipRules.isEmpty();
+    }
+
+    /**
+     * Getter method for property <tt>version</tt>.
+     *
+     * @return property value of version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private static final class IPRule {
+        private final IPPrefixTrie prefixes = new IPPrefixTrie();
+        private final Set<String>  others   = new HashSet<>();
+
+        boolean match(String ip) {
+            return prefixes.match(ip) || (!others.isEmpty() && others.contains(ip));
+        }
+
+        boolean isEmpty() {
+            return prefixes.getSize() == 0 && others.isEmpty();
+        }
+    }
+}
\ No newline at end of file
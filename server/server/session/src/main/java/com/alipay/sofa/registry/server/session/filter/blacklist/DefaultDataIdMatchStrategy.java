@@ -19,6 +19,8 @@ package com.alipay.sofa.registry.server.session.filter.blacklist;
 import com.alipay.sofa.registry.server.session.filter.DataIdMatchStrategy;
 import org.springframework.util.StringUtils;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -29,11 +31,28 @@ import java.util.regex.Pattern;
  */
 public class DefaultDataIdMatchStrategy implements DataIdMatchStrategy<String> {
 
+    /** regex only comes from config, keep it small in case config is changed again and again */
+    private static final int           MAX_CACHED_PATTERNS = 64;
+
+    private final Map<String, Pattern> patternCache        = new ConcurrentHashMap<>();
+
     @Override
     public boolean match(String dataId, Supplier<String> getOperatorType) {
-        if (StringUtils.hasText(dataId) && StringUtils.hasText(getOperatorType.get())) {
-            return Pattern.matches(getOperatorType.get(), dataId);
+        String regex = getOperatorType.get();
+        if (StringUtils.hasText(dataId) && StringUtils.hasText(regex)) {
+            return getPattern(regex).matcher(dataId).matches();
         }
         return true;
     }
+
+    private Pattern getPattern(String regex) {
+        Pattern pattern = patternCache.get(regex);
+        if (pattern == null) {
+            if (patternCache.size() >= MAX_CACHED_PATTERNS) {
+                patternCache.clear();
+            }
+            pattern = patternCache.computeIfAbsent(regex, Pattern::compile);
+        }
+        return pattern;
+    }
 }
\ No newline at end of file
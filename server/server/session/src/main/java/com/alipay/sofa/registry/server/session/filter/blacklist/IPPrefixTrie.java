@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.filter.blacklist;
+
+/**
+ * binary trie of IPv4 prefixes, a full ip is a /32 prefix.
+ * match walks at most 32 nodes and does not allocate.
+ *
+ * @author agent
+ * @version 1.0: IPPrefixTrie.java, v 0.1 2026-10-18 10:20 agent Exp $
+ */
+public class IPPrefixTrie {
+
+    private static final int IPV4_BITS = 32;
+
+    private final Node       root      = new Node();
+
+    private int              size;
+
+    /**
+     * add ip (a.b.c.d) or cidr (a.b.c.d/n)
+     * @param pattern
+     * @return false if pattern is not an IPv4 address or cidr
+     */
+    public boolean add(String pattern) {
+        if (pattern == null) {
+            return false;
+        }
+        int slash = pattern.indexOf('/');
+        int prefixLength = IPV4_BITS;
+        long address;
+        if (slash < 0) {
+            address = parseIPv4(pattern, 0, pattern.length());
+        } else {
+            address = parseIPv4(pattern, 0, slash);
+            prefixLength = parsePrefixLength(pattern, slash + 1);
+        }
+        if (address < 0 || prefixLength < 0) {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < prefixLength; i++) {
+            if (node.terminal) {
+                //a shorter prefix already covers it
+                return true;
+            }
+            int bit = (int) (address >>> (IPV4_BITS - 1 - i)) & 1;
+            if (node.children[bit] == null) {
+                node.children[bit] = new Node();
+            }
+            node = node.children[bit];
+        }
+        if (!node.terminal) {
+            node.terminal = true;
+            //longer prefixes under it are useless now
+            node.children[0] = null;
+            node.children[1] = null;
+            size++;
+        }
+        return true;
+    }
+
+    /**
+     * @param ip
+     * @return true if ip is covered by any prefix
+     */
+    public boolean match(String ip) {
+        if (size == 0 || ip == null) {
+            return false;
+        }
+        long address = parseIPv4(ip, 0, ip.length());
+        if (address < 0) {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < IPV4_BITS; i++) {
+            if (node.terminal) {
+                return true;
+            }
+            node = node.children[(int) (address >>> (IPV4_BITS - 1 - i)) & 1];
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.terminal;
+    }
+
+    /**
+     * Getter method for property <tt>size</tt>.
+     *
+     * @return property value of size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * parse a.b.c.d in [from, to) to an unsigned int
+     * @return -1 if not an IPv4 address
+     */
+    static long parseIPv4(String str, int from, int to) {
+        long address = 0;
+        int octet = -1;
+        int dots = 0;
+        for (int i = from; i < to; i++) {
+            char c = str.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && dots < 3) {
+                address = (address << 8) | octet;
+                octet = -1;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || octet < 0) {
+            return -1;
+        }
+        return (address << 8) | octet;
+    }
+
+    private static int parsePrefixLength(String str, int from) {
+        if (from >= str.length() || str.length() - from > 2) {
+            return -1;
+        }
+        int length = 0;
+        for (int i = from; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            length = length * 10 + (c - '0');
+        }
+        return length <= IPV4_BITS ? length : -1;
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[2];
+        private boolean      terminal;
+    }
+}
\ No newline at end of file
@@ -16,12 +16,20 @@
  */
 package com.alipay.sofa.registry.server.session.listener;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.cache.CacheAccessException;
 import com.alipay.sofa.registry.server.session.cache.CacheService;
+import com.alipay.sofa.registry.server.session.cache.Key;
+import com.alipay.sofa.registry.server.session.cache.PushPayloadCache;
 import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
 import com.alipay.sofa.registry.server.session.scheduler.task.DataChangeFetchTask;
 import com.alipay.sofa.registry.server.session.scheduler.task.SessionTask;
@@ -56,6 +64,9 @@ public class DataChangeFetchTaskListener implements TaskListener {
     @Autowired
     private CacheService                                 sessionCacheService;
 
+    @Autowired
+    private PushPayloadCache                             pushPayloadCache;
+
     /**
      * trigger task com.alipay.sofa.registry.server.meta.listener process
      */
@@ -74,12 +85,27 @@ public class DataChangeFetchTaskListener implements TaskListener {
         if (singleTaskDispatcher == null) {
             synchronized (this) {
                 if (singleTaskDispatcher == null) {
-                    singleTaskDispatcher = TaskDispatchers
-                        .createSingleTaskDispatcher(TaskDispatchers
-                            .getDispatcherName(TaskType.DATA_CHANGE_FETCH_TASK.getName()),
+                    String name = TaskDispatchers
+                        .getDispatcherName(TaskType.DATA_CHANGE_FETCH_TASK.getName());
+                    if (sessionServerConfig.isTaskBatchingEnabled()) {
+                        singleTaskDispatcher = TaskDispatchers.createBatchingTaskDispatcher(name,
+                            sessionServerConfig.getDataChangeFetchTaskMaxBufferSize(),
+                            sessionServerConfig.getTaskBatchingMaxSize(),
+                            sessionServerConfig.getTaskBatchingMaxDelayMs(),
+                            sessionServerConfig.getDataChangeFetchTaskWorkerSize(), 1000, 100,
+                            sessionServerConfig.isEventDrivenTaskDispatcher(),
+                            new DatumPrefetchTaskProcessor(dataNodeSingleTaskProcessor));
+                    } else if (sessionServerConfig.isEventDrivenTaskDispatcher()) {
+                        singleTaskDispatcher = TaskDispatchers.createEventDrivenTaskDispatcher(
+                            name, sessionServerConfig.getDataChangeFetchTaskMaxBufferSize(),
+                            sessionServerConfig.getDataChangeFetchTaskWorkerSize(), 1000, 100,
+                            dataNodeSingleTaskProcessor);
+                    } else {
+                        singleTaskDispatcher = TaskDispatchers.createSingleTaskDispatcher(name,
                             sessionServerConfig.getDataChangeFetchTaskMaxBufferSize(),
                             sessionServerConfig.getDataChangeFetchTaskWorkerSize(), 1000, 100,
                             dataNodeSingleTaskProcessor);
+                    }
                 }
             }
         }
@@ -94,7 +120,8 @@ public class DataChangeFetchTaskListener implements TaskListener {
     @Override
     public void handleEvent(TaskEvent event) {
         SessionTask dataChangeFetchTask = new DataChangeFetchTask(sessionServerConfig,
-            taskListenerManager, executorManager, sessionInterests, sessionCacheService);
+            taskListenerManager, executorManager, sessionInterests, sessionCacheService,
+            pushPayloadCache);
         dataChangeFetchTask.setTaskEvent(event);
 
         getSingleTaskDispatcher().dispatch(dataChangeFetchTask.getTaskId(), dataChangeFetchTask,
@@ -102,4 +129,53 @@ public class DataChangeFetchTaskListener implements TaskListener {
 
     }
 
+    /**
+     * fetch the datums of a batch with one CacheService.getValues call before the tasks run,
+     * so the tasks of the batch get their datum from the cache
+     */
+    private class DatumPrefetchTaskProcessor implements TaskProcessor<SessionTask> {
+
+        private final TaskProcessor<SessionTask> delegate;
+
+        DatumPrefetchTaskProcessor(TaskProcessor<SessionTask> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ProcessingResult process(SessionTask task) {
+            return delegate.process(task);
+        }
+
+        @Override
+        public ProcessingResult process(List<SessionTask> tasks) {
+            Set<Key> keys = new HashSet<>();
+            for (SessionTask task : tasks) {
+                if (task instanceof DataChangeFetchTask) {
+                    keys.add(((DataChangeFetchTask) task).getDatumCacheKey());
+                }
+            }
+            if (keys.size() > 1) {
+                try {
+                    sessionCacheService.getValues(keys);
+                } catch (CacheAccessException e) {
+                    // tasks fetch their datum one by one
+                    LOGGER.error("Prefetch datum of {} tasks error", tasks.size(), e);
+                }
+            }
+            // only the failed tasks are retried, not the whole batch
+            List<SessionTask> failedTasks = new ArrayList<>();
+            for (SessionTask task : tasks) {
+                if (delegate.process(task) == ProcessingResult.TransientError) {
+                    failedTasks.add(task);
+                }
+            }
+            if (!failedTasks.isEmpty() && failedTasks.size() == tasks.size()) {
+                return ProcessingResult.TransientError;
+            }
+            for (SessionTask task : failedTasks) {
+                getSingleTaskDispatcher().dispatch(task.getTaskId(), task, task.getExpiryTime());
+            }
+            return ProcessingResult.Success;
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,10 @@
  */
 package com.alipay.sofa.registry.server.session.listener;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +37,8 @@ import com.alipay.sofa.registry.server.session.store.Interests;
 import com.alipay.sofa.registry.server.session.strategy.ReceivedDataMultiPushTaskStrategy;
 import com.alipay.sofa.registry.server.session.strategy.TaskMergeProcessorStrategy;
 import com.alipay.sofa.registry.task.TaskClosure;
+import com.alipay.sofa.registry.task.batcher.TaskDispatcher;
+import com.alipay.sofa.registry.task.batcher.TaskDispatchers;
 import com.alipay.sofa.registry.task.batcher.TaskProcessor;
 import com.alipay.sofa.registry.task.listener.TaskEvent;
 import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
@@ -48,32 +54,34 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
  */
 public class ReceivedDataMultiPushTaskListener implements TaskListener, PushTaskSender {
 
-    private static final Logger               LOGGER = LoggerFactory
-                                                         .getLogger(ReceivedDataMultiPushTaskListener.class);
+    private static final Logger                          LOGGER = LoggerFactory
+                                                                    .getLogger(ReceivedDataMultiPushTaskListener.class);
 
     @Autowired
-    private SessionServerConfig               sessionServerConfig;
+    private SessionServerConfig                          sessionServerConfig;
 
     @Autowired
-    private ClientNodeService                 clientNodeService;
+    private ClientNodeService                            clientNodeService;
 
     @Autowired
-    private ExecutorManager                   executorManager;
+    private ExecutorManager                              executorManager;
 
     @Autowired
-    private Exchange                          boltExchange;
+    private Exchange                                     boltExchange;
 
     @Autowired
-    private ReceivedDataMultiPushTaskStrategy receivedDataMultiPushTaskStrategy;
+    private ReceivedDataMultiPushTaskStrategy            receivedDataMultiPushTaskStrategy;
 
     @Autowired
-    private Interests                         sessionInterests;
+    private Interests                                    sessionInterests;
 
-    private TaskMergeProcessorStrategy        receiveDataTaskMergeProcessorStrategy;
+    private TaskMergeProcessorStrategy                   receiveDataTaskMergeProcessorStrategy;
 
-    private TaskProcessor                     clientNodeSingleTaskProcessor;
+    private TaskProcessor                                clientNodeSingleTaskProcessor;
 
-    private AsyncHashedWheelTimer             asyncHashedWheelTimer;
+    private AsyncHashedWheelTimer                        asyncHashedWheelTimer;
+
+    private volatile TaskDispatcher<String, SessionTask> batchTaskDispatcher;
 
     public ReceivedDataMultiPushTaskListener(TaskProcessor clientNodeSingleTaskProcessor,
                                              TaskMergeProcessorStrategy receiveDataTaskMergeProcessorStrategy,
@@ -127,10 +135,39 @@ public class ReceivedDataMultiPushTaskListener implements TaskListener, PushTask
                 executorManager, boltExchange, receivedDataMultiPushTaskStrategy,asyncHashedWheelTimer,sessionInterests);
         receivedDataMultiPushTask.setTaskEvent(event);
 
+        if (sessionServerConfig.isTaskBatchingEnabled()) {
+            getBatchTaskDispatcher().dispatch(receivedDataMultiPushTask.getTaskId(),
+                    receivedDataMultiPushTask, receivedDataMultiPushTask.getExpiryTime());
+            return;
+        }
         executorManager.getPushTaskExecutor()
                 .execute(() -> clientNodeSingleTaskProcessor.process(receivedDataMultiPushTask));
     }
 
+    private TaskDispatcher<String, SessionTask> getBatchTaskDispatcher() {
+        if (batchTaskDispatcher == null) {
+            synchronized (this) {
+                if (batchTaskDispatcher == null) {
+                    batchTaskDispatcher = TaskDispatchers.createBatchingTaskDispatcher(
+                        TaskDispatchers.getDispatcherName(TaskType.RECEIVED_DATA_MULTI_PUSH_TASK
+                            .getName()), sessionServerConfig.getPushTaskExecutorQueueSize(),
+                        sessionServerConfig.getTaskBatchingMaxSize(),
+                        sessionServerConfig.getTaskBatchingMaxDelayMs(),
+                        sessionServerConfig.getPushTaskExecutorMinPoolSize(), 1000, 100,
+                        sessionServerConfig.isEventDrivenTaskDispatcher(),
+                        new PushCoalescingTaskProcessor());
+                    // an evicted or expired push must still complete its push closure
+                    batchTaskDispatcher.getAcceptorExecutor().setDiscardListener(task -> {
+                        if (task instanceof ReceivedDataMultiPushTask) {
+                            ((ReceivedDataMultiPushTask) task).discard();
+                        }
+                    });
+                }
+            }
+        }
+        return batchTaskDispatcher;
+    }
+
     @Override
     public PushDataType getPushDataType() {
         return PushDataType.RECEIVE_DATA;
@@ -144,4 +181,44 @@ public class ReceivedDataMultiPushTaskListener implements TaskListener, PushTask
     public TaskMergeProcessorStrategy getTaskMergeProcessorStrategy() {
         return receiveDataTaskMergeProcessorStrategy;
     }
+
+    /**
+     * pushes of the same data to the same subscribers of a client in one batch are coalesced,
+     * only the newest version is sent
+     */
+    private class PushCoalescingTaskProcessor implements TaskProcessor<SessionTask> {
+
+        @Override
+        public ProcessingResult process(SessionTask task) {
+            return clientNodeSingleTaskProcessor.process(task);
+        }
+
+        @Override
+        public ProcessingResult process(List<SessionTask> tasks) {
+            List<SessionTask> sendTasks = new ArrayList<>(tasks.size());
+            Map<String, ReceivedDataMultiPushTask> newestTasks = new HashMap<>();
+            for (SessionTask task : tasks) {
+                String coalesceKey = task instanceof ReceivedDataMultiPushTask ? ((ReceivedDataMultiPushTask) task)
+                    .getCoalesceKey() : null;
+                if (coalesceKey == null) {
+                    sendTasks.add(task);
+                    continue;
+                }
+                ReceivedDataMultiPushTask pushTask = (ReceivedDataMultiPushTask) task;
+                ReceivedDataMultiPushTask newestTask = newestTasks.get(coalesceKey);
+                if (newestTask == null) {
+                    newestTasks.put(coalesceKey, pushTask);
+                } else if (pushTask.coalesce(newestTask)) {
+                    newestTasks.put(coalesceKey, pushTask);
+                } else if (!newestTask.coalesce(pushTask)) {
+                    sendTasks.add(pushTask);
+                }
+            }
+            sendTasks.addAll(newestTasks.values());
+            if (sendTasks.size() < tasks.size()) {
+                LOGGER.info("Coalesced {} pushes into {}", tasks.size(), sendTasks.size());
+            }
+            return clientNodeSingleTaskProcessor.process(sendTasks);
+        }
+    }
 }
\ No newline at end of file
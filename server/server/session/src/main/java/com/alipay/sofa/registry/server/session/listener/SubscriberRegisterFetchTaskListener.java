@@ -72,9 +72,15 @@ public class SubscriberRegisterFetchTaskListener implements TaskListener {
 
     @PostConstruct
     public void init() {
-        singleTaskDispatcher = TaskDispatchers.createSingleTaskDispatcher(
-            TaskDispatchers.getDispatcherName(TaskType.SUBSCRIBER_REGISTER_FETCH_TASK.getName()),
-            200000, 80, 1000, 100, dataNodeSingleTaskProcessor);
+        String name = TaskDispatchers.getDispatcherName(TaskType.SUBSCRIBER_REGISTER_FETCH_TASK
+            .getName());
+        if (sessionServerConfig.isEventDrivenTaskDispatcher()) {
+            singleTaskDispatcher = TaskDispatchers.createEventDrivenTaskDispatcher(name, 200000,
+                80, 1000, 100, dataNodeSingleTaskProcessor);
+        } else {
+            singleTaskDispatcher = TaskDispatchers.createSingleTaskDispatcher(name, 200000, 80,
+                1000, 100, dataNodeSingleTaskProcessor);
+        }
     }
 
     @Override
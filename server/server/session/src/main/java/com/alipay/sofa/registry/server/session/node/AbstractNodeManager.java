@@ -18,8 +18,11 @@ package com.alipay.sofa.registry.server.session.node;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -27,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.metaserver.GetNodesRequest;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.log.Logger;
@@ -69,6 +73,18 @@ public abstract class AbstractNodeManager<T extends Node> implements NodeManager
      */
     private ConcurrentHashMap<String/*dataCenter*/, Long /*version*/>    dataCenterNodesVersions = new ConcurrentHashMap<>();
 
+    /**
+     * local version of nodes, increased on every update
+     */
+    private final AtomicLong                                               nodesVersion            = new AtomicLong();
+
+    /**
+     * versions of the node list pushed by metaServer, which the next NodeChangeDelta must be based on
+     */
+    private Long                                                           nodeListVersion;
+
+    private Map<String, Long>                                              nodeListVersions;
+
     @Override
     public Collection<T> getDataCenterNodes() {
         read.lock();
@@ -102,11 +118,69 @@ public abstract class AbstractNodeManager<T extends Node> implements NodeManager
             nodes = nodeChangeResult.getNodes();
             dataCenterNodesVersions.putIfAbsent(nodeChangeResult.getLocalDataCenter(),
                 nodeChangeResult.getVersion());
+            nodeListVersion = nodeChangeResult.getVersion();
+            nodeListVersions = nodeChangeResult.getDataCenterListVersions();
+            increaseNodesVersion();
         } finally {
             write.unlock();
         }
     }
 
+    @Override
+    public boolean applyDelta(NodeChangeDelta<T> delta) {
+        write.lock();
+        try {
+            if (nodeListVersion == null || nodeListVersions == null || nodes == null) {
+                return false;
+            }
+            String dataCenter = delta.getLocalDataCenter();
+            Map<String, Long> newVersions = delta.getDataCenterListVersions();
+            if (dataCenter == null || newVersions == null
+                || !nodeListVersions.keySet().equals(newVersions.keySet())) {
+                return false;
+            }
+            for (Map.Entry<String, Long> entry : newVersions.entrySet()) {
+                if (!dataCenter.equals(entry.getKey())
+                    && !Objects.equals(entry.getValue(), nodeListVersions.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            if (nodeListVersion.equals(delta.getVersion())) {
+                //retry of a delta already applied
+                return true;
+            }
+            if (!nodeListVersion.equals(delta.getBaseVersion())) {
+                return false;
+            }
+
+            Map<String, Map<String, T>> newNodes = new HashMap<>(nodes);
+            Map<String, T> dataCenterNodes = newNodes.get(dataCenter);
+            dataCenterNodes = dataCenterNodes == null ? new HashMap<>() : new HashMap<>(
+                dataCenterNodes);
+            if (delta.getRemoveNodes() != null) {
+                dataCenterNodes.keySet().removeAll(delta.getRemoveNodes());
+            }
+            if (delta.getAddNodes() != null) {
+                dataCenterNodes.putAll(delta.getAddNodes());
+            }
+            newNodes.put(dataCenter, dataCenterNodes);
+            nodes = newNodes;
+            nodeListVersion = delta.getVersion();
+            nodeListVersions = newVersions;
+            increaseNodesVersion();
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * increase nodesVersion, must be called after everything getNode depends on is updated
+     */
+    protected void increaseNodesVersion() {
+        nodesVersion.incrementAndGet();
+    }
+
     public boolean checkAndUpdateListVersions(String dataCenterId, Long version) {
         return VersionsMapUtils.checkAndUpdateVersions(dataCenterNodesVersions, dataCenterId,
             version);
@@ -126,7 +200,7 @@ public abstract class AbstractNodeManager<T extends Node> implements NodeManager
 
                 @Override
                 public URL getRequestUrl() {
-                    return new URL(raftClientManager.getLeader().getIp(),
+                    return new URL(raftClientManager.getReadPeer().getIp(),
                         sessionServerConfig.getMetaServerPort());
                 }
             };
@@ -166,4 +240,9 @@ public abstract class AbstractNodeManager<T extends Node> implements NodeManager
     public ConcurrentHashMap<String, Long> getDataCenterNodesVersions() {
         return dataCenterNodesVersions;
     }
+
+    @Override
+    public long getNodesVersion() {
+        return nodesVersion.get();
+    }
 }
\ No newline at end of file
@@ -20,8 +20,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.Node.NodeType;
 import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
-import com.alipay.sofa.registry.consistency.hash.ConsistentHash;
+import com.alipay.sofa.registry.consistency.hash.RoutingTable;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
@@ -33,17 +34,17 @@ import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
  */
 public class DataNodeManager extends AbstractNodeManager<DataNode> {
 
-    private static final Logger      LOGGER = LoggerFactory.getLogger(DataNodeManager.class,
-                                                "[DataNodeManager]");
+    private static final Logger    LOGGER = LoggerFactory.getLogger(DataNodeManager.class,
+                                              "[DataNodeManager]");
 
     @Autowired
-    private SessionServerConfig      sessionServerConfig;
+    private SessionServerConfig    sessionServerConfig;
 
-    private ConsistentHash<DataNode> consistentHash;
+    private RoutingTable<DataNode> routingTable;
 
     @Override
     public DataNode getNode(String dataInfoId) {
-        DataNode dataNode = consistentHash.getNodeFor(dataInfoId);
+        DataNode dataNode = routingTable.getNodeFor(dataInfoId);
         if (dataNode == null) {
             throw new RuntimeException("DataNodeManager calculate data node error!,dataInfoId="
                                        + dataInfoId);
@@ -56,14 +57,40 @@ public class DataNodeManager extends AbstractNodeManager<DataNode> {
         write.lock();
         try {
             super.updateNodes(nodeChangeResult);
-            consistentHash = new ConsistentHash(sessionServerConfig.getNumberOfReplicas(),
-                getDataCenterNodes());
+            Long version = nodeChangeResult.getVersion();
+            routingTable = new RoutingTable<>(version != null ? version : 0,
+                sessionServerConfig.getNumberOfReplicas(), getDataCenterNodes(),
+                sessionServerConfig.getRoutingCacheSize());
+            // routingTable is what getNode computed from, so increase again after it is replaced
+            increaseNodesVersion();
 
         } finally {
             write.unlock();
         }
     }
 
+    @Override
+    public boolean applyDelta(NodeChangeDelta<DataNode> delta) {
+        write.lock();
+        try {
+            long nodesVersion = getNodesVersion();
+            if (!super.applyDelta(delta)) {
+                return false;
+            }
+            if (nodesVersion != getNodesVersion()) {
+                Long version = delta.getVersion();
+                routingTable = new RoutingTable<>(version != null ? version : 0,
+                    sessionServerConfig.getNumberOfReplicas(), getDataCenterNodes(),
+                    sessionServerConfig.getRoutingCacheSize());
+                // routingTable is what getNode computed from, so increase again after it is replaced
+                increaseNodesVersion();
+            }
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
     @Override
     public NodeType getNodeType() {
         return NodeType.DATA;
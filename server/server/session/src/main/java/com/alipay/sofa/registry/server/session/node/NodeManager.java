@@ -21,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 
 /**
@@ -38,6 +39,14 @@ public interface NodeManager<T extends Node> {
 
     void updateNodes(NodeChangeResult nodeChangeResult);
 
+    /**
+     * apply the node list change since the version last updated
+     *
+     * @param delta
+     * @return false if the delta is not based on the current node list, the full list is needed
+     */
+    boolean applyDelta(NodeChangeDelta<T> delta);
+
     Collection<String> getDataCenters();
 
     void renewNode();
@@ -45,4 +54,11 @@ public interface NodeManager<T extends Node> {
     NodeChangeResult getAllDataCenterNodes();
 
     ConcurrentHashMap<String, Long> getDataCenterNodesVersions();
+
+    /**
+     * local version of nodes, increased every time the nodes which getNode computed from are updated
+     *
+     * @return
+     */
+    long getNodesVersion();
 }
\ No newline at end of file
@@ -130,6 +130,21 @@ public class RaftClientManager {
         return leader;
     }
 
+    /**
+     * meta server to send read only requests to, any replica can serve them after a raft ReadIndex
+     *
+     * @return
+     */
+    public PeerId getReadPeer() {
+        if (!sessionServerConfig.isMetaFollowerReadEnabled()) {
+            return getLeader();
+        }
+        if (raftClient == null) {
+            startRaftClient();
+        }
+        return raftClient.selectReadPeer();
+    }
+
     public PeerId refreshLeader() {
         if (raftClient == null) {
             startRaftClient();
@@ -46,6 +46,9 @@ public class ClientNodeSingleTaskProcessor implements TaskProcessor<SessionTask>
 
     @Override
     public ProcessingResult process(List<SessionTask> tasks) {
-        return null;
+        for (SessionTask task : tasks) {
+            process(task);
+        }
+        return ProcessingResult.Success;
     }
 }
\ No newline at end of file
@@ -60,8 +60,18 @@ public class DataNodeSingleTaskProcessor implements TaskProcessor<SessionTask> {
         }
     }
 
+    /**
+     * tasks are processed one by one, the batch is retried if any task failed with a transient error,
+     * so tasks processed in batches must be safe to execute again
+     */
     @Override
     public ProcessingResult process(List<SessionTask> tasks) {
-        return null;
+        ProcessingResult result = ProcessingResult.Success;
+        for (SessionTask task : tasks) {
+            if (process(task) == ProcessingResult.TransientError) {
+                result = ProcessingResult.TransientError;
+            }
+        }
+        return result;
     }
 }
\ No newline at end of file
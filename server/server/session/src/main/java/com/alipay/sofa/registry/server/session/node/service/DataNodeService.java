@@ -22,9 +22,11 @@ import java.util.Map;
 
 import com.alipay.sofa.registry.common.model.DatumSnapshotRequest;
 import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
 
 /**
  *
@@ -65,6 +67,17 @@ public interface DataNodeService {
     Map<String/*datacenter*/, Map<String/*datainfoid*/, Long>> fetchDataVersion(URL dataNodeUrl,
                                                                                   Collection<String> dataInfoIdList);
 
+    /**
+     * Get some dataInfoId version from one data server asynchronously,
+     * callbackHandler receives the unwrapped version map on success
+     *
+     * @param dataNodeUrl
+     * @param dataInfoIdList
+     * @param callbackHandler
+     */
+    void fetchDataVersionAsync(URL dataNodeUrl, Collection<String> dataInfoIdList,
+                               CallbackHandler callbackHandler);
+
     /**
      * fetch one dataCenter publisher data from data server
      *
@@ -74,6 +87,17 @@ public interface DataNodeService {
      */
     Datum fetchDataCenter(String dataInfoId, String dataCenterId);
 
+    /**
+     * fetch one dataCenter publisher data of many dataInfoIds from data servers,
+     * one request for each data server
+     *
+     * @param dataInfoIds
+     * @param dataCenterId
+     * @return datum of each dataInfoId, null value if there is no datum
+     */
+    Map<String/*dataInfoId*/, Datum> fetchDataCenterBatch(Collection<String> dataInfoIds,
+                                                           String dataCenterId);
+
     /**
      * fetch all dataCenter datum
      * @param dataInfoId
@@ -92,7 +116,7 @@ public interface DataNodeService {
     /**
      * check publisher digest same as session current store,and renew the lastUpdateTime of this connectId
      */
-    Boolean renewDatum(RenewDatumRequest renewDatumRequest);
+    RenewDatumResult renewDatum(RenewDatumRequest renewDatumRequest);
 
     /**
      * Correct the publishers information of this connectId on dataServer
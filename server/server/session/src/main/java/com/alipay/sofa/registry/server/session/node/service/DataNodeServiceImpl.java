@@ -16,10 +16,17 @@
  */
 package com.alipay.sofa.registry.server.session.node.service;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -32,8 +39,10 @@ import com.alipay.sofa.registry.common.model.DatumSnapshotRequest;
 import com.alipay.sofa.registry.common.model.GenericResponse;
 import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
 import com.alipay.sofa.registry.common.model.dataserver.ClientOffRequest;
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.dataserver.GetDataBatchRequest;
 import com.alipay.sofa.registry.common.model.dataserver.GetDataRequest;
 import com.alipay.sofa.registry.common.model.dataserver.GetDataVersionRequest;
 import com.alipay.sofa.registry.common.model.dataserver.PublishDataRequest;
@@ -42,6 +51,9 @@ import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
+import com.alipay.sofa.registry.remoting.Channel;
 import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
 import com.alipay.sofa.registry.remoting.exchange.RequestException;
 import com.alipay.sofa.registry.remoting.exchange.message.Request;
@@ -51,6 +63,7 @@ import com.alipay.sofa.registry.server.session.node.NodeManager;
 import com.alipay.sofa.registry.server.session.node.SessionProcessIdGenerator;
 import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer;
 import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer.TaskFailedCallback;
+import com.codahale.metrics.Timer;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
@@ -60,7 +73,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
  */
 public class DataNodeServiceImpl implements DataNodeService {
 
-    private static final Logger   LOGGER = LoggerFactory.getLogger(DataNodeServiceImpl.class);
+    private static final Logger   LOGGER          = LoggerFactory.getLogger(DataNodeServiceImpl.class);
 
     @Autowired
     private NodeExchanger         dataNodeExchanger;
@@ -73,6 +86,12 @@ public class DataNodeServiceImpl implements DataNodeService {
 
     private AsyncHashedWheelTimer asyncHashedWheelTimer;
 
+    private ThreadPoolExecutor    fetchBatchExecutor;
+
+    private final Timer           fetchTimer      = Metrics.timer("session.dataFetch.get");
+
+    private final Timer           fetchBatchTimer = Metrics.timer("session.dataFetch.getBatch");
+
     @PostConstruct
     public void init() {
         ThreadFactoryBuilder threadFactoryBuilder = new ThreadFactoryBuilder();
@@ -93,6 +112,13 @@ public class DataNodeServiceImpl implements DataNodeService {
                     LOGGER.error("executionFailed: " + e.getMessage(), e);
                 }
             });
+
+        int concurrency = Math.max(1, sessionServerConfig.getFetchDatumBatchConcurrency());
+        fetchBatchExecutor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(1024), threadFactoryBuilder.setNameFormat(
+                "Registry-DataNodeServiceImpl-FetchBatch-%d").build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        fetchBatchExecutor.allowCoreThreadTimeOut(true);
     }
 
     @Override
@@ -262,6 +288,66 @@ public class DataNodeServiceImpl implements DataNodeService {
         return map;
     }
 
+    @Override
+    public void fetchDataVersionAsync(URL dataNodeUrl, Collection<String> dataInfoIdList,
+                                      CallbackHandler callbackHandler) {
+        try {
+            Request<GetDataVersionRequest> getDataVersionRequestRequest = new Request<GetDataVersionRequest>() {
+                @Override
+                public GetDataVersionRequest getRequestBody() {
+                    GetDataVersionRequest getDataVersionRequest = new GetDataVersionRequest();
+                    getDataVersionRequest.setDataInfoIds(new ArrayList<>(dataInfoIdList));
+                    return getDataVersionRequest;
+                }
+
+                @Override
+                public URL getRequestUrl() {
+                    return dataNodeUrl;
+                }
+
+                @Override
+                public CallbackHandler getCallBackHandler() {
+                    return new CallbackHandler() {
+                        @Override
+                        public void onCallback(Channel channel, Object message) {
+                            GenericResponse genericResponse = (GenericResponse) message;
+                            if (genericResponse == null || !genericResponse.isSuccess()) {
+                                callbackHandler.onException(channel, new RuntimeException(
+                                    "fetchDataVersion has not get fail response! msg:"
+                                            + (genericResponse == null ? null : genericResponse
+                                                .getMessage())));
+                                return;
+                            }
+                            Map<String, Map<String, Long>> map = (Map<String, Map<String, Long>>) genericResponse
+                                .getData();
+                            if (map == null || map.isEmpty()) {
+                                LOGGER
+                                    .warn(
+                                        "GetDataVersionRequestRequest get response contains no data!target data Node url:{} about dataInfoIds size:{}",
+                                        dataNodeUrl.getAddressString(), dataInfoIdList.size());
+                            }
+                            callbackHandler.onCallback(channel, map);
+                        }
+
+                        @Override
+                        public void onException(Channel channel, Throwable exception) {
+                            callbackHandler.onException(channel, exception);
+                        }
+
+                        @Override
+                        public Executor getExecutor() {
+                            return callbackHandler.getExecutor();
+                        }
+                    };
+                }
+            };
+
+            dataNodeExchanger.request(getDataVersionRequestRequest);
+        } catch (RequestException e) {
+            throw new RuntimeException("Fetch data Version request error! " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Datum fetchDataCenter(String dataInfoId, String dataCenterId) {
 
@@ -272,6 +358,125 @@ public class DataNodeServiceImpl implements DataNodeService {
         return null;
     }
 
+    @Override
+    public Map<String/*dataInfoId*/, Datum> fetchDataCenterBatch(Collection<String> dataInfoIds,
+                                                                  String dataCenterId) {
+        if (dataInfoIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        // group dataInfoIds by the data server owning them
+        Map<String, URL> urls = new HashMap<>();
+        Map<String, List<String>> dataInfoIdsByNode = new HashMap<>();
+        for (String dataInfoId : dataInfoIds) {
+            URL url = getUrl(dataInfoId);
+            urls.putIfAbsent(url.getAddressString(), url);
+            dataInfoIdsByNode.computeIfAbsent(url.getAddressString(), k -> new ArrayList<>())
+                .add(dataInfoId);
+        }
+
+        // data servers are requested in parallel, the first one in the calling thread
+        Iterator<Map.Entry<String, List<String>>> iterator = dataInfoIdsByNode.entrySet()
+            .iterator();
+        Map.Entry<String, List<String>> first = iterator.next();
+        List<Future<Map<String, Datum>>> futures = new ArrayList<>(dataInfoIdsByNode.size() - 1);
+        while (iterator.hasNext()) {
+            Map.Entry<String, List<String>> entry = iterator.next();
+            URL url = urls.get(entry.getKey());
+            futures.add(fetchBatchExecutor.submit(() -> fetchDataCenterBatch(url,
+                entry.getValue(), dataCenterId)));
+        }
+
+        Map<String, Datum> result = fetchDataCenterBatch(urls.get(first.getKey()),
+            first.getValue(), dataCenterId);
+        for (Future<Map<String, Datum>> future : futures) {
+            try {
+                result.putAll(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Fetch datum batch interrupted!", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Fetch datum batch error! "
+                                           + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * fetch the datums from one data server, in chunks of fetchDatumBatchSize,
+     * a chunk is fetched one by one if the batch request failed
+     */
+    private Map<String, Datum> fetchDataCenterBatch(URL url, List<String> dataInfoIds,
+                                                    String dataCenterId) {
+        Map<String, Datum> result = new HashMap<>(dataInfoIds.size());
+        int batchSize = Math.max(1, sessionServerConfig.getFetchDatumBatchSize());
+        for (int i = 0; i < dataInfoIds.size(); i += batchSize) {
+            List<String> batch = new ArrayList<>(dataInfoIds.subList(i,
+                Math.min(i + batchSize, dataInfoIds.size())));
+            Map<String, Map<String, Datum>> datumMaps;
+            try {
+                datumMaps = getDatumMapBatch(url, batch, dataCenterId);
+            } catch (Exception e) {
+                LOGGER.error("GetDataBatchRequest to {} error, fetch {} dataInfoIds one by one",
+                    url.getAddressString(), batch.size(), e);
+                for (String dataInfoId : batch) {
+                    result.put(dataInfoId, fetchDataCenter(dataInfoId, dataCenterId));
+                }
+                continue;
+            }
+            for (String dataInfoId : batch) {
+                Map<String, Datum> map = datumMaps.get(dataInfoId);
+                result.put(dataInfoId, map == null ? null : map.get(dataCenterId));
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Map<String, Datum>> getDatumMapBatch(URL url, List<String> dataInfoIds,
+                                                             String dataCenterId)
+                                                                                 throws RequestException {
+        GetDataBatchRequest getDataBatchRequest = new GetDataBatchRequest(dataInfoIds,
+            dataCenterId);
+        Request<GetDataBatchRequest> request = new Request<GetDataBatchRequest>() {
+
+            @Override
+            public GetDataBatchRequest getRequestBody() {
+                return getDataBatchRequest;
+            }
+
+            @Override
+            public URL getRequestUrl() {
+                return url;
+            }
+
+            @Override
+            public Integer getTimeout() {
+                return sessionServerConfig.getDataNodeExchangeForFetchDatumTimeOut();
+            }
+        };
+
+        long start = System.nanoTime();
+        Response response = dataNodeExchanger.request(request);
+        fetchBatchTimer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        GenericResponse genericResponse = (GenericResponse) response.getResult();
+        if (!genericResponse.isSuccess()) {
+            throw new RuntimeException(String.format(
+                "GetDataBatchRequest has got fail response!url:%s msg:%s",
+                url.getAddressString(), genericResponse.getMessage()));
+        }
+        Map<String, Map<String, Datum>> datumMaps = (Map<String, Map<String, Datum>>) genericResponse
+            .getData();
+        if (datumMaps == null) {
+            return new HashMap<>();
+        }
+        datumMaps.values().forEach(map -> {
+            if (map != null) {
+                map.forEach((dataCenter, datum) -> Datum.internDatum(datum));
+            }
+        });
+        return datumMaps;
+    }
+
     @Override
     public Map<String/*datacenter*/, Datum> fetchGlobal(String dataInfoId) {
         //get all dataCenter data
@@ -315,7 +520,9 @@ public class DataNodeServiceImpl implements DataNodeService {
                 }
             };
 
+            long start = System.nanoTime();
             Response response = dataNodeExchanger.request(getDataRequestStringRequest);
+            fetchTimer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             Object result = response.getResult();
             GenericResponse genericResponse = (GenericResponse) result;
             if (genericResponse.isSuccess()) {
@@ -340,11 +547,16 @@ public class DataNodeServiceImpl implements DataNodeService {
     }
 
     @Override
-    public Boolean renewDatum(RenewDatumRequest renewDatumRequest) {
+    public RenewDatumResult renewDatum(RenewDatumRequest renewDatumRequest) {
         Request<RenewDatumRequest> request = buildRenewDatumRequest(renewDatumRequest);
         try {
             GenericResponse genericResponse = (GenericResponse) sendRequest("RenewDatum", request);
-            return (Boolean) genericResponse.getData();
+            Object data = genericResponse.getData();
+            if (data instanceof RenewDatumResult) {
+                return (RenewDatumResult) data;
+            }
+            // data server not supporting digest buckets only tells whether they are the same
+            return new RenewDatumResult((Boolean) data, 0, null);
         } catch (RequestException e) {
             throw new RuntimeException(e.getMessage(), e);
         }
@@ -64,7 +64,7 @@ public class MetaNodeServiceImpl implements MetaNodeService {
 
                 @Override
                 public URL getRequestUrl() {
-                    return new URL(raftClientManager.getLeader().getIp(),
+                    return new URL(raftClientManager.getReadPeer().getIp(),
                         sessionServerConfig.getMetaServerPort());
                 }
             };
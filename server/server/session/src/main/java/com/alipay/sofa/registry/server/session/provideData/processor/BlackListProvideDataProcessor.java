@@ -27,13 +27,13 @@ import com.alipay.sofa.registry.remoting.exchange.Exchange;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.filter.blacklist.BlacklistConstants;
 import com.alipay.sofa.registry.server.session.filter.blacklist.BlacklistManager;
+import com.alipay.sofa.registry.server.session.filter.blacklist.BlacklistRules;
 import com.alipay.sofa.registry.server.session.provideData.ProvideDataProcessor;
 import com.alipay.sofa.registry.server.session.registry.Registry;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -83,42 +83,24 @@ public class BlackListProvideDataProcessor implements ProvideDataProcessor {
     private void clientOffBlackIp(Map<String, Map<String, Set<String>>> blacklistConfigMap) {
 
         if (blacklistConfigMap != null) {
-            Set<String> ipSet = new HashSet();
-
-            for (Map.Entry<String, Map<String, Set<String>>> configEntry : blacklistConfigMap
-                .entrySet()) {
-                if (BlacklistConstants.FORBIDDEN_PUB.equals(configEntry.getKey())
-                    || BlacklistConstants.FORBIDDEN_SUB_BY_PREFIX.equals(configEntry.getKey())) {
-                    Map<String, Set<String>> typeMap = configEntry.getValue();
-                    if (typeMap != null) {
-                        for (Map.Entry<String, Set<String>> typeEntry : typeMap.entrySet()) {
-                            if (BlacklistConstants.IP_FULL.equals(typeEntry.getKey())) {
-                                if (typeEntry.getValue() != null) {
-                                    ipSet.addAll(typeEntry.getValue());
-                                }
-                            }
-                        }
-                    }
-                }
-
-            }
-
-            sessionRegistry.remove(getIpConnects(ipSet));
+            //config has been compiled and swapped in by convertBlacklistConfig
+            sessionRegistry.remove(getIpConnects(blacklistManager.getBlacklistRules()));
         }
     }
 
-    public List<String> getIpConnects(Set<String> _ipList) {
+    public List<String> getIpConnects(BlacklistRules blacklistRules) {
 
         Server sessionServer = boltExchange.getServer(sessionServerConfig.getServerPort());
 
         List<String> connections = new ArrayList<>();
 
-        if (sessionServer != null) {
+        if (sessionServer != null && !blacklistRules.isEmpty()) {
             Collection<Channel> channels = sessionServer.getChannels();
             for (Channel channel : channels) {
                 String key = NetUtil.toAddressString(channel.getRemoteAddress());
                 String ip = key.substring(0, key.indexOf(":"));
-                if (_ipList.contains(ip)) {
+                if (blacklistRules.match(BlacklistConstants.FORBIDDEN_PUB, ip)
+                    || blacklistRules.match(BlacklistConstants.FORBIDDEN_SUB_BY_PREFIX, ip)) {
                     connections.add(key + ValueConstants.CONNECT_ID_SPLIT
                                     + NetUtil.toAddressString(channel.getLocalAddress()));
                 }
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.registry;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * fans the data version fetches out to all data nodes with bounded in-flight requests,
+ * versions are processed as they arrive so that one slow data node does not hold back the others.
+ * Latency and errors are recorded per data node, the metrics of a data node are removed once it
+ * leaves the data node list, see {@link #retainDataNodes(Collection)}.
+ *
+ * @author agent
+ * @version $Id: FetchDataVersionFanOut.java, v 0.1 2026-10-18 20:40 agent Exp $
+ */
+class FetchDataVersionFanOut {
+
+    private static final Logger LOGGER        = LoggerFactory
+                                                  .getLogger(FetchDataVersionFanOut.class);
+
+    private static final String METRIC_PREFIX = "session.fetchDataVersion";
+
+    /**
+     * sends one async fetch of data versions to a data node
+     */
+    interface Fetcher {
+        /**
+         * @param address
+         * @param dataInfoIds
+         * @param callbackHandler
+         */
+        void fetch(String address, Collection<String> dataInfoIds, CallbackHandler callbackHandler);
+    }
+
+    /**
+     * metrics of the data nodes by address
+     */
+    private static final Map<String, DataNodeMetrics>      METRICS = new ConcurrentHashMap<>();
+
+    private final Fetcher                                  fetcher;
+
+    private final Consumer<Map<String, Map<String, Long>>> processor;
+
+    private final Executor                                 callbackExecutor;
+
+    /**
+     * constructor
+     * @param fetcher
+     * @param processor
+     * @param callbackExecutor
+     */
+    FetchDataVersionFanOut(Fetcher fetcher, Consumer<Map<String, Map<String, Long>>> processor,
+                           Executor callbackExecutor) {
+        this.fetcher = fetcher;
+        this.processor = processor;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * fetch the versions from all data nodes and wait at most timeout * 2 for them.
+     * A data node is skipped if no permit is released within timeout * 2, the data nodes after it
+     * are skipped too, skipped data nodes are returned with the ones not responded in time.
+     *
+     * @param dataInfoIdsByAddress dataInfoIds to fetch by data node address
+     * @param concurrency
+     * @param timeout
+     * @return the addresses of the data nodes which have not finished in time
+     */
+    Set<String> fetch(Map<String, Collection<String>> dataInfoIdsByAddress,
+                      int concurrency, int timeout) {
+        Semaphore inFlight = new Semaphore(concurrency);
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        pending.addAll(dataInfoIdsByAddress.keySet());
+        CountDownLatch finished = new CountDownLatch(dataInfoIdsByAddress.size());
+
+        int dispatched = 0;
+        for (Entry<String, Collection<String>> entry : dataInfoIdsByAddress.entrySet()) {
+            String address = entry.getKey();
+            try {
+                if (!inFlight.tryAcquire(timeout * 2L, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Fetch data versions skipped from {} on, too many requests in flight",
+                            address);
+                    break;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            dispatched++;
+            DataNodeMetrics metrics = getMetrics(address);
+            Runnable done = () -> {
+                inFlight.release();
+                pending.remove(address);
+                finished.countDown();
+            };
+            long begin = System.currentTimeMillis();
+            try {
+                fetcher.fetch(address, entry.getValue(), new CallbackHandler() {
+                    @Override
+                    public void onCallback(Channel channel, Object message) {
+                        try {
+                            metrics.latency.update(System.currentTimeMillis() - begin, TimeUnit.MILLISECONDS);
+                            Map<String/*datacenter*/, Map<String/*datainfoid*/, Long>> dataVersions =
+                                    (Map<String, Map<String, Long>>) message;
+                            if (dataVersions != null) {
+                                processor.accept(dataVersions);
+                            } else {
+                                LOGGER.warn("Fetch no change data versions info from {}", address);
+                            }
+                        } catch (Throwable e) {
+                            LOGGER.error("Process data versions from {} error", address, e);
+                        } finally {
+                            done.run();
+                        }
+                    }
+
+                    @Override
+                    public void onException(Channel channel, Throwable exception) {
+                        metrics.error.inc();
+                        LOGGER.error("Fetch data versions from {} error", address, exception);
+                        done.run();
+                    }
+
+                    @Override
+                    public Executor getExecutor() {
+                        return callbackExecutor;
+                    }
+                });
+            } catch (Throwable e) {
+                metrics.error.inc();
+                LOGGER.error("Fetch data versions from {} error", address, e);
+                done.run();
+            }
+        }
+
+        // skipped data nodes stay pending, only wait for the dispatched ones
+        for (int i = dispatched; i < dataInfoIdsByAddress.size(); i++) {
+            finished.countDown();
+        }
+        if (!Thread.currentThread().isInterrupted()) {
+            try {
+                finished.await(timeout * 2L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return new HashSet<>(pending);
+    }
+
+    /**
+     * remove the metrics of the data nodes not in the data node list
+     *
+     * @param addresses addresses of all the data nodes
+     */
+    static void retainDataNodes(Collection<String> addresses) {
+        Iterator<String> iterator = METRICS.keySet().iterator();
+        while (iterator.hasNext()) {
+            String address = iterator.next();
+            if (!addresses.contains(address)) {
+                iterator.remove();
+                Metrics.removeByPrefix(MetricRegistry.name(METRIC_PREFIX, address));
+            }
+        }
+    }
+
+    private static DataNodeMetrics getMetrics(String address) {
+        return METRICS.computeIfAbsent(address, DataNodeMetrics::new);
+    }
+
+    /**
+     * metrics of one data node, the names are bounded by the data node list
+     */
+    private static final class DataNodeMetrics {
+
+        private final Timer   latency;
+
+        private final Counter error;
+
+        DataNodeMetrics(String address) {
+            this.latency = Metrics.timer(MetricRegistry.name(METRIC_PREFIX, address, "latency"));
+            this.error = Metrics.counter(MetricRegistry.name(METRIC_PREFIX, address, "error"));
+        }
+    }
+}
\ No newline at end of file
@@ -18,6 +18,7 @@ package com.alipay.sofa.registry.server.session.registry;
 
 import java.util.List;
 
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
 import com.alipay.sofa.registry.common.model.store.StoreData;
 
 /**
@@ -78,6 +79,12 @@ public interface Registry {
 
     void sendDatumSnapshot(String connectId, String dataServerIp);
 
+    /**
+     * send snapshot of the digest buckets which renew found different
+     */
+    void sendDatumSnapshot(String connectId, String dataServerIp,
+                           RenewDatumResult renewDatumResult);
+
     /**
      * for scheduler clean no connect client
      */
@@ -24,7 +24,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.StoreData;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
@@ -42,6 +44,7 @@ import com.alipay.sofa.registry.server.session.filter.DataIdMatchStrategy;
 import com.alipay.sofa.registry.server.session.node.NodeManager;
 import com.alipay.sofa.registry.server.session.node.service.DataNodeService;
 import com.alipay.sofa.registry.server.session.renew.RenewService;
+import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
 import com.alipay.sofa.registry.server.session.store.DataStore;
 import com.alipay.sofa.registry.server.session.store.Interests;
 import com.alipay.sofa.registry.server.session.store.Watchers;
@@ -125,8 +128,16 @@ public class SessionRegistry implements Registry {
     @Autowired
     private WriteDataAcceptor         writeDataAcceptor;
 
+    @Autowired
+    private ExecutorManager           executorManager;
+
     private volatile boolean          enableDataRenewSnapshot = true;
 
+    /**
+     * data nodes which have not finished the last fetch of data versions
+     */
+    private volatile Set<String>      pendingDataNodes        = Collections.emptySet();
+
     @Override
     public void register(StoreData storeData) {
 
@@ -156,8 +167,7 @@ public class SessionRegistry implements Registry {
 
                                     @Override
                                     public String getConnectId() {
-                                        return publisher.getSourceAddress().getAddressString() + ValueConstants.CONNECT_ID_SPLIT
-                                                + publisher.getTargetAddress().getAddressString();
+                                        return publisher.connectId().toString();
                                     }
 
                                     @Override
@@ -228,9 +238,7 @@ public class SessionRegistry implements Registry {
 
                     @Override
                     public String getConnectId() {
-                        return publisher.getSourceAddress().getAddressString()
-                               + ValueConstants.CONNECT_ID_SPLIT
-                               + publisher.getTargetAddress().getAddressString();
+                        return publisher.connectId().toString();
                     }
 
                     @Override
@@ -280,6 +288,7 @@ public class SessionRegistry implements Registry {
             }
             sessionInterests.deleteByConnectId(connectId);
             sessionWatchers.deleteByConnectId(connectId);
+            renewService.clean(connectId);
         }
     }
 
@@ -341,19 +350,39 @@ public class SessionRegistry implements Registry {
 
         Map<String/*address*/, Collection<String>/*dataInfoIds*/> map = calculateDataNode(checkDataInfoIds);
 
-        map.forEach((address, dataInfoIds) -> {
-
-            //TODO asynchronous fetch version
-            Map<String/*datacenter*/, Map<String/*datainfoid*/, Long>> dataVersions = dataNodeService
-                    .fetchDataVersion(URL.valueOf(address), dataInfoIds);
-
-            if (dataVersions != null) {
-                sessionRegistryStrategy.doFetchChangDataProcess(dataVersions);
-            } else {
-                LOGGER.warn("Fetch no change data versions info from {}", address);
+        // data nodes not finished last time go first
+        Map<String/*address*/, Collection<String>/*dataInfoIds*/> ordered = new LinkedHashMap<>();
+        pendingDataNodes.forEach(address -> {
+            Collection<String> dataInfoIds = map.remove(address);
+            if (dataInfoIds != null) {
+                ordered.put(address, dataInfoIds);
             }
         });
+        ordered.putAll(map);
+
+        FetchDataVersionFanOut.retainDataNodes(getDataNodeAddresses());
+        Set<String> pending = new FetchDataVersionFanOut(
+                (address, dataInfoIds, callbackHandler) -> dataNodeService.fetchDataVersionAsync(
+                        URL.valueOf(address), dataInfoIds, callbackHandler),
+                sessionRegistryStrategy::doFetchChangDataProcess,
+                executorManager.getFetchDataVersionExecutor()).fetch(ordered,
+                sessionServerConfig.getFetchDataVersionConcurrency(),
+                sessionServerConfig.getDataNodeExchangeTimeOut());
+        pendingDataNodes = pending;
+        if (!pending.isEmpty()) {
+            LOGGER.warn("[fetchChangDataProcess] data nodes not finished in time, fetch them first next time: {}",
+                    pending);
+        }
+    }
 
+    private Set<String> getDataNodeAddresses() {
+        Set<String> addresses = new HashSet<>();
+        Collection<Node> dataNodes = dataNodeManager.getDataCenterNodes();
+        if (dataNodes != null) {
+            dataNodes.forEach(dataNode -> addresses.add(new URL(dataNode.getNodeUrl().getIpAddress(),
+                    sessionServerConfig.getDataServerPort()).getAddressString()));
+        }
+        return addresses;
     }
 
     private Map<String, Collection<String>> calculateDataNode(Collection<String> dataInfoIds) {
@@ -412,10 +441,10 @@ public class SessionRegistry implements Registry {
 
     public void cleanClientConnect() {
 
-        Set<String> connectIndexes = new HashSet<>();
-        Set<String> pubIndexes = sessionDataStore.getConnectPublishers().keySet();
-        Set<String> subIndexes = sessionInterests.getConnectSubscribers().keySet();
-        Set<String> watchIndexes = sessionWatchers.getConnectWatchers().keySet();
+        Set<ConnectId> connectIndexes = new HashSet<>();
+        Set<ConnectId> pubIndexes = sessionDataStore.getConnectPublishers().keySet();
+        Set<ConnectId> subIndexes = sessionInterests.getConnectSubscribers().keySet();
+        Set<ConnectId> watchIndexes = sessionWatchers.getConnectWatchers().keySet();
         connectIndexes.addAll(pubIndexes);
         connectIndexes.addAll(subIndexes);
         connectIndexes.addAll(watchIndexes);
@@ -423,11 +452,11 @@ public class SessionRegistry implements Registry {
         Server sessionServer = boltExchange.getServer(sessionServerConfig.getServerPort());
 
         List<String> connectIds = new ArrayList<>();
-        for (String connectId : connectIndexes) {
-            String[] parts = connectId.split(ValueConstants.CONNECT_ID_SPLIT);
-            Channel channel = sessionServer.getChannel(URL.valueOf(parts[0]));
+        for (ConnectId connectId : connectIndexes) {
+            Channel channel = sessionServer.getChannel(URL.valueOf(connectId
+                .clientAddressString()));
             if (channel == null) {
-                connectIds.add(connectId);
+                connectIds.add(connectId.toString());
                 LOGGER.warn("Client connect has not existed!it must be remove!connectId:{}",
                     connectId);
             }
@@ -483,13 +512,26 @@ public class SessionRegistry implements Registry {
             RENEW_LOGGER.debug("sendDatumSnapshot: connectId={}, dataServerIP={}", connectId,
                 dataServerIP);
         }
+        acceptDatumSnapshot(connectId, dataServerIP, connectId);
+    }
+
+    @Override
+    public void sendDatumSnapshot(String connectId, String dataServerIP,
+                                  RenewDatumResult renewDatumResult) {
+        if (RENEW_LOGGER.isDebugEnabled()) {
+            RENEW_LOGGER.debug("sendDatumSnapshot: connectId={}, dataServerIP={}, result={}",
+                connectId, dataServerIP, renewDatumResult);
+        }
+        acceptDatumSnapshot(connectId, dataServerIP, renewDatumResult);
+    }
 
+    private void acceptDatumSnapshot(String connectId, String dataServerIP, Object requestBody) {
         // All write operations to DataServer (pub/unPub/clientoff/renew/snapshot)
         // are handed over to WriteDataAcceptor
         writeDataAcceptor.accept(new WriteDataRequest() {
             @Override
             public Object getRequestBody() {
-                return connectId;
+                return requestBody;
             }
 
             @Override
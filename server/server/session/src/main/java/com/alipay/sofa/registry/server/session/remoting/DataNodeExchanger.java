@@ -79,12 +79,18 @@ public class DataNodeExchanger implements NodeExchanger {
                 EXCHANGE_LOGGER.info("DataNode Exchanger request={},url={}", request.getRequestBody(), url);
             }
 
-            final Object result = sessionClient
-                    .sendSync(url, request.getRequestBody(), request.getTimeout() != null ? request.getTimeout() : sessionServerConfig.getDataNodeExchangeTimeOut());
-            if (result == null) {
-                throw new RequestException("DataNode Exchanger request data get null result!", request);
+            if (null != request.getCallBackHandler()) {
+                sessionClient.sendCallback(url, request.getRequestBody(), request.getCallBackHandler(),
+                        request.getTimeout() != null ? request.getTimeout() : sessionServerConfig.getDataNodeExchangeTimeOut());
+                response = () -> Response.ResultStatus.SUCCESSFUL;
+            } else {
+                final Object result = sessionClient
+                        .sendSync(url, request.getRequestBody(), request.getTimeout() != null ? request.getTimeout() : sessionServerConfig.getDataNodeExchangeTimeOut());
+                if (result == null) {
+                    throw new RequestException("DataNode Exchanger request data get null result!", request);
+                }
+                response = () -> result;
             }
-            response = () -> result;
         } catch (Exception e) {
             LOGGER.error(String.format("Error when request DataNode! Request url=%s, request=%s, msg=%s", url,
                     request.getRequestBody(), e.getMessage()));
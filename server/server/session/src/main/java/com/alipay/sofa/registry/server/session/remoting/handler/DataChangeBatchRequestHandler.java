@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.remoting.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.sessionserver.DataChangeBatchRequest;
+import com.alipay.sofa.registry.common.model.sessionserver.DataChangeRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+
+/**
+ * handle DataChangeBatchRequest entry by entry like DataChangeRequestHandler, the entries which
+ * failed are returned so that the data server could retry them one by one
+ *
+ * @author agent
+ * @version $Id: DataChangeBatchRequestHandler.java, v 0.1 2026-10-18 17:02 agent Exp $
+ */
+public class DataChangeBatchRequestHandler extends DataChangeRequestHandler {
+
+    private static final Logger LOGGER = LoggerFactory
+                                           .getLogger(DataChangeBatchRequestHandler.class);
+
+    @Override
+    public Object reply(Channel channel, Object message) {
+        DataChangeBatchRequest batchRequest = (DataChangeBatchRequest) message;
+        List<DataChangeRequest> changes = batchRequest.getChanges();
+        if (changes == null || changes.isEmpty()) {
+            return CommonResponse.buildSuccessResponse();
+        }
+
+        List<DataChangeRequest> failed = null;
+        for (DataChangeRequest dataChangeRequest : changes) {
+            try {
+                handleDataChange(channel, dataChangeRequest);
+            } catch (Exception e) {
+                LOGGER.error("DataChange batch entry error! Request={}", dataChangeRequest, e);
+                if (failed == null) {
+                    failed = new ArrayList<>();
+                }
+                failed.add(dataChangeRequest);
+            }
+        }
+
+        if (failed == null) {
+            return CommonResponse.buildSuccessResponse();
+        }
+        GenericResponse<List<DataChangeRequest>> response = new GenericResponse<>();
+        response.setSuccess(false);
+        response.setMessage(String.format("%s of %s data changes failed", failed.size(),
+            changes.size()));
+        response.setData(failed);
+        return response;
+    }
+
+    @Override
+    public Class interest() {
+        return DataChangeBatchRequest.class;
+    }
+}
@@ -85,6 +85,23 @@ public class DataChangeRequestHandler extends AbstractClientHandler {
     public Object reply(Channel channel, Object message) {
         DataChangeRequest dataChangeRequest = (DataChangeRequest) message;
 
+        try {
+            handleDataChange(channel, dataChangeRequest);
+        } catch (Exception e) {
+            LOGGER.error("DataChange Request error!", e);
+            throw new RuntimeException("DataChangeRequest Request error!", e);
+        }
+
+        return null;
+    }
+
+    /**
+     * invalidate the datum cache and fetch the new datum if the version of subscribers is behind
+     *
+     * @param channel
+     * @param dataChangeRequest
+     */
+    protected void handleDataChange(Channel channel, DataChangeRequest dataChangeRequest) {
         dataChangeRequest.setDataCenter(dataChangeRequest.getDataCenter());
         dataChangeRequest.setDataInfoId(dataChangeRequest.getDataInfoId());
 
@@ -93,30 +110,20 @@ public class DataChangeRequestHandler extends AbstractClientHandler {
             dataChangeRequest.getDataInfoId(), dataChangeRequest.getDataCenter())));
 
         if (sessionServerConfig.isStopPushSwitch()) {
-            return null;
+            return;
         }
 
-        try {
-            boolean result = sessionInterests.checkInterestVersions(
-                dataChangeRequest.getDataCenter(), dataChangeRequest.getDataInfoId(),
-                dataChangeRequest.getVersion());
-
-            if (!result) {
-                return null;
-            }
-
-            EXCHANGE_LOGGER.info(
-                "Data version has change,and will fetch to update!Request={},URL={}",
-                dataChangeRequest, channel.getRemoteAddress());
-
-            fireChangFetch(dataChangeRequest);
+        boolean result = sessionInterests.checkInterestVersions(dataChangeRequest.getDataCenter(),
+            dataChangeRequest.getDataInfoId(), dataChangeRequest.getVersion());
 
-        } catch (Exception e) {
-            LOGGER.error("DataChange Request error!", e);
-            throw new RuntimeException("DataChangeRequest Request error!", e);
+        if (!result) {
+            return;
         }
 
-        return null;
+        EXCHANGE_LOGGER.info("Data version has change,and will fetch to update!Request={},URL={}",
+            dataChangeRequest, channel.getRemoteAddress());
+
+        fireChangFetch(dataChangeRequest);
     }
 
     /**
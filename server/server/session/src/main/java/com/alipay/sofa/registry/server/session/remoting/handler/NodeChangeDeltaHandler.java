@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.remoting.handler;
+
+import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeDelta;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.session.node.NodeManager;
+import com.alipay.sofa.registry.server.session.node.NodeManagerFactory;
+
+/**
+ * apply node list delta pushed by metaServer, metaServer push the full list when fail is returned
+ *
+ * @author agent
+ * @version $Id: NodeChangeDeltaHandler.java, v 0.1 2026-10-18 16:10 agent Exp $
+ */
+public class NodeChangeDeltaHandler extends AbstractClientHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeChangeDeltaHandler.class);
+
+    @Override
+    public Object reply(Channel channel, Object message) {
+
+        if (!(message instanceof NodeChangeDelta)) {
+            LOGGER.error("Request message type {} is not mach the require data type!", message
+                .getClass().getName());
+            return null;
+        }
+        NodeChangeDelta delta = (NodeChangeDelta) message;
+
+        NodeManager nodeManager = NodeManagerFactory.getNodeManager(delta.getNodeType());
+        if (nodeManager == null || !nodeManager.applyDelta(delta)) {
+            LOGGER.warn("Apply {} node list delta fail, wait for full list!delta:{}",
+                delta.getNodeType(), delta);
+            return CommonResponse.buildFailedResponse("Base version not match");
+        }
+        LOGGER.info("Apply {} node list delta success!delta:{}", delta.getNodeType(), delta);
+        return CommonResponse.buildSuccessResponse();
+    }
+
+    @Override
+    protected NodeType getConnectNodeType() {
+        return NodeType.META;
+    }
+
+    @Override
+    public void received(Channel channel, Object message) {
+
+    }
+
+    @Override
+    public Class interest() {
+        return NodeChangeDelta.class;
+    }
+
+    @Override
+    public HandlerType getType() {
+        return HandlerType.PROCESSER;
+    }
+}
\ No newline at end of file
@@ -28,7 +28,9 @@ import com.alipay.sofa.registry.common.model.DatumSnapshotRequest;
 import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.PublisherDigestUtil;
 import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.node.NodeManager;
 import com.alipay.sofa.registry.server.session.store.DataStore;
 
@@ -41,23 +43,64 @@ public class DefaultRenewService implements RenewService {
 
     /*** store publishers */
     @Autowired
-    private DataStore   sessionDataStore;
+    private DataStore                         sessionDataStore;
 
     /*** calculate data node url */
     @Autowired
-    private NodeManager dataNodeManager;
+    private NodeManager                       dataNodeManager;
+
+    @Autowired
+    private SessionServerConfig               sessionServerConfig;
+
+    /*** renew requests computed last time, reused until publishers or data nodes changed */
+    private final Map<ConnectId, RenewDigest> renewDigests = new ConcurrentHashMap<>();
 
     @Override
     public List<RenewDatumRequest> getRenewDatumRequests(String connectId) {
+        ConnectId id = ConnectId.tryParse(connectId);
+        // versions must be read before computing, so the result will never be newer than the versions recorded
+        long connectVersion = id == null ? -1L : sessionDataStore.getConnectVersion(id);
+        long nodesVersion = dataNodeManager.getNodesVersion();
+        if (connectVersion < 0) {
+            // unknown connection, nothing to compare with, always compute the digests
+            if (id != null) {
+                renewDigests.remove(id);
+            }
+            return computeRenewDatumRequests(connectId);
+        }
+        RenewDigest renewDigest = renewDigests.get(id);
+        if (renewDigest != null && renewDigest.connectVersion == connectVersion
+            && renewDigest.nodesVersion == nodesVersion) {
+            return renewDigest.renewDatumRequests;
+        }
+
+        List<RenewDatumRequest> renewDatumRequests = computeRenewDatumRequests(connectId);
+        renewDigests.put(id, new RenewDigest(connectVersion, nodesVersion, renewDatumRequests));
+        return renewDatumRequests;
+    }
+
+    private List<RenewDatumRequest> computeRenewDatumRequests(String connectId) {
+        List<RenewDatumRequest> renewDatumRequests = null;
         List<DatumSnapshotRequest> datumSnapshotRequests = getDatumSnapshotRequest(connectId);
         if (datumSnapshotRequests != null && !datumSnapshotRequests.isEmpty()) {
-            return datumSnapshotRequests.stream()
+            int bucketCount = sessionServerConfig.getRenewDatumDigestBucketCount();
+            renewDatumRequests = datumSnapshotRequests.stream()
                     .map(datumSnapshotRequest -> new RenewDatumRequest(datumSnapshotRequest.getConnectId(),
                             datumSnapshotRequest.getDataServerIp(), String.valueOf(
-                            PublisherDigestUtil.getDigestValueSum(datumSnapshotRequest.getPublishers()))))
+                            PublisherDigestUtil.getDigestValueSum(datumSnapshotRequest.getPublishers())),
+                            bucketCount > 0 ? PublisherDigestUtil.getDigestValueBuckets(
+                                    datumSnapshotRequest.getPublishers(), bucketCount) : null))
                     .collect(Collectors.toList());
         }
-        return null;
+        return renewDatumRequests;
+    }
+
+    @Override
+    public void clean(String connectId) {
+        ConnectId id = ConnectId.tryParse(connectId);
+        if (id != null) {
+            renewDigests.remove(id);
+        }
     }
 
     @Override
@@ -102,4 +145,47 @@ public class DefaultRenewService implements RenewService {
         }
         return null;
     }
+
+    @Override
+    public DatumSnapshotRequest getDatumSnapshotRequest(String connectId, String dataServerIP,
+                                                        int[] buckets, int bucketCount) {
+        boolean[] included = new boolean[bucketCount];
+        for (int bucket : buckets) {
+            if (bucket >= 0 && bucket < bucketCount) {
+                included[bucket] = true;
+            }
+        }
+        List<Publisher> publishers = new ArrayList<>();
+        Map<String, Publisher> pubMap = sessionDataStore.queryByConnectId(connectId);
+        if (pubMap != null && !pubMap.isEmpty()) {
+            pubMap.values().forEach(publisher -> {
+                int bucket = PublisherDigestUtil.getDigestBucket(publisher.getRegisterId(), bucketCount);
+                if (!included[bucket]) {
+                    return;
+                }
+                Node dataNode = dataNodeManager.getNode(publisher.getDataInfoId());
+                if (dataServerIP.equalsIgnoreCase(dataNode.getNodeUrl().getIpAddress())) {
+                    publishers.add(publisher);
+                }
+            });
+        }
+        // sent even if empty, the data server removes what it has in these buckets
+        return new DatumSnapshotRequest(connectId, dataServerIP, publishers, buckets, bucketCount);
+    }
+
+    private static final class RenewDigest {
+
+        private final long                    connectVersion;
+
+        private final long                    nodesVersion;
+
+        private final List<RenewDatumRequest> renewDatumRequests;
+
+        private RenewDigest(long connectVersion, long nodesVersion,
+                            List<RenewDatumRequest> renewDatumRequests) {
+            this.connectVersion = connectVersion;
+            this.nodesVersion = nodesVersion;
+            this.renewDatumRequests = renewDatumRequests;
+        }
+    }
 }
\ No newline at end of file
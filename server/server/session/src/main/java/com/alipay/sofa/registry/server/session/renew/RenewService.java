@@ -44,5 +44,24 @@ public interface RenewService {
      */
     List<DatumSnapshotRequest> getDatumSnapshotRequest(String connectId);
 
+    /**
+     * Get DatumSnapshotRequest of the publishers in the digest buckets
+     *
+     * @param connectId
+     * @param dataServerIP
+     * @param buckets
+     * @param bucketCount
+     * @return
+     */
+    DatumSnapshotRequest getDatumSnapshotRequest(String connectId, String dataServerIP,
+                                                 int[] buckets, int bucketCount);
+
     DatumSnapshotRequest getDatumSnapshotRequest(String connectId, String dataServerIP);
+
+    /**
+     * Clean the cached renew digest of connectId
+     *
+     * @param connectId
+     */
+    void clean(String connectId);
 }
\ No newline at end of file
@@ -54,6 +54,7 @@ public class ExecutorManager {
 
     private final ThreadPoolExecutor          defaultRequestExecutor;
     private final ThreadPoolExecutor          fetchDataExecutor;
+    private final ThreadPoolExecutor          fetchDataVersionExecutor;
     private final ThreadPoolExecutor          standaloneCheckVersionExecutor;
     private final ThreadPoolExecutor          renNewDataExecutor;
     private final ThreadPoolExecutor          getSessionNodeExecutor;
@@ -117,6 +118,12 @@ public class ExecutorManager {
         fetchDataExecutor = new ThreadPoolExecutor(1, 2/*CONFIG*/, 0, TimeUnit.SECONDS,
             new SynchronousQueue<>(), new NamedThreadFactory("SessionScheduler-fetchData"));
 
+        fetchDataVersionExecutor = new ThreadPoolExecutor(
+            sessionServerConfig.getFetchDataVersionConcurrency(),
+            sessionServerConfig.getFetchDataVersionConcurrency(), 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamedThreadFactory("SessionScheduler-fetchDataVersion", true));
+
         renNewDataExecutor = new ThreadPoolExecutor(1, 2/*CONFIG*/, 0, TimeUnit.SECONDS,
             new SynchronousQueue<>(), new NamedThreadFactory("SessionScheduler-renewData"));
 
@@ -270,6 +277,10 @@ public class ExecutorManager {
             fetchDataExecutor.shutdown();
         }
 
+        if (fetchDataVersionExecutor != null && !fetchDataVersionExecutor.isShutdown()) {
+            fetchDataVersionExecutor.shutdown();
+        }
+
         if (getSessionNodeExecutor != null && !getSessionNodeExecutor.isShutdown()) {
             getSessionNodeExecutor.shutdown();
         }
@@ -307,6 +318,10 @@ public class ExecutorManager {
         }
     }
 
+    public ThreadPoolExecutor getFetchDataVersionExecutor() {
+        return fetchDataVersionExecutor;
+    }
+
     public ThreadPoolExecutor getAccessDataExecutor() {
         return accessDataExecutor;
     }
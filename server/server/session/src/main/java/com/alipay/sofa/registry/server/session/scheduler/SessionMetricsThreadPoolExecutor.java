@@ -70,6 +70,12 @@ public class SessionMetricsThreadPoolExecutor extends ThreadPoolExecutor {
         TaskMetrics.getInstance().registerThreadExecutor(executorName, this);
     }
 
+    @Override
+    protected void terminated() {
+        super.terminated();
+        TaskMetrics.getInstance().unregisterThreadExecutor(executorName);
+    }
+
     @Override
     public String toString() {
         return (new StringBuilder(executorName).append(" ").append(super.toString())).toString();
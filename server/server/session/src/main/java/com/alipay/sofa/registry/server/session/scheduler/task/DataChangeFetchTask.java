@@ -22,8 +22,6 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.function.Predicate;
 
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.common.model.sessionserver.DataChangeRequest;
@@ -34,22 +32,25 @@ import com.alipay.sofa.registry.core.model.ReceivedData;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.Metrics;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.cache.CacheAccessException;
 import com.alipay.sofa.registry.server.session.cache.CacheService;
 import com.alipay.sofa.registry.server.session.cache.DatumKey;
 import com.alipay.sofa.registry.server.session.cache.Key;
 import com.alipay.sofa.registry.server.session.cache.Key.KeyType;
+import com.alipay.sofa.registry.server.session.cache.PushPayloadCache;
 import com.alipay.sofa.registry.server.session.cache.Value;
-import com.alipay.sofa.registry.server.session.converter.ReceivedDataConverter;
 import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
 import com.alipay.sofa.registry.server.session.store.Interests;
 import com.alipay.sofa.registry.server.session.store.ReSubscribers;
+import com.alipay.sofa.registry.server.session.store.SubscriberGroup;
 import com.alipay.sofa.registry.task.batcher.TaskProcessor.ProcessingResult;
 import com.alipay.sofa.registry.task.listener.TaskEvent;
 import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
 import com.alipay.sofa.registry.task.listener.TaskListenerManager;
 import com.alipay.sofa.registry.util.DatumVersionUtil;
+import com.codahale.metrics.Histogram;
 
 /**
  *
@@ -58,11 +59,21 @@ import com.alipay.sofa.registry.util.DatumVersionUtil;
  */
 public class DataChangeFetchTask extends AbstractSessionTask {
 
-    private final static Logger       LOGGER     = LoggerFactory
-                                                     .getLogger(DataChangeFetchTask.class);
+    private final static Logger       LOGGER       = LoggerFactory
+                                                       .getLogger(DataChangeFetchTask.class);
 
-    private static final Logger       taskLogger = LoggerFactory.getLogger(
-                                                     DataChangeFetchTask.class, "[Task]");
+    private static final Logger       taskLogger   = LoggerFactory.getLogger(
+                                                       DataChangeFetchTask.class, "[Task]");
+
+    /**
+     * ms from the datum changed on data server to the change fetched by session
+     */
+    private static final Histogram    NOTIFY_DELAY = Metrics.histogram("session.push.notifyDelay");
+
+    /**
+     * ms from the datum changed on data server to all subscribers pushed
+     */
+    private static final Histogram    PUSH_DELAY   = Metrics.histogram("session.push.pushDelay");
 
     private final SessionServerConfig sessionServerConfig;
 
@@ -79,15 +90,18 @@ public class DataChangeFetchTask extends AbstractSessionTask {
 
     private final CacheService        sessionCacheService;
 
+    private final PushPayloadCache    pushPayloadCache;
+
     public DataChangeFetchTask(SessionServerConfig sessionServerConfig,
                                TaskListenerManager taskListenerManager,
                                ExecutorManager executorManager, Interests sessionInterests,
-                               CacheService sessionCacheService) {
+                               CacheService sessionCacheService, PushPayloadCache pushPayloadCache) {
         this.sessionServerConfig = sessionServerConfig;
         this.taskListenerManager = taskListenerManager;
         this.executorManager = executorManager;
         this.sessionInterests = sessionInterests;
         this.sessionCacheService = sessionCacheService;
+        this.pushPayloadCache = pushPayloadCache;
     }
 
     @Override
@@ -100,69 +114,67 @@ public class DataChangeFetchTask extends AbstractSessionTask {
         Datum datum = getDatumCache();
 
         if (datum != null) {
+            NOTIFY_DELAY.update(System.currentTimeMillis()
+                                - DatumVersionUtil.getRealTimestamp(datum.getVersion()));
+            if (sessionServerConfig.isDeltaPushEnabled()) {
+                pushPayloadCache.recordDatum(datum);
+            }
             PushTaskClosure pushTaskClosure = getTaskClosure(datum.getVersion());
 
             for (ScopeEnum scopeEnum : ScopeEnum.values()) {
-                Map<InetSocketAddress, Map<String, Subscriber>> map = getCache(scopeEnum);
-                if (map != null && !map.isEmpty()) {
+                List<SubscriberGroup> groups = getCache(scopeEnum);
+                if (!groups.isEmpty()) {
                     LOGGER
                         .info(
                             "Get all subscribers to send from cache size:{},which dataInfoId:{} on dataCenter:{},scope:{}",
-                            map.size(), dataChangeRequest.getDataInfoId(),
+                            groups.size(), dataChangeRequest.getDataInfoId(),
                             dataChangeRequest.getDataCenter(), scopeEnum);
-                    for (Entry<InetSocketAddress, Map<String, Subscriber>> entry : map.entrySet()) {
-                        Map<String, Subscriber> subscriberMap = entry.getValue();
-                        if (subscriberMap != null && !subscriberMap.isEmpty()) {
-
-                            //check subscriber push version
-                            Collection<Subscriber> subscribersSend = subscribersVersionCheck(subscriberMap
-                                .values());
-                            if (subscribersSend.isEmpty()) {
-                                continue;
-                            }
-
-                            //remove stopPush subscriber avoid push duplicate
-                            evictReSubscribers(subscribersSend);
-
-                            List<String> subscriberRegisterIdList = new ArrayList<>(
-                                subscriberMap.keySet());
-
-                            Subscriber subscriber = subscriberMap.values().iterator().next();
-                            boolean isOldVersion = !ClientVersion.StoreData.equals(subscriber
-                                .getClientVersion());
-
-                            switch (scopeEnum) {
-                                case zone:
-                                    if (ifLocalDataCenter) {
-                                        if (isOldVersion) {
-                                            fireUserDataElementPushTask(entry.getKey(), datum,
-                                                subscribersSend, pushTaskClosure);
-                                        } else {
-                                            fireReceivedDataMultiPushTask(datum,
-                                                subscriberRegisterIdList, subscribersSend,
-                                                ScopeEnum.zone, subscriber, pushTaskClosure);
-                                        }
+                    for (SubscriberGroup group : groups) {
+                        //check subscriber push version
+                        Collection<Subscriber> subscribersSend = subscribersVersionCheck(group
+                            .getSubscribers());
+                        if (subscribersSend.isEmpty()) {
+                            continue;
+                        }
+
+                        //remove stopPush subscriber avoid push duplicate
+                        evictReSubscribers(subscribersSend);
+
+                        Subscriber subscriber = group.getFirstSubscriber();
+                        boolean isOldVersion = !ClientVersion.StoreData.equals(group
+                            .getClientVersion());
+
+                        switch (scopeEnum) {
+                            case zone:
+                                if (ifLocalDataCenter) {
+                                    if (isOldVersion) {
+                                        fireUserDataElementPushTask(group.getAddress(), datum,
+                                            subscribersSend, pushTaskClosure);
+                                    } else {
+                                        fireReceivedDataMultiPushTask(datum,
+                                            group.newRegisterIdList(), subscribersSend,
+                                            ScopeEnum.zone, subscriber, pushTaskClosure);
                                     }
-                                    break;
-                                case dataCenter:
-                                    if (ifLocalDataCenter) {
-                                        if (isOldVersion) {
-                                            fireUserDataElementMultiPushTask(entry.getKey(), datum,
-                                                subscribersSend, pushTaskClosure);
-                                        } else {
-                                            fireReceivedDataMultiPushTask(datum,
-                                                subscriberRegisterIdList, subscribersSend,
-                                                scopeEnum, subscriber, pushTaskClosure);
-                                        }
+                                }
+                                break;
+                            case dataCenter:
+                                if (ifLocalDataCenter) {
+                                    if (isOldVersion) {
+                                        fireUserDataElementMultiPushTask(group.getAddress(),
+                                            datum, subscribersSend, pushTaskClosure);
+                                    } else {
+                                        fireReceivedDataMultiPushTask(datum,
+                                            group.newRegisterIdList(), subscribersSend,
+                                            scopeEnum, subscriber, pushTaskClosure);
                                     }
-                                    break;
-                                case global:
-                                    fireReceivedDataMultiPushTask(datum, subscriberRegisterIdList,
-                                        subscribersSend, scopeEnum, subscriber, pushTaskClosure);
-                                    break;
-                                default:
-                                    LOGGER.warn("unknown scope, {}", subscriber);
-                            }
+                                }
+                                break;
+                            case global:
+                                fireReceivedDataMultiPushTask(datum, group.newRegisterIdList(),
+                                    subscribersSend, scopeEnum, subscriber, pushTaskClosure);
+                                break;
+                            default:
+                                LOGGER.warn("unknown scope, {}", subscriber);
                         }
                     }
                 }
@@ -177,11 +189,24 @@ public class DataChangeFetchTask extends AbstractSessionTask {
         }
     }
 
-    private Collection<Subscriber> subscribersVersionCheck(Collection<Subscriber> subscribers) {
-        Collection<Subscriber> subscribersSend = new ArrayList<>();
-        for (Subscriber subscriber : subscribers) {
-            if (subscriber.checkVersion(dataChangeRequest.getDataCenter(),
-                dataChangeRequest.getVersion())) {
+    /**
+     * the immutable subscribers of the group are returned as they are if all of them need push
+     */
+    private Collection<Subscriber> subscribersVersionCheck(List<Subscriber> subscribers) {
+        String dataCenter = dataChangeRequest.getDataCenter();
+        Long version = dataChangeRequest.getVersion();
+        int size = subscribers.size();
+        int i = 0;
+        while (i < size && subscribers.get(i).checkVersion(dataCenter, version)) {
+            i++;
+        }
+        if (i == size) {
+            return subscribers;
+        }
+        Collection<Subscriber> subscribersSend = new ArrayList<>(subscribers.subList(0, i));
+        for (i++; i < size; i++) {
+            Subscriber subscriber = subscribers.get(i);
+            if (subscriber.checkVersion(dataCenter, version)) {
                 subscribersSend.add(subscriber);
             }
         }
@@ -197,6 +222,7 @@ public class DataChangeFetchTask extends AbstractSessionTask {
             String dataInfoId = dataChangeRequest.getDataInfoId();
             Long changeVersion = dataChangeRequest.getVersion();
             if (status == ProcessingResult.Success) {
+                PUSH_DELAY.update(System.currentTimeMillis() - DatumVersionUtil.getRealTimestamp(version));
 
                 if (sessionServerConfig.isStopPushSwitch()) {
                     LOGGER.info("Stop Push switch on, dataCenter:{}, dataInfoId:{}, changeVersion:{}, pushVersion:{}, can not be update!",
@@ -232,25 +258,18 @@ public class DataChangeFetchTask extends AbstractSessionTask {
     private void fireReceivedDataMultiPushTask(Datum datum, List<String> subscriberRegisterIdList,
                                                Collection<Subscriber> subscribers, ScopeEnum scopeEnum,
                                                Subscriber subscriber, PushTaskClosure pushTaskClosure) {
-        String dataId = datum.getDataId();
         String clientCell = sessionServerConfig.getClientCell(subscriber.getCell());
-        Predicate<String> zonePredicate = (zone) -> {
-            if (!clientCell.equals(zone)) {
-                if (ScopeEnum.zone == scopeEnum) {
-                    // zone scope subscribe only return zone list
-                    return true;
-
-                } else if (ScopeEnum.dataCenter == scopeEnum || ScopeEnum.global == scopeEnum) {
-                    // disable zone config
-                    return sessionServerConfig.isInvalidForeverZone(zone) && !sessionServerConfig
-                            .isInvalidIgnored(dataId);
-                }
-            }
-            return false;
-        };
-        ReceivedData receivedData = ReceivedDataConverter
-                .getReceivedDataMulti(datum, scopeEnum, subscriberRegisterIdList,
-                        clientCell, zonePredicate);
+        ReceivedData receivedData;
+        if (isDeltaPushSupported(subscribers)) {
+            // publishers keyed by registerId, delta against the version all subscribers hold
+            receivedData = pushPayloadCache.getReceivedDataKeyed(datum,
+                    getDeltaBaseVersion(subscribers), scopeEnum, subscriberRegisterIdList,
+                    clientCell);
+        } else {
+            // data boxes are shared by all subscribers with the same datum version, scope and cell
+            receivedData = pushPayloadCache.getReceivedDataMulti(datum, scopeEnum,
+                    subscriberRegisterIdList, clientCell);
+        }
 
         //trigger push to client node
         Map<ReceivedData, URL> parameter = new HashMap<>();
@@ -263,15 +282,48 @@ public class DataChangeFetchTask extends AbstractSessionTask {
         taskListenerManager.sendTaskEvent(taskEvent);
     }
 
-    private Map<InetSocketAddress, Map<String, Subscriber>> getCache(ScopeEnum scopeEnum) {
-        return sessionInterests.querySubscriberIndex(dataChangeRequest.getDataInfoId(), scopeEnum);
+    private boolean isDeltaPushSupported(Collection<Subscriber> subscribers) {
+        if (!sessionServerConfig.isDeltaPushEnabled()) {
+            return false;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.isDeltaPushSupported()) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private Datum getDatumCache() {
-        // build key
+    private Long getDeltaBaseVersion(Collection<Subscriber> subscribers) {
+        Long baseVersion = null;
+        for (Subscriber subscriber : subscribers) {
+            Long version = subscriber.getDeltaBaseVersion(dataChangeRequest.getDataCenter());
+            if (version == null || (baseVersion != null && !baseVersion.equals(version))) {
+                // subscribers of the client hold different versions, full push
+                return null;
+            }
+            baseVersion = version;
+        }
+        return baseVersion;
+    }
+
+    private List<SubscriberGroup> getCache(ScopeEnum scopeEnum) {
+        return sessionInterests.querySubscriberGroups(dataChangeRequest.getDataInfoId(), scopeEnum);
+    }
+
+    /**
+     * cache key of the changed datum
+     * @return
+     */
+    public Key getDatumCacheKey() {
         DatumKey datumKey = new DatumKey(dataChangeRequest.getDataInfoId(),
             dataChangeRequest.getDataCenter());
-        Key key = new Key(KeyType.OBJ, DatumKey.class.getName(), datumKey);
+        return new Key(KeyType.OBJ, DatumKey.class.getName(), datumKey);
+    }
+
+    private Datum getDatumCache() {
+        // build key
+        Key key = getDatumCacheKey();
 
         // get from cache (it will fetch from backend server)
         Value<Datum> value = null;
@@ -16,7 +16,9 @@
  */
 package com.alipay.sofa.registry.server.session.scheduler.task;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -27,8 +29,10 @@ import com.alipay.sofa.registry.common.model.PushDataRetryRequest;
 import com.alipay.sofa.registry.common.model.store.DataInfo;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.constants.PushConstants;
 import com.alipay.sofa.registry.core.model.DataBox;
 import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.core.model.Result;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.CallbackHandler;
@@ -52,8 +56,8 @@ import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer;
  */
 public class ReceivedDataMultiPushTask extends AbstractSessionTask {
 
-    private static final Logger               LOGGER = LoggerFactory.getLogger("SESSION-PUSH",
-                                                         "[Receive]");
+    private static final Logger               LOGGER         = LoggerFactory.getLogger("SESSION-PUSH",
+                                                                 "[Receive]");
 
     private final SessionServerConfig         sessionServerConfig;
     private final ClientNodeService           clientNodeService;
@@ -69,6 +73,11 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask {
 
     private String                            dataPush;
 
+    /**
+     * older pushes superseded by this one, they get the result of this push
+     */
+    private List<ReceivedDataMultiPushTask>   coalescedTasks = new ArrayList<>();
+
     public ReceivedDataMultiPushTask(SessionServerConfig sessionServerConfig,
                                      ClientNodeService clientNodeService,
                                      ExecutorManager executorManager,
@@ -98,6 +107,11 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask {
                 return;
             }
 
+            if (receivedData.getPublisherData() == null && subscribers != null) {
+                // the client replaces its data with this unkeyed push, no delta can be based on the last one
+                subscribers.forEach(Subscriber::invalidateDeltaBase);
+            }
+
             receivedDataPush = receivedDataMultiPushTaskStrategy
                 .convert2PushData(receivedData, url);
 
@@ -106,6 +120,23 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask {
                 @Override
                 public void onCallback(Channel channel, Object message) {
 
+                    if (isDeltaRejected(message)) {
+                        LOGGER
+                            .warn(
+                                "Push ReceivedData delta rejected, full push next time! dataId:{},group:{},Instance:{},baseVersion:{},version:{},url: {}",
+                                receivedData.getDataId(), receivedData.getGroup(),
+                                receivedData.getInstanceId(), receivedData.getBaseVersion(),
+                                receivedData.getVersion(), url);
+                        if (subscribers != null) {
+                            subscribers.forEach(subscriber -> subscriber
+                                    .invalidateDeltaBase(receivedData.getSegment()));
+                        }
+                        if (taskClosure != null) {
+                            confirmCallBack(false);
+                        }
+                        return;
+                    }
+
                     if (taskClosure != null) {
                         confirmCallBack(true);
                     }
@@ -157,6 +188,12 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask {
         }
     }
 
+    private boolean isDeltaRejected(Object message) {
+        return receivedData.getBaseVersion() != null && message instanceof Result
+               && !((Result) message).isSuccess()
+               && PushConstants.DELTA_MISMATCH.equals(((Result) message).getMessage());
+    }
+
     private void retrySendReceiveData(PushDataRetryRequest pushDataRetryRequest) {
         ///taskClosure null means send task need not confirm
         if (taskClosure == null) {
@@ -280,6 +317,11 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask {
             }
             sb.append("]");
             dataPush = sb.toString();
+        } else if (receivedData != null && receivedData.getPublisherData() != null) {
+            int removed = receivedData.getRemovedPublisherIds() != null ? receivedData
+                .getRemovedPublisherIds().size() : 0;
+            dataPush = "[publishers=" + receivedData.getPublisherData().size() + ",removed="
+                       + removed + ",baseVersion=" + receivedData.getBaseVersion() + "]";
         }
 
         taskClosure = taskEvent.getTaskClosure();
@@ -293,16 +335,86 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask {
         }
     }
 
+    /**
+     * key of the pushes which can be coalesced, the same data to the same subscribers of a client
+     * @return null if the push can not be coalesced with others
+     */
+    public String getCoalesceKey() {
+        if (receivedData == null || url == null || receivedData.getVersion() == null
+            || receivedData.getBaseVersion() != null) {
+            // a delta push must not skip the version it is based on
+            return null;
+        }
+        List<String> registerIds = receivedData.getSubscriberRegistIds() != null ? new ArrayList<>(
+            receivedData.getSubscriberRegistIds()) : new ArrayList<>();
+        Collections.sort(registerIds);
+        return url.getAddressString() + "#" + receivedData.getDataId() + "#"
+               + receivedData.getGroup() + "#" + receivedData.getInstanceId() + "#"
+               + receivedData.getSegment() + "#" + receivedData.getScope() + "#" + registerIds;
+    }
+
+    /**
+     * supersede an older push with the same coalesce key, the older one is not sent,
+     * and confirmed with the result of this push
+     * @param olderTask
+     * @return false if the older push can not be superseded
+     */
+    public boolean coalesce(ReceivedDataMultiPushTask olderTask) {
+        if (olderTask.taskClosure != null && taskClosure == null) {
+            // this push would never confirm the push closure of the older one
+            return false;
+        }
+        if (olderTask.receivedData.getVersion() > receivedData.getVersion()) {
+            return false;
+        }
+        coalescedTasks.add(olderTask);
+        return true;
+    }
+
+    /**
+     * Getter method for property <tt>receivedData</tt>.
+     *
+     * @return property value of receivedData
+     */
+    public ReceivedData getReceivedData() {
+        return receivedData;
+    }
+
+    /**
+     * the push was dropped by the task dispatcher without being sent,
+     * confirm the push closure with failure so it does not wait forever
+     */
+    public void discard() {
+        LOGGER.warn("Push task discarded without being sent, taskId={}", getTaskId());
+        confirmCallBack(false, false);
+    }
+
     private void confirmCallBack(final boolean result) {
+        confirmCallBack(result, true);
+    }
+
+    /**
+     * @param result
+     * @param updateVersion false for the coalesced pushes which were not sent,
+     *                      the push versions of their subscribers are updated by the push sent
+     */
+    private void confirmCallBack(final boolean result, final boolean updateVersion) {
+
+        for (ReceivedDataMultiPushTask coalescedTask : coalescedTasks) {
+            coalescedTask.confirmCallBack(result, false);
+        }
 
         if (taskClosure != null) {
 
             executorManager.getCheckPushExecutor().execute(() -> {
 
                 if (result) {
-                    //change all subscribers push version
-                    subscribers.forEach(subscriber -> subscriber
-                            .checkAndUpdateVersion(receivedData.getSegment(), receivedData.getVersion()));
+                    if (updateVersion) {
+                        //change all subscribers push version, delta can be based on keyed pushes only
+                        boolean deltaBase = receivedData.getPublisherData() != null;
+                        subscribers.forEach(subscriber -> subscriber.checkAndUpdateVersion(
+                                receivedData.getSegment(), receivedData.getVersion(), -1, deltaBase));
+                    }
 
                     taskClosure.run(ProcessingResult.Success, ReceivedDataMultiPushTask.this);
                 } else {
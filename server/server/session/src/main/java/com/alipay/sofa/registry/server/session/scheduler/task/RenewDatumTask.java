@@ -17,6 +17,7 @@
 package com.alipay.sofa.registry.server.session.scheduler.task;
 
 import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
@@ -55,16 +56,21 @@ public class RenewDatumTask extends AbstractSessionTask {
     public void execute() {
 
         try {
-            Boolean result = dataNodeService.renewDatum(renewDatumRequest);
-            if (!result) {
+            RenewDatumResult result = dataNodeService.renewDatum(renewDatumRequest);
+            if (!result.isTheSame()) {
                 RENEW_LOGGER.info(
-                    "Renew datum request to dataNode got digest different! renewDatumRequest={}",
-                    renewDatumRequest);
-
-                // send snapshot datum for the corresponding connId
-                sessionRegistry.sendDatumSnapshot(renewDatumRequest.getConnectId(),
-                    renewDatumRequest.getDataServerIP());
-
+                    "Renew datum request to dataNode got digest different! renewDatumRequest={}, result={}",
+                    renewDatumRequest, result);
+
+                if (result.getDiffBuckets() != null) {
+                    // send snapshot of the different buckets only
+                    sessionRegistry.sendDatumSnapshot(renewDatumRequest.getConnectId(),
+                        renewDatumRequest.getDataServerIP(), result);
+                } else {
+                    // send snapshot datum for the corresponding connId
+                    sessionRegistry.sendDatumSnapshot(renewDatumRequest.getConnectId(),
+                        renewDatumRequest.getDataServerIP());
+                }
             }
         } catch (Exception e) {
             RENEW_LOGGER.error(String.format(
@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.session.store;
 
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 
 import java.util.Collection;
@@ -54,6 +55,13 @@ public interface DataStore extends DataManager<Publisher, String, String> {
      * get all publishers group by connectId
      * @return
      */
-    Map<String/*connectId*/, Map<String/*registerId*/, Publisher>> getConnectPublishers();
+    Map<ConnectId, Map<String/*registerId*/, Publisher>> getConnectPublishers();
+
+    /**
+     * get modification version of publishers by connectId, changed whenever a publisher of the connectId is added or removed
+     * @param connectId
+     * @return the version, -1 if the connectId is unknown: no publisher has been added or it has been deleted
+     */
+    long getConnectVersion(ConnectId connectId);
 
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
 
@@ -87,6 +88,15 @@ public interface Interests extends DataManager<Subscriber, String, String> {
     Map<InetSocketAddress, Map<String, Subscriber>> querySubscriberIndex(String dataInfoId,
                                                                          ScopeEnum scope);
 
+    /**
+     * get subscribers with specify dataInfo and scope, grouped by source InetSocketAddress and client version,
+     * the groups are immutable and shared until subscribers of the dataInfoId change
+     * @param dataInfoId
+     * @param scope
+     * @return
+     */
+    List<SubscriberGroup> querySubscriberGroups(String dataInfoId, ScopeEnum scope);
+
     /**
      * get subscriber by dataInfoId and registerId
      * @param registerId
@@ -99,7 +109,7 @@ public interface Interests extends DataManager<Subscriber, String, String> {
      * get all subscribers group by connectId
      * @return
      */
-    Map<String/*connectId*/, Map<String/*registerId*/, Subscriber>> getConnectSubscribers();
+    Map<ConnectId, Map<String/*registerId*/, Subscriber>> getConnectSubscribers();
 
     List<String> getDataCenters();
 }
\ No newline at end of file
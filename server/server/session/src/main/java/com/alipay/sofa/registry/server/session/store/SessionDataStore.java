@@ -24,9 +24,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Publisher;
-import com.alipay.sofa.registry.common.model.store.WordCache;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 
@@ -36,19 +35,24 @@ import com.alipay.sofa.registry.log.LoggerFactory;
  */
 public class SessionDataStore implements DataStore {
 
-    private static final Logger                                               LOGGER        = LoggerFactory
-                                                                                                .getLogger(SessionDataStore.class);
-    private final ReentrantReadWriteLock                                      readWriteLock = new ReentrantReadWriteLock();
-    private final Lock                                                        write         = readWriteLock
-                                                                                                .writeLock();
+    private static final Logger                                               LOGGER            = LoggerFactory
+                                                                                                    .getLogger(SessionDataStore.class);
+    private final ReentrantReadWriteLock                                      readWriteLock     = new ReentrantReadWriteLock();
+    private final Lock                                                        write             = readWriteLock
+                                                                                                    .writeLock();
 
     /**
      * publisher store
      */
-    private Map<String/*dataInfoId*/, Map<String/*registerId*/, Publisher>> registry      = new ConcurrentHashMap<>();
+    private Map<String/*dataInfoId*/, Map<String/*registerId*/, Publisher>> registry          = new ConcurrentHashMap<>();
 
     /*** index */
-    private Map<String/*connectId*/, Map<String/*registerId*/, Publisher>>  connectIndex  = new ConcurrentHashMap<>();
+    private Map<ConnectId, Map<String/*registerId*/, Publisher>>             connectIndex      = new ConcurrentHashMap<>();
+
+    /*** modification version of connectIndex */
+    private Map<ConnectId, Long>                                              connectVersions   = new ConcurrentHashMap<>();
+
+    private final AtomicLong                                                  connectVersionSeq = new AtomicLong();
 
     @Override
     public void add(Publisher publisher) {
@@ -144,26 +148,25 @@ public class SessionDataStore implements DataStore {
 
     @Override
     public Map<String, Publisher> queryByConnectId(String connectId) {
-        return connectIndex.get(connectId);
+        ConnectId id = ConnectId.tryParse(connectId);
+        return id == null ? null : connectIndex.get(id);
     }
 
     @Override
     public boolean deleteByConnectId(String connectId) {
         write.lock();
         try {
+            ConnectId id = ConnectId.parse(connectId);
             for (Map<String, Publisher> map : registry.values()) {
                 for (Iterator it = map.values().iterator(); it.hasNext();) {
                     Publisher publisher = (Publisher) it.next();
-                    if (publisher != null
-                        && connectId.equals(WordCache.getInstance().getWordCache(
-                            publisher.getSourceAddress().getAddressString()
-                                    + ValueConstants.CONNECT_ID_SPLIT
-                                    + publisher.getTargetAddress().getAddressString()))) {
+                    if (publisher != null && id.equals(publisher.connectId())) {
                         it.remove();
                     }
                 }
             }
-            connectIndex.remove(connectId);
+            connectIndex.remove(id);
+            connectVersions.remove(id);
             return true;
         } catch (Exception e) {
             LOGGER.error("Delete publisher by connectId {} error!", connectId, e);
@@ -213,9 +216,7 @@ public class SessionDataStore implements DataStore {
     }
 
     private void addToConnectIndex(Publisher publisher) {
-        String connectId = WordCache.getInstance().getWordCache(
-            publisher.getSourceAddress().getAddressString() + ValueConstants.CONNECT_ID_SPLIT
-                    + publisher.getTargetAddress().getAddressString());
+        ConnectId connectId = publisher.connectId();
 
         Map<String/*registerId*/, Publisher> publisherMap = connectIndex.get(connectId);
         if (publisherMap == null) {
@@ -227,22 +228,27 @@ public class SessionDataStore implements DataStore {
         }
 
         publisherMap.put(publisher.getRegisterId(), publisher);
+        connectVersions.put(connectId, connectVersionSeq.incrementAndGet());
     }
 
     private void removeFromConnectIndex(Publisher publisher) {
-        String connectId = WordCache.getInstance().getWordCache(
-            publisher.getSourceAddress().getAddressString() + ValueConstants.CONNECT_ID_SPLIT
-                    + publisher.getTargetAddress().getAddressString());
+        ConnectId connectId = publisher.connectId();
         Map<String/*registerId*/, Publisher> publisherMap = connectIndex.get(connectId);
         if (publisherMap != null) {
             publisherMap.remove(publisher.getRegisterId());
+            connectVersions.put(connectId, connectVersionSeq.incrementAndGet());
         } else {
             LOGGER.warn("ConnectId {} not existed in Index to remove!", connectId);
         }
     }
 
     @Override
-    public Map<String, Map<String, Publisher>> getConnectPublishers() {
+    public Map<ConnectId, Map<String, Publisher>> getConnectPublishers() {
         return connectIndex;
     }
+
+    @Override
+    public long getConnectVersion(ConnectId connectId) {
+        return connectVersions.getOrDefault(connectId, -1L);
+    }
 }
\ No newline at end of file
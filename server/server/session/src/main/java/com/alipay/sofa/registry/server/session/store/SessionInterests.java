@@ -17,19 +17,24 @@
 package com.alipay.sofa.registry.server.session.store;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
-import com.alipay.sofa.registry.common.model.constants.ValueConstants;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.alipay.sofa.registry.common.model.store.BaseInfo.ClientVersion;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.WordCache;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
@@ -49,11 +54,12 @@ public class SessionInterests implements Interests, ReSubscribers {
     private static final Logger                                                                             LOGGER            = LoggerFactory
                                                                                                                                   .getLogger(SessionInterests.class);
 
-    private final ReentrantReadWriteLock                                                                    readWriteLock     = new ReentrantReadWriteLock();
-    private final Lock                                                                                      read              = readWriteLock
-                                                                                                                                  .readLock();
-    private final Lock                                                                                      write             = readWriteLock
-                                                                                                                                  .writeLock();
+    private static final int                                                                                LOCK_STRIPES      = 64;
+
+    /**
+     * locks striped by dataInfoId, guard interests and resultIndex of the dataInfoIds in the stripe
+     */
+    private final ReentrantReadWriteLock[]                                                                  locks             = new ReentrantReadWriteLock[LOCK_STRIPES];
 
     @Autowired
     private SessionServerConfig                                                                             sessionServerConfig;
@@ -63,10 +69,16 @@ public class SessionInterests implements Interests, ReSubscribers {
      */
     private ConcurrentHashMap<String/*dataInfoId*/, Map<String/*registerId*/, Subscriber>>                interests         = new ConcurrentHashMap<>();
 
-    private Map<String/*connectId*/, Map<String/*registerId*/, Subscriber>>                               connectIndex      = new ConcurrentHashMap<>();
+    private Map<ConnectId, Map<String/*registerId*/, Subscriber>>                                          connectIndex      = new ConcurrentHashMap<>();
 
     private Map<SubscriberResult, Map<InetSocketAddress, Map<String, Subscriber>>>                          resultIndex       = new ConcurrentHashMap<>();
 
+    /**
+     * copy-on-write subscriber groups for push, built from resultIndex on query,
+     * dropped whenever subscribers of the dataInfoId change
+     */
+    private Map<String/*dataInfoId*/, Map<ScopeEnum, List<SubscriberGroup>>>                               groupIndex        = new ConcurrentHashMap<>();
+
     /**
      * store subscriber interest dataInfo version belong one dataCenter
      */
@@ -74,10 +86,17 @@ public class SessionInterests implements Interests, ReSubscribers {
 
     private Map<String/*dataInfoId*/, Map<String/*registerId*/, Subscriber>>                              stopPushInterests = new ConcurrentHashMap<>();
 
+    public SessionInterests() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
     @Override
     public void add(Subscriber subscriber) {
         Subscriber.internSubscriber(subscriber);
 
+        Lock write = writeLock(subscriber.getDataInfoId());
         write.lock();
         try {
             Map<String, Subscriber> subscribers = interests.get(subscriber.getDataInfoId());
@@ -116,6 +135,7 @@ public class SessionInterests implements Interests, ReSubscribers {
     @Override
     public boolean deleteById(String registerId, String dataInfoId) {
 
+        Lock write = writeLock(dataInfoId);
         write.lock();
         try {
 
@@ -151,31 +171,37 @@ public class SessionInterests implements Interests, ReSubscribers {
 
     @Override
     public boolean deleteByConnectId(String connectId) {
-        write.lock();
         try {
-            for (Map<String, Subscriber> map : interests.values()) {
-                for (Iterator it = map.values().iterator(); it.hasNext();) {
-                    Subscriber subscriber = (Subscriber) it.next();
-                    if (connectId.equals(WordCache.getInstance().getWordCache(
-                        subscriber.getSourceAddress().getAddressString()
-                                + ValueConstants.CONNECT_ID_SPLIT
-                                + subscriber.getTargetAddress().getAddressString()))) {
-
-                        it.remove();
-                        if (sessionServerConfig.isStopPushSwitch()) {
-                            deleteReSubscriber(subscriber);
-                        }
-
-                        invalidateIndex(subscriber);
-                    }
+            ConnectId id = ConnectId.parse(connectId);
+            // only subscribers of the connection are touched, each under the lock of its dataInfoId
+            Map<String/*registerId*/, Subscriber> subscriberMap = connectIndex.get(id);
+            if (subscriberMap != null) {
+                for (Subscriber subscriber : new ArrayList<>(subscriberMap.values())) {
+                    deleteOfConnect(subscriber);
                 }
             }
             //force remove connectId
-            invalidateConnectIndex(connectId);
+            invalidateConnectIndex(id);
             return true;
         } catch (Exception e) {
             LOGGER.error("Delete subscriber by connectId {} error!", connectId, e);
             return false;
+        }
+    }
+
+    private void deleteOfConnect(Subscriber subscriber) {
+        Lock write = writeLock(subscriber.getDataInfoId());
+        write.lock();
+        try {
+            Map<String, Subscriber> subscribers = interests.get(subscriber.getDataInfoId());
+            // skip if it has been overwritten or removed meanwhile
+            if (subscribers != null && subscribers.remove(subscriber.getRegisterId(), subscriber)) {
+                if (sessionServerConfig.isStopPushSwitch()) {
+                    deleteReSubscriber(subscriber);
+                }
+
+                invalidateIndex(subscriber);
+            }
         } finally {
             write.unlock();
         }
@@ -192,7 +218,8 @@ public class SessionInterests implements Interests, ReSubscribers {
 
     @Override
     public Map<String, Subscriber> queryByConnectId(String connectId) {
-        return connectIndex.get(connectId);
+        ConnectId id = ConnectId.tryParse(connectId);
+        return id == null ? null : connectIndex.get(id);
     }
 
     public Subscriber queryById(String registerId, String dataInfoId) {
@@ -242,6 +269,7 @@ public class SessionInterests implements Interests, ReSubscribers {
 
     @Override
     public boolean checkAndUpdateInterestVersions(String dataCenter, String dataInfoId, Long version) {
+        Lock read = readLock(dataInfoId);
         read.lock();
         try {
             dataInfoId = WordCache.getInstance().getWordCache(dataInfoId);
@@ -286,34 +314,32 @@ public class SessionInterests implements Interests, ReSubscribers {
     private void addIndex(Subscriber subscriber) {
         addConnectIndex(subscriber);
         addResultIndex(subscriber);
+        invalidateGroupIndex(subscriber);
     }
 
     private void removeIndex(Subscriber subscriber) {
         removeConnectIndex(subscriber);
         removeResultIndex(subscriber);
+        invalidateGroupIndex(subscriber);
     }
 
     private void invalidateIndex(Subscriber subscriber) {
         removeConnectIndex(subscriber);
         invalidateResultIndex(subscriber);
+        invalidateGroupIndex(subscriber);
     }
 
     private void addConnectIndex(Subscriber subscriber) {
-        String connectId = subscriber.getSourceAddress().getAddressString()
-                           + ValueConstants.CONNECT_ID_SPLIT
-                           + subscriber.getTargetAddress().getAddressString();
-        connectId = WordCache.getInstance().getWordCache(connectId);
+        ConnectId connectId = subscriber.connectId();
 
-        Map<String/*registerId*/, Subscriber> subscriberMap = connectIndex.get(connectId);
-        if (subscriberMap == null) {
-            Map<String/*registerId*/, Subscriber> newSubscriberMap = new ConcurrentHashMap<>();
-            subscriberMap = connectIndex.putIfAbsent(connectId, newSubscriberMap);
+        // not guarded by the dataInfoId lock, compute is atomic with invalidateConnectIndex
+        connectIndex.compute(connectId, (k, subscriberMap) -> {
             if (subscriberMap == null) {
-                subscriberMap = newSubscriberMap;
+                subscriberMap = new ConcurrentHashMap<>();
             }
-        }
-
-        subscriberMap.put(subscriber.getRegisterId(), subscriber);
+            subscriberMap.put(subscriber.getRegisterId(), subscriber);
+            return subscriberMap;
+        });
     }
 
     private void addResultIndex(Subscriber subscriber) {
@@ -345,9 +371,7 @@ public class SessionInterests implements Interests, ReSubscribers {
     }
 
     private void removeConnectIndex(Subscriber subscriber) {
-        String connectId = subscriber.getSourceAddress().getAddressString()
-                           + ValueConstants.CONNECT_ID_SPLIT
-                           + subscriber.getTargetAddress().getAddressString();
+        ConnectId connectId = subscriber.connectId();
         Map<String/*registerId*/, Subscriber> subscriberMap = connectIndex.get(connectId);
         if (subscriberMap != null) {
             subscriberMap.remove(subscriber.getRegisterId());
@@ -375,8 +399,14 @@ public class SessionInterests implements Interests, ReSubscribers {
         }
     }
 
-    private void invalidateConnectIndex(String connectId) {
-        connectIndex.remove(connectId);
+    private void invalidateConnectIndex(ConnectId connectId) {
+        // keep it if subscribers are added concurrently, cleanClientConnect will remove them later
+        connectIndex.computeIfPresent(connectId,
+            (k, subscriberMap) -> subscriberMap.isEmpty() ? null : subscriberMap);
+    }
+
+    private void invalidateGroupIndex(Subscriber subscriber) {
+        groupIndex.remove(subscriber.getDataInfoId());
     }
 
     private void invalidateResultIndex(Subscriber subscriber) {
@@ -398,6 +428,7 @@ public class SessionInterests implements Interests, ReSubscribers {
     @Override
     public Map<InetSocketAddress, Map<String, Subscriber>> querySubscriberIndex(String dataInfoId,
                                                                                 ScopeEnum scope) {
+        Lock read = readLock(dataInfoId);
         read.lock();
         try {
             SubscriberResult subscriberResult = new SubscriberResult(dataInfoId, scope);
@@ -413,6 +444,55 @@ public class SessionInterests implements Interests, ReSubscribers {
 
     }
 
+    @Override
+    public List<SubscriberGroup> querySubscriberGroups(String dataInfoId, ScopeEnum scope) {
+        Map<ScopeEnum, List<SubscriberGroup>> groups = groupIndex.get(dataInfoId);
+        if (groups == null) {
+            Lock read = readLock(dataInfoId);
+            read.lock();
+            try {
+                // writers drop the groups holding the write lock, groups built here are up to date
+                groups = groupIndex.computeIfAbsent(dataInfoId, this::buildSubscriberGroups);
+            } finally {
+                read.unlock();
+            }
+            if (groups == null) {
+                return Collections.emptyList();
+            }
+        }
+        return groups.get(scope);
+    }
+
+    private Map<ScopeEnum, List<SubscriberGroup>> buildSubscriberGroups(String dataInfoId) {
+        Map<ScopeEnum, List<SubscriberGroup>> groups = new EnumMap<>(ScopeEnum.class);
+        boolean empty = true;
+        for (ScopeEnum scope : ScopeEnum.values()) {
+            List<SubscriberGroup> scopeGroups = new ArrayList<>();
+            Map<InetSocketAddress, Map<String, Subscriber>> mapSub = resultIndex
+                .get(new SubscriberResult(dataInfoId, scope));
+            if (mapSub != null) {
+                for (Entry<InetSocketAddress, Map<String, Subscriber>> entry : mapSub.entrySet()) {
+                    // subscribers of one client are almost always the same version
+                    Map<ClientVersion, List<Subscriber>> versionMap = new HashMap<>(2);
+                    for (Subscriber subscriber : entry.getValue().values()) {
+                        versionMap.computeIfAbsent(subscriber.getClientVersion(),
+                            k -> new ArrayList<>()).add(subscriber);
+                    }
+                    for (Entry<ClientVersion, List<Subscriber>> versionEntry : versionMap
+                        .entrySet()) {
+                        List<Subscriber> subscribers = versionEntry.getValue();
+                        scopeGroups.add(new SubscriberGroup(scope, entry.getKey(), versionEntry
+                            .getKey(), subscribers.toArray(new Subscriber[subscribers.size()])));
+                    }
+                }
+            }
+            empty &= scopeGroups.isEmpty();
+            groups.put(scope, Collections.unmodifiableList(scopeGroups));
+        }
+        // not cached if there is no subscriber
+        return empty ? null : groups;
+    }
+
     @Override
     public void addReSubscriber(Subscriber subscriber) {
         if (sessionServerConfig.isStopPushSwitch()) {
@@ -455,7 +535,7 @@ public class SessionInterests implements Interests, ReSubscribers {
     }
 
     @Override
-    public Map<String, Map<String, Subscriber>> getConnectSubscribers() {
+    public Map<ConnectId, Map<String, Subscriber>> getConnectSubscribers() {
         return connectIndex;
     }
 
@@ -472,6 +552,14 @@ public class SessionInterests implements Interests, ReSubscribers {
         this.sessionServerConfig = sessionServerConfig;
     }
 
+    private Lock readLock(String dataInfoId) {
+        return locks[Math.abs(dataInfoId.hashCode() % LOCK_STRIPES)].readLock();
+    }
+
+    private Lock writeLock(String dataInfoId) {
+        return locks[Math.abs(dataInfoId.hashCode() % LOCK_STRIPES)].writeLock();
+    }
+
     @Override
     public List<String> getDataCenters() {
         if (interestVersions != null) {
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.store;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.alipay.sofa.registry.common.model.store.BaseInfo.ClientVersion;
+import com.alipay.sofa.registry.common.model.store.Subscriber;
+import com.alipay.sofa.registry.core.model.ScopeEnum;
+
+/**
+ * immutable subscribers of one dataInfoId with the same scope, client address and client version,
+ * rebuilt by SessionInterests after subscribe or unsubscribe, shared by all pushes in between
+ *
+ * @author agent
+ * @version $Id: SubscriberGroup.java, v 0.1 2026-10-18 15:20 agent Exp $
+ */
+public final class SubscriberGroup {
+
+    private final ScopeEnum         scope;
+
+    private final InetSocketAddress address;
+
+    private final ClientVersion     clientVersion;
+
+    private final List<Subscriber>  subscribers;
+
+    private final String[]          registerIds;
+
+    public SubscriberGroup(ScopeEnum scope, InetSocketAddress address,
+                           ClientVersion clientVersion, Subscriber[] subscribers) {
+        this.scope = scope;
+        this.address = address;
+        this.clientVersion = clientVersion;
+        this.subscribers = Collections.unmodifiableList(Arrays.asList(subscribers));
+        this.registerIds = new String[subscribers.length];
+        for (int i = 0; i < subscribers.length; i++) {
+            registerIds[i] = subscribers[i].getRegisterId();
+        }
+    }
+
+    /**
+     * Getter method for property <tt>scope</tt>.
+     *
+     * @return property value of scope
+     */
+    public ScopeEnum getScope() {
+        return scope;
+    }
+
+    /**
+     * Getter method for property <tt>address</tt>.
+     *
+     * @return property value of address
+     */
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * Getter method for property <tt>clientVersion</tt>.
+     *
+     * @return property value of clientVersion
+     */
+    public ClientVersion getClientVersion() {
+        return clientVersion;
+    }
+
+    /**
+     * Getter method for property <tt>subscribers</tt>.
+     *
+     * @return property value of subscribers, unmodifiable
+     */
+    public List<Subscriber> getSubscribers() {
+        return subscribers;
+    }
+
+    /**
+     * the first subscriber, stands for the client of the group
+     * @return
+     */
+    public Subscriber getFirstSubscriber() {
+        return subscribers.get(0);
+    }
+
+    /**
+     * register ids of the subscribers, a new list since it goes into the pushed data
+     * @return
+     */
+    public List<String> newRegisterIdList() {
+        return new ArrayList<>(Arrays.asList(registerIds));
+    }
+
+    /**
+     * size of subscribers
+     * @return
+     */
+    public int size() {
+        return registerIds.length;
+    }
+
+    @Override
+    public String toString() {
+        return "SubscriberGroup{" + "scope=" + scope + ", address=" + address + ", clientVersion="
+               + clientVersion + ", size=" + registerIds.length + '}';
+    }
+}
\ No newline at end of file
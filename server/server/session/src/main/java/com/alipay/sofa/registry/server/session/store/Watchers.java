@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.session.store;
 
+import com.alipay.sofa.registry.common.model.store.ConnectId;
 import com.alipay.sofa.registry.common.model.store.Watcher;
 
 import java.util.Collection;
@@ -47,5 +48,5 @@ public interface Watchers extends DataManager<Watcher, String, String> {
      */
     boolean checkWatcherVersions(String dataInfoId, Long version);
 
-    Map<String, Map<String, Watcher>> getConnectWatchers();
+    Map<ConnectId, Map<String, Watcher>> getConnectWatchers();
 }
\ No newline at end of file
@@ -108,6 +108,8 @@ public class DefaultSubscriberRegisterFetchTaskStrategy implements
         parameter.put(receivedData, subscriber.getSourceAddress());
         TaskEvent taskEvent = new TaskEvent(parameter,
             TaskEvent.TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
+        taskEvent.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS,
+            Collections.singletonList(subscriber));
         taskLogger.info("send {} taskURL:{},taskScope:{},taskId:{}", taskEvent.getTaskType(),
             subscriber.getSourceAddress(), receivedData.getScope(), taskEvent.getTaskId());
         taskListenerManager.sendTaskEvent(taskEvent);
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.cache;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.server.session.cache.Key.KeyType;
+import com.alipay.sofa.registry.server.session.node.service.DataNodeService;
+
+/**
+ *
+ * @author agent
+ * @version $Id: DatumCacheGeneratorTest.java, v 0.1 2026-10-18 22:40 agent Exp $
+ */
+public class DatumCacheGeneratorTest {
+
+    @Mock
+    private DataNodeService                dataNodeService;
+
+    @InjectMocks
+    private DatumCacheGenerator            datumCacheGenerator;
+
+    private final Map<String, Set<String>> fetched = new HashMap<>();
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+        when(dataNodeService.fetchDataCenterBatch(any(Collection.class), anyString())).thenAnswer(
+            invocation -> {
+                Collection<String> dataInfoIds = (Collection<String>) invocation.getArguments()[0];
+                String dataCenter = (String) invocation.getArguments()[1];
+                fetched.computeIfAbsent(dataCenter, k -> new HashSet<>()).addAll(dataInfoIds);
+                Map<String, Datum> datums = new HashMap<>();
+                for (String dataInfoId : dataInfoIds) {
+                    // no datum of "b"
+                    datums.put(dataInfoId, "b".equals(dataInfoId) ? null : new Datum(dataInfoId,
+                        dataCenter));
+                }
+                return datums;
+            });
+    }
+
+    @Test
+    public void testGeneratePayloads() {
+        Key a1 = key("a", "dc1");
+        Key b1 = key("b", "dc1");
+        Key a2 = key("a", "dc2");
+        Key invalid = key("c", "");
+
+        Map<Key, Value> values = datumCacheGenerator.generatePayloads(Arrays.asList(a1, b1, a2,
+            invalid));
+
+        // one fetch for each dataCenter, the invalid key is skipped
+        Assert.assertEquals(2, fetched.size());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b")), fetched.get("dc1"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a")), fetched.get("dc2"));
+
+        Assert.assertEquals(3, values.size());
+        Assert.assertEquals("dc1", ((Datum) values.get(a1).getPayload()).getDataCenter());
+        Assert.assertEquals("dc2", ((Datum) values.get(a2).getPayload()).getDataCenter());
+        Assert.assertNull(values.get(b1).getPayload());
+        Assert.assertFalse(values.containsKey(invalid));
+    }
+
+    @Test
+    public void testGenerateEmpty() {
+        Assert.assertTrue(datumCacheGenerator.generatePayloads(Arrays.asList(key("", "dc1")))
+            .isEmpty());
+        Assert.assertTrue(fetched.isEmpty());
+    }
+
+    private Key key(String dataInfoId, String dataCenter) {
+        return new Key(KeyType.OBJ, DatumKey.class.getName(), new DatumKey(dataInfoId, dataCenter));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.core.model.ScopeEnum;
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfigBean;
+
+/**
+ *
+ * @author agent
+ * @version $Id: PushPayloadCacheTest.java, v 0.1 2026-10-18 12:10 agent Exp $
+ */
+public class PushPayloadCacheTest {
+
+    private static final String     DATA_INFO_ID = "test#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+
+    private static final String     DATA_CENTER  = "DefaultDataCenter";
+
+    private SessionServerConfigBean sessionServerConfig;
+
+    private PushPayloadCache        pushPayloadCache;
+
+    @Before
+    public void before() {
+        sessionServerConfig = new SessionServerConfigBean(null);
+        pushPayloadCache = new PushPayloadCache();
+        pushPayloadCache.setSessionServerConfig(sessionServerConfig);
+        pushPayloadCache.init();
+    }
+
+    @After
+    public void after() {
+        pushPayloadCache.destroy();
+    }
+
+    @Test
+    public void testMetrics() {
+        Assert.assertTrue(Metrics.getRegistry().getGauges().containsKey("pushPayloadCache.size"));
+        pushPayloadCache.destroy();
+        Assert.assertTrue(Metrics.getRegistry().getMetrics().keySet().stream()
+            .noneMatch(name -> name.startsWith("pushPayloadCache.")));
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        Datum datum = newDatum(1L, "p1", "p2");
+        ReceivedData first = get(datum);
+        ReceivedData second = get(datum);
+        Assert.assertSame(first.getData(), second.getData());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("A", "B")), first.getData().keySet());
+        Assert.assertEquals(1, pushPayloadCache.getStats().hitCount());
+        Assert.assertEquals(1, pushPayloadCache.getStats().missCount());
+
+        // other version, other scope
+        get(newDatum(2L, "p1", "p2"));
+        Assert.assertEquals(2, pushPayloadCache.getStats().missCount());
+        Assert.assertEquals(Collections.singleton("A"), pushPayloadCache
+            .getReceivedDataMulti(datum, ScopeEnum.zone, Collections.singletonList("s1"), "A")
+            .getData().keySet());
+        Assert.assertEquals(3, pushPayloadCache.getStats().missCount());
+    }
+
+    @Test
+    public void testZoneConfigChange() {
+        Datum datum = newDatum(1L, "p1", "p2");
+        Assert.assertEquals(2, get(datum).getData().size());
+
+        // payloads filtered with the old config are not served
+        sessionServerConfig.setInvalidForeverZones("B");
+        Assert.assertEquals(Collections.singleton("A"), get(datum).getData().keySet());
+        Assert.assertEquals(2, pushPayloadCache.getStats().missCount());
+
+        sessionServerConfig.setInvalidIgnoreDataidRegex("^test$");
+        Assert.assertEquals(2, get(datum).getData().size());
+        Assert.assertEquals(3, pushPayloadCache.getStats().missCount());
+    }
+
+    @Test
+    public void testZonePredicateFromKey() {
+        // the config changes after the key is built, the filter follows the key
+        PushPayloadKey key = new PushPayloadKey(DATA_INFO_ID, DATA_CENTER, 1L,
+            ScopeEnum.dataCenter, "A", "B;C", false, -1L);
+        sessionServerConfig.setInvalidForeverZones("C;D");
+        Predicate<String> predicate = PushPayloadCache.zonePredicate(key);
+        Assert.assertFalse(predicate.test("A"));
+        Assert.assertTrue(predicate.test("B"));
+        Assert.assertTrue(predicate.test("C"));
+        Assert.assertFalse(predicate.test("D"));
+
+        Predicate<String> ignored = PushPayloadCache.zonePredicate(new PushPayloadKey(
+            DATA_INFO_ID, DATA_CENTER, 1L, ScopeEnum.dataCenter, "A", "B", true, -1L));
+        Assert.assertFalse(ignored.test("B"));
+
+        Predicate<String> zoneScope = PushPayloadCache.zonePredicate(new PushPayloadKey(
+            DATA_INFO_ID, DATA_CENTER, 1L, ScopeEnum.zone, "A", "", false, -1L));
+        Assert.assertFalse(zoneScope.test("A"));
+        Assert.assertTrue(zoneScope.test("B"));
+    }
+
+    @Test
+    public void testDelta() {
+        Datum base = newDatum(1L, "p1", "p2", "p3");
+        pushPayloadCache.recordDatum(base);
+        Datum datum = newDatum(2L, "p1", "p2", "p4");
+
+        ReceivedData delta = getKeyed(datum, 1L);
+        Assert.assertEquals(Long.valueOf(1L), delta.getBaseVersion());
+        Assert.assertEquals(Collections.singleton("p4"), delta.getPublisherData().keySet());
+        Assert.assertEquals(Collections.singletonList("p3"), delta.getRemovedPublisherIds());
+        Assert.assertEquals(1, pushPayloadCache.getDeltaStats().missCount());
+
+        getKeyed(datum, 1L);
+        Assert.assertEquals(1, pushPayloadCache.getDeltaStats().hitCount());
+
+        // base version not recorded, full push
+        ReceivedData full = getKeyed(newDatum(3L, "p1", "p4"), 2L);
+        Assert.assertNull(full.getBaseVersion());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("p1", "p4")), full.getPublisherData()
+            .keySet());
+    }
+
+    private ReceivedData get(Datum datum) {
+        return pushPayloadCache.getReceivedDataMulti(datum, ScopeEnum.dataCenter,
+            Collections.singletonList("s1"), "A");
+    }
+
+    private ReceivedData getKeyed(Datum datum, Long baseVersion) {
+        return pushPayloadCache.getReceivedDataKeyed(datum, baseVersion, ScopeEnum.dataCenter,
+            Collections.singletonList("s1"), "A");
+    }
+
+    private Datum newDatum(long version, String... registerIds) {
+        Datum datum = new Datum(DATA_INFO_ID, DATA_CENTER);
+        datum.setDataId("test");
+        datum.setVersion(version);
+        for (int i = 0; i < registerIds.length; i++) {
+            Publisher publisher = new Publisher();
+            publisher.setDataInfoId(DATA_INFO_ID);
+            publisher.setRegisterId(registerIds[i]);
+            publisher.setVersion(1L);
+            publisher.setRegisterTimestamp(registerIds[i].hashCode());
+            // publishers in zone A and B in turn
+            publisher.setCell(i % 2 == 0 ? "A" : "B");
+            datum.getPubMap().put(registerIds[i], publisher);
+        }
+        return datum;
+    }
+}
\ No newline at end of file
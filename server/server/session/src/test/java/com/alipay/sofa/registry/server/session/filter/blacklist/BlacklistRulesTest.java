@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.filter.blacklist;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ *
+ * @author agent
+ * @version 1.0: BlacklistRulesTest.java, v 0.1 2026-10-18 14:05 agent Exp $
+ */
+public class BlacklistRulesTest {
+
+    @Test
+    public void testMatch() {
+        List<BlacklistConfig> configs = new ArrayList<>();
+        configs.add(config(BlacklistConstants.FORBIDDEN_PUB, BlacklistConstants.IP_FULL,
+            "192.168.1.1", "fe80::1"));
+        configs.add(config(BlacklistConstants.FORBIDDEN_SUB_BY_PREFIX,
+            BlacklistConstants.IP_CIDR, "10.1.0.0/16", "bad/33"));
+
+        BlacklistRules rules = BlacklistRules.compile(1, configs);
+        Assert.assertFalse(rules.isEmpty());
+        Assert.assertEquals(1, rules.getVersion());
+
+        Assert.assertTrue(rules.match(BlacklistConstants.FORBIDDEN_PUB, "192.168.1.1"));
+        Assert.assertTrue(rules.match(BlacklistConstants.FORBIDDEN_PUB, "fe80::1"));
+        Assert.assertFalse(rules.match(BlacklistConstants.FORBIDDEN_PUB, "192.168.1.10"));
+        Assert.assertFalse(rules.match(BlacklistConstants.FORBIDDEN_PUB, "10.1.2.3"));
+
+        Assert.assertTrue(rules.match(BlacklistConstants.FORBIDDEN_SUB_BY_PREFIX, "10.1.2.3"));
+        Assert.assertTrue(rules.match(BlacklistConstants.FORBIDDEN_SUB_BY_PREFIX, "10.1.255.0"));
+        Assert.assertFalse(rules.match(BlacklistConstants.FORBIDDEN_SUB_BY_PREFIX, "10.2.0.1"));
+        Assert.assertFalse(rules.match(BlacklistConstants.FORBIDDEN_SUB_BY_PREFIX, "10.1.2"));
+
+        Assert.assertTrue(BlacklistRules.compile(2, null).isEmpty());
+    }
+
+    @Test
+    public void testTrie() {
+        IPPrefixTrie trie = new IPPrefixTrie();
+        Assert.assertTrue(trie.add("172.16.0.0/12"));
+        Assert.assertTrue(trie.add("172.16.1.1"));
+        Assert.assertTrue(trie.add("0.0.0.0/0") && trie.match("8.8.8.8"));
+        Assert.assertFalse(trie.add("256.1.1.1"));
+        Assert.assertFalse(trie.add("1.1.1.1/"));
+        Assert.assertFalse(trie.add("1.1.1.1/40"));
+        Assert.assertFalse(trie.add("1..1.1"));
+
+        Assert.assertEquals(-1, IPPrefixTrie.parseIPv4("1.1.1.1.1", 0, 9));
+        Assert.assertEquals(0xC0A80101L, IPPrefixTrie.parseIPv4("192.168.1.1", 0, 11));
+    }
+
+    private BlacklistConfig config(String type, String matchType, String... patterns) {
+        MatchType<String> match = new MatchType<>();
+        match.setType(matchType);
+        match.setPatternSet(new HashSet<>(Arrays.asList(patterns)));
+        BlacklistConfig config = new BlacklistConfig();
+        config.setType(type);
+        config.setMatchTypes(Arrays.asList(match));
+        return config;
+    }
+}
\ No newline at end of file
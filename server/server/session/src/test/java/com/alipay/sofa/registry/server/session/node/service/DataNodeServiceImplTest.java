@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.node.service;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.dataserver.GetDataBatchRequest;
+import com.alipay.sofa.registry.common.model.dataserver.GetDataRequest;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
+import com.alipay.sofa.registry.remoting.exchange.message.Request;
+import com.alipay.sofa.registry.remoting.exchange.message.Response;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.node.NodeManager;
+
+/**
+ *
+ * @author agent
+ * @version $Id: DataNodeServiceImplTest.java, v 0.1 2026-10-18 22:50 agent Exp $
+ */
+public class DataNodeServiceImplTest {
+
+    private static final String DATA_CENTER = "dc";
+
+    @Mock
+    private NodeExchanger       dataNodeExchanger;
+
+    @Mock
+    private NodeManager         dataNodeManager;
+
+    @Mock
+    private SessionServerConfig sessionServerConfig;
+
+    @InjectMocks
+    private DataNodeServiceImpl dataNodeService;
+
+    private final AtomicInteger inFlight    = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final List<String>  failedNodes = new ArrayList<>();
+
+    @Before
+    public void before() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        when(sessionServerConfig.getDataServerPort()).thenReturn(9620);
+        when(sessionServerConfig.getFetchDatumBatchSize()).thenReturn(2);
+        when(sessionServerConfig.getFetchDatumBatchConcurrency()).thenReturn(4);
+        when(sessionServerConfig.getDataNodeRetryExecutorThreadSize()).thenReturn(1);
+        when(sessionServerConfig.getDataNodeRetryExecutorQueueSize()).thenReturn(10);
+        // dataInfoIds are owned by the data server named by their first letter
+        when(dataNodeManager.getNode(anyString())).thenAnswer(
+            invocation -> {
+                String dataInfoId = (String) invocation.getArguments()[0];
+                return new DataNode(new URL(dataInfoId.substring(0, 1), 9600), DATA_CENTER);
+            });
+        when(dataNodeExchanger.request(any(Request.class))).thenAnswer(
+            invocation -> request((Request) invocation.getArguments()[0]));
+        dataNodeService.init();
+    }
+
+    @Test
+    public void testFetchInParallel() {
+        List<String> dataInfoIds = new ArrayList<>();
+        for (String node : new String[] { "a", "b", "c" }) {
+            for (int i = 0; i < 3; i++) {
+                dataInfoIds.add(node + i);
+            }
+        }
+
+        Map<String, Datum> datums = dataNodeService.fetchDataCenterBatch(dataInfoIds, DATA_CENTER);
+
+        Assert.assertEquals(9, datums.size());
+        datums.forEach((dataInfoId, datum) -> Assert.assertEquals(dataInfoId,
+            datum.getDataInfoId()));
+        // batches of different data servers are in flight at the same time
+        Assert.assertTrue(maxInFlight.get() > 1);
+    }
+
+    @Test
+    public void testFallbackOneByOne() {
+        failedNodes.add("b");
+
+        Map<String, Datum> datums = dataNodeService.fetchDataCenterBatch(
+            Arrays.asList("a0", "b0", "b1", "b2"), DATA_CENTER);
+
+        Assert.assertEquals(4, datums.size());
+        Assert.assertEquals("b2", datums.get("b2").getDataInfoId());
+    }
+
+    @Test
+    public void testFetchEmpty() {
+        Assert.assertTrue(dataNodeService.fetchDataCenterBatch(Collections.emptyList(),
+            DATA_CENTER).isEmpty());
+    }
+
+    private Response request(Request request) throws InterruptedException {
+        String node = request.getRequestUrl().getIpAddress();
+        Object body = request.getRequestBody();
+        GenericResponse genericResponse;
+        if (body instanceof GetDataBatchRequest) {
+            if (failedNodes.contains(node)) {
+                genericResponse = new GenericResponse().fillFailed("unknown request");
+            } else {
+                Map<String, Map<String, Datum>> datumMaps = new HashMap<>();
+                for (String dataInfoId : ((GetDataBatchRequest) body).getDataInfoIds()) {
+                    datumMaps.put(dataInfoId, datumMap(dataInfoId));
+                }
+                genericResponse = new GenericResponse().fillSucceed(datumMaps);
+            }
+        } else {
+            genericResponse = new GenericResponse().fillSucceed(datumMap(((GetDataRequest) body)
+                .getDataInfoId()));
+        }
+
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        Thread.sleep(100);
+        inFlight.decrementAndGet();
+        return () -> genericResponse;
+    }
+
+    private Map<String, Datum> datumMap(String dataInfoId) {
+        Map<String, Datum> map = new HashMap<>();
+        map.put(DATA_CENTER, new Datum(dataInfoId, DATA_CENTER));
+        return map;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.registry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.metrics.Metrics;
+
+/**
+ *
+ * @author agent
+ * @version $Id: FetchDataVersionFanOutTest.java, v 0.1 2026-10-18 20:55 agent Exp $
+ */
+public class FetchDataVersionFanOutTest {
+
+    private final Map<String, Long> processed   = new ConcurrentHashMap<>();
+
+    private final AtomicInteger     inFlight    = new AtomicInteger();
+
+    private final AtomicInteger     maxInFlight = new AtomicInteger();
+
+    private ExecutorService         dataNodes;
+
+    @Before
+    public void before() {
+        dataNodes = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void after() {
+        dataNodes.shutdownNow();
+        FetchDataVersionFanOut.retainDataNodes(Collections.emptySet());
+    }
+
+    @Test
+    public void testBoundedInFlight() {
+        FetchDataVersionFanOut fanOut = new FetchDataVersionFanOut((address, dataInfoIds,
+                                                                    callbackHandler) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            dataNodes.execute(() -> {
+                sleep(20);
+                inFlight.decrementAndGet();
+                callbackHandler.onCallback(null, versions(dataInfoIds));
+            });
+        }, this::process, Runnable::run);
+
+        Assert.assertTrue(fanOut.fetch(newAddresses(10), 3, 1000).isEmpty());
+        Assert.assertEquals(10, processed.size());
+        Assert.assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    public void testSlowDataNode() {
+        FetchDataVersionFanOut fanOut = new FetchDataVersionFanOut((address, dataInfoIds,
+                                                                    callbackHandler) -> {
+            if (!address.equals("slow")) {
+                dataNodes.execute(() -> callbackHandler.onCallback(null, versions(dataInfoIds)));
+            }
+        }, this::process, Runnable::run);
+        Map<String, Collection<String>> addresses = newAddresses(3);
+        addresses.put("slow", Collections.singletonList("slowDataInfoId"));
+
+        long begin = System.currentTimeMillis();
+        Assert.assertEquals(Collections.singleton("slow"), fanOut.fetch(addresses, 10, 100));
+        Assert.assertTrue(System.currentTimeMillis() - begin >= 200);
+        // the fast data nodes are processed without waiting for the slow one
+        Assert.assertEquals(3, processed.size());
+    }
+
+    @Test
+    public void testFailedDataNodes() {
+        FetchDataVersionFanOut fanOut = new FetchDataVersionFanOut((address, dataInfoIds,
+                                                                    callbackHandler) -> {
+            if (address.equals("address0")) {
+                throw new IllegalStateException("connection closed");
+            }
+            if (address.equals("address1")) {
+                dataNodes.execute(() -> callbackHandler.onException(null,
+                        new RuntimeException("timeout")));
+                return;
+            }
+            dataNodes.execute(() -> callbackHandler.onCallback(null, versions(dataInfoIds)));
+        }, this::process, Runnable::run);
+
+        // failures release their permits, so a single permit is enough to reach every data node
+        Assert.assertTrue(fanOut.fetch(newAddresses(4), 1, 1000).isEmpty());
+        Assert.assertEquals(2, processed.size());
+        Assert.assertEquals(1, errorCount("address0"));
+        Assert.assertEquals(1, errorCount("address1"));
+        Assert.assertEquals(0, errorCount("address2"));
+        Assert.assertEquals(1, Metrics.timer("session.fetchDataVersion.address2.latency")
+            .getCount());
+    }
+
+    @Test
+    public void testSkippedDataNodesPending() {
+        // the first data node never responds and holds the only permit
+        FetchDataVersionFanOut fanOut = new FetchDataVersionFanOut((address, dataInfoIds,
+                                                                    callbackHandler) -> {
+            if (!address.equals("address0")) {
+                dataNodes.execute(() -> callbackHandler.onCallback(null, versions(dataInfoIds)));
+            }
+        }, this::process, Runnable::run);
+
+        Set<String> pending = fanOut.fetch(newAddresses(3), 1, 50);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("address0", "address1", "address2")),
+            pending);
+        Assert.assertTrue(processed.isEmpty());
+    }
+
+    @Test
+    public void testRetainDataNodes() {
+        FetchDataVersionFanOut fanOut = new FetchDataVersionFanOut((address, dataInfoIds,
+                                                                    callbackHandler) -> {
+            callbackHandler.onCallback(null, versions(dataInfoIds));
+        }, this::process, Runnable::run);
+        Assert.assertTrue(fanOut.fetch(newAddresses(2), 2, 1000).isEmpty());
+        Assert.assertTrue(Metrics.getRegistry().getTimers()
+            .containsKey("session.fetchDataVersion.address1.latency"));
+
+        // address1 leaves the data node list
+        FetchDataVersionFanOut.retainDataNodes(Collections.singleton("address0"));
+        Assert.assertTrue(Metrics.getRegistry().getTimers()
+            .containsKey("session.fetchDataVersion.address0.latency"));
+        Assert.assertTrue(Metrics.getRegistry().getMetrics().keySet().stream()
+            .noneMatch(name -> name.startsWith("session.fetchDataVersion.address1.")));
+    }
+
+    private long errorCount(String address) {
+        return Metrics.counter("session.fetchDataVersion." + address + ".error").getCount();
+    }
+
+    private Map<String, Collection<String>> newAddresses(int count) {
+        Map<String, Collection<String>> addresses = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            addresses.put("address" + i, Collections.singletonList("dataInfoId" + i));
+        }
+        return addresses;
+    }
+
+    private Map<String, Map<String, Long>> versions(Collection<String> dataInfoIds) {
+        Map<String, Long> versions = new HashMap<>();
+        for (String dataInfoId : dataInfoIds) {
+            versions.put(dataInfoId, 1L);
+        }
+        return Collections.singletonMap("dc", versions);
+    }
+
+    private void process(Map<String, Map<String, Long>> dataVersions) {
+        processed.putAll(dataVersions.get("dc"));
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
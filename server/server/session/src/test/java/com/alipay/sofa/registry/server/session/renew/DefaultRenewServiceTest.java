@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.renew;
+
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.alipay.sofa.registry.common.model.DatumSnapshotRequest;
+import com.alipay.sofa.registry.common.model.PublisherDigestUtil;
+import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.store.ConnectId;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.node.NodeManager;
+import com.alipay.sofa.registry.server.session.store.DataStore;
+
+/**
+ *
+ * @author agent
+ * @version $Id: DefaultRenewServiceTest.java, v 0.1 2026-10-18 15:00 agent Exp $
+ */
+public class DefaultRenewServiceTest {
+
+    private static final String    CONNECT_ID   = "192.168.1.1:12345_192.168.1.2:9600";
+
+    private static final int       BUCKET_COUNT = 4;
+
+    @Mock
+    private DataStore              sessionDataStore;
+
+    @Mock
+    private NodeManager            dataNodeManager;
+
+    @Mock
+    private SessionServerConfig    sessionServerConfig;
+
+    @InjectMocks
+    private DefaultRenewService    renewService;
+
+    private Map<String, Publisher> pubMap;
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+        // publishers are owned by the data server named by the first letter of dataInfoId
+        pubMap = new HashMap<>();
+        for (int i = 0; i < 16; i++) {
+            Publisher publisher = newPublisher(i % 2 == 0 ? "a" + i : "b" + i, "r" + i);
+            pubMap.put(publisher.getRegisterId(), publisher);
+        }
+        when(sessionDataStore.queryByConnectId(CONNECT_ID)).thenReturn(pubMap);
+        when(sessionDataStore.getConnectVersion(ConnectId.parse(CONNECT_ID))).thenReturn(1L);
+        when(dataNodeManager.getNode(anyString())).thenAnswer(
+            invocation -> {
+                String dataInfoId = (String) invocation.getArguments()[0];
+                return new DataNode(new URL(dataInfoId.substring(0, 1), 9600), "dc");
+            });
+        when(sessionServerConfig.getRenewDatumDigestBucketCount()).thenReturn(BUCKET_COUNT);
+    }
+
+    @Test
+    public void testRenewDigestBuckets() {
+        List<RenewDatumRequest> requests = renewService.getRenewDatumRequests(CONNECT_ID);
+
+        Assert.assertEquals(2, requests.size());
+        for (RenewDatumRequest request : requests) {
+            long[] buckets = request.getBucketDigests();
+            Assert.assertEquals(BUCKET_COUNT, buckets.length);
+            long sum = 0L;
+            for (long bucket : buckets) {
+                sum += bucket;
+            }
+            Assert.assertEquals(request.getDigestSum(), String.valueOf(sum));
+        }
+        // reused until the publishers or the data nodes change
+        Assert.assertSame(requests, renewService.getRenewDatumRequests(CONNECT_ID));
+    }
+
+    @Test
+    public void testRenewDigestsRecomputed() {
+        List<RenewDatumRequest> requests = renewService.getRenewDatumRequests(CONNECT_ID);
+
+        // publishers changed
+        when(sessionDataStore.getConnectVersion(ConnectId.parse(CONNECT_ID))).thenReturn(2L);
+        List<RenewDatumRequest> changed = renewService.getRenewDatumRequests(CONNECT_ID);
+        Assert.assertNotSame(requests, changed);
+        Assert.assertSame(changed, renewService.getRenewDatumRequests(CONNECT_ID));
+
+        // data nodes changed
+        when(dataNodeManager.getNodesVersion()).thenReturn(1L);
+        Assert.assertNotSame(changed, renewService.getRenewDatumRequests(CONNECT_ID));
+    }
+
+    @Test
+    public void testRenewOfUnknownConnection() {
+        List<RenewDatumRequest> requests = renewService.getRenewDatumRequests(CONNECT_ID);
+
+        // the connection is deleted from the store, the digests are always computed again
+        when(sessionDataStore.getConnectVersion(ConnectId.parse(CONNECT_ID))).thenReturn(-1L);
+        List<RenewDatumRequest> unknown = renewService.getRenewDatumRequests(CONNECT_ID);
+        Assert.assertNotSame(requests, unknown);
+        Assert.assertNotSame(unknown, renewService.getRenewDatumRequests(CONNECT_ID));
+        Assert.assertEquals(2, unknown.size());
+
+        // the digest cached before is not reused when the version is back
+        when(sessionDataStore.getConnectVersion(ConnectId.parse(CONNECT_ID))).thenReturn(1L);
+        Assert.assertNotSame(requests, renewService.getRenewDatumRequests(CONNECT_ID));
+    }
+
+    @Test
+    public void testRenewWithoutBuckets() {
+        when(sessionServerConfig.getRenewDatumDigestBucketCount()).thenReturn(0);
+
+        for (RenewDatumRequest request : renewService.getRenewDatumRequests(CONNECT_ID)) {
+            Assert.assertNull(request.getBucketDigests());
+        }
+    }
+
+    @Test
+    public void testSnapshotOfBuckets() {
+        DatumSnapshotRequest request = renewService.getDatumSnapshotRequest(CONNECT_ID, "a",
+            new int[] { 1, 3 }, BUCKET_COUNT);
+
+        Assert.assertEquals("a", request.getDataServerIp());
+        Assert.assertArrayEquals(new int[] { 1, 3 }, request.getBuckets());
+        Assert.assertEquals(BUCKET_COUNT, request.getBucketCount());
+        int expected = 0;
+        for (Publisher publisher : pubMap.values()) {
+            int bucket = PublisherDigestUtil.getDigestBucket(publisher.getRegisterId(),
+                BUCKET_COUNT);
+            if (publisher.getDataInfoId().startsWith("a") && (bucket == 1 || bucket == 3)) {
+                expected++;
+            }
+        }
+        Assert.assertEquals(expected, request.getPublishers().size());
+        for (Publisher publisher : request.getPublishers()) {
+            Assert.assertTrue(publisher.getDataInfoId().startsWith("a"));
+            int bucket = PublisherDigestUtil.getDigestBucket(publisher.getRegisterId(),
+                BUCKET_COUNT);
+            Assert.assertTrue(bucket == 1 || bucket == 3);
+        }
+    }
+
+    @Test
+    public void testSnapshotOfEmptyBuckets() {
+        pubMap.clear();
+
+        DatumSnapshotRequest request = renewService.getDatumSnapshotRequest(CONNECT_ID, "a",
+            new int[] { 2 }, BUCKET_COUNT);
+
+        // still sent, so that the data server removes its publishers in the bucket
+        Assert.assertNotNull(request);
+        Assert.assertTrue(request.getPublishers().isEmpty());
+        Assert.assertArrayEquals(new int[] { 2 }, request.getBuckets());
+        Assert.assertNull(renewService.getDatumSnapshotRequest(CONNECT_ID, "a"));
+    }
+
+    private Publisher newPublisher(String dataInfoId, String registerId) {
+        Publisher publisher = new Publisher();
+        publisher.setDataInfoId(dataInfoId);
+        publisher.setRegisterId(registerId);
+        publisher.setVersion(1L);
+        publisher.setRegisterTimestamp(System.currentTimeMillis());
+        return publisher;
+    }
+}
\ No newline at end of file
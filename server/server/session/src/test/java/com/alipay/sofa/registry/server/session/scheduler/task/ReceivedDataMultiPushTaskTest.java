@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.scheduler.task;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.alipay.sofa.registry.common.model.store.Subscriber;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.constants.PushConstants;
+import com.alipay.sofa.registry.core.model.PublisherData;
+import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.core.model.Result;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfigBean;
+import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
+import com.alipay.sofa.registry.task.batcher.TaskProcessor.ProcessingResult;
+import com.alipay.sofa.registry.task.listener.TaskEvent;
+import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
+
+/**
+ *
+ * @author agent
+ * @version $Id: ReceivedDataMultiPushTaskTest.java, v 0.1 2026-10-18 21:10 agent Exp $
+ */
+public class ReceivedDataMultiPushTaskTest {
+
+    private static final String                   DATA_CENTER = "DefaultDataCenter";
+
+    private static SessionServerConfigBean        sessionServerConfig;
+
+    private static ExecutorManager                executorManager;
+
+    private final BlockingQueue<CallbackHandler>  callbacks   = new LinkedBlockingQueue<>();
+
+    private final BlockingQueue<ProcessingResult> results     = new LinkedBlockingQueue<>();
+
+    @BeforeClass
+    public static void init() {
+        sessionServerConfig = new SessionServerConfigBean(null);
+        // thread pools of the manager are registered in the metrics once per jvm
+        executorManager = new ExecutorManager(sessionServerConfig);
+    }
+
+    @Test
+    public void testKeyedPushIsDeltaBase() throws Exception {
+        Subscriber subscriber = newSubscriber();
+        push(subscriber, keyedData(10L, null)).onCallback(null, success());
+        Assert.assertEquals(ProcessingResult.Success, results.poll(3, TimeUnit.SECONDS));
+        assertDeltaBase(subscriber, 10L);
+
+        push(subscriber, keyedData(11L, 10L)).onCallback(null, success());
+        Assert.assertEquals(ProcessingResult.Success, results.poll(3, TimeUnit.SECONDS));
+        assertDeltaBase(subscriber, 11L);
+    }
+
+    @Test
+    public void testUnkeyedPushInvalidatesDeltaBase() throws Exception {
+        Subscriber subscriber = newSubscriber();
+        push(subscriber, keyedData(10L, null)).onCallback(null, success());
+        Assert.assertEquals(ProcessingResult.Success, results.poll(3, TimeUnit.SECONDS));
+        assertDeltaBase(subscriber, 10L);
+
+        ReceivedData unkeyed = newReceivedData(12L);
+        unkeyed.setData(new HashMap<>());
+        CallbackHandler callback = push(subscriber, unkeyed);
+        // the client replaces its data once the push is sent, before the answer
+        Assert.assertNull(subscriber.getDeltaBaseVersion(DATA_CENTER));
+
+        callback.onCallback(null, success());
+        Assert.assertEquals(ProcessingResult.Success, results.poll(3, TimeUnit.SECONDS));
+        Assert.assertNull(subscriber.getDeltaBaseVersion(DATA_CENTER));
+    }
+
+    @Test
+    public void testDeltaRejected() throws Exception {
+        Subscriber subscriber = newSubscriber();
+        push(subscriber, keyedData(10L, null)).onCallback(null, success());
+        Assert.assertEquals(ProcessingResult.Success, results.poll(3, TimeUnit.SECONDS));
+        assertDeltaBase(subscriber, 10L);
+
+        // a failure which is not a mismatch does not drop the delta base
+        Result failed = new Result();
+        push(subscriber, keyedData(11L, 10L)).onCallback(null, failed);
+        Assert.assertEquals(ProcessingResult.Success, results.poll(3, TimeUnit.SECONDS));
+        assertDeltaBase(subscriber, 11L);
+
+        Result mismatch = new Result();
+        mismatch.setMessage(PushConstants.DELTA_MISMATCH);
+        push(subscriber, keyedData(12L, 11L)).onCallback(null, mismatch);
+        Assert.assertEquals(ProcessingResult.PermanentError, results.poll(3, TimeUnit.SECONDS));
+        Assert.assertNull(subscriber.getDeltaBaseVersion(DATA_CENTER));
+    }
+
+    private CallbackHandler push(Subscriber subscriber, ReceivedData receivedData)
+                                                                                  throws Exception {
+        ReceivedDataMultiPushTask task = new ReceivedDataMultiPushTask(sessionServerConfig,
+            (object, url, callbackHandler) -> callbacks.add(callbackHandler), executorManager,
+            null, (data, url) -> data, null, null);
+        Map<ReceivedData, URL> parameter = new HashMap<>();
+        parameter.put(receivedData, subscriber.getSourceAddress());
+        TaskEvent taskEvent = new TaskEvent(parameter, TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
+        taskEvent.setTaskClosure((processingResult, t) -> results.add(processingResult));
+        taskEvent.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS,
+            Collections.singletonList(subscriber));
+        task.setTaskEvent(taskEvent);
+        task.execute();
+        CallbackHandler callback = callbacks.poll(3, TimeUnit.SECONDS);
+        Assert.assertNotNull(callback);
+        return callback;
+    }
+
+    private Result success() {
+        Result result = new Result();
+        result.setSuccess(true);
+        return result;
+    }
+
+    private Subscriber newSubscriber() {
+        Subscriber subscriber = new Subscriber();
+        subscriber.setDataId("dataId");
+        subscriber.setRegisterId("registerId");
+        subscriber.setSourceAddress(new URL("192.168.1.1", 12200));
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(PushConstants.DELTA_PUSH_SUPPORTED, "true");
+        subscriber.setAttributes(attributes);
+        return subscriber;
+    }
+
+    private ReceivedData keyedData(Long version, Long baseVersion) {
+        ReceivedData receivedData = newReceivedData(version);
+        receivedData.setBaseVersion(baseVersion);
+        Map<String, PublisherData> publisherData = new HashMap<>();
+        publisherData.put("publisher", new PublisherData("zone", Collections.emptyList()));
+        receivedData.setPublisherData(publisherData);
+        return receivedData;
+    }
+
+    private ReceivedData newReceivedData(Long version) {
+        ReceivedData receivedData = new ReceivedData();
+        receivedData.setDataId("dataId");
+        receivedData.setGroup("group");
+        receivedData.setInstanceId("instanceId");
+        receivedData.setSegment(DATA_CENTER);
+        receivedData.setScope("zone");
+        receivedData.setSubscriberRegistIds(Collections.singletonList("registerId"));
+        receivedData.setVersion(version);
+        return receivedData;
+    }
+
+    private void assertDeltaBase(Subscriber subscriber, Long version) {
+        // push versions are updated before the closure is run
+        Assert.assertEquals(version, subscriber.getDeltaBaseVersion(DATA_CENTER));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.scheduler.task;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.RenewDatumRequest;
+import com.alipay.sofa.registry.common.model.RenewDatumResult;
+import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
+import com.alipay.sofa.registry.remoting.exchange.message.Request;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.node.service.DataNodeServiceImpl;
+import com.alipay.sofa.registry.server.session.registry.SessionRegistry;
+import com.alipay.sofa.registry.task.listener.TaskEvent;
+import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
+
+/**
+ *
+ * @author agent
+ * @version $Id: RenewDatumTaskTest.java, v 0.1 2026-10-18 15:20 agent Exp $
+ */
+public class RenewDatumTaskTest {
+
+    private static final String CONNECT_ID = "192.168.1.1:12345_192.168.1.2:9600";
+
+    private static final String DATA_IP    = "192.168.1.3";
+
+    @Mock
+    private NodeExchanger       dataNodeExchanger;
+
+    @Mock
+    private SessionServerConfig sessionServerConfig;
+
+    @Mock
+    private SessionRegistry     sessionRegistry;
+
+    @InjectMocks
+    private DataNodeServiceImpl dataNodeService;
+
+    private RenewDatumTask      renewDatumTask;
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+        when(sessionServerConfig.getDataServerPort()).thenReturn(9620);
+        renewDatumTask = new RenewDatumTask(sessionServerConfig, dataNodeService, sessionRegistry);
+        renewDatumTask.setTaskEvent(new TaskEvent(new RenewDatumRequest(CONNECT_ID, DATA_IP, "10",
+            new long[] { 1L, 2L, 3L, 4L }), TaskType.RENEW_DATUM_TASK));
+    }
+
+    @Test
+    public void testOldDataServerDifferent() throws Exception {
+        // data server not supporting digest buckets replies a Boolean
+        reply(new GenericResponse<Boolean>().fillSucceed(false));
+
+        renewDatumTask.execute();
+
+        verify(sessionRegistry).sendDatumSnapshot(CONNECT_ID, DATA_IP);
+        verify(sessionRegistry, never()).sendDatumSnapshot(anyString(), anyString(),
+            any(RenewDatumResult.class));
+    }
+
+    @Test
+    public void testOldDataServerSame() throws Exception {
+        reply(new GenericResponse<Boolean>().fillSucceed(true));
+
+        renewDatumTask.execute();
+
+        verify(sessionRegistry, never()).sendDatumSnapshot(anyString(), anyString());
+        verify(sessionRegistry, never()).sendDatumSnapshot(anyString(), anyString(),
+            any(RenewDatumResult.class));
+    }
+
+    @Test
+    public void testDiffBuckets() throws Exception {
+        reply(new GenericResponse<RenewDatumResult>().fillSucceed(new RenewDatumResult(false, 4,
+            new int[] { 2 })));
+
+        renewDatumTask.execute();
+
+        ArgumentCaptor<RenewDatumResult> captor = ArgumentCaptor.forClass(RenewDatumResult.class);
+        verify(sessionRegistry).sendDatumSnapshot(eq(CONNECT_ID), eq(DATA_IP), captor.capture());
+        Assert.assertArrayEquals(new int[] { 2 }, captor.getValue().getDiffBuckets());
+        verify(sessionRegistry, never()).sendDatumSnapshot(anyString(), anyString());
+    }
+
+    @Test
+    public void testAllBucketsDifferent() throws Exception {
+        reply(new GenericResponse<RenewDatumResult>().fillSucceed(new RenewDatumResult(false, 4,
+            null)));
+
+        renewDatumTask.execute();
+
+        verify(sessionRegistry).sendDatumSnapshot(CONNECT_ID, DATA_IP);
+    }
+
+    private void reply(GenericResponse response) throws Exception {
+        when(dataNodeExchanger.request(any(Request.class))).thenReturn(() -> response);
+    }
+}
\ No newline at end of file
@@ -29,7 +29,9 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.net.InetSocketAddress;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -134,14 +136,17 @@ public class DataCacheTest extends BaseTest {
 
         String dataId = "dataid";
         String connectId = "192.168.1.2:9000_127.0.0.1:34567";
+        Assert.assertEquals(-1L, sessionDataStore.getConnectVersion(ConnectId.parse(connectId)));
         for (int i = 0; i < 10; i++) {
 
             sessionDataStore.add(getPub(dataId, null, null));
         }
 
         Assert.assertTrue(getCachePub(sessionDataStore, connectId));
+        Assert.assertTrue(sessionDataStore.getConnectVersion(ConnectId.parse(connectId)) > 0);
         sessionDataStore.deleteByConnectId(connectId);
         Assert.assertFalse(getCachePub(sessionDataStore, connectId));
+        Assert.assertEquals(-1L, sessionDataStore.getConnectVersion(ConnectId.parse(connectId)));
     }
 
     @Test
@@ -281,13 +286,13 @@ public class DataCacheTest extends BaseTest {
         sessionDataStore.add(publisher2);
 
         Assert.assertEquals(
-            sessionDataStore.getConnectPublishers().get("192.168.1.1:12345_192.168.1.2:9600")
-                .size(), 2);
+            sessionDataStore.getConnectPublishers()
+                .get(ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600")).size(), 2);
         sessionDataStore.add(publisher2);
 
         Assert.assertEquals(
-            sessionDataStore.getConnectPublishers().get("192.168.1.1:12345_192.168.1.2:9600")
-                .size(), 2);
+            sessionDataStore.getConnectPublishers()
+                .get(ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600")).size(), 2);
 
         Publisher publisher3 = new Publisher();
         publisher3.setDataInfoId(publisher1.getDataInfoId());
@@ -307,11 +312,11 @@ public class DataCacheTest extends BaseTest {
         sessionDataStore.add(publisher4);
 
         Assert.assertEquals(
-            sessionDataStore.getConnectPublishers().get("192.168.1.1:12345_192.168.1.2:9600")
-                .size(), 0);
+            sessionDataStore.getConnectPublishers()
+                .get(ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600")).size(), 0);
         Assert.assertEquals(
-            sessionDataStore.getConnectPublishers().get("192.168.1.1:12346_192.168.1.2:9600")
-                .size(), 2);
+            sessionDataStore.getConnectPublishers()
+                .get(ConnectId.parse("192.168.1.1:12346_192.168.1.2:9600")).size(), 2);
 
     }
 
@@ -341,13 +346,13 @@ public class DataCacheTest extends BaseTest {
         sessionInterests.add(subscriber2);
 
         Assert.assertEquals(
-            sessionInterests.getConnectSubscribers().get("192.168.1.1:12345_192.168.1.2:9600")
-                .size(), 2);
+            sessionInterests.getConnectSubscribers()
+                .get(ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600")).size(), 2);
         sessionInterests.add(subscriber2);
 
         Assert.assertEquals(
-            sessionInterests.getConnectSubscribers().get("192.168.1.1:12345_192.168.1.2:9600")
-                .size(), 2);
+            sessionInterests.getConnectSubscribers()
+                .get(ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600")).size(), 2);
 
         Subscriber subscriber3 = new Subscriber();
         subscriber3.setDataInfoId(subscriber1.getDataInfoId());
@@ -367,11 +372,11 @@ public class DataCacheTest extends BaseTest {
         sessionInterests.add(subscriber4);
 
         Assert.assertEquals(
-            sessionInterests.getConnectSubscribers().get("192.168.1.1:12345_192.168.1.2:9600")
-                .size(), 0);
+            sessionInterests.getConnectSubscribers()
+                .get(ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600")).size(), 0);
         Assert.assertEquals(
-            sessionInterests.getConnectSubscribers().get("192.168.1.1:12346_192.168.1.2:9600")
-                .size(), 2);
+            sessionInterests.getConnectSubscribers()
+                .get(ConnectId.parse("192.168.1.1:12346_192.168.1.2:9600")).size(), 2);
     }
 
     @Test
@@ -453,11 +458,12 @@ public class DataCacheTest extends BaseTest {
                                            + subscriber1.getTargetAddress().getAddressString());
 
         Assert.assertEquals(
-            sessionInterests.getConnectSubscribers().get("192.168.1.1:12345_192.168.1.2:9600"),
+            sessionInterests.getConnectSubscribers()
+                .get(ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600")),
             null);
         Assert.assertEquals(
-            sessionInterests.getConnectSubscribers().get("192.168.1.1:12346_192.168.1.2:9600")
-                .size(), 1);
+            sessionInterests.getConnectSubscribers()
+                .get(ConnectId.parse("192.168.1.1:12346_192.168.1.2:9600")).size(), 1);
 
         Assert.assertEquals(
             sessionInterests.querySubscriberIndex(subscriber1.getDataInfoId(),
@@ -470,4 +476,82 @@ public class DataCacheTest extends BaseTest {
         Assert.assertTrue(sessionInterests.getInterests(subscriber1.getDataInfoId()).contains(
             subscriber2));
     }
+
+    @Test
+    public void testClientOffByConnectIndex() {
+        SessionInterests sessionInterests = new SessionInterests();
+        SessionServerConfig config = new SessionServerConfigBean(null);
+        sessionInterests.setSessionServerConfig(config);
+
+        for (int i = 0; i < 10; i++) {
+            for (int port : new int[] { 12345, 12346 }) {
+                Subscriber subscriber = new Subscriber();
+                subscriber.setDataInfoId("dataInfoId" + i);
+                subscriber.setDataId("dataId" + i);
+                subscriber.setRegisterId("RegisterId" + i + "-" + port);
+                subscriber.setSourceAddress(new URL("192.168.1.1", port));
+                subscriber.setTargetAddress(new URL("192.168.1.2", 9600));
+                sessionInterests.add(subscriber);
+            }
+        }
+
+        Assert.assertTrue(sessionInterests.deleteByConnectId("192.168.1.1:12345_192.168.1.2:9600"));
+
+        Assert.assertNull(sessionInterests.getConnectSubscribers().get(
+            ConnectId.parse("192.168.1.1:12345_192.168.1.2:9600")));
+        Assert.assertEquals(
+            sessionInterests.getConnectSubscribers()
+                .get(ConnectId.parse("192.168.1.1:12346_192.168.1.2:9600")).size(), 10);
+        for (int i = 0; i < 10; i++) {
+            Collection<Subscriber> subscribers = sessionInterests.getInterests("dataInfoId" + i);
+            Assert.assertEquals(subscribers.size(), 1);
+            Assert.assertEquals(subscribers.iterator().next().getSourceAddress().getPort(), 12346);
+        }
+        Assert.assertEquals(sessionInterests.count(), 10);
+    }
+
+    @Test
+    public void testSubscriberGroups() {
+        SessionInterests sessionInterests = new SessionInterests();
+        SessionServerConfig config = new SessionServerConfigBean(null);
+        sessionInterests.setSessionServerConfig(config);
+
+        for (int i = 0; i < 3; i++) {
+            Subscriber subscriber = new Subscriber();
+            subscriber.setDataInfoId("dataInfoId");
+            subscriber.setDataId("dataId");
+            subscriber.setRegisterId("RegisterId" + i);
+            subscriber.setScope(ScopeEnum.zone);
+            subscriber.setClientVersion(i == 0 ? BaseInfo.ClientVersion.ProtocolPackage
+                : BaseInfo.ClientVersion.StoreData);
+            subscriber.setSourceAddress(new URL("192.168.1.1", 12345));
+            subscriber.setTargetAddress(new URL("192.168.1.2", 9600));
+            sessionInterests.add(subscriber);
+        }
+
+        List<SubscriberGroup> groups = sessionInterests.querySubscriberGroups("dataInfoId",
+            ScopeEnum.zone);
+        Assert.assertEquals(groups.size(), 2);
+        for (SubscriberGroup group : groups) {
+            Assert.assertEquals(group.getAddress(), new InetSocketAddress("192.168.1.1", 12345));
+            Assert.assertEquals(group.size(),
+                group.getClientVersion() == BaseInfo.ClientVersion.StoreData ? 2 : 1);
+        }
+        Assert.assertTrue(sessionInterests.querySubscriberGroups("dataInfoId", ScopeEnum.global)
+            .isEmpty());
+        // shared until subscribers change
+        Assert.assertSame(groups, sessionInterests.querySubscriberGroups("dataInfoId",
+            ScopeEnum.zone));
+
+        sessionInterests.deleteById("RegisterId0", "dataInfoId");
+        List<SubscriberGroup> newGroups = sessionInterests.querySubscriberGroups("dataInfoId",
+            ScopeEnum.zone);
+        Assert.assertNotSame(groups, newGroups);
+        Assert.assertEquals(newGroups.size(), 1);
+        Assert.assertEquals(newGroups.get(0).newRegisterIdList().size(), 2);
+
+        sessionInterests.deleteByConnectId("192.168.1.1:12345_192.168.1.2:9600");
+        Assert.assertTrue(sessionInterests.querySubscriberGroups("dataInfoId", ScopeEnum.zone)
+            .isEmpty());
+    }
 }
\ No newline at end of file
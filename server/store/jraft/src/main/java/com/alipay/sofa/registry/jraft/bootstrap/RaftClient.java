@@ -36,9 +36,11 @@ import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.bolt.ConnectionEventAdapter;
 import com.alipay.sofa.registry.remoting.bolt.SyncUserProcessorAdapter;
 
+import java.util.List;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author shangyu.wh
@@ -56,6 +58,8 @@ public class RaftClient {
 
     private AtomicBoolean       started = new AtomicBoolean(false);
 
+    private AtomicInteger       readIdx = new AtomicInteger();
+
     private ThreadPoolExecutor  executor;
 
     /**
@@ -186,6 +190,21 @@ public class RaftClient {
         return leader;
     }
 
+    /**
+     * select one peer of the group in turn to spread read only requests,
+     * the leader is returned if the configuration is unknown
+     *
+     * @return
+     */
+    public PeerId selectReadPeer() {
+        Configuration configuration = RouteTable.getInstance().getConfiguration(groupId);
+        List<PeerId> peers = configuration != null ? configuration.getPeers() : null;
+        if (peers == null || peers.isEmpty()) {
+            return getLeader();
+        }
+        return peers.get((readIdx.getAndIncrement() & Integer.MAX_VALUE) % peers.size());
+    }
+
     /**
      * raft client send request
      *
@@ -33,6 +33,7 @@ import com.alipay.sofa.jraft.util.StorageOptionsFactory;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.jraft.command.NotifyLeaderChange;
 import com.alipay.sofa.registry.jraft.handler.NotifyLeaderChangeHandler;
+import com.alipay.sofa.registry.jraft.handler.RaftProposalBatcher;
 import com.alipay.sofa.registry.jraft.handler.RaftServerConnectionHandler;
 import com.alipay.sofa.registry.jraft.handler.RaftServerHandler;
 import com.alipay.sofa.registry.jraft.processor.FollowerProcessListener;
@@ -88,6 +89,7 @@ public class RaftServer {
     private ThreadPoolExecutor      raftExecutor;
     private ThreadPoolExecutor      raftServerExecutor;
     private ThreadPoolExecutor      fsmExecutor;
+    private RaftProposalBatcher     proposalBatcher;
 
     /**
      * @param dataPath    Example: /tmp/server1
@@ -121,7 +123,13 @@ public class RaftServer {
 
         FileUtils.forceMkdir(new File(dataPath));
 
-        serverHandlers.add(new RaftServerHandler(this, raftServerExecutor));
+        if (raftServerConfig.getProposalBatchMaxSize() > 1) {
+            proposalBatcher = new RaftProposalBatcher(this,
+                raftServerConfig.getProposalBatchMaxSize(),
+                raftServerConfig.getProposalBatchLingerMs(),
+                raftServerConfig.getProposalBatchQueueSize());
+        }
+        serverHandlers.add(new RaftServerHandler(this, raftServerExecutor, proposalBatcher));
         serverHandlers.add(new RaftServerConnectionHandler(executor));
 
         boltServer = new BoltServer(new URL(NetUtil.getLocalAddress().getHostAddress(),
@@ -160,6 +168,9 @@ public class RaftServer {
      * shutdown raftGroupService
      */
     public void shutdown() {
+        if (proposalBatcher != null) {
+            proposalBatcher.shutdown();
+        }
         if (raftGroupService != null) {
             this.raftGroupService.shutdown();
         }
@@ -52,6 +52,12 @@ public class RaftServerConfig {
 
     private int     RockDBCacheSize             = 64;   //64M
 
+    private int     proposalBatchMaxSize        = 1;
+
+    private long    proposalBatchLingerMs       = 0;
+
+    private int     proposalBatchQueueSize      = 10000;
+
     private Logger  metricsLogger;
 
     /**
@@ -161,4 +167,58 @@ public class RaftServerConfig {
     public void setRockDBCacheSize(int rockDBCacheSize) {
         RockDBCacheSize = rockDBCacheSize;
     }
+
+    /**
+     * Getter method for property <tt>proposalBatchMaxSize</tt>.
+     *
+     * @return property value of proposalBatchMaxSize
+     */
+    public int getProposalBatchMaxSize() {
+        return proposalBatchMaxSize;
+    }
+
+    /**
+     * Setter method for property <tt>proposalBatchMaxSize</tt>.
+     *
+     * @param proposalBatchMaxSize  value to be assigned to property proposalBatchMaxSize
+     */
+    public void setProposalBatchMaxSize(int proposalBatchMaxSize) {
+        this.proposalBatchMaxSize = proposalBatchMaxSize;
+    }
+
+    /**
+     * Getter method for property <tt>proposalBatchLingerMs</tt>.
+     *
+     * @return property value of proposalBatchLingerMs
+     */
+    public long getProposalBatchLingerMs() {
+        return proposalBatchLingerMs;
+    }
+
+    /**
+     * Setter method for property <tt>proposalBatchLingerMs</tt>.
+     *
+     * @param proposalBatchLingerMs  value to be assigned to property proposalBatchLingerMs
+     */
+    public void setProposalBatchLingerMs(long proposalBatchLingerMs) {
+        this.proposalBatchLingerMs = proposalBatchLingerMs;
+    }
+
+    /**
+     * Getter method for property <tt>proposalBatchQueueSize</tt>.
+     *
+     * @return property value of proposalBatchQueueSize
+     */
+    public int getProposalBatchQueueSize() {
+        return proposalBatchQueueSize;
+    }
+
+    /**
+     * Setter method for property <tt>proposalBatchQueueSize</tt>.
+     *
+     * @param proposalBatchQueueSize  value to be assigned to property proposalBatchQueueSize
+     */
+    public void setProposalBatchQueueSize(int proposalBatchQueueSize) {
+        this.proposalBatchQueueSize = proposalBatchQueueSize;
+    }
 }
\ No newline at end of file
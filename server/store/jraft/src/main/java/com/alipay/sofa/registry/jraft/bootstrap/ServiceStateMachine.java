@@ -24,28 +24,28 @@ import com.alipay.sofa.jraft.entity.LeaderChangeContext;
 import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
+import com.alipay.sofa.registry.jraft.command.HessianCommandCodec;
 import com.alipay.sofa.registry.jraft.command.ProcessRequest;
-import com.alipay.sofa.registry.jraft.command.ProcessResponse;
+import com.alipay.sofa.registry.jraft.command.ProcessRequestBatch;
 import com.alipay.sofa.registry.jraft.processor.FollowerProcessListener;
 import com.alipay.sofa.registry.jraft.processor.LeaderProcessListener;
+import com.alipay.sofa.registry.jraft.processor.LeaderTaskBatchClosure;
 import com.alipay.sofa.registry.jraft.processor.LeaderTaskClosure;
 import com.alipay.sofa.registry.jraft.processor.Processor;
 import com.alipay.sofa.registry.jraft.processor.SnapshotProcess;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
-import com.caucho.hessian.io.Hessian2Input;
-import com.caucho.hessian.io.SerializerFactory;
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.codahale.metrics.Timer;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -55,8 +55,8 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class ServiceStateMachine extends StateMachineAdapter {
 
-    private static final Logger                 LOG = LoggerFactory
-                                                        .getLogger(ServiceStateMachine.class);
+    private static final Logger                 LOG          = LoggerFactory
+                                                                 .getLogger(ServiceStateMachine.class);
 
     private LeaderProcessListener               leaderProcessListener;
 
@@ -66,6 +66,11 @@ public class ServiceStateMachine extends StateMachineAdapter {
 
     private ThreadPoolExecutor                  executor;
 
+    /**
+     * time of applying one log entry, a batch entry counts as one
+     */
+    private final Timer                         applyTimer   = Metrics.timer("raft.apply");
+
     /**
      * get instance of ServiceStateMachine
      * @return
@@ -109,35 +114,35 @@ public class ServiceStateMachine extends StateMachineAdapter {
 
     @Override
     public void onApply(Iterator iter) {
+        // one decoder for the whole pass, followers replaying a backlog get many entries at once
+        HessianCommandCodec.Decoder decoder = null;
         while (iter.hasNext()) {
+            long start = System.nanoTime();
             Closure done = iter.done();
-            ByteBuffer data = iter.getData();
-            ProcessRequest request;
-            LeaderTaskClosure closure = null;
 
-            if (done != null) {
-                closure = (LeaderTaskClosure) done;
-                request = closure.getRequest();
-            } else {
-
-                Hessian2Input input = new Hessian2Input(new ByteArrayInputStream(data.array()));
-                SerializerFactory serializerFactory = new SerializerFactory();
-                input.setSerializerFactory(serializerFactory);
-                try {
-                    request = (ProcessRequest) input.readObject();
-                    input.close();
-                } catch (IOException e) {
-                    throw new RuntimeException(
-                        "IOException occurred when Hessian serializer decode!", e);
+            if (done instanceof LeaderTaskBatchClosure) {
+                for (LeaderTaskClosure closure : ((LeaderTaskBatchClosure) done).getClosures()) {
+                    closure.setResponse(Processor.getInstance().process(closure.getRequest()));
                 }
-            }
-
-            ProcessResponse response = Processor.getInstance().process(request);
-
-            if (closure != null) {
-                closure.setResponse(response);
+                done.run(Status.OK());
+            } else if (done != null) {
+                LeaderTaskClosure closure = (LeaderTaskClosure) done;
+                closure.setResponse(Processor.getInstance().process(closure.getRequest()));
                 closure.run(Status.OK());
+            } else {
+                if (decoder == null) {
+                    decoder = HessianCommandCodec.newDecoder();
+                }
+                Object command = decoder.decode(iter.getData(), Object.class);
+                if (command instanceof ProcessRequestBatch) {
+                    for (ProcessRequest request : ((ProcessRequestBatch) command).getRequests()) {
+                        Processor.getInstance().process(request);
+                    }
+                } else {
+                    Processor.getInstance().process((ProcessRequest) command);
+                }
             }
+            applyTimer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             iter.next();
         }
     }
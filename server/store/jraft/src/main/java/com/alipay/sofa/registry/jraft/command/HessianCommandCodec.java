@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.command;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.caucho.hessian.io.Hessian2Input;
+import com.caucho.hessian.io.Hessian2Output;
+import com.caucho.hessian.io.SerializerFactory;
+
+/**
+ * Hessian codec of the raft log entries ({@link ProcessRequest}) and their results ({@link ProcessResponse}).
+ * The SerializerFactory and its class introspection caches are shared by all threads,
+ * entries are decoded straight from the log ByteBuffer without copying it.
+ *
+ * @author agent
+ * @version $Id: HessianCommandCodec.java, v 0.1 2026-10-18 14:20 agent Exp $
+ */
+public final class HessianCommandCodec {
+
+    private static final SerializerFactory SERIALIZER_FACTORY = new SerializerFactory();
+
+    private HessianCommandCodec() {
+    }
+
+    /**
+     * encode the command into a ByteBuffer ready to be read
+     *
+     * @param command
+     * @return
+     */
+    public static ByteBuffer encode(Object command) {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        Hessian2Output output = new Hessian2Output(byteStream);
+        output.setSerializerFactory(SERIALIZER_FACTORY);
+        try {
+            output.writeObject(command);
+            output.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("IOException occurred when Hessian serializer encode!", e);
+        }
+        return ByteBuffer.wrap(byteStream.toByteArray());
+    }
+
+    /**
+     * decode one command, the position of data is not changed
+     *
+     * @param data
+     * @param clazz
+     * @return
+     */
+    public static <T> T decode(ByteBuffer data, Class<T> clazz) {
+        return newDecoder().decode(data, clazz);
+    }
+
+    /**
+     * create a decoder for one pass over the raft log iterator,
+     * the decoder is not thread safe and should not leave the applying thread
+     *
+     * @return
+     */
+    public static Decoder newDecoder() {
+        return new Decoder();
+    }
+
+    /**
+     * decodes consecutive entries reusing the same input stream
+     */
+    public static final class Decoder {
+
+        private final ByteBufferInputStream inputStream = new ByteBufferInputStream();
+
+        private Decoder() {
+        }
+
+        /**
+         * decode one command, the position of data is not changed
+         *
+         * @param data
+         * @param clazz
+         * @return
+         */
+        public <T> T decode(ByteBuffer data, Class<T> clazz) {
+            inputStream.reset(data.duplicate());
+            // one input per entry, its read-ahead buffer and references must not leak into the
+            // next entry, what is expensive to build is the shared SerializerFactory
+            Hessian2Input input = new Hessian2Input(inputStream);
+            input.setSerializerFactory(SERIALIZER_FACTORY);
+            try {
+                Object command = input.readObject();
+                input.close();
+                return clazz.cast(command);
+            } catch (IOException e) {
+                throw new IllegalStateException("IOException occurred when Hessian serializer decode!",
+                    e);
+            }
+        }
+    }
+
+    /**
+     * InputStream view over the remaining bytes of a ByteBuffer
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private ByteBuffer buffer;
+
+        void reset(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int size = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, size);
+            return size;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public void close() {
+            buffer = null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.command;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * several ProcessRequest group committed in one raft log entry by RaftProposalBatcher.
+ * Followers and a restarted leader decode it from the log and apply the requests one by one in
+ * propose order, the same as if they were separate entries.
+ *
+ * @author agent
+ * @version $Id: ProcessRequestBatch.java, v 0.1 2026-10-18 11:02 agent Exp $
+ */
+public class ProcessRequestBatch implements Serializable {
+
+    /** requests in propose order */
+    private List<ProcessRequest> requests;
+
+    public ProcessRequestBatch() {
+    }
+
+    /**
+     * constructor
+     * @param requests
+     */
+    public ProcessRequestBatch(List<ProcessRequest> requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * Getter method for property <tt>requests</tt>.
+     *
+     * @return property value of requests
+     */
+    public List<ProcessRequest> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Setter method for property <tt>requests</tt>.
+     *
+     * @param requests  value to be assigned to property requests
+     */
+    public void setRequests(List<ProcessRequest> requests) {
+        this.requests = requests;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessRequestBatch{" + "size=" + (requests == null ? 0 : requests.size()) + '}';
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.entity.Task;
+import com.alipay.sofa.jraft.error.RaftError;
+import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
+import com.alipay.sofa.registry.jraft.command.HessianCommandCodec;
+import com.alipay.sofa.registry.jraft.command.ProcessRequest;
+import com.alipay.sofa.registry.jraft.command.ProcessRequestBatch;
+import com.alipay.sofa.registry.jraft.processor.LeaderTaskBatchClosure;
+import com.alipay.sofa.registry.jraft.processor.LeaderTaskClosure;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.Metrics;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import com.codahale.metrics.Histogram;
+
+/**
+ * group commit of raft proposals: requests arriving within the linger time are applied
+ * as one log entry holding a {@link ProcessRequestBatch}, up to maxBatchSize requests per entry.
+ * Servers without this class can not apply such entries, so every server of the raft group must be
+ * upgraded before batching is enabled. When the queue is full a request is applied as a single entry.
+ *
+ * @author agent
+ * @version $Id: RaftProposalBatcher.java, v 0.1 2026-10-18 11:25 agent Exp $
+ */
+public class RaftProposalBatcher {
+
+    private static final Logger                    LOGGER  = LoggerFactory
+                                                               .getLogger(RaftProposalBatcher.class);
+
+    private final RaftServer                       raftServer;
+
+    private final int                              maxBatchSize;
+
+    private final long                             lingerMs;
+
+    private final BlockingQueue<LeaderTaskClosure> proposals;
+
+    private final Histogram                        entriesPerBatch;
+
+    private final Thread                           flusher;
+
+    private volatile boolean                       running = true;
+
+    /**
+     * constructor
+     * @param raftServer
+     * @param maxBatchSize max requests in one log entry
+     * @param lingerMs max time waiting for more requests after the first one arrived
+     * @param queueSize max requests waiting to be batched
+     */
+    public RaftProposalBatcher(RaftServer raftServer, int maxBatchSize, long lingerMs,
+                               int queueSize) {
+        this.raftServer = raftServer;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerMs = lingerMs;
+        this.proposals = new LinkedBlockingQueue<>(queueSize);
+        this.entriesPerBatch = Metrics.histogram("raft.proposal.entriesPerBatch");
+        this.flusher = new NamedThreadFactory("RaftProposalBatcher", true).newThread(this::flush);
+        this.flusher.start();
+    }
+
+    /**
+     * propose one request, the closure is run after the entry holding it is applied or failed
+     *
+     * @param closure
+     */
+    public void propose(LeaderTaskClosure closure) {
+        if (!running) {
+            closure.run(new Status(RaftError.ESHUTDOWN, "Raft proposal batcher is shutdown!"));
+            return;
+        }
+        if (!proposals.offer(closure)) {
+            // queue is full, do not wait for the flusher
+            try {
+                apply(Collections.singletonList(closure));
+            } catch (Throwable e) {
+                LOGGER.error("Raft proposal apply error!", e);
+                closure.run(new Status(RaftError.EINTERNAL, "Raft proposal apply error: "
+                                                            + e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * stop batching, proposals not applied yet are failed
+     */
+    public void shutdown() {
+        running = false;
+        flusher.interrupt();
+        List<LeaderTaskClosure> remains = new ArrayList<>();
+        proposals.drainTo(remains);
+        remains.forEach(closure -> closure.run(new Status(RaftError.ESHUTDOWN,
+            "Raft proposal batcher is shutdown!")));
+    }
+
+    private void flush() {
+        while (running) {
+            List<LeaderTaskClosure> batch = new ArrayList<>(maxBatchSize);
+            try {
+                LeaderTaskClosure first = proposals.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + lingerMs;
+                while (batch.size() < maxBatchSize) {
+                    proposals.drainTo(batch, maxBatchSize - batch.size());
+                    long wait = deadline - System.currentTimeMillis();
+                    if (batch.size() >= maxBatchSize || wait <= 0) {
+                        break;
+                    }
+                    LeaderTaskClosure next = proposals.poll(wait, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                apply(batch);
+            } catch (InterruptedException e) {
+                batch.forEach(closure -> closure.run(new Status(RaftError.ESHUTDOWN,
+                    "Raft proposal batcher is shutdown!")));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                LOGGER.error("Raft proposal batch apply error! size={}", batch.size(), e);
+                batch.forEach(closure -> closure.run(new Status(RaftError.EINTERNAL,
+                    "Raft proposal batch apply error: " + e.getMessage())));
+            }
+        }
+    }
+
+    private void apply(List<LeaderTaskClosure> batch) {
+        entriesPerBatch.update(batch.size());
+        if (batch.size() == 1) {
+            LeaderTaskClosure closure = batch.get(0);
+            raftServer.getNode().apply(
+                new Task(HessianCommandCodec.encode(closure.getRequest()), closure));
+            return;
+        }
+
+        List<ProcessRequest> requests = new ArrayList<>(batch.size());
+        batch.forEach(closure -> requests.add(closure.getRequest()));
+        raftServer.getNode().apply(
+            new Task(HessianCommandCodec.encode(new ProcessRequestBatch(requests)),
+                new LeaderTaskBatchClosure(batch)));
+    }
+}
\ No newline at end of file
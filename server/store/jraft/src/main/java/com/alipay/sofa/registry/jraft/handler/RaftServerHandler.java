@@ -19,6 +19,7 @@ package com.alipay.sofa.registry.jraft.handler;
 import com.alipay.remoting.AsyncContext;
 import com.alipay.sofa.jraft.entity.Task;
 import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
+import com.alipay.sofa.registry.jraft.command.HessianCommandCodec;
 import com.alipay.sofa.registry.jraft.command.ProcessRequest;
 import com.alipay.sofa.registry.jraft.command.ProcessResponse;
 import com.alipay.sofa.registry.jraft.processor.LeaderTaskClosure;
@@ -29,11 +30,7 @@ import com.alipay.sofa.registry.remoting.Channel;
 import com.alipay.sofa.registry.remoting.ChannelHandler;
 import com.alipay.sofa.registry.remoting.RemotingException;
 import com.alipay.sofa.registry.remoting.bolt.BoltChannel;
-import com.caucho.hessian.io.Hessian2Output;
-import com.caucho.hessian.io.SerializerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.concurrent.Executor;
@@ -52,6 +49,8 @@ public class RaftServerHandler implements ChannelHandler {
 
     private ThreadPoolExecutor  executor;
 
+    private RaftProposalBatcher proposalBatcher;
+
     /**
      * constructor
      * @param raftServer
@@ -61,6 +60,18 @@ public class RaftServerHandler implements ChannelHandler {
         this.executor = executor;
     }
 
+    /**
+     * constructor
+     * @param raftServer
+     * @param executor
+     * @param proposalBatcher group commit write requests, null means one log entry per request
+     */
+    public RaftServerHandler(RaftServer raftServer, ThreadPoolExecutor executor,
+                             RaftProposalBatcher proposalBatcher) {
+        this(raftServer, executor);
+        this.proposalBatcher = proposalBatcher;
+    }
+
     @Override
     public void connected(Channel channel) {
     }
@@ -128,6 +139,11 @@ public class RaftServerHandler implements ChannelHandler {
                 }
             });
 
+            if (proposalBatcher != null) {
+                proposalBatcher.propose(closure);
+                return;
+            }
+
             Task task = createTask(closure, processRequest);
 
             raftServer.getNode().apply(task);
@@ -135,23 +151,7 @@ public class RaftServerHandler implements ChannelHandler {
     }
 
     protected Task createTask(LeaderTaskClosure closure, ProcessRequest request) {
-
-        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-        Hessian2Output hessianOutput = new Hessian2Output(byteStream);
-        SerializerFactory serializerFactory = new SerializerFactory();
-        hessianOutput.setSerializerFactory(serializerFactory);
-        try {
-            hessianOutput.writeObject(request);
-            hessianOutput.close();
-        } catch (IOException e) {
-            LOGGER.error("Raft receive message serialize error!", e);
-        }
-
-        byte[] cmdBytes = byteStream.toByteArray();
-
-        ByteBuffer data = ByteBuffer.allocate(cmdBytes.length);
-        data.put(cmdBytes);
-        data.flip();
+        ByteBuffer data = HessianCommandCodec.encode(request);
         return new Task(data, closure);
     }
 
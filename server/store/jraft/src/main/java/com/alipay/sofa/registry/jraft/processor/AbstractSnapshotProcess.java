@@ -17,13 +17,26 @@
 package com.alipay.sofa.registry.jraft.processor;
 
 import com.alipay.sofa.registry.jraft.command.CommandCodec;
+import com.alipay.sofa.registry.jraft.command.HessianCommandCodec;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.util.FileUtils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 /**
  *
@@ -32,7 +45,27 @@ import java.util.Arrays;
  */
 public abstract class AbstractSnapshotProcess implements SnapshotProcess {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSnapshotProcess.class);
+    private static final Logger LOGGER           = LoggerFactory
+                                                     .getLogger(AbstractSnapshotProcess.class);
+
+    /**
+     * magic head of the first streaming entries snapshot format, "RSNP", one entry per chunk
+     */
+    private static final int    ENTRIES_MAGIC_V1 = 0x52534E50;
+
+    /**
+     * magic head of the streaming entries snapshot format, "RSN2", up to CHUNK_ENTRIES entries per chunk
+     */
+    private static final int    ENTRIES_MAGIC    = 0x52534E32;
+
+    /**
+     * chunk length which marks the end of the entries, followed by the crc32 checksum
+     */
+    private static final int    ENTRIES_END      = -1;
+
+    private static final int    CHUNK_ENTRIES    = 128;
+
+    private static final int    BUFFER_SIZE      = 64 * 1024;
 
     /**
      * save snapshot to file
@@ -68,4 +101,181 @@ public abstract class AbstractSnapshotProcess implements SnapshotProcess {
                               + Arrays.toString(bs));
     }
 
+    /**
+     * save map snapshot to file entry by entry
+     * @param path
+     * @param values
+     * @return
+     * @see #saveEntries(String, EntrySource)
+     */
+    public boolean saveEntries(String path, Map<?, ?> values) {
+        return saveEntries(path, writer -> {
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                writer.write(entry.getKey(), entry.getValue());
+            }
+        });
+    }
+
+    /**
+     * save snapshot to file entry by entry, entries are encoded in length prefixed chunks of
+     * at most CHUNK_ENTRIES entries and the file ends with a crc32 checksum,
+     * so neither the whole snapshot nor one big value is ever materialized as one byte array.
+     *
+     * Nodes older than this format can't read these files, they fail to load them instead of
+     * loading part of the entries. In a rolling upgrade upgrade the followers first and the leader
+     * last, so that no old node installs a snapshot written by an upgraded one.
+     * @param path
+     * @param source
+     * @return
+     */
+    public boolean saveEntries(String path, EntrySource source) {
+        CRC32 crc32 = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+            new BufferedOutputStream(new FileOutputStream(path), BUFFER_SIZE), crc32))) {
+            out.writeInt(ENTRIES_MAGIC);
+            ChunkWriter writer = new ChunkWriter(out);
+            source.writeTo(writer);
+            writer.flush();
+            out.writeInt(ENTRIES_END);
+            out.writeLong(crc32.getValue());
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Fail to save snapshot", e);
+            return false;
+        }
+    }
+
+    /**
+     * load map snapshot, the checksum is verified before the map is returned
+     * @param path
+     * @param <K>
+     * @param <V>
+     * @return
+     * @throws IOException
+     * @see #loadEntries(String, EntryReader)
+     */
+    public <K, V> Map<K, V> loadEntries(String path) throws IOException {
+        Map<K, V> map = new HashMap<>();
+        this.<K, V> loadEntries(path, map::put);
+        return map;
+    }
+
+    /**
+     * load snapshot saved by saveEntries, entries are decoded one chunk at a time and handed to
+     * the reader in the order they were written, the checksum is verified after the last entry.
+     * Snapshot files written by save(path, values) or by the one entry per chunk format
+     * are still readable, their map entries are handed to the reader as they are.
+     * @param path
+     * @param reader
+     * @param <K>
+     * @param <V>
+     * @throws IOException
+     */
+    public <K, V> void loadEntries(String path, EntryReader<K, V> reader) throws IOException {
+        CRC32 crc32 = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+            new BufferedInputStream(new FileInputStream(path), BUFFER_SIZE), crc32))) {
+            int magic = in.readInt();
+            if (magic != ENTRIES_MAGIC && magic != ENTRIES_MAGIC_V1) {
+                in.close();
+                Map<K, V> map = load(path, Map.class);
+                for (Map.Entry<K, V> entry : map.entrySet()) {
+                    reader.read(entry.getKey(), entry.getValue());
+                }
+                return;
+            }
+            HessianCommandCodec.Decoder decoder = HessianCommandCodec.newDecoder();
+            byte[] chunk = new byte[0];
+            int length;
+            while ((length = in.readInt()) != ENTRIES_END) {
+                if (length < 0) {
+                    throw new IOException("Fail to load snapshot from " + path
+                                          + ", illegal chunk length " + length);
+                }
+                if (chunk.length < length) {
+                    chunk = new byte[length];
+                }
+                in.readFully(chunk, 0, length);
+                Object[] entries = decoder.decode(ByteBuffer.wrap(chunk, 0, length),
+                    Object[].class);
+                for (int i = 0; i + 1 < entries.length; i += 2) {
+                    reader.read((K) entries[i], (V) entries[i + 1]);
+                }
+            }
+            long checksum = crc32.getValue();
+            if (in.readLong() != checksum) {
+                throw new IOException("Fail to load snapshot from " + path + ", checksum mismatch");
+            }
+        }
+    }
+
+    /**
+     * writes the entries of a snapshot in order
+     */
+    public interface EntrySource {
+        /**
+         * @param writer
+         * @throws IOException
+         */
+        void writeTo(EntryWriter writer) throws IOException;
+    }
+
+    /**
+     * accepts the entries of a snapshot
+     */
+    public interface EntryWriter {
+        /**
+         * @param key
+         * @param value
+         * @throws IOException
+         */
+        void write(Object key, Object value) throws IOException;
+    }
+
+    /**
+     * applies the entries of a snapshot in the order they were written
+     */
+    public interface EntryReader<K, V> {
+        /**
+         * @param key
+         * @param value
+         * @throws IOException
+         */
+        void read(K key, V value) throws IOException;
+    }
+
+    private static final class ChunkWriter implements EntryWriter {
+
+        private final DataOutputStream out;
+
+        private final Object[]         entries = new Object[CHUNK_ENTRIES * 2];
+
+        private int                    size;
+
+        ChunkWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(Object key, Object value) throws IOException {
+            entries[size++] = key;
+            entries[size++] = value;
+            if (size == entries.length) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            if (size == 0) {
+                return;
+            }
+            ByteBuffer chunk = HessianCommandCodec.encode(size == entries.length ? entries
+                : Arrays.copyOf(entries, size));
+            out.writeInt(chunk.remaining());
+            out.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            Arrays.fill(entries, null);
+            size = 0;
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.processor;
+
+import java.util.List;
+
+import com.alipay.sofa.jraft.Closure;
+import com.alipay.sofa.jraft.Status;
+
+/**
+ * closure of a log entry proposed by RaftProposalBatcher, holding the closures of the requests
+ * group committed in the entry in propose order.
+ * On the leader ServiceStateMachine processes every request and sets its response before run,
+ * which then fans the status out to each closure, so every caller is answered as if its request
+ * was a log entry on its own.
+ *
+ * @author agent
+ * @version $Id: LeaderTaskBatchClosure.java, v 0.1 2026-10-18 11:10 agent Exp $
+ */
+public class LeaderTaskBatchClosure implements Closure {
+
+    private final List<LeaderTaskClosure> closures;
+
+    /**
+     * constructor
+     * @param closures
+     */
+    public LeaderTaskBatchClosure(List<LeaderTaskClosure> closures) {
+        this.closures = closures;
+    }
+
+    @Override
+    public void run(Status status) {
+        for (LeaderTaskClosure closure : closures) {
+            closure.run(status);
+        }
+    }
+
+    /**
+     * Getter method for property <tt>closures</tt>.
+     *
+     * @return property value of closures
+     */
+    public List<LeaderTaskClosure> getClosures() {
+        return closures;
+    }
+}
@@ -21,6 +21,7 @@ import com.alipay.sofa.registry.jraft.command.ProcessRequest;
 import com.alipay.sofa.registry.jraft.command.ProcessResponse;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.store.api.annotation.ReadOnFollower;
 import com.alipay.sofa.registry.store.api.annotation.ReadOnLeader;
 
 import java.lang.invoke.MethodHandle;
@@ -251,6 +252,13 @@ public class Processor {
         return false;
     }
 
+    public boolean isFollowerReadMethod(Method method) {
+        if (!ServiceStateMachine.getInstance().isLeader()) {
+            return method != null && method.isAnnotationPresent(ReadOnFollower.class);
+        }
+        return false;
+    }
+
     public String getMethodHandleKey(String serviceId, String methodKey) {
         return serviceId + SERVICE_METHOD_SPLIT + methodKey;
     }
@@ -16,6 +16,10 @@
  */
 package com.alipay.sofa.registry.jraft.processor;
 
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
+import com.alipay.sofa.jraft.util.BytesUtil;
 import com.alipay.sofa.registry.jraft.bootstrap.RaftClient;
 import com.alipay.sofa.registry.jraft.command.ProcessRequest;
 import com.alipay.sofa.registry.log.Logger;
@@ -24,6 +28,10 @@ import com.alipay.sofa.registry.log.LoggerFactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  *
@@ -32,13 +40,17 @@ import java.lang.reflect.Method;
  */
 public class ProxyHandler implements InvocationHandler {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ProxyHandler.class);
+    private static final Logger  LOGGER = LoggerFactory.getLogger(ProxyHandler.class);
 
-    private final Class<?>      interfaceType;
+    private final Class<?>       interfaceType;
 
-    private final String        serviceId;
+    private final String         serviceId;
 
-    private final RaftClient    client;
+    private final RaftClient     client;
+
+    private final Supplier<Node> localNode;
+
+    private final int            readIndexTimeoutMs;
 
     /**
      * constructor
@@ -47,9 +59,25 @@ public class ProxyHandler implements InvocationHandler {
      * @param client
      */
     public ProxyHandler(Class<?> interfaceType, String serviceId, RaftClient client) {
+        this(interfaceType, serviceId, client, null, 0);
+    }
+
+    /**
+     * constructor, methods annotated with ReadOnFollower are read on the local node
+     * after a raft ReadIndex when it is a follower
+     * @param interfaceType
+     * @param serviceId
+     * @param client
+     * @param localNode supply the local raft node, null if the raft server is not started
+     * @param readIndexTimeoutMs
+     */
+    public ProxyHandler(Class<?> interfaceType, String serviceId, RaftClient client,
+                        Supplier<Node> localNode, int readIndexTimeoutMs) {
         this.interfaceType = interfaceType;
         this.serviceId = serviceId;
         this.client = client;
+        this.localNode = localNode;
+        this.readIndexTimeoutMs = readIndexTimeoutMs;
     }
 
     @Override
@@ -66,6 +94,9 @@ public class ProxyHandler implements InvocationHandler {
             if (Processor.getInstance().isLeaderReadMethod(method)) {
                 return doInvokeMethod(request);
             }
+            if (Processor.getInstance().isFollowerReadMethod(method) && readIndex()) {
+                return doInvokeMethod(request);
+            }
             return client.sendRequest(request);
         } catch (Throwable e) {
             LOGGER.error("Proxy invoke interface {} method {} got error!", interfaceType.getName(),
@@ -97,6 +128,41 @@ public class ProxyHandler implements InvocationHandler {
         }
     }
 
+    /**
+     * wait until the local state machine has applied the commit index confirmed by the leader,
+     * false means the read should be sent to the leader
+     * @return
+     */
+    private boolean readIndex() {
+        Node node = localNode != null ? localNode.get() : null;
+        if (node == null) {
+            return false;
+        }
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
+            @Override
+            public void run(Status status, long index, byte[] reqCtx) {
+                if (!status.isOk()) {
+                    LOGGER.warn("Read index of service {} fail, status {}", serviceId, status);
+                }
+                future.complete(status.isOk());
+            }
+        });
+        try {
+            return future.get(readIndexTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("Read index of service {} timeout after {}ms", serviceId,
+                readIndexTimeoutMs);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            LOGGER.warn("Read index of service {} error", serviceId, e);
+            return false;
+        }
+    }
+
     private String[] createParamSignature(Class<?>[] args) {
         if (args == null || args.length == 0) {
             return new String[] {};
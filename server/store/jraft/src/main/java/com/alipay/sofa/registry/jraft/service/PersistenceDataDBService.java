@@ -26,6 +26,7 @@ import com.alipay.sofa.registry.store.api.annotation.RaftService;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -120,13 +121,13 @@ public class PersistenceDataDBService extends AbstractSnapshotProcess implements
 
     @Override
     public boolean save(String path) {
-        return save(path, serviceMap);
+        return saveEntries(path, serviceMap);
     }
 
     @Override
     public boolean load(String path) {
         try {
-            ConcurrentHashMap<String, Object> map = load(path, serviceMap.getClass());
+            Map<String, Object> map = loadEntries(path);
             serviceMap.clear();
             serviceMap.putAll(map);
             return true;
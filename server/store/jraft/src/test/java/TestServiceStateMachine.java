@@ -23,10 +23,13 @@ import com.alipay.sofa.jraft.entity.RaftOutter.SnapshotMeta;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
 import com.alipay.sofa.registry.jraft.bootstrap.ServiceStateMachine;
+import com.alipay.sofa.registry.jraft.command.HessianCommandCodec;
 import com.alipay.sofa.registry.jraft.command.ProcessRequest;
+import com.alipay.sofa.registry.jraft.command.ProcessRequestBatch;
 import com.alipay.sofa.registry.jraft.command.ProcessResponse;
 import com.alipay.sofa.registry.jraft.processor.FollowerProcessListener;
 import com.alipay.sofa.registry.jraft.processor.LeaderProcessListener;
+import com.alipay.sofa.registry.jraft.processor.LeaderTaskBatchClosure;
 import com.alipay.sofa.registry.jraft.processor.LeaderTaskClosure;
 import com.alipay.sofa.registry.jraft.processor.Processor;
 import com.alipay.sofa.registry.jraft.processor.SnapshotProcess;
@@ -47,6 +50,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -208,6 +212,84 @@ public class TestServiceStateMachine {
 
     }
 
+    @Test
+    public void testApplyBatch() {
+        ServiceStateMachine serviceStateMachine = ServiceStateMachine.getInstance();
+
+        Processor processor = Processor.getInstance();
+
+        processor.addWorker(TestServiceStateMachine.class.getSimpleName(),
+            TestServiceStateMachine.class, new TestServiceStateMachine());
+
+        List<LeaderTaskClosure> closures = new ArrayList<>();
+        List<ProcessRequest> requests = new ArrayList<>();
+        AtomicInteger doneCount = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            ProcessRequest processRequest = new ProcessRequest();
+            processRequest.setMethodArgs(new Object[] { "batch" + i });
+            processRequest.setMethodArgSigs(new String[] { "java.lang.String" });
+            processRequest.setMethodName("testMethod");
+            processRequest.setServiceName(TestServiceStateMachine.class.getSimpleName());
+            requests.add(processRequest);
+
+            LeaderTaskClosure leaderTaskClosure = new LeaderTaskClosure();
+            leaderTaskClosure.setRequest(processRequest);
+            leaderTaskClosure.setDone(status -> doneCount.incrementAndGet());
+            closures.add(leaderTaskClosure);
+        }
+        LeaderTaskBatchClosure batchClosure = new LeaderTaskBatchClosure(closures);
+        ByteBuffer batchData = HessianCommandCodec.encode(new ProcessRequestBatch(requests));
+
+        // leader applies its own batch entry, then a follower replays the same entry
+        for (Closure done : new Closure[] { batchClosure, null }) {
+            AtomicInteger count = new AtomicInteger();
+            serviceStateMachine.onApply(new Iterator() {
+
+                @Override
+                public boolean hasNext() {
+                    return count.get() == 0;
+                }
+
+                @Override
+                public ByteBuffer next() {
+                    count.getAndIncrement();
+                    return null;
+                }
+
+                @Override
+                public ByteBuffer getData() {
+                    return batchData;
+                }
+
+                @Override
+                public long getIndex() {
+                    return 0;
+                }
+
+                @Override
+                public long getTerm() {
+                    return 0;
+                }
+
+                @Override
+                public Closure done() {
+                    return done;
+                }
+
+                @Override
+                public void setErrorAndRollback(long ntail, Status st) {
+
+                }
+            });
+        }
+
+        Assert.assertEquals(3, doneCount.get());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("batch" + i,
+                ((ProcessResponse) closures.get(i).getResponse()).getEntity());
+        }
+    }
+
     @Test
     public void testOnSnapshotSave() throws InterruptedException {
         ServiceStateMachine serviceStateMachine = ServiceStateMachine.getInstance();
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.command;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.caucho.hessian.io.Hessian2Input;
+import com.caucho.hessian.io.SerializerFactory;
+
+/**
+ * follower replay of a raft log backlog: the previous decode path with a new SerializerFactory
+ * per entry against {@link HessianCommandCodec}, run main() to get the time of one full replay.
+ *
+ * @author agent
+ * @version $Id: CommandReplayBenchmark.java, v 0.1 2026-10-18 16:05 agent Exp $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CommandReplayBenchmark {
+
+    @Param({ "300000" })
+    private int              entryCount;
+
+    private List<ByteBuffer> entries;
+
+    @Setup
+    public void setup() {
+        entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            Map<String, Object> node = new HashMap<>();
+            node.put("ip", "10.0." + (i / 256 % 256) + "." + (i % 256));
+            node.put("dataCenter", "DefaultDataCenter");
+            node.put("version", (long) i);
+
+            ProcessRequest request = new ProcessRequest();
+            request.setServiceName("renewService");
+            request.setMethodName("renew");
+            request.setMethodArgSigs(new String[] { "java.util.Map", "int" });
+            request.setMethodArgs(new Object[] { node, 30 });
+            entries.add(HessianCommandCodec.encode(request));
+        }
+    }
+
+    @Benchmark
+    public void newSerializerFactoryPerEntry(Blackhole blackhole) throws IOException {
+        for (ByteBuffer data : entries) {
+            Hessian2Input input = new Hessian2Input(new ByteArrayInputStream(data.array()));
+            input.setSerializerFactory(new SerializerFactory());
+            blackhole.consume(input.readObject());
+            input.close();
+        }
+    }
+
+    @Benchmark
+    public void sharedCodec(Blackhole blackhole) {
+        HessianCommandCodec.Decoder decoder = HessianCommandCodec.newDecoder();
+        for (ByteBuffer data : entries) {
+            blackhole.consume(decoder.decode(data, ProcessRequest.class));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder().include(
+            CommandReplayBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
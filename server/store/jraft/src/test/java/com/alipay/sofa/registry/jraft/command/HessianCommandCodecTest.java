@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.command;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ * @version $Id: HessianCommandCodecTest.java, v 0.1 2026-10-18 16:30 agent Exp $
+ */
+public class HessianCommandCodecTest {
+
+    @Test
+    public void testRoundTrip() {
+        ProcessRequest request = newRequest("put", "key", 1L);
+        ByteBuffer data = HessianCommandCodec.encode(request);
+        int position = data.position();
+
+        ProcessRequest decoded = HessianCommandCodec.decode(data, ProcessRequest.class);
+
+        assertRequest(request, decoded);
+        // the log entry is not consumed, it can be decoded again
+        Assert.assertEquals(position, data.position());
+        assertRequest(request, HessianCommandCodec.decode(data, ProcessRequest.class));
+    }
+
+    @Test
+    public void testResponse() {
+        ProcessResponse response = ProcessResponse.ok("entity").build();
+
+        ProcessResponse decoded = HessianCommandCodec.decode(
+            HessianCommandCodec.encode(response), ProcessResponse.class);
+
+        Assert.assertTrue(decoded.getSuccess());
+        Assert.assertEquals("entity", decoded.getEntity());
+        Assert.assertNull(decoded.getRedirect());
+    }
+
+    @Test
+    public void testDecoderOverEntries() {
+        // entries of an apply pass: single requests and batches mixed, decoded by one decoder
+        List<Object> commands = new ArrayList<>();
+        List<ByteBuffer> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Object command;
+            if (i % 3 == 0) {
+                command = new ProcessRequestBatch(Arrays.asList(newRequest("put", "key" + i, i),
+                    newRequest("remove", "key" + i, i)));
+            } else {
+                command = newRequest("put", "key" + i, i);
+            }
+            commands.add(command);
+            entries.add(HessianCommandCodec.encode(command));
+        }
+
+        HessianCommandCodec.Decoder decoder = HessianCommandCodec.newDecoder();
+        for (int i = 0; i < entries.size(); i++) {
+            Object decoded = decoder.decode(entries.get(i), Object.class);
+            Object command = commands.get(i);
+            if (command instanceof ProcessRequestBatch) {
+                List<ProcessRequest> requests = ((ProcessRequestBatch) command).getRequests();
+                List<ProcessRequest> decodedRequests = ((ProcessRequestBatch) decoded)
+                    .getRequests();
+                Assert.assertEquals(requests.size(), decodedRequests.size());
+                for (int j = 0; j < requests.size(); j++) {
+                    assertRequest(requests.get(j), decodedRequests.get(j));
+                }
+            } else {
+                assertRequest((ProcessRequest) command, (ProcessRequest) decoded);
+            }
+        }
+    }
+
+    @Test
+    public void testDecoderAfterFailure() {
+        HessianCommandCodec.Decoder decoder = HessianCommandCodec.newDecoder();
+        ByteBuffer entry = HessianCommandCodec.encode(newRequest("put", "key", 1L));
+        ByteBuffer truncated = entry.duplicate();
+        truncated.limit(truncated.limit() / 2);
+        try {
+            decoder.decode(truncated, Object.class);
+            Assert.fail("decoded a truncated entry");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        // nothing read from the truncated entry is left for the next one
+        assertRequest(newRequest("put", "key", 1L), decoder.decode(entry, ProcessRequest.class));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testDecodeOtherClass() {
+        HessianCommandCodec.decode(HessianCommandCodec.encode(newRequest("put", "key", 1L)),
+            ProcessResponse.class);
+    }
+
+    private ProcessRequest newRequest(String methodName, String key, long version) {
+        ProcessRequest request = new ProcessRequest();
+        request.setServiceName("service");
+        request.setMethodName(methodName);
+        request.setMethodArgSigs(new String[] { String.class.getName(), Long.class.getName() });
+        request.setMethodArgs(new Object[] { key, version });
+        return request;
+    }
+
+    private void assertRequest(ProcessRequest expected, ProcessRequest actual) {
+        Assert.assertEquals(expected.getServiceName(), actual.getServiceName());
+        Assert.assertEquals(expected.getMethodName(), actual.getMethodName());
+        Assert.assertArrayEquals(expected.getMethodArgSigs(), actual.getMethodArgSigs());
+        Assert.assertArrayEquals(expected.getMethodArgs(), actual.getMethodArgs());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.processor;
+
+import com.alipay.sofa.registry.jraft.command.HessianCommandCodec;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ *
+ * @author agent
+ * @version $Id: AbstractSnapshotProcessTest.java, v 0.1 2026-10-18 16:10 agent Exp $
+ */
+public class AbstractSnapshotProcessTest {
+
+    private final AbstractSnapshotProcess process = new AbstractSnapshotProcess() {
+        @Override
+        public boolean save(String path) {
+            return false;
+        }
+
+        @Override
+        public boolean load(String path) {
+            return false;
+        }
+
+        @Override
+        public SnapshotProcess copy() {
+            return this;
+        }
+
+        @Override
+        public Set<String> getSnapshotFileNames() {
+            return null;
+        }
+    };
+
+    @Test
+    public void testEntriesRoundTrip() throws IOException {
+        File file = File.createTempFile("snapshot", ".entries");
+        file.deleteOnExit();
+        Map<String, Object> values = newValues();
+
+        Assert.assertTrue(process.saveEntries(file.getPath(), values));
+        Map<String, Object> loaded = process.loadEntries(file.getPath());
+        Assert.assertEquals(values, loaded);
+    }
+
+    @Test
+    public void testLoadLegacySnapshot() throws IOException {
+        File file = File.createTempFile("snapshot", ".legacy");
+        file.deleteOnExit();
+        Map<String, Object> values = newValues();
+
+        Assert.assertTrue(process.save(file.getPath(), values));
+        Map<String, Object> loaded = process.loadEntries(file.getPath());
+        Assert.assertEquals(values, loaded);
+    }
+
+    @Test
+    public void testEntriesKeepOrder() throws IOException {
+        File file = File.createTempFile("snapshot", ".ordered");
+        file.deleteOnExit();
+
+        Assert.assertTrue(process.saveEntries(file.getPath(), writer -> {
+            for (int i = 0; i < 1000; i++) {
+                writer.write("key" + i, i);
+            }
+        }));
+        List<Object> keys = new ArrayList<>();
+        process.<String, Integer> loadEntries(file.getPath(), (key, value) -> {
+            Assert.assertEquals("key" + value, key);
+            keys.add(key);
+        });
+        Assert.assertEquals(1000, keys.size());
+        Assert.assertEquals("key999", keys.get(999));
+    }
+
+    @Test
+    public void testLoadEntryPerChunkSnapshot() throws IOException {
+        File file = File.createTempFile("snapshot", ".v1");
+        file.deleteOnExit();
+        Map<String, Object> values = newValues();
+
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(0x52534E50);
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                ByteBuffer chunk = HessianCommandCodec.encode(new Object[] { entry.getKey(),
+                        entry.getValue() });
+                out.writeInt(chunk.remaining());
+                out.write(chunk.array(), chunk.arrayOffset() + chunk.position(),
+                    chunk.remaining());
+            }
+            out.writeInt(-1);
+        }
+        // the checksum of the old format covers the same bytes
+        CRC32 crc32 = new CRC32();
+        crc32.update(Files.readAllBytes(file.toPath()));
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file, true))) {
+            out.writeLong(crc32.getValue());
+        }
+        Map<String, Object> loaded = process.loadEntries(file.getPath());
+        Assert.assertEquals(values, loaded);
+    }
+
+    @Test(expected = IOException.class)
+    public void testChecksumMismatch() throws IOException {
+        File file = File.createTempFile("snapshot", ".corrupt");
+        file.deleteOnExit();
+        Assert.assertTrue(process.saveEntries(file.getPath(), newValues()));
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length() - 1);
+            int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(last ^ 0xFF);
+        }
+        process.loadEntries(file.getPath());
+    }
+
+    private Map<String, Object> newValues() {
+        Map<String, Object> values = new ConcurrentHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            values.put("dataInfoId" + i, "value" + i);
+        }
+        values.put("version", 1L);
+        return values;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.processor;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
+import com.alipay.sofa.jraft.error.RaftError;
+import com.alipay.sofa.registry.jraft.bootstrap.RaftClient;
+import com.alipay.sofa.registry.jraft.command.ProcessRequest;
+import com.alipay.sofa.registry.store.api.annotation.ReadOnFollower;
+
+/**
+ *
+ * @author agent
+ * @version $Id: ProxyHandlerTest.java, v 0.1 2026-10-18 23:20 agent Exp $
+ */
+public class ProxyHandlerTest {
+
+    private static final String           SERVICE_ID      = "proxyHandlerTestService";
+
+    private final AtomicReference<Status> readIndexStatus = new AtomicReference<>();
+
+    private Node                          node;
+
+    private RaftClient                    raftClient;
+
+    @Before
+    public void before() {
+        // the local service, this raft node is a follower as the state machine never became leader
+        Processor.getInstance().addWorker(SERVICE_ID, ReadService.class, new ReadService() {
+            @Override
+            public String read(String key) {
+                return "local-" + key;
+            }
+
+            @Override
+            public String write(String key) {
+                return "local-" + key;
+            }
+        });
+
+        node = mock(Node.class);
+        // the closure is run only if a status is set, otherwise the read index times out
+        doAnswer(invocation -> {
+            Status status = readIndexStatus.get();
+            if (status != null) {
+                ((ReadIndexClosure) invocation.getArguments()[1]).run(status, 1,
+                    (byte[]) invocation.getArguments()[0]);
+            }
+            return null;
+        }).when(node).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+
+        raftClient = mock(RaftClient.class);
+        when(raftClient.sendRequest(any(ProcessRequest.class))).thenReturn("leader");
+    }
+
+    @Test
+    public void testReadOnFollower() {
+        readIndexStatus.set(Status.OK());
+
+        Assert.assertEquals("local-a", proxy(node).read("a"));
+        verify(raftClient, never()).sendRequest(any(ProcessRequest.class));
+    }
+
+    @Test
+    public void testReadIndexFailed() {
+        readIndexStatus.set(new Status(RaftError.EPERM, "not leader"));
+
+        Assert.assertEquals("leader", proxy(node).read("a"));
+        ArgumentCaptor<ProcessRequest> request = ArgumentCaptor.forClass(ProcessRequest.class);
+        verify(raftClient).sendRequest(request.capture());
+        Assert.assertEquals(SERVICE_ID, request.getValue().getServiceName());
+        Assert.assertEquals("read", request.getValue().getMethodName());
+        Assert.assertArrayEquals(new Object[] { "a" }, request.getValue().getMethodArgs());
+    }
+
+    @Test
+    public void testReadIndexTimeout() {
+        Assert.assertEquals("leader", proxy(node).read("a"));
+        verify(raftClient).sendRequest(any(ProcessRequest.class));
+    }
+
+    @Test
+    public void testRaftServerNotStarted() {
+        Assert.assertEquals("leader", proxy(null).read("a"));
+    }
+
+    @Test
+    public void testNotReadOnFollower() {
+        readIndexStatus.set(Status.OK());
+
+        Assert.assertEquals("leader", proxy(node).write("a"));
+        verify(node, never()).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+    }
+
+    private ReadService proxy(Node localNode) {
+        return (ReadService) Proxy.newProxyInstance(ReadService.class.getClassLoader(),
+            new Class[] { ReadService.class }, new ProxyHandler(ReadService.class, SERVICE_ID,
+                raftClient, () -> localNode, 100));
+    }
+
+    public interface ReadService {
+
+        @ReadOnFollower
+        String read(String key);
+
+        String write(String key);
+    }
+}
\ No newline at end of file